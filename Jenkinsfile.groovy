@@ -16,11 +16,12 @@ pipeline {
             name: 'MODULE',
             choices: [
                 'all',
+                'all-products',
                 'core-product-tests',
                 'derived-product1-tests',
                 'derived-product2-tests'
             ],
-            description: 'Maven module to execute. "all" runs every module.'
+            description: 'Maven module to execute. "all" runs every module; "all-products" runs every suite in one JVM.'
         )
 
         choice(
@@ -103,15 +104,18 @@ pipeline {
                 script {
 
                     // ── Resolve module argument ───────────────────────
+                    def allModules = params.MODULE in ['all', 'all-products']
                     def moduleArg = (params.MODULE == 'all')
                         ? ''
-                        : "-pl ${params.MODULE} -am"
+                        : (params.MODULE == 'all-products')
+                            ? '-P all-products'
+                            : "-pl ${params.MODULE} -am"
 
                     // ── Resolve suite argument ────────────────────────
                     // Only pass -DsuiteFile when a specific module is chosen.
-                    // When MODULE=all, each module uses its own default suiteFile
+                    // When MODULE=all / all-products, each module uses its own default suiteFile
                     // defined in its pom.xml <properties>.
-                    def suiteArg = (params.MODULE == 'all')
+                    def suiteArg = allModules
                         ? ''
                         : "-DsuiteFile=${params.SUITE}"
 
@@ -0,0 +1,198 @@
+package com.veeva.framework.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ConfigKey - The configuration schema.
+ *
+ * Every key the framework reads is declared here once, with its type and its
+ * single default value. {@link FrameworkConfig} resolves and validates all of
+ * them at startup; anything in config.yaml that is not declared here (and not
+ * under a declared map prefix such as {@code urls.}) is reported as unknown.
+ *
+ * Aliases keep older override names working (e.g. {@code -Dremote=true}).
+ */
+public enum ConfigKey {
+
+    // ─── Browser ──────────────────────────────────────────────────────────────
+    BROWSER("browser", Type.STRING, "firefox"),
+    HEADLESS("headless", Type.BOOLEAN, "false"),
+
+    // ─── In-memory fake browser (browser: fake, see FakeWebDriver) ─────────────
+    FAKE_SITE("fake.site", Type.STRING, "fake-site"),
+    FAKE_LATENCY("fake.latency", Type.MILLIS, "0"),
+
+    // ─── Remote / Selenoid ────────────────────────────────────────────────────
+    REMOTE_ENABLED("remote.enabled", Type.BOOLEAN, "false", "remote"),
+    REMOTE_HUB_URL("remote.hub_url", Type.URL, "http://localhost:4444/wd/hub", "hub_url"),
+
+    // ─── Driver lifecycle: "test" = one session per <test> block, "method" = per invocation
+    DRIVER_SCOPE("driver.scope", Type.STRING, "test"),
+
+    // ─── Driver pool (warm session reuse per browser) ──────────────────────────
+    DRIVER_POOL_ENABLED("driver.pool.enabled", Type.BOOLEAN, "false"),
+    DRIVER_POOL_MAX_IDLE("driver.pool.max.idle", Type.INT, "2"),
+
+    // ─── Leaked sessions and stale driver processes (see SessionTracker, ProcessReaper)
+    DRIVER_REAPER_ENABLED("driver.reaper.enabled", Type.BOOLEAN, "true"),
+    DRIVER_REAPER_ORPHANS("driver.reaper.orphans", Type.BOOLEAN, "false"),
+    DRIVER_REAPER_QUIT_TIMEOUT("driver.reaper.quit.timeout", Type.SECONDS, "10"),
+    DRIVER_REAPER_STACKS("driver.reaper.stacks", Type.BOOLEAN, "true"),
+
+    // ─── Pre-warmed profile templates for local sessions (see ProfileTemplateManager)
+    PROFILE_TEMPLATE_ENABLED("profile.template.enabled", Type.BOOLEAN, "false"),
+    PROFILE_TEMPLATE_DIR("profile.template.dir", Type.STRING, "~/.veeva-automation/profiles"),
+    PROFILE_TEMPLATE_TTL("profile.template.ttl", Type.SECONDS, "86400"),
+    PROFILE_TEMPLATE_URLS("profile.template.urls", Type.LIST, ""),
+    PROFILE_TEMPLATE_SETTLE("profile.template.settle", Type.MILLIS, "3000"),
+    PROFILE_CLONE_MODE("profile.clone.mode", Type.STRING, "auto"),
+
+    // ─── Timeouts (seconds) ───────────────────────────────────────────────────
+    IMPLICIT_WAIT("implicit.wait", Type.SECONDS, "10"),
+    EXPLICIT_WAIT("explicit.wait", Type.SECONDS, "60"),
+    PAGE_LOAD_TIMEOUT("page.load.timeout", Type.SECONDS, "120"),
+
+    // ─── In-session retry of BasePage actions (see RetryPolicy) ────────────────
+    RETRY_ATTEMPTS("retry.attempts", Type.INT, "2"),
+    RETRY_BACKOFF("retry.backoff", Type.MILLIS, "250"),
+
+    // ─── Learned menu-navigation shortcuts (see NavigationCache) ───────────────
+    NAV_CACHE_ENABLED("navigation.cache.enabled", Type.BOOLEAN, "true"),
+    NAV_CACHE_TTL("navigation.cache.ttl", Type.SECONDS, "86400"),
+    NAV_CACHE_VALIDATE_WAIT("navigation.cache.validate.wait", Type.SECONDS, "10"),
+
+    // ─── Consent / promo state replayed into new sessions (see StorageState) ───
+    STORAGE_STATE_ENABLED("storage.state.enabled", Type.BOOLEAN, "true"),
+    STORAGE_STATE_TTL("storage.state.ttl", Type.SECONDS, "86400"),
+    STORAGE_STATE_LANDING("storage.state.landing", Type.STRING, "/robots.txt"),
+    STORAGE_STATE_PROBE("storage.state.probe", Type.SECONDS, "3"),
+
+    // ─── Web performance metrics per navigation (see PerformanceCollector) ─────
+    PERF_ENABLED("perf.enabled", Type.BOOLEAN, "false"),
+    PERF_SETTLE("perf.settle", Type.MILLIS, "1000"),
+
+    // ─── HTTP link checking (see LinkChecker) ─────────────────────────────────
+    LINKCHECK_THREADS("linkcheck.threads", Type.INT, "16"),
+    LINKCHECK_PER_HOST("linkcheck.per.host", Type.INT, "4"),
+    LINKCHECK_TIMEOUT("linkcheck.timeout", Type.SECONDS, "15"),
+    LINKCHECK_MAX_REDIRECTS("linkcheck.max.redirects", Type.INT, "5"),
+    LINKCHECK_CACHE_ENABLED("linkcheck.cache.enabled", Type.BOOLEAN, "true"),
+
+    // ─── Site crawling (see Crawler) ──────────────────────────────────────────
+    CRAWL_THREADS("crawl.threads", Type.INT, "8"),
+    CRAWL_FRONTIER_CAPACITY("crawl.frontier.capacity", Type.INT, "10000"),
+    CRAWL_MAX_PAGES("crawl.max.pages", Type.INT, "10000"),
+    CRAWL_MAX_DEPTH("crawl.max.depth", Type.INT, "3"),
+    CRAWL_TIMEOUT("crawl.timeout", Type.SECONDS, "15"),
+    CRAWL_EXPECTED_URLS("crawl.expected.urls", Type.INT, "200000"),
+    CRAWL_TRACKING_PARAMS("crawl.tracking.params", Type.LIST,
+            "utm_*,gclid,fbclid,msclkid,mc_cid,mc_eid,_ga,_gl,igshid,ref_src"),
+
+    // ─── Prometheus run metrics (see MetricsExporter) ─────────────────────────
+    METRICS_ENABLED("metrics.enabled", Type.BOOLEAN, "true"),
+    METRICS_FILE("metrics.file", Type.STRING, ""),
+    METRICS_PORT("metrics.port", Type.INT, "0"),
+    METRICS_BIND("metrics.bind", Type.STRING, "127.0.0.1"),
+
+    // ─── Synthetic monitoring of page flows (see SyntheticMonitor) ─────────────
+    MONITOR_FLOWS("monitor.flows", Type.LIST, ""),
+    MONITOR_INTERVAL("monitor.interval", Type.SECONDS, "300"),
+    MONITOR_JITTER("monitor.jitter", Type.NUMBER, "0.1"),
+    MONITOR_CONCURRENCY("monitor.concurrency", Type.INT, "2"),
+    MONITOR_WINDOW("monitor.window", Type.SECONDS, "3600"),
+    MONITOR_RUN_TIMEOUT("monitor.run.timeout", Type.SECONDS, "180"),
+    MONITOR_SESSION_MAX_RUNS("monitor.session.max.runs", Type.INT, "50"),
+    MONITOR_PORT("monitor.port", Type.INT, "9464"),
+
+    // ─── Files & directories ──────────────────────────────────────────────────
+    ALLURE_RESULTS_DIR("allure.results.dir", Type.STRING, "target/allure-results"),
+    TESTDATA_DIR("testdata.dir", Type.STRING, "src/test/resources/testdata"),
+    OUTPUT_DIR("output.dir", Type.STRING, "target/test-outputs"),
+
+    // ─── Test history (durations / outcomes across runs) ──────────────────────
+    HISTORY_ENABLED("history.enabled", Type.BOOLEAN, "true"),
+    HISTORY_DIR("history.dir", Type.STRING, "~/.veeva-automation/history"),
+
+    // ─── Run-over-run slowdown detection (see RegressionDetector) ──────────────
+    REGRESSION_ENABLED("regression.enabled", Type.BOOLEAN, "true"),
+    REGRESSION_WINDOW("regression.window", Type.INT, "20"),
+    REGRESSION_MIN_SAMPLES("regression.min.samples", Type.INT, "5"),
+    REGRESSION_THRESHOLD("regression.threshold", Type.NUMBER, "3.5"),
+    REGRESSION_MIN_RATIO("regression.min.ratio", Type.NUMBER, "1.3"),
+    REGRESSION_MIN_DELTA("regression.min.delta", Type.MILLIS, "200"),
+
+    // ─── Scheduling ───────────────────────────────────────────────────────────
+    SCHEDULER_MODE("scheduler.mode", Type.STRING, "longest-first"),
+    FAILFAST_MAX_FAILURES("failfast.max.failures", Type.INT, "0"),
+
+    // ─── Config reload ────────────────────────────────────────────────────────
+    CONFIG_WATCH("config.watch", Type.BOOLEAN, "false");
+
+    /**
+     * Map-style sections: any key below these prefixes is accepted, and the
+     * value is validated against the given type.
+     */
+    static final List<Prefix> PREFIXES = Collections.unmodifiableList(Arrays.asList(
+            new Prefix("urls.", Type.URL),
+            new Prefix("perf.budget.", Type.NUMBER)
+    ));
+
+    public enum Type { STRING, BOOLEAN, INT, NUMBER, SECONDS, MILLIS, URL, LIST }
+
+    private final String key;
+    private final Type type;
+    private final String defaultValue;
+    private final List<String> aliases;
+
+    ConfigKey(String key, Type type, String defaultValue, String... aliases) {
+        this.key = key;
+        this.type = type;
+        this.defaultValue = defaultValue;
+        this.aliases = Collections.unmodifiableList(Arrays.asList(aliases));
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public String defaultValue() {
+        return defaultValue;
+    }
+
+    public List<String> aliases() {
+        return aliases;
+    }
+
+    /**
+     * Returns the schema entry for a dotted key or alias, or null if undeclared.
+     */
+    static ConfigKey forKey(String key) {
+        for (ConfigKey k : values()) {
+            if (k.key.equals(key) || k.aliases.contains(key)) return k;
+        }
+        return null;
+    }
+
+    static Prefix prefixFor(String key) {
+        for (Prefix p : PREFIXES) {
+            if (key.startsWith(p.prefix)) return p;
+        }
+        return null;
+    }
+
+    static final class Prefix {
+        final String prefix;
+        final Type type;
+
+        Prefix(String prefix, Type type) {
+            this.prefix = prefix;
+            this.type = type;
+        }
+    }
+}
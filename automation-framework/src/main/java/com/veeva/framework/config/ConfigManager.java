@@ -6,35 +6,69 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 /**
  * ConfigManager - Centralized configuration loader.
  * Priority order: System Properties > Environment Variables > config.yaml > default
  * All project configuration is externalized — nothing is hardcoded.
+ *
+ * Everything is resolved once at startup into an immutable {@link FrameworkConfig}
+ * snapshot (see {@link ConfigKey} for the schema). With {@code config.watch=true}
+ * and config.yaml on the file system, edits to the file swap the snapshot atomically.
  */
 public class ConfigManager {
 
     private static final Logger log = LogManager.getLogger(ConfigManager.class);
-    private static final Map<String, String> configMap = new HashMap<>();
+    private static final String CONFIG_FILE = "config.yaml";
+    private static final AtomicReference<FrameworkConfig> snapshot = new AtomicReference<>();
 
     static {
-        loadYamlConfig();
+        snapshot.set(load());
+        if (snapshot.get().getBoolean(ConfigKey.CONFIG_WATCH)) {
+            startWatcher();
+        }
+    }
+
+    private static FrameworkConfig load() {
+        Map<String, String> yaml = loadYamlConfig();
+        FrameworkConfig config = FrameworkConfig.resolve(yaml);
+        log.info("Loaded {} config properties from {} | {}", yaml.size(), CONFIG_FILE, config);
+        for (String error : config.errors()) {
+            log.error("Invalid config value: {}", error);
+        }
+        for (String key : config.unknownKeys()) {
+            log.warn("Unknown config key in {}: {}", CONFIG_FILE, key);
+        }
+        return config;
     }
 
     @SuppressWarnings("unchecked")
-    private static void loadYamlConfig() {
-        try (InputStream is = ConfigManager.class.getClassLoader().getResourceAsStream("config.yaml")) {
+    private static Map<String, String> loadYamlConfig() {
+        Map<String, String> configMap = new HashMap<>();
+        try (InputStream is = ConfigManager.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
             if (is != null) {
                 ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
                 Map<String, Object> yaml = mapper.readValue(is, Map.class);
-                flattenMap("", yaml, configMap);
-                log.info("Loaded {} config properties from config.yaml", configMap.size());
+                if (yaml != null) flattenMap("", yaml, configMap);
             }
         } catch (Exception e) {
-            log.warn("Could not load config.yaml: {}", e.getMessage());
+            log.warn("Could not load {}: {}", CONFIG_FILE, e.getMessage());
         }
+        return configMap;
     }
 
     @SuppressWarnings("unchecked")
@@ -43,29 +77,73 @@ public class ConfigManager {
             String key = prefix.isEmpty() ? entry.getKey() : prefix + "." + entry.getKey();
             if (entry.getValue() instanceof Map) {
                 flattenMap(key, (Map<String, Object>) entry.getValue(), result);
+            } else if (entry.getValue() instanceof Collection) {
+                // YAML lists become comma-separated values (see ConfigKey.Type.LIST)
+                result.put(key, ((Collection<Object>) entry.getValue()).stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")));
             } else {
                 result.put(key, String.valueOf(entry.getValue()));
             }
         }
     }
 
+    private static void startWatcher() {
+        URL url = ConfigManager.class.getClassLoader().getResource(CONFIG_FILE);
+        if (url == null || !"file".equals(url.getProtocol())) {
+            log.warn("config.watch is enabled but {} is not a file on disk; reload disabled", CONFIG_FILE);
+            return;
+        }
+        Thread watcher = new Thread(() -> {
+            try {
+                Path file = Paths.get(url.toURI());
+                try (WatchService ws = FileSystems.getDefault().newWatchService()) {
+                    file.getParent().register(ws, StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_CREATE);
+                    while (!Thread.currentThread().isInterrupted()) {
+                        WatchKey key = ws.take();
+                        for (WatchEvent<?> event : key.pollEvents()) {
+                            if (file.getFileName().equals(event.context()) && Files.exists(file)) {
+                                snapshot.set(load());
+                                log.info("Reloaded {} after change on disk", CONFIG_FILE);
+                            }
+                        }
+                        key.reset();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Config watcher stopped: {}", e.getMessage());
+            }
+        }, "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Returns the current typed configuration snapshot. Cheap — a single volatile read.
+     */
+    public static FrameworkConfig config() {
+        return snapshot.get();
+    }
+
     /**
-     * Resolves a config key using priority: System Property > Env Var > YAML > default
+     * Resolves a config key using priority: System Property > Env Var > YAML > default.
+     * Keys declared in {@link ConfigKey} or present in config.yaml are served from the
+     * precomputed snapshot; the schema default wins over {@code defaultValue} for them.
      */
     public static String get(String key, String defaultValue) {
-        // 1. System property (e.g., -Dbrowser=firefox)
-        String val = System.getProperty(key);
+        String val = snapshot.get().raw(key);
         if (val != null) return val;
 
-        // 2. Environment variable (e.g., BROWSER=firefox)
-        val = System.getenv(key.toUpperCase().replace(".", "_"));
+        // Undeclared key: fall back to the live lookup
+        val = System.getProperty(key);
         if (val != null) return val;
 
-        // 3. YAML config
-        val = configMap.get(key);
+        val = System.getenv(FrameworkConfig.envName(key));
         if (val != null) return val;
 
-        // 4. Default
         return defaultValue;
     }
 
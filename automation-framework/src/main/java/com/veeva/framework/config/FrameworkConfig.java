@@ -0,0 +1,281 @@
+package com.veeva.framework.config;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * FrameworkConfig - Immutable, typed snapshot of the resolved configuration.
+ *
+ * Built once from config.yaml plus System Property / Env Var overrides and
+ * validated against {@link ConfigKey}. Hot paths (BasePage, DriverFactory) read
+ * the final fields below instead of re-resolving and re-parsing strings.
+ *
+ * Obtain the current snapshot via {@link ConfigManager#config()}.
+ */
+public final class FrameworkConfig {
+
+    private final Map<String, String> resolved;
+    private final Map<ConfigKey, Object> typed;
+    private final List<String> errors;
+    private final List<String> unknownKeys;
+
+    // ─── Hot fields ───────────────────────────────────────────────────────────
+
+    private final String browser;
+    private final boolean headless;
+    private final boolean remoteEnabled;
+    private final String hubUrl;
+    private final Duration implicitWait;
+    private final Duration explicitWait;
+    private final Duration pageLoadTimeout;
+
+    private FrameworkConfig(Map<String, String> resolved, Map<ConfigKey, Object> typed,
+                            List<String> errors, List<String> unknownKeys) {
+        this.resolved = Collections.unmodifiableMap(resolved);
+        this.typed = Collections.unmodifiableMap(typed);
+        this.errors = Collections.unmodifiableList(errors);
+        this.unknownKeys = Collections.unmodifiableList(unknownKeys);
+
+        this.browser = getString(ConfigKey.BROWSER).toLowerCase().trim();
+        this.headless = getBoolean(ConfigKey.HEADLESS);
+        this.remoteEnabled = getBoolean(ConfigKey.REMOTE_ENABLED);
+        this.hubUrl = getString(ConfigKey.REMOTE_HUB_URL);
+        this.implicitWait = getDuration(ConfigKey.IMPLICIT_WAIT);
+        this.explicitWait = getDuration(ConfigKey.EXPLICIT_WAIT);
+        this.pageLoadTimeout = getDuration(ConfigKey.PAGE_LOAD_TIMEOUT);
+    }
+
+    /**
+     * Resolves every schema key using priority:
+     * System Property > Env Var > YAML > schema default (name first, then aliases).
+     * Keys present only in YAML are carried over (with overrides applied) so
+     * {@link ConfigManager#get(String, String)} never has to hit the environment.
+     */
+    static FrameworkConfig resolve(Map<String, String> yaml) {
+        Map<String, String> resolved = new HashMap<>();
+        Map<ConfigKey, Object> typed = new EnumMap<>(ConfigKey.class);
+        List<String> errors = new ArrayList<>();
+        List<String> unknownKeys = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : yaml.entrySet()) {
+            String key = entry.getKey();
+            ConfigKey schemaKey = ConfigKey.forKey(key);
+            ConfigKey.Prefix prefix = ConfigKey.prefixFor(key);
+            if (schemaKey == null && prefix == null) {
+                unknownKeys.add(key);
+            }
+            String value = firstNonNull(System.getProperty(key), System.getenv(envName(key)), entry.getValue());
+            resolved.put(key, value);
+            if (schemaKey == null && prefix != null && parse(prefix.type, value) == null) {
+                errors.add(key + "=" + value + " is not a valid " + prefix.type);
+            }
+        }
+
+        for (ConfigKey key : ConfigKey.values()) {
+            String raw = lookup(key, yaml);
+            Object value = parse(key.type(), raw);
+            if (value == null) {
+                errors.add(key.key() + "=" + raw + " is not a valid " + key.type()
+                        + ", using default " + key.defaultValue());
+                raw = key.defaultValue();
+                value = parse(key.type(), raw);
+            }
+            resolved.put(key.key(), raw);
+            for (String alias : key.aliases()) resolved.put(alias, raw);
+            typed.put(key, value);
+        }
+        return new FrameworkConfig(resolved, typed, errors, unknownKeys);
+    }
+
+    private static String lookup(ConfigKey key, Map<String, String> yaml) {
+        List<String> names = new ArrayList<>();
+        names.add(key.key());
+        names.addAll(key.aliases());
+        for (String name : names) {
+            String val = System.getProperty(name);
+            if (val != null) return val;
+        }
+        for (String name : names) {
+            String val = System.getenv(envName(name));
+            if (val != null) return val;
+        }
+        for (String name : names) {
+            String val = yaml.get(name);
+            if (val != null && !"null".equals(val)) return val;
+        }
+        return key.defaultValue();
+    }
+
+    static String envName(String key) {
+        return key.toUpperCase().replace(".", "_");
+    }
+
+    private static String firstNonNull(String... values) {
+        for (String v : values) {
+            if (v != null) return v;
+        }
+        return null;
+    }
+
+    /**
+     * Parses a raw value into the schema type, or returns null if it does not fit.
+     */
+    private static Object parse(ConfigKey.Type type, String raw) {
+        if (raw == null) return null;
+        String v = raw.trim();
+        try {
+            switch (type) {
+                case BOOLEAN:
+                    if ("true".equalsIgnoreCase(v)) return Boolean.TRUE;
+                    if ("false".equalsIgnoreCase(v)) return Boolean.FALSE;
+                    return null;
+                case INT:
+                    return Integer.parseInt(v);
+                case NUMBER:
+                    return Double.parseDouble(v);
+                case SECONDS:
+                    return Duration.ofSeconds(Long.parseLong(v));
+                case MILLIS:
+                    return Duration.ofMillis(Long.parseLong(v));
+                case URL:
+                    if (v.isEmpty()) return v;
+                    new URL(v);
+                    return v;
+                case LIST:
+                    if (v.isEmpty()) return Collections.<String>emptyList();
+                    return Collections.unmodifiableList(Arrays.stream(v.split(","))
+                            .map(String::trim)
+                            .filter(s -> !s.isEmpty())
+                            .collect(Collectors.toList()));
+                default:
+                    return v;
+            }
+        } catch (NumberFormatException | MalformedURLException e) {
+            return null;
+        }
+    }
+
+    // ─── Hot accessors ────────────────────────────────────────────────────────
+
+    public String browser() {
+        return browser;
+    }
+
+    public boolean headless() {
+        return headless;
+    }
+
+    public boolean remoteEnabled() {
+        return remoteEnabled;
+    }
+
+    public String hubUrl() {
+        return hubUrl;
+    }
+
+    public Duration implicitWait() {
+        return implicitWait;
+    }
+
+    public Duration explicitWait() {
+        return explicitWait;
+    }
+
+    public Duration pageLoadTimeout() {
+        return pageLoadTimeout;
+    }
+
+    /**
+     * Returns the URL configured under {@code urls.<product>}, or the fallback.
+     */
+    public String productUrl(String product, String fallback) {
+        String url = resolved.get("urls." + product);
+        return url != null ? url : fallback;
+    }
+
+    // ─── Typed accessors ──────────────────────────────────────────────────────
+
+    public String getString(ConfigKey key) {
+        return String.valueOf(typed.get(key));
+    }
+
+    public boolean getBoolean(ConfigKey key) {
+        return (Boolean) typed.get(key);
+    }
+
+    public int getInt(ConfigKey key) {
+        return (Integer) typed.get(key);
+    }
+
+    public double getDouble(ConfigKey key) {
+        return (Double) typed.get(key);
+    }
+
+    public Duration getDuration(ConfigKey key) {
+        return (Duration) typed.get(key);
+    }
+
+    /**
+     * Returns a STRING key as a file system path, expanding a leading {@code ~}.
+     */
+    public Path getPath(ConfigKey key) {
+        String value = getString(key);
+        if (value.startsWith("~")) {
+            value = System.getProperty("user.home") + value.substring(1);
+        }
+        return Paths.get(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<String> getList(ConfigKey key) {
+        return (List<String>) typed.get(key);
+    }
+
+    /**
+     * Returns every resolved key below {@code prefix}, with the prefix stripped.
+     */
+    public Map<String, String> section(String prefix) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (Map.Entry<String, String> e : resolved.entrySet()) {
+            if (e.getKey().startsWith(prefix)) {
+                result.put(e.getKey().substring(prefix.length()), e.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the resolved string for any known key, or null if undeclared.
+     */
+    String raw(String key) {
+        return resolved.get(key);
+    }
+
+    public List<String> errors() {
+        return errors;
+    }
+
+    public List<String> unknownKeys() {
+        return unknownKeys;
+    }
+
+    @Override
+    public String toString() {
+        return "FrameworkConfig{browser=" + browser + ", headless=" + headless
+                + ", remote=" + remoteEnabled + ", implicitWait=" + implicitWait.getSeconds()
+                + "s, explicitWait=" + explicitWait.getSeconds()
+                + "s, pageLoadTimeout=" + pageLoadTimeout.getSeconds() + "s}";
+    }
+}
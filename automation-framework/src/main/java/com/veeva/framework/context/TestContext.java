@@ -0,0 +1,143 @@
+package com.veeva.framework.context;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.driver.DriverManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.WebDriver;
+import org.testng.asserts.SoftAssert;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TestContext - Everything that belongs to one running {@code @Test} invocation.
+ *
+ * Bound to the thread that runs the invocation (TestNG runs @BeforeMethod,
+ * the test and @AfterMethod on the same thread), it holds:
+ *   - the driver lease — with {@code driver.scope=method} the context starts
+ *     its own session and quits/releases it at the end; with the default
+ *     {@code test} scope it borrows the {@code <test>} block's session
+ *   - a fresh SoftAssert
+ *   - failures the framework finds on its own (performance budgets), which
+ *     BaseTest adds to the invocation's result when the test method returns
+ *   - a private output directory under {@code output.dir}
+ *   - the log context ({@code %X{testName}} in log4j2.xml)
+ *
+ * Started and ended by BaseTest; page objects and helpers reach it through
+ * {@link #current()}.
+ */
+public final class TestContext {
+
+    public static final String SCOPE_METHOD = "method";
+    static final String LOG_KEY = "testName";
+
+    private static final ThreadLocal<TestContext> CURRENT = new ThreadLocal<>();
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final String name;
+    private final String browser;
+    private final boolean ownsDriver;
+    private final SoftAssert softAssert = new SoftAssert();
+    private final List<String> frameworkFailures = Collections.synchronizedList(new ArrayList<>());
+    private final String outputDir;
+
+    private TestContext(String name, String browser, boolean ownsDriver) {
+        this.name = name;
+        this.browser = browser;
+        this.ownsDriver = ownsDriver;
+        this.outputDir = ConfigManager.config().getString(ConfigKey.OUTPUT_DIR) + "/"
+                + name.replace('#', '/') + "-" + SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * Starts a context for the invocation on the current thread.
+     * In method scope this also opens the invocation's own browser session.
+     */
+    public static TestContext start(String testClass, String method, String browser) {
+        boolean methodScope = isMethodScope();
+        String simpleName = testClass.substring(testClass.lastIndexOf('.') + 1);
+        TestContext context = new TestContext(simpleName + "#" + method, browser, methodScope);
+        CURRENT.set(context);
+        ThreadContext.put(LOG_KEY, context.name);
+        if (methodScope) {
+            DriverManager.initDriver(browser);
+        }
+        return context;
+    }
+
+    /**
+     * Ends the current thread's context, releasing the driver it owns.
+     */
+    public static void end() {
+        TestContext context = CURRENT.get();
+        CURRENT.remove();
+        ThreadContext.remove(LOG_KEY);
+        if (context != null && context.ownsDriver) {
+            DriverManager.quitDriver();
+        }
+    }
+
+    public static TestContext current() {
+        TestContext context = CURRENT.get();
+        if (context == null) {
+            throw new IllegalStateException("No TestContext on thread " + Thread.currentThread().getName()
+                    + " — is the test class extending BaseTest?");
+        }
+        return context;
+    }
+
+    /**
+     * Returns the current context, or null when not running inside a test.
+     */
+    public static TestContext currentOrNull() {
+        return CURRENT.get();
+    }
+
+    public static boolean isMethodScope() {
+        return SCOPE_METHOD.equalsIgnoreCase(ConfigManager.config().getString(ConfigKey.DRIVER_SCOPE));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String browser() {
+        return browser;
+    }
+
+    public WebDriver driver() {
+        return DriverManager.getDriver();
+    }
+
+    public SoftAssert softAssert() {
+        return softAssert;
+    }
+
+    /**
+     * Fails the invocation once the test method returns, whether or not the test calls assertAll.
+     */
+    public void fail(String message) {
+        frameworkFailures.add(message);
+    }
+
+    /**
+     * Messages passed to {@link #fail(String)} so far, in order.
+     */
+    public List<String> failures() {
+        synchronized (frameworkFailures) {
+            return new ArrayList<>(frameworkFailures);
+        }
+    }
+
+    /**
+     * This invocation's output directory (created on first use).
+     */
+    public String outputDir() {
+        new File(outputDir).mkdirs();
+        return outputDir;
+    }
+}
@@ -0,0 +1,83 @@
+package com.veeva.framework.crawl;
+
+/**
+ * BloomFilter - Fixed-size set membership with false positives but no false negatives.
+ *
+ * Sized from the expected number of entries and the acceptable false-positive
+ * rate: {@code m = -n·ln(p) / ln(2)²} bits and {@code k = m/n·ln(2)} probes.
+ * The probes are derived from one 64-bit hash by double hashing
+ * ({@code h1 + i·h2}), so each lookup hashes the string once.
+ *
+ * Not thread-safe; {@link SeenUrls} guards it.
+ */
+public final class BloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int probes;
+
+    public BloomFilter(long expectedEntries, double falsePositiveRate) {
+        if (expectedEntries < 1) throw new IllegalArgumentException("expectedEntries must be >= 1");
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1)");
+        }
+        long m = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new long[(int) Math.max(1, (m + 63) / 64)];
+        this.bitCount = bits.length * 64L;
+        this.probes = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+    }
+
+    /**
+     * Adds a value by its 64-bit hash; returns false if it was (probably) present already.
+     */
+    public boolean add(long hash) {
+        boolean changed = false;
+        long h1 = hash;
+        long h2 = (hash >>> 32) | (hash << 32);
+        for (int i = 0; i < probes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public boolean mightContain(long hash) {
+        long h1 = hash;
+        long h2 = (hash >>> 32) | (hash << 32);
+        for (int i = 0; i < probes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int probes() {
+        return probes;
+    }
+
+    /**
+     * 64-bit hash of a string (FNV-1a over the UTF-16 chars, finished with the MurmurHash3 mixer).
+     */
+    public static long hash(CharSequence value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
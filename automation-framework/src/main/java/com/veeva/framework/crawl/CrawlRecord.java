@@ -0,0 +1,131 @@
+package com.veeva.framework.crawl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CrawlRecord - One URL the crawler discovered, as written to a {@link CrawlSink}.
+ *
+ * Every distinct canonical URL produces exactly one record:
+ *   - PAGE      fetched; {@code status} is the final HTTP status (-1 with
+ *               {@code error} when no response), {@code links} the number of
+ *               links found on it (0 when not parsed)
+ *   - EXTERNAL  outside the crawl scope; listed, not fetched
+ *   - DROPPED   in scope but not fetched ({@code error} says why: page
+ *               limit, depth limit or a full frontier)
+ * {@code referrer} is the first page that linked to it (null for seeds).
+ */
+public final class CrawlRecord {
+
+    public enum Kind { PAGE, EXTERNAL, DROPPED }
+
+    private final String url;
+    private final Kind kind;
+    private final int depth;
+    private final String referrer;
+    private final int status;
+    private final String finalUrl;
+    private final String contentType;
+    private final int links;
+    private final long elapsedMillis;
+    private final String error;
+
+    CrawlRecord(String url, Kind kind, int depth, String referrer, int status, String finalUrl,
+                String contentType, int links, long elapsedMillis, String error) {
+        this.url = url;
+        this.kind = kind;
+        this.depth = depth;
+        this.referrer = referrer;
+        this.status = status;
+        this.finalUrl = finalUrl;
+        this.contentType = contentType;
+        this.links = links;
+        this.elapsedMillis = elapsedMillis;
+        this.error = error;
+    }
+
+    static CrawlRecord external(String url, int depth, String referrer) {
+        return new CrawlRecord(url, Kind.EXTERNAL, depth, referrer, 0, null, null, 0, 0, null);
+    }
+
+    static CrawlRecord dropped(String url, int depth, String referrer, String reason) {
+        return new CrawlRecord(url, Kind.DROPPED, depth, referrer, 0, null, null, 0, 0, reason);
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    public String referrer() {
+        return referrer;
+    }
+
+    public int status() {
+        return status;
+    }
+
+    /**
+     * Where redirects ended, or null when the URL answered directly.
+     */
+    public String finalUrl() {
+        return finalUrl;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public int links() {
+        return links;
+    }
+
+    public long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public String error() {
+        return error;
+    }
+
+    /**
+     * True for a fetched page that did not answer 2xx.
+     */
+    public boolean isBroken() {
+        return kind == Kind.PAGE && (status < 200 || status >= 300);
+    }
+
+    /**
+     * Field map in output order; null fields are left out.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("url", url);
+        map.put("kind", kind.name());
+        map.put("depth", depth);
+        if (referrer != null) map.put("referrer", referrer);
+        if (kind == Kind.PAGE) {
+            map.put("status", status);
+            if (finalUrl != null) map.put("finalUrl", finalUrl);
+            if (contentType != null) map.put("contentType", contentType);
+            map.put("links", links);
+            map.put("elapsedMillis", elapsedMillis);
+        }
+        if (error != null) map.put("error", error);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.PAGE
+                ? url + " → " + (status < 0 ? "ERROR " + error : String.valueOf(status)) + " (depth " + depth + ")"
+                : url + " [" + kind + (error != null ? ": " + error : "") + "]";
+    }
+}
@@ -0,0 +1,57 @@
+package com.veeva.framework.crawl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * CrawlSink - Where the crawler streams its records as they are produced.
+ *
+ * Records are handed over once and never kept by the crawler, so a crawl of
+ * tens of thousands of pages needs memory only for the frontier and the
+ * {@link SeenUrls} hashes. {@code accept} is called from several worker
+ * threads; implementations must be thread-safe.
+ */
+@FunctionalInterface
+public interface CrawlSink extends AutoCloseable {
+
+    void accept(CrawlRecord record) throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+
+    /**
+     * Appends one JSON object per record to {@code file} (JSON Lines), replacing any earlier file.
+     */
+    static CrawlSink jsonLines(Path file) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        return new JsonLines(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+    }
+
+    final class JsonLines implements CrawlSink {
+
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+
+        private final BufferedWriter writer;
+
+        private JsonLines(BufferedWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public synchronized void accept(CrawlRecord record) throws IOException {
+            writer.write(MAPPER.writeValueAsString(record.toMap()));
+            writer.newLine();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,542 @@
+package com.veeva.framework.crawl;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.config.FrameworkConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Crawler - Walks whole sites over plain HTTP and streams one record per URL found.
+ *
+ * Seeds define the scope: a URL is crawled when its canonical form lies under
+ * a seed ({@code https://www.nba.com/bulls} covers {@code /bulls/...}); links
+ * leaving the scope are recorded as EXTERNAL but not fetched. For every page:
+ *   - a GET (redirects followed) on a shared keep-alive {@link HttpClient}
+ *   - HTML bodies shallower than {@code crawl.max.depth} are scanned for
+ *     links by {@link LinkExtractor} as they stream in
+ *   - every link is canonicalized ({@link UrlCanonicalizer}) and checked
+ *     against {@link SeenUrls}; new in-scope URLs go to the frontier
+ *   - the page's {@link CrawlRecord} goes straight to the {@link CrawlSink}
+ *
+ * The frontier is a bounded queue ({@code crawl.frontier.capacity}) drained
+ * by {@code crawl.threads} workers. Workers are also its producers, so a
+ * full frontier never blocks them: the URL is recorded as DROPPED instead.
+ * At most {@code crawl.max.pages} pages are fetched; the rest are DROPPED.
+ * Memory therefore stays bounded by the frontier and the seen-URL keys (one
+ * string per distinct URL), not by the pages or records, however big they are.
+ *
+ * From the command line (writes JSON Lines, prints the summary):
+ * <pre>
+ *   mvn -q exec:java -pl automation-framework \
+ *       -Dexec.mainClass=com.veeva.framework.crawl.Crawler \
+ *       -Dexec.args="--seeds https://www.nba.com/bulls --out target/crawl/bulls.jsonl"
+ * </pre>
+ */
+public final class Crawler {
+
+    private static final Logger log = LogManager.getLogger(Crawler.class);
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; veeva-automation-crawler)";
+    private static final long MAX_PAGE_CHARS = 5_000_000;
+    private static final double SEEN_FALSE_POSITIVE_RATE = 0.01;
+
+    private final int threads;
+    private final int frontierCapacity;
+    private final int maxPages;
+    private final int maxDepth;
+    private final Duration timeout;
+    private final long expectedUrls;
+    private final List<String> trackingParams;
+    private final UrlCanonicalizer canonicalizer;
+    private final HttpClient client;
+
+    private Crawler(Builder builder) {
+        this.threads = builder.threads;
+        this.frontierCapacity = builder.frontierCapacity;
+        this.maxPages = builder.maxPages;
+        this.maxDepth = builder.maxDepth;
+        this.timeout = builder.timeout;
+        this.expectedUrls = builder.expectedUrls;
+        this.trackingParams = builder.trackingParams;
+        this.canonicalizer = new UrlCanonicalizer(trackingParams);
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    public static Crawler fromConfig() {
+        FrameworkConfig config = ConfigManager.config();
+        return builder()
+                .threads(config.getInt(ConfigKey.CRAWL_THREADS))
+                .frontierCapacity(config.getInt(ConfigKey.CRAWL_FRONTIER_CAPACITY))
+                .maxPages(config.getInt(ConfigKey.CRAWL_MAX_PAGES))
+                .maxDepth(config.getInt(ConfigKey.CRAWL_MAX_DEPTH))
+                .timeout(config.getDuration(ConfigKey.CRAWL_TIMEOUT))
+                .expectedUrls(config.getInt(ConfigKey.CRAWL_EXPECTED_URLS))
+                .trackingParams(config.getList(ConfigKey.CRAWL_TRACKING_PARAMS))
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> opts = parseArgs(args);
+        String seeds = opts.get("seeds");
+        if (seeds == null) {
+            throw new IllegalArgumentException("Missing --seeds (usage: --seeds url[,url] [--out file.jsonl]"
+                    + " [--threads N] [--depth N] [--pages N])");
+        }
+        Path out = opts.containsKey("out")
+                ? Paths.get(opts.get("out"))
+                : Paths.get(ConfigManager.config().getString(ConfigKey.OUTPUT_DIR), "crawl.jsonl");
+        Builder builder = fromConfig().toBuilder();
+        if (opts.containsKey("threads")) builder.threads(Integer.parseInt(opts.get("threads")));
+        if (opts.containsKey("depth")) builder.maxDepth(Integer.parseInt(opts.get("depth")));
+        if (opts.containsKey("pages")) builder.maxPages(Integer.parseInt(opts.get("pages")));
+
+        try (CrawlSink sink = CrawlSink.jsonLines(out)) {
+            Summary summary = builder.build().crawl(Arrays.asList(seeds.split(",")), sink);
+            System.out.println(summary);
+        }
+        System.out.println(out.toAbsolutePath());
+    }
+
+    /**
+     * Crawls from {@code seeds} until the frontier is empty and returns the
+     * counts; records go to {@code sink}, which the caller closes.
+     */
+    public Summary crawl(Collection<String> seeds, CrawlSink sink) throws IOException {
+        Run run = new Run(sink);
+        List<String> start = new ArrayList<>();
+        for (String seed : seeds) {
+            String url = canonicalizer.canonicalize(seed.trim());
+            if (url == null) {
+                throw new IllegalArgumentException("Not an http(s) URL: " + seed);
+            }
+            start.add(url);
+            run.scope.add(UrlCanonicalizer.key(url));
+        }
+        start.forEach(url -> run.discover(url, 0, null));
+
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "crawler-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        long started = System.nanoTime();
+        try {
+            for (int i = 0; i < threads; i++) {
+                pool.execute(run::work);
+            }
+            pool.shutdown();
+            while (!pool.awaitTermination(1, TimeUnit.SECONDS)) {
+                log.debug("Crawling: {} pages fetched, {} queued", run.fetched.get(), run.frontier.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Crawl interrupted", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        if (run.sinkError.get() != null) {
+            throw run.sinkError.get();
+        }
+        Summary summary = run.summary((System.nanoTime() - started) / 1_000_000);
+        log.info("Crawl finished: {}", summary);
+        return summary;
+    }
+
+    // ─── One crawl ────────────────────────────────────────────────────────────
+
+    private final class Run {
+
+        final CrawlSink sink;
+        final List<String> scope = new ArrayList<>();
+        final BlockingQueue<Task> frontier = new ArrayBlockingQueue<>(frontierCapacity);
+        final SeenUrls seen = new SeenUrls(expectedUrls, SEEN_FALSE_POSITIVE_RATE);
+        final AtomicInteger outstanding = new AtomicInteger();
+        final AtomicInteger accepted = new AtomicInteger();
+        final AtomicInteger fetched = new AtomicInteger();
+        final AtomicInteger broken = new AtomicInteger();
+        final AtomicInteger external = new AtomicInteger();
+        final AtomicInteger dropped = new AtomicInteger();
+        final AtomicLong links = new AtomicLong();
+        final AtomicLong duplicates = new AtomicLong();
+        final AtomicReference<IOException> sinkError = new AtomicReference<>();
+
+        Run(CrawlSink sink) {
+            this.sink = sink;
+        }
+
+        void work() {
+            while (sinkError.get() == null && !Thread.currentThread().isInterrupted()) {
+                Task task;
+                try {
+                    task = frontier.poll(50, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (task == null) {
+                    if (outstanding.get() == 0) return;
+                    continue;
+                }
+                try {
+                    fetch(task);
+                } finally {
+                    outstanding.decrementAndGet();
+                }
+            }
+        }
+
+        void discover(String url, int depth, String referrer) {
+            if (url == null) return;
+            links.incrementAndGet();
+            String key = UrlCanonicalizer.key(url);
+            if (!seen.add(key)) {
+                duplicates.incrementAndGet();
+                return;
+            }
+            if (!inScope(key)) {
+                external.incrementAndGet();
+                emit(CrawlRecord.external(url, depth, referrer));
+                return;
+            }
+            if (accepted.incrementAndGet() > maxPages) {
+                drop(url, depth, referrer, "page limit " + maxPages);
+                return;
+            }
+            outstanding.incrementAndGet();
+            if (!frontier.offer(new Task(url, depth, referrer))) {
+                outstanding.decrementAndGet();
+                accepted.decrementAndGet();
+                drop(url, depth, referrer, "frontier full (" + frontierCapacity + ")");
+            }
+        }
+
+        private void fetch(Task task) {
+            long start = System.nanoTime();
+            HttpResponse<InputStream> response;
+            try {
+                response = client.send(HttpRequest.newBuilder(URI.create(task.url))
+                        .timeout(timeout)
+                        .header("User-Agent", USER_AGENT)
+                        .header("Accept", "text/html,*/*;q=0.8")
+                        .GET().build(), HttpResponse.BodyHandlers.ofInputStream());
+            } catch (IOException | IllegalArgumentException e) {
+                finish(task, -1, null, null, 0, start, e.getClass().getSimpleName()
+                        + (e.getMessage() != null ? ": " + e.getMessage() : ""));
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                finish(task, -1, null, null, 0, start, "interrupted");
+                return;
+            }
+
+            String landed = canonicalizer.canonicalize(response.uri().toString());
+            String finalUrl = landed != null && !landed.equals(task.url) ? landed : null;
+            if (finalUrl != null) {
+                seen.add(UrlCanonicalizer.key(finalUrl));
+            }
+            String contentType = response.headers().firstValue("Content-Type").orElse(null);
+            int found = 0;
+            String error = null;
+            try (InputStream body = response.body()) {
+                boolean parse = response.statusCode() / 100 == 2 && task.depth < maxDepth
+                        && isHtml(contentType) && (finalUrl == null || inScope(UrlCanonicalizer.key(finalUrl)));
+                if (parse) {
+                    Reader reader = new InputStreamReader(body, charsetOf(contentType));
+                    LinkExtractor.Result result = LinkExtractor.extract(reader, MAX_PAGE_CHARS);
+                    String pageUrl = response.uri().toString();
+                    String base = result.base != null ? resolve(pageUrl, result.base) : pageUrl;
+                    for (String href : result.hrefs) {
+                        discover(canonicalizer.canonicalize(base, href), task.depth + 1, task.url);
+                        found++;
+                    }
+                    if (result.truncated) error = "page truncated after " + MAX_PAGE_CHARS + " chars";
+                }
+            } catch (IOException e) {
+                error = "body: " + e.getMessage();
+            }
+            finish(task, response.statusCode(), finalUrl, contentType, found, start, error);
+        }
+
+        private void finish(Task task, int status, String finalUrl, String contentType, int found,
+                            long start, String error) {
+            fetched.incrementAndGet();
+            CrawlRecord record = new CrawlRecord(task.url, CrawlRecord.Kind.PAGE, task.depth, task.referrer,
+                    status, finalUrl, contentType, found, (System.nanoTime() - start) / 1_000_000, error);
+            if (record.isBroken()) {
+                broken.incrementAndGet();
+                log.warn("Broken: {} (linked from {})", record, task.referrer);
+            }
+            emit(record);
+        }
+
+        private void drop(String url, int depth, String referrer, String reason) {
+            dropped.incrementAndGet();
+            emit(CrawlRecord.dropped(url, depth, referrer, reason));
+        }
+
+        private void emit(CrawlRecord record) {
+            try {
+                sink.accept(record);
+            } catch (IOException e) {
+                sinkError.compareAndSet(null, e);
+            }
+        }
+
+        private boolean inScope(String key) {
+            for (String prefix : scope) {
+                if (key.equals(prefix) || prefix.endsWith("/") && key.startsWith(prefix)
+                        || key.startsWith(prefix + "/") || key.startsWith(prefix + "?")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Summary summary(long elapsedMillis) {
+            return new Summary(fetched.get(), broken.get(), external.get(), dropped.get(),
+                    links.get(), duplicates.get(), seen.size(), elapsedMillis);
+        }
+    }
+
+    private static final class Task {
+        final String url;
+        final int depth;
+        final String referrer;
+
+        Task(String url, int depth, String referrer) {
+            this.url = url;
+            this.depth = depth;
+            this.referrer = referrer;
+        }
+    }
+
+    /**
+     * Resolves a {@code <base href>}; unlike links it is not canonicalized, its trailing slash matters.
+     */
+    private static String resolve(String pageUrl, String href) {
+        try {
+            return URI.create(pageUrl).resolve(href.replace(" ", "%20")).toString();
+        } catch (IllegalArgumentException e) {
+            return pageUrl;
+        }
+    }
+
+    private static boolean isHtml(String contentType) {
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).contains("html");
+    }
+
+    private static Charset charsetOf(String contentType) {
+        if (contentType != null) {
+            for (String part : contentType.split(";")) {
+                String p = part.trim();
+                if (p.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                    try {
+                        return Charset.forName(p.substring(8).replace("\"", "").trim());
+                    } catch (IllegalArgumentException e) {
+                        break;
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            opts.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return opts;
+    }
+
+    // ─── Result ───────────────────────────────────────────────────────────────
+
+    public static final class Summary {
+
+        private final int pages;
+        private final int broken;
+        private final int external;
+        private final int dropped;
+        private final long links;
+        private final long duplicates;
+        private final int distinctUrls;
+        private final long elapsedMillis;
+
+        Summary(int pages, int broken, int external, int dropped, long links, long duplicates,
+                int distinctUrls, long elapsedMillis) {
+            this.pages = pages;
+            this.broken = broken;
+            this.external = external;
+            this.dropped = dropped;
+            this.links = links;
+            this.duplicates = duplicates;
+            this.distinctUrls = distinctUrls;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        /**
+         * Pages fetched (records of kind PAGE).
+         */
+        public int pages() {
+            return pages;
+        }
+
+        public int broken() {
+            return broken;
+        }
+
+        public int external() {
+            return external;
+        }
+
+        public int dropped() {
+            return dropped;
+        }
+
+        /**
+         * Links seen in total, seeds included, before deduplication.
+         */
+        public long links() {
+            return links;
+        }
+
+        /**
+         * Links whose canonical URL had been seen already.
+         */
+        public long duplicates() {
+            return duplicates;
+        }
+
+        public int distinctUrls() {
+            return distinctUrls;
+        }
+
+        public long elapsedMillis() {
+            return elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d pages (%d broken), %d external, %d dropped; %d links, %d duplicates, "
+                            + "%d distinct URLs in %.1fs", pages, broken, external, dropped, links, duplicates,
+                    distinctUrls, elapsedMillis / 1000.0);
+        }
+    }
+
+    // ─── Builder ──────────────────────────────────────────────────────────────
+
+    public Builder toBuilder() {
+        return new Builder()
+                .threads(threads)
+                .frontierCapacity(frontierCapacity)
+                .maxPages(maxPages)
+                .maxDepth(maxDepth)
+                .timeout(timeout)
+                .expectedUrls(expectedUrls)
+                .trackingParams(trackingParams);
+    }
+
+    public static final class Builder {
+
+        private int threads = 8;
+        private int frontierCapacity = 10_000;
+        private int maxPages = 10_000;
+        private int maxDepth = 3;
+        private Duration timeout = Duration.ofSeconds(15);
+        private long expectedUrls = 200_000;
+        private List<String> trackingParams = UrlCanonicalizer.DEFAULT_TRACKING_PARAMS;
+
+        private Builder() {
+        }
+
+        public Builder threads(int threads) {
+            this.threads = Math.max(1, threads);
+            return this;
+        }
+
+        /**
+         * Maximum URLs waiting to be fetched; further ones are DROPPED.
+         */
+        public Builder frontierCapacity(int frontierCapacity) {
+            this.frontierCapacity = Math.max(1, frontierCapacity);
+            return this;
+        }
+
+        public Builder maxPages(int maxPages) {
+            this.maxPages = Math.max(1, maxPages);
+            return this;
+        }
+
+        /**
+         * Link hops from a seed; pages at this depth are fetched but not scanned for links.
+         */
+        public Builder maxDepth(int maxDepth) {
+            this.maxDepth = Math.max(0, maxDepth);
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Distinct URLs the seen-set's Bloom filter is sized for (about 1.2 bytes each).
+         */
+        public Builder expectedUrls(long expectedUrls) {
+            this.expectedUrls = Math.max(1, expectedUrls);
+            return this;
+        }
+
+        /**
+         * Query parameters dropped during canonicalization; {@code name*} matches a prefix.
+         */
+        public Builder trackingParams(List<String> trackingParams) {
+            this.trackingParams = trackingParams.stream().map(String::trim).filter(s -> !s.isEmpty())
+                    .collect(Collectors.toList());
+            return this;
+        }
+
+        public Crawler build() {
+            return new Crawler(this);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.veeva.framework.crawl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * LinkExtractor - Pulls link targets out of an HTML stream without building a DOM.
+ *
+ * Reads the page once, character by character, and keeps only the current
+ * tag: the {@code href} of {@code <a>} and {@code <area>} tags, and the
+ * {@code <base href>} that relative links resolve against. Comments and the
+ * bodies of {@code <script>} / {@code <style>} are skipped. Memory use is
+ * bounded by the longest tag, not by the size of the page, and reading stops
+ * after {@code maxChars}.
+ */
+final class LinkExtractor {
+
+    private final Reader in;
+    private final long maxChars;
+    private long read;
+    private int peeked = -2;
+
+    private String base;
+    private final List<String> hrefs = new ArrayList<>();
+
+    private LinkExtractor(Reader in, long maxChars) {
+        this.in = in;
+        this.maxChars = maxChars;
+    }
+
+    static Result extract(Reader in, long maxChars) throws IOException {
+        LinkExtractor extractor = new LinkExtractor(in, maxChars);
+        extractor.run();
+        return new Result(extractor.base, extractor.hrefs, extractor.read >= maxChars);
+    }
+
+    static final class Result {
+        final String base;
+        final List<String> hrefs;
+        final boolean truncated;
+
+        Result(String base, List<String> hrefs, boolean truncated) {
+            this.base = base;
+            this.hrefs = hrefs;
+            this.truncated = truncated;
+        }
+    }
+
+    private void run() throws IOException {
+        int c;
+        while ((c = next()) != -1) {
+            if (c != '<') continue;
+            c = next();
+            if (c == '!') {
+                skipDeclaration();
+            } else if (Character.isLetter(c)) {
+                String name = (((char) c) + readName()).toLowerCase(Locale.ROOT);
+                String href = readAttributes("href");
+                if (href != null && (name.equals("a") || name.equals("area"))) {
+                    hrefs.add(href);
+                } else if (href != null && name.equals("base") && base == null) {
+                    base = href;
+                } else if (name.equals("script") || name.equals("style")) {
+                    skipUntilClosing(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the attributes up to the end of the tag; returns the value of {@code wanted} or null.
+     */
+    private String readAttributes(String wanted) throws IOException {
+        String found = null;
+        int c = next();
+        while (c != -1 && c != '>') {
+            if (Character.isWhitespace(c) || c == '/') {
+                c = next();
+                continue;
+            }
+            StringBuilder attr = new StringBuilder();
+            while (c != -1 && c != '=' && c != '>' && !Character.isWhitespace(c) && c != '/') {
+                attr.append((char) c);
+                c = next();
+            }
+            while (c != -1 && Character.isWhitespace(c)) c = next();
+            if (c != '=') continue;
+            c = next();
+            while (c != -1 && Character.isWhitespace(c)) c = next();
+            StringBuilder value = new StringBuilder();
+            if (c == '"' || c == '\'') {
+                int quote = c;
+                while ((c = next()) != -1 && c != quote) value.append((char) c);
+                c = next();
+            } else {
+                while (c != -1 && c != '>' && !Character.isWhitespace(c)) {
+                    value.append((char) c);
+                    c = next();
+                }
+            }
+            if (found == null && attr.toString().equalsIgnoreCase(wanted)) {
+                found = decodeEntities(value.toString());
+            }
+        }
+        return found;
+    }
+
+    private String readName() throws IOException {
+        StringBuilder name = new StringBuilder();
+        int c;
+        while ((c = peek()) != -1 && (Character.isLetterOrDigit(c) || c == '-')) {
+            name.append((char) next());
+        }
+        return name.toString();
+    }
+
+    private void skipDeclaration() throws IOException {
+        int c = next();
+        if (c == '-' && peek() == '-') {
+            next();
+            int dashes = 0;
+            while ((c = next()) != -1) {
+                if (c == '>' && dashes >= 2) return;
+                dashes = c == '-' ? dashes + 1 : 0;
+            }
+            return;
+        }
+        while (c != -1 && c != '>') c = next();
+    }
+
+    private void skipUntilClosing(String tag) throws IOException {
+        String closing = "</" + tag;
+        int matched = 0;
+        int c;
+        while ((c = next()) != -1) {
+            if (Character.toLowerCase(c) == closing.charAt(matched)) {
+                if (++matched == closing.length()) {
+                    while (c != -1 && c != '>') c = next();
+                    return;
+                }
+            } else {
+                matched = c == '<' ? 1 : 0;
+            }
+        }
+    }
+
+    private int next() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        if (read >= maxChars) return -1;
+        int c = in.read();
+        if (c != -1) read++;
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) peeked = next();
+        return peeked;
+    }
+
+    private static String decodeEntities(String value) {
+        if (value.indexOf('&') < 0) return value.trim();
+        return value.replace("&amp;", "&").replace("&#38;", "&").replace("&quot;", "\"")
+                .replace("&#39;", "'").replace("&#x2F;", "/").replace("&#47;", "/").trim();
+    }
+}
@@ -0,0 +1,113 @@
+package com.veeva.framework.crawl;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * SeenUrls - Exact "have we queued this URL before?" set for the crawler.
+ *
+ * Keyed by the canonical URL's {@link UrlCanonicalizer#key(String) key}, in two layers:
+ *   - a {@link BloomFilter} answers most lookups for new URLs ("definitely
+ *     not seen") from a small bit array, without probing the table
+ *   - an open-addressing table holds every key with its 64-bit hash and
+ *     settles every "maybe seen"; equal hashes are confirmed by comparing the
+ *     keys, so neither a Bloom false positive nor a hash collision drops a page
+ * The table costs the key string plus 8 bytes of hash per URL (about twice
+ * that in slots with its load factor), without the per-entry node of a HashSet.
+ *
+ * All methods are synchronized; the crawler's workers share one instance.
+ */
+public final class SeenUrls {
+
+    private final BloomFilter bloom;
+    private final ToLongFunction<String> hasher;
+    private long[] hashes;
+    private String[] keys;
+    private int size;
+    private long bloomNegatives;
+
+    public SeenUrls(long expectedUrls, double falsePositiveRate) {
+        this(expectedUrls, falsePositiveRate, BloomFilter::hash);
+    }
+
+    SeenUrls(long expectedUrls, double falsePositiveRate, ToLongFunction<String> hasher) {
+        this.bloom = new BloomFilter(expectedUrls, falsePositiveRate);
+        this.hasher = hasher;
+        int capacity = tableCapacity(Math.min(expectedUrls, 1 << 16));
+        this.hashes = new long[capacity];
+        this.keys = new String[capacity];
+    }
+
+    /**
+     * Marks {@code key} as seen; returns true if it had not been seen before.
+     */
+    public synchronized boolean add(String key) {
+        long hash = hasher.applyAsLong(key);
+        if (!bloom.mightContain(hash)) {
+            bloomNegatives++;
+            bloom.add(hash);
+            insert(hash, key);
+            return true;
+        }
+        if (contains(hash, key)) return false;
+        insert(hash, key);
+        return true;
+    }
+
+    public synchronized boolean contains(String key) {
+        long hash = hasher.applyAsLong(key);
+        return bloom.mightContain(hash) && contains(hash, key);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * How many additions the Bloom filter settled on its own.
+     */
+    public synchronized long bloomNegatives() {
+        return bloomNegatives;
+    }
+
+    private boolean contains(long hash, String key) {
+        int mask = keys.length - 1;
+        for (int i = slot(hash, mask); keys[i] != null; i = (i + 1) & mask) {
+            if (hashes[i] == hash && keys[i].equals(key)) return true;
+        }
+        return false;
+    }
+
+    private void insert(long hash, String key) {
+        if ((size + 1) * 4L > keys.length * 3L) grow();
+        place(hash, key);
+        size++;
+    }
+
+    private void place(long hash, String key) {
+        int mask = keys.length - 1;
+        int i = slot(hash, mask);
+        while (keys[i] != null) i = (i + 1) & mask;
+        hashes[i] = hash;
+        keys[i] = key;
+    }
+
+    private void grow() {
+        long[] oldHashes = hashes;
+        String[] oldKeys = keys;
+        hashes = new long[oldKeys.length * 2];
+        keys = new String[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) place(oldHashes[i], oldKeys[i]);
+        }
+    }
+
+    private static int slot(long hash, int mask) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int tableCapacity(long entries) {
+        int capacity = 16;
+        while (capacity * 3L < entries * 4L) capacity <<= 1;
+        return capacity;
+    }
+}
@@ -0,0 +1,149 @@
+package com.veeva.framework.crawl;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * UrlCanonicalizer - Reduces the many spellings of one page to a single URL.
+ *
+ * Applied to every discovered link before it is deduplicated:
+ *   - relative hrefs are resolved against the page they appear on
+ *   - scheme and host are lower-cased, default ports (:80, :443) dropped
+ *   - dot segments are removed and an empty path becomes "/"
+ *   - a trailing slash is dropped from every path except the root
+ *   - the fragment is dropped (it never reaches the server)
+ *   - tracking parameters are dropped and the remaining ones sorted
+ *
+ * Tracking parameters are matched by name; a trailing {@code *} matches a
+ * prefix ({@code utm_*}). {@link #key(String)} additionally ignores the
+ * scheme, so {@code http://} and {@code https://} links to the same page are
+ * visited once.
+ */
+public final class UrlCanonicalizer {
+
+    public static final List<String> DEFAULT_TRACKING_PARAMS = Collections.unmodifiableList(Arrays.asList(
+            "utm_*", "gclid", "fbclid", "msclkid", "mc_cid", "mc_eid", "_ga", "_gl", "igshid", "ref_src"));
+
+    private final List<String> exact = new ArrayList<>();
+    private final List<String> prefixes = new ArrayList<>();
+
+    public UrlCanonicalizer() {
+        this(DEFAULT_TRACKING_PARAMS);
+    }
+
+    public UrlCanonicalizer(Collection<String> trackingParams) {
+        for (String param : trackingParams) {
+            String name = param.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty()) continue;
+            if (name.endsWith("*")) {
+                prefixes.add(name.substring(0, name.length() - 1));
+            } else {
+                exact.add(name);
+            }
+        }
+    }
+
+    /**
+     * Resolves {@code href} against {@code base} and canonicalizes it; null
+     * for non-http(s) links (mailto:, tel:, javascript:) and malformed ones.
+     */
+    public String canonicalize(String base, String href) {
+        if (href == null) return null;
+        String trimmed = href.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) return null;
+        try {
+            URI resolved = base != null
+                    ? baseUri(base).resolve(new URI(encodeSpaces(trimmed)))
+                    : new URI(encodeSpaces(trimmed));
+            return canonicalize(resolved);
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public String canonicalize(String url) {
+        return canonicalize(null, url);
+    }
+
+    /**
+     * The dedupe key of a canonical URL: the URL without its scheme.
+     */
+    public static String key(String canonicalUrl) {
+        int colon = canonicalUrl.indexOf("://");
+        return colon < 0 ? canonicalUrl : canonicalUrl.substring(colon + 3);
+    }
+
+    private String canonicalize(URI uri) {
+        String scheme = uri.getScheme();
+        if (scheme == null) return null;
+        scheme = scheme.toLowerCase(Locale.ROOT);
+        if (!scheme.equals("http") && !scheme.equals("https")) return null;
+        String host = uri.getHost();
+        if (host == null || host.isEmpty()) return null;
+
+        StringBuilder out = new StringBuilder(scheme).append("://").append(host.toLowerCase(Locale.ROOT));
+        int port = uri.getPort();
+        if (port != -1 && !(port == 80 && scheme.equals("http")) && !(port == 443 && scheme.equals("https"))) {
+            out.append(':').append(port);
+        }
+        out.append(path(uri.normalize().getRawPath()));
+        String query = query(uri.getRawQuery());
+        if (!query.isEmpty()) {
+            out.append('?').append(query);
+        }
+        return out.toString();
+    }
+
+    private static String path(String rawPath) {
+        if (rawPath == null || rawPath.isEmpty()) return "/";
+        // normalize() leaves leading "/.." of paths that climb above the root
+        String path = rawPath;
+        while (path.startsWith("/../")) path = path.substring(3);
+        if (path.equals("/..")) path = "/";
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    private String query(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) return "";
+        List<String> kept = new ArrayList<>();
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) continue;
+            int eq = pair.indexOf('=');
+            String name = (eq < 0 ? pair : pair.substring(0, eq)).toLowerCase(Locale.ROOT);
+            if (!isTracking(name)) kept.add(pair);
+        }
+        Collections.sort(kept);
+        return String.join("&", kept);
+    }
+
+    private boolean isTracking(String name) {
+        if (exact.contains(name)) return true;
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    private static URI baseUri(String base) throws URISyntaxException {
+        URI uri = new URI(encodeSpaces(base));
+        // URI.resolve drops the separator when the base has no path ("http://host" + "a")
+        if (!uri.isOpaque() && uri.getRawAuthority() != null && uri.getRawPath().isEmpty()) {
+            uri = new URI(uri.getScheme() + "://" + uri.getRawAuthority() + "/"
+                    + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : ""));
+        }
+        return uri;
+    }
+
+    private static String encodeSpaces(String href) {
+        return href.indexOf(' ') < 0 ? href : href.replace(" ", "%20");
+    }
+}
@@ -1,6 +1,8 @@
 package com.veeva.framework.driver;
 
 import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.config.FrameworkConfig;
+import com.veeva.framework.driver.fake.FakeWebDriver;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -16,14 +18,20 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.time.Duration;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * DriverFactory - Responsible for dynamic WebDriver creation.
  * Uses WebDriverManager for automatic binary management.
- * Supports Chrome, Firefox, Edge with headless mode option.
+ * Supports Chrome, Firefox, Edge with headless mode option, plus
+ * {@code fake}: an in-memory {@link FakeWebDriver} over HTML fixtures that
+ * never goes remote.
+ * Local sessions start on a clone of a pre-warmed profile when
+ * {@code profile.template.enabled} (see {@link ProfileTemplateManager}).
+ * Every session is registered with the {@link SessionTracker}, so one that is
+ * never quit is found and closed.
  */
 public class DriverFactory {
 
@@ -38,50 +46,85 @@ public class DriverFactory {
      * Browser is read from config/env, defaulting to Chrome.
      */
     public static WebDriver createDriver(String browser) {
-        boolean headless = Boolean.parseBoolean(ConfigManager.get("headless", "false"));
-        boolean remote   = Boolean.parseBoolean(ConfigManager.get("remote", "false"));
-        String  hubUrl   = ConfigManager.get("hub_url", "");
+        FrameworkConfig config = ConfigManager.config();
+        boolean headless = config.headless();
+        boolean remote   = config.remoteEnabled();
+        String  hubUrl   = config.hubUrl();
 
         String resolvedBrowser = (browser != null && !browser.isEmpty())
                 ? browser.toLowerCase().trim()
-                : ConfigManager.get("browser", "chrome").toLowerCase().trim();
+                : config.browser();
 
         log.info("Initializing WebDriver | Browser: {} | Headless: {} | Remote: {}",
                 resolvedBrowser, headless, remote);
 
+        if ("fake".equals(resolvedBrowser)) {
+            return track(resolvedBrowser, FakeWebDriver.fromConfig());
+        }
         if (remote) {
-            return createRemoteDriver(resolvedBrowser, hubUrl, headless);
+            return track(resolvedBrowser, createRemoteDriver(resolvedBrowser, hubUrl, headless));
         }
 
-        switch (resolvedBrowser) {
-            case "firefox": return createFirefoxDriver(headless);
-            case "edge":    return createEdgeDriver(headless);
-            default:        return createChromeDriver(headless);
+        Path profile = ProfileTemplateManager.enabled()
+                ? ProfileTemplateManager.shared().cloneFor(resolvedBrowser)
+                : null;
+        try {
+            WebDriver driver = createLocalDriver(resolvedBrowser, headless, profile);
+            if (profile != null) ProfileTemplateManager.shared().bind(driver, profile);
+            return track(resolvedBrowser, driver);
+        } catch (RuntimeException e) {
+            if (profile != null) ProfileTemplateManager.shared().discard(profile);
+            throw e;
         }
     }
 
-    private static WebDriver createChromeDriver(boolean headless) {
+    private static WebDriver track(String browser, WebDriver driver) {
+        SessionTracker tracker = SessionTracker.shared();
+        if (tracker != null) tracker.register(browser, driver);
+        return driver;
+    }
+
+    /**
+     * A local session; {@code profile} (may be null) is used as its user-data-dir / profile directory.
+     */
+    static WebDriver createLocalDriver(String browser, boolean headless, Path profile) {
+        switch (browser) {
+            case "firefox": return createFirefoxDriver(headless, profile);
+            case "edge":    return createEdgeDriver(headless, profile);
+            default:        return createChromeDriver(headless, profile);
+        }
+    }
+
+    private static WebDriver createChromeDriver(boolean headless, Path profile) {
        /* WebDriverManager.chromedriver().setup();*/
         /*ChromeOptions options = new ChromeOptions();
         options.addArguments("--no-sandbox", "--disable-dev-shm-usage", "--disable-gpu",
                 "--window-size=1920,1080", "--disable-extensions", "--disable-blink-features=AutomationControlled","--disable-notifications",
                 "-remote-allow-origins=*");
         if (headless) options.addArguments("--headless=new");*/
-        WebDriver driver = new ChromeDriver(setChromeOptions(headless));
+        ChromeOptions options = setChromeOptions(headless);
+        if (profile != null) options.addArguments("--user-data-dir=" + profile.toAbsolutePath());
+        WebDriver driver = new ChromeDriver(options);
         configureDriver(driver);
         return driver;
     }
 
-    private static WebDriver createFirefoxDriver(boolean headless) {
+    private static WebDriver createFirefoxDriver(boolean headless, Path profile) {
         /*WebDriverManager.firefoxdriver().setup();*/
         /*FirefoxOptions options = new FirefoxOptions();
         if (headless) options.addArguments("--headless");*/
-        WebDriver driver = new FirefoxDriver(setFirefoxOptions(headless));
+        FirefoxOptions options = setFirefoxOptions(headless);
+        if (profile != null) {
+            // used in place (FirefoxProfile would zip and copy it); keep the HTTP cache inside it too
+            options.addArguments("-profile", profile.toAbsolutePath().toString());
+            options.addPreference("browser.cache.disk.parent_directory", profile.toAbsolutePath().toString());
+        }
+        WebDriver driver = new FirefoxDriver(options);
         configureDriver(driver);
         return driver;
     }
 
-    private static WebDriver createEdgeDriver(boolean headless) {
+    private static WebDriver createEdgeDriver(boolean headless, Path profile) {
         /*WebDriverManager.edgedriver().setup();*/
         /*EdgeOptions options = new EdgeOptions();
         if (headless) options.addArguments("--headless=new");
@@ -95,18 +138,20 @@ public class DriverFactory {
                 "--disable-notifications",
                 "--remote-allow-origins=*"
         );*/
-        WebDriver driver = new EdgeDriver(setEdgeOptions(headless));
+        EdgeOptions options = setEdgeOptions(headless);
+        if (profile != null) options.addArguments("--user-data-dir=" + profile.toAbsolutePath());
+        WebDriver driver = new EdgeDriver(options);
         configureDriver(driver);
         return driver;
     }
 
     private static void configureDriver(WebDriver driver) {
-        int implicitWait = Integer.parseInt(ConfigManager.get("implicit.wait", "10"));
-        int pageLoadTimeout = Integer.parseInt(ConfigManager.get("page.load.timeout", "30"));
+        FrameworkConfig config = ConfigManager.config();
         driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeout));
-        log.info("WebDriver configured | ImplicitWait: {}s | PageLoad: {}s", implicitWait, pageLoadTimeout);
+        driver.manage().timeouts().implicitlyWait(config.implicitWait());
+        driver.manage().timeouts().pageLoadTimeout(config.pageLoadTimeout());
+        log.info("WebDriver configured | ImplicitWait: {}s | PageLoad: {}s",
+                config.implicitWait().getSeconds(), config.pageLoadTimeout().getSeconds());
     }
 
     private static WebDriver createRemoteDriver(String browser,String hubUrl,boolean headless) {
@@ -1,5 +1,8 @@
 package com.veeva.framework.driver;
 
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.metrics.FrameworkMetrics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
@@ -7,24 +10,62 @@ import org.openqa.selenium.WebDriver;
 /**
  * DriverManager - Thread-safe WebDriver management via ThreadLocal.
  * Ensures each parallel test thread gets its own isolated WebDriver instance.
+ *
+ * With {@code driver.pool.enabled=true} sessions come from and return to a
+ * shared {@link DriverPool}, so a thread starting a block on a browser that
+ * another block just finished with reuses that warm session.
  */
 public class DriverManager {
 
     private static final Logger log = LogManager.getLogger(DriverManager.class);
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<String>    browserThreadLocal = new ThreadLocal<>();
+    private static final DriverPool pool = ConfigManager.config().getBoolean(ConfigKey.DRIVER_POOL_ENABLED)
+            ? new DriverPool(ConfigManager.config().getInt(ConfigKey.DRIVER_POOL_MAX_IDLE))
+            : null;
 
     private DriverManager() {}
 
     public static void initDriver(String browser) {
         browserThreadLocal.set(browser);
         if (driverThreadLocal.get() == null) {
-            WebDriver driver = DriverFactory.createDriver(browser);
+            long start = System.nanoTime();
+            WebDriver driver = pool != null ? pool.lease(browser) : DriverFactory.createDriver(browser);
+            FrameworkMetrics.DRIVER_STARTUP.labels(String.valueOf(browser)).observe((System.nanoTime() - start) / 1e9);
+            FrameworkMetrics.SESSIONS_ACTIVE.labels(String.valueOf(browser)).inc();
+            SessionTracker.held(driver);
             driverThreadLocal.set(driver);
             log.info("WebDriver [{}] initialized for thread: {}", browser, Thread.currentThread().getName());
         }
     }
 
+    /**
+     * Uses a session created elsewhere (benchmarks, embedding tools) for the
+     * current thread; {@link #quitDriver()} quits or releases it like any other.
+     */
+    public static void attachDriver(String browser, WebDriver driver) {
+        if (driverThreadLocal.get() == null) {
+            FrameworkMetrics.SESSIONS_ACTIVE.labels(String.valueOf(browser)).inc();
+        }
+        browserThreadLocal.set(browser);
+        driverThreadLocal.set(driver);
+        SessionTracker.held(driver);
+    }
+
+    /**
+     * Hands the current thread's session back to whoever attached it, without
+     * quitting or pooling it; returns it (null if there was none).
+     */
+    public static WebDriver detachDriver() {
+        WebDriver driver = driverThreadLocal.get();
+        if (driver != null) {
+            FrameworkMetrics.SESSIONS_ACTIVE.labels(String.valueOf(browserThreadLocal.get())).dec();
+        }
+        driverThreadLocal.remove();
+        browserThreadLocal.remove();
+        return driver;
+    }
+
     public static WebDriver getDriver() {
         WebDriver driver = driverThreadLocal.get();
         if (driver == null) {
@@ -40,10 +81,18 @@ public class DriverManager {
     public static void quitDriver() {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
-            driver.quit();
+            if (pool != null) {
+                pool.release(browserThreadLocal.get(), driver);
+            } else {
+                driver.quit();
+                ProfileTemplateManager.released(driver);
+                SessionTracker.released(driver);
+            }
+            FrameworkMetrics.SESSIONS_ACTIVE.labels(String.valueOf(browserThreadLocal.get())).dec();
             driverThreadLocal.remove();
             browserThreadLocal.remove();
-            log.info("WebDriver quit for thread: {}", Thread.currentThread().getName());
+            log.info("WebDriver {} for thread: {}", pool != null ? "released" : "quit",
+                    Thread.currentThread().getName());
         }
     }
 }
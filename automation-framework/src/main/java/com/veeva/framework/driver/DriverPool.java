@@ -0,0 +1,188 @@
+package com.veeva.framework.driver;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.pages.StorageState;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * DriverPool - Keeps warm WebDriver sessions per browser for reuse.
+ *
+ * Used by {@link DriverManager} when {@code driver.pool.enabled=true}: instead
+ * of quitting at the end of a {@code <test>} block the session is reset and
+ * parked under its browser name. Reset closes every window but one, then
+ * visits each origin the session used (opened through {@link #visited}, or
+ * showing in any window) on its {@code storage.state.landing} URL to clear its
+ * cookies, localStorage and sessionStorage, and ends on about:blank. A
+ * session that cannot be reset is quit instead. The next
+ * block that asks for the same browser — on any thread — takes it over,
+ * skipping browser startup, once a {@code getWindowHandle()} probe shows it
+ * is still alive (a dead one is quit and the next is tried). Idle sessions beyond
+ * {@code driver.pool.max.idle} per browser are quit, and everything left is quit
+ * at JVM shutdown. Every session the pool quits is passed to its {@code onQuit}
+ * callback, so owners that track sessions can forget it.
+ */
+public final class DriverPool {
+
+    private static final Logger log = LogManager.getLogger(DriverPool.class);
+    private static final String CLEAR_STORAGE =
+            "try { localStorage.clear(); } catch (e) {} try { sessionStorage.clear(); } catch (e) {}";
+
+    /** Origins each session has navigated to, cleared again on reset. */
+    private static final Map<WebDriver, Set<String>> VISITED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final int maxIdlePerBrowser;
+    private final Consumer<WebDriver> onQuit;
+    private final Map<String, Deque<WebDriver>> idle = new HashMap<>();
+    private boolean shutdown;
+
+    public DriverPool(int maxIdlePerBrowser) {
+        this(maxIdlePerBrowser, driver -> { });
+    }
+
+    public DriverPool(int maxIdlePerBrowser, Consumer<WebDriver> onQuit) {
+        this.maxIdlePerBrowser = maxIdlePerBrowser;
+        this.onQuit = onQuit;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    /**
+     * Returns a live warm session for the browser, or creates a new one.
+     */
+    public WebDriver lease(String browser) {
+        String key = key(browser);
+        while (true) {
+            WebDriver driver;
+            synchronized (this) {
+                Deque<WebDriver> drivers = idle.get(key);
+                if (drivers == null || drivers.isEmpty()) break;
+                driver = drivers.pop();
+            }
+            try {
+                driver.getWindowHandle();
+            } catch (Exception e) {
+                log.warn("Warm [{}] session died while idle, quitting it: {}", key, e.getMessage());
+                quietQuit(driver);
+                continue;
+            }
+            log.info("Reusing warm [{}] session for thread: {}", key, Thread.currentThread().getName());
+            return driver;
+        }
+        return DriverFactory.createDriver(browser);
+    }
+
+    /**
+     * Notes that the session opened {@code url}, so a reset also clears that origin's storage.
+     */
+    public static void visited(WebDriver driver, String url) {
+        String origin = StorageState.origin(url);
+        if (origin != null) {
+            VISITED.computeIfAbsent(driver, d -> Collections.synchronizedSet(new LinkedHashSet<>())).add(origin);
+        }
+    }
+
+    /**
+     * Resets the session and parks it for the next lease; quits it if it cannot be reused.
+     *
+     * @return true when the session was parked, false when it was quit
+     */
+    public boolean release(String browser, WebDriver driver) {
+        try {
+            reset(driver);
+        } catch (Exception e) {
+            log.warn("Session could not be reset, quitting it: {}", e.getMessage());
+            quietQuit(driver);
+            return false;
+        }
+        synchronized (this) {
+            Deque<WebDriver> drivers = idle.computeIfAbsent(key(browser), k -> new ArrayDeque<>());
+            if (!shutdown && drivers.size() < maxIdlePerBrowser) {
+                drivers.push(driver);
+                SessionTracker.idle(driver);
+                return true;
+            }
+        }
+        quietQuit(driver);
+        return false;
+    }
+
+    /**
+     * Quits a leased session instead of returning it (broken, or used long enough).
+     */
+    public void discard(WebDriver driver) {
+        quietQuit(driver);
+    }
+
+    /**
+     * Quits every idle session. Safe to call more than once.
+     */
+    public void shutdown() {
+        Map<String, Deque<WebDriver>> toQuit;
+        synchronized (this) {
+            shutdown = true;
+            toQuit = new HashMap<>(idle);
+            idle.clear();
+        }
+        toQuit.values().forEach(drivers -> drivers.forEach(this::quietQuit));
+    }
+
+    /**
+     * Leaves one window on about:blank, with no cookies or Web Storage for any origin the session used.
+     */
+    static void reset(WebDriver driver) {
+        Set<String> origins = new LinkedHashSet<>();
+        Set<String> visited = VISITED.remove(driver);
+        if (visited != null) origins.addAll(visited);
+
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        String keep = handles.get(0);
+        for (String handle : handles) {
+            driver.switchTo().window(handle);
+            String origin = StorageState.origin(driver.getCurrentUrl());
+            if (origin != null) origins.add(origin);
+            if (!handle.equals(keep)) driver.close();
+        }
+        driver.switchTo().window(keep);
+
+        String landing = ConfigManager.config().getString(ConfigKey.STORAGE_STATE_LANDING);
+        for (String origin : origins) {
+            driver.get(origin + (landing.startsWith("/") ? landing : "/" + landing));
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE);
+        }
+        driver.manage().deleteAllCookies();
+        StorageState.forget(driver);
+        driver.get("about:blank");
+    }
+
+    private static String key(String browser) {
+        return browser == null ? "" : browser.toLowerCase().trim();
+    }
+
+    private void quietQuit(WebDriver driver) {
+        VISITED.remove(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.debug("Quit failed: {}", e.getMessage());
+        }
+        ProfileTemplateManager.released(driver);
+        SessionTracker.released(driver);
+        onQuit.accept(driver);
+    }
+}
@@ -0,0 +1,244 @@
+package com.veeva.framework.driver;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * ProcessReaper - Finds and kills the driver / browser processes of local sessions.
+ *
+ * Every JVM keeps the processes of its open sessions in
+ * {@code history.dir/sessions/<pid>.json}: the driver service (chromedriver,
+ * geckodriver, msedgedriver) with its start time, so a recycled PID is never
+ * mistaken for it. The browser is found at kill time as the driver's
+ * descendants. {@link #sweep} runs when a JVM creates its first session:
+ *   - files of JVMs that are gone: their recorded processes are killed and the file is deleted
+ *   - with {@code orphans}: any driver service of this user whose parent has
+ *     exited (reparented to init), e.g. from a run killed before it wrote a file.
+ *     Opt-in (driver.reaper.orphans): it cannot tell our drivers from other tools'.
+ * Processes are asked to exit first, and killed forcibly after the grace period.
+ */
+public final class ProcessReaper {
+
+    private static final Logger log = LogManager.getLogger(ProcessReaper.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    static final Set<String> DRIVER_NAMES = new HashSet<>(Arrays.asList(
+            "chromedriver", "geckodriver", "msedgedriver"));
+
+    private final Path dir;
+    private final Duration grace;
+    private final ProcessHandle self = ProcessHandle.current();
+
+    public ProcessReaper(Path dir, Duration grace) {
+        this.dir = dir;
+        this.grace = grace;
+    }
+
+    // ─── Locating ─────────────────────────────────────────────────────────────
+
+    /**
+     * The driver service this JVM started on {@code port}, if it can be found.
+     */
+    public Optional<ProcessHandle> driverProcess(int port) {
+        String flag = "--port=" + port;
+        return self.descendants()
+                .filter(p -> isDriver(p) && p.info().commandLine().map(c -> c.contains(flag)).orElse(false))
+                .findFirst();
+    }
+
+    static boolean isDriver(ProcessHandle process) {
+        return process.info().command()
+                .map(c -> Paths.get(c).getFileName().toString().toLowerCase(Locale.ROOT).replace(".exe", ""))
+                .map(DRIVER_NAMES::contains)
+                .orElse(false);
+    }
+
+    /**
+     * Start time in epoch millis, or 0 when the OS does not report it.
+     */
+    static long started(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+    }
+
+    // ─── Killing ──────────────────────────────────────────────────────────────
+
+    /**
+     * Kills the process and its descendants (the browser a driver launched).
+     *
+     * @return how many processes were still alive and were stopped
+     */
+    public int kill(ProcessHandle root) {
+        List<ProcessHandle> tree = root.descendants().collect(Collectors.toList());
+        tree.add(root);
+        List<ProcessHandle> alive = tree.stream().filter(ProcessHandle::isAlive).collect(Collectors.toList());
+        alive.forEach(ProcessHandle::destroy);
+        long deadline = System.nanoTime() + grace.toNanos();
+        for (ProcessHandle process : alive) {
+            long left = deadline - System.nanoTime();
+            try {
+                if (left > 0) process.onExit().get(left, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                // still running: forced below
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (process.isAlive()) process.destroyForcibly();
+        }
+        return alive.size();
+    }
+
+    // ─── Registry of this JVM's processes ─────────────────────────────────────
+
+    /**
+     * Replaces this JVM's file with the given driver processes (deleted when there are none).
+     */
+    public synchronized void record(Collection<ProcessEntry> processes) {
+        Path file = dir.resolve(self.pid() + ".json");
+        try {
+            if (processes.isEmpty()) {
+                Files.deleteIfExists(file);
+                return;
+            }
+            RunFile run = new RunFile();
+            run.pid = self.pid();
+            run.started = started(self);
+            run.processes = new ArrayList<>(processes);
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, self.pid() + ".json", ".tmp");
+            MAPPER.writeValue(tmp.toFile(), run);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Session registry not saved ({}): {}", file, e.getMessage());
+        }
+    }
+
+    // ─── Startup sweep ────────────────────────────────────────────────────────
+
+    /**
+     * Reaps the processes left by earlier runs.
+     *
+     * @return number of processes stopped
+     */
+    public int sweep(boolean orphans) {
+        int reaped = 0;
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json")) {
+                for (Path file : files) {
+                    reaped += sweepFile(file);
+                }
+            } catch (IOException e) {
+                log.warn("Could not list session registry {}: {}", dir, e.getMessage());
+            }
+        }
+        if (orphans) {
+            List<ProcessHandle> found = ProcessHandle.allProcesses()
+                    .filter(p -> isDriver(p) && orphaned(p) && sameUser(p))
+                    .collect(Collectors.toList());
+            for (ProcessHandle process : found) {
+                log.warn("Reaping orphaned driver process {} ({})", process.pid(),
+                        process.info().command().orElse("?"));
+                reaped += kill(process);
+            }
+        }
+        if (reaped > 0) log.warn("Reaped {} stale driver / browser processes from earlier runs", reaped);
+        return reaped;
+    }
+
+    private int sweepFile(Path file) {
+        RunFile run;
+        try {
+            run = MAPPER.readValue(file.toFile(), RunFile.class);
+        } catch (IOException e) {
+            log.debug("Ignoring unreadable session registry {}: {}", file, e.getMessage());
+            return 0;
+        }
+        if (run.pid == self.pid() || matches(run.pid, run.started)) return 0;
+
+        int reaped = 0;
+        for (ProcessEntry entry : run.processes) {
+            Optional<ProcessHandle> process = ProcessHandle.of(entry.pid).filter(p -> matches(p, entry.started));
+            if (process.isPresent()) {
+                log.warn("Reaping {} process {} of session {} left by JVM {}",
+                        entry.name, entry.pid, entry.session, run.pid);
+                reaped += kill(process.get());
+            }
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Could not delete {}: {}", file, e.getMessage());
+        }
+        return reaped;
+    }
+
+    /** True when {@code pid} is alive and is still the process started at {@code started}. */
+    private static boolean matches(long pid, long started) {
+        return ProcessHandle.of(pid).map(p -> matches(p, started)).orElse(false);
+    }
+
+    private static boolean matches(ProcessHandle process, long started) {
+        if (!process.isAlive()) return false;
+        long actual = started(process);
+        // start times from /proc are tick-rounded; 0 = unknown, trust the PID
+        return started == 0 || actual == 0 || Math.abs(actual - started) < 1000;
+    }
+
+    private boolean orphaned(ProcessHandle process) {
+        Optional<ProcessHandle> parent = process.parent();
+        return !parent.isPresent() || parent.get().pid() == 1 && self.pid() != 1;
+    }
+
+    private static boolean sameUser(ProcessHandle process) {
+        String me = ProcessHandle.current().info().user().orElse(null);
+        return me != null && me.equals(process.info().user().orElse(null));
+    }
+
+    /** One JVM's file. Public fields for Jackson. */
+    public static final class RunFile {
+        public long pid;
+        public long started;
+        public List<ProcessEntry> processes = new ArrayList<>();
+    }
+
+    public static final class ProcessEntry {
+        public long pid;
+        public long started;
+        public String name;
+        public String session;
+
+        public ProcessEntry() {
+        }
+
+        ProcessEntry(ProcessHandle process, String session) {
+            this.pid = process.pid();
+            this.started = started(process);
+            this.name = process.info().command().map(c -> Paths.get(c).getFileName().toString()).orElse("?");
+            this.session = session;
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package com.veeva.framework.driver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.config.FrameworkConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * ProfileTemplateManager - Gives each local browser session a clone of a pre-warmed profile.
+ *
+ * Per browser, a template profile (Chrome/Edge user-data-dir, Firefox profile)
+ * is built once by a real session that visits the warm-up URLs — every
+ * {@code urls.*} entry unless {@code profile.template.urls} is set — so its
+ * HTTP cache already holds the sites' static assets, and the framework's
+ * browser preferences are saved in it. New sessions start on a clone:
+ * <pre>
+ *   profile.template.dir/&lt;browser&gt;/
+ *     template.json              which version is current, and when it was built
+ *     template-&lt;millis&gt;/         the template itself (current + previous version kept)
+ *     clones/&lt;pid&gt;-&lt;n&gt;/         one per live session, deleted when it quits
+ * </pre>
+ * {@code profile.clone.mode}:
+ *   - {@code reflink}  copy-on-write clone ({@code cp --reflink} on Linux, {@code cp -c} on macOS/APFS)
+ *   - {@code hardlink} cache entries are hard-linked, everything else copied
+ *   - {@code copy}     plain copy
+ *   - {@code auto}     reflink when the file system supports it, else copy
+ * Hard links share the cache entry files between the template and every clone.
+ * A browser that rewrites one in place changes it for all of them. The browser
+ * treats a damaged entry as a cache miss, and the template is rebuilt every
+ * {@code profile.template.ttl} anyway.
+ *
+ * The template is rebuilt once it is older than the TTL, under a file lock so
+ * that concurrent JVMs build it once. If the build fails, sessions in this
+ * JVM fall back to a blank profile. Clones left behind by dead JVMs are swept
+ * on first use.
+ */
+public final class ProfileTemplateManager {
+
+    private static final Logger log = LogManager.getLogger(ProfileTemplateManager.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static final String STAMP_FILE = "template.json";
+    static final String CLONES_DIR = "clones";
+    /** Files that mark a profile as in use; a clone must not inherit them. */
+    static final Set<String> LOCK_FILES = new HashSet<>(Arrays.asList(
+            "SingletonLock", "SingletonSocket", "SingletonCookie", "lock", ".parentlock", "parent.lock"));
+
+    public enum CloneMode { AUTO, REFLINK, HARDLINK, COPY }
+
+    /**
+     * Fills an empty directory with a warmed-up profile for the browser.
+     */
+    @FunctionalInterface
+    public interface TemplateBuilder {
+        void build(String browser, Path profileDir) throws Exception;
+    }
+
+    private static final AtomicLong clones = new AtomicLong();
+    private static volatile ProfileTemplateManager shared;
+
+    private final Path root;
+    private final Duration ttl;
+    private final CloneMode mode;
+    private final TemplateBuilder builder;
+    private final long pid = ProcessHandle.current().pid();
+    private final Map<WebDriver, Path> sessions = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Set<String> failed = Collections.synchronizedSet(new HashSet<>());
+    private final Set<String> swept = Collections.synchronizedSet(new HashSet<>());
+    private Boolean reflinks;
+
+    public ProfileTemplateManager(Path root, Duration ttl, CloneMode mode, TemplateBuilder builder) {
+        this.root = root;
+        this.ttl = ttl;
+        this.mode = mode;
+        this.builder = builder;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::discardAll, "profile-clone-cleanup"));
+    }
+
+    /**
+     * Templates apply to local chrome / edge / firefox sessions when {@code profile.template.enabled}.
+     */
+    public static boolean enabled() {
+        FrameworkConfig config = ConfigManager.config();
+        return config.getBoolean(ConfigKey.PROFILE_TEMPLATE_ENABLED) && !config.remoteEnabled();
+    }
+
+    /**
+     * Returns the JVM-wide manager configured from {@code profile.*}.
+     */
+    public static ProfileTemplateManager shared() {
+        if (shared == null) {
+            synchronized (ProfileTemplateManager.class) {
+                if (shared == null) {
+                    FrameworkConfig config = ConfigManager.config();
+                    shared = new ProfileTemplateManager(config.getPath(ConfigKey.PROFILE_TEMPLATE_DIR),
+                            config.getDuration(ConfigKey.PROFILE_TEMPLATE_TTL),
+                            cloneMode(config.getString(ConfigKey.PROFILE_CLONE_MODE)),
+                            ProfileTemplateManager::warm);
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Called after a session quits: deletes its clone, if it had one.
+     */
+    public static void released(WebDriver driver) {
+        ProfileTemplateManager manager = shared;
+        if (manager != null) {
+            Path clone = manager.sessions.remove(driver);
+            if (clone != null) deleteTree(clone);
+        }
+    }
+
+    // ─── Clones ───────────────────────────────────────────────────────────────
+
+    /**
+     * A fresh clone of the browser's template (building or refreshing it first),
+     * or null when no template can be had — the session then gets a blank profile.
+     */
+    public Path cloneFor(String browser) {
+        String key = browser.toLowerCase(Locale.ROOT).trim();
+        if (!Arrays.asList("chrome", "edge", "firefox").contains(key) || failed.contains(key)) return null;
+        Path dir = root.resolve(key);
+        sweep(dir);
+
+        Path template = template(key, dir);
+        if (template == null) return null;
+        Path clone = dir.resolve(CLONES_DIR).resolve(pid + "-" + clones.incrementAndGet());
+        try {
+            long start = System.nanoTime();
+            copyProfile(template, clone);
+            log.info("Cloned [{}] profile template in {} ms: {}", key,
+                    Duration.ofNanos(System.nanoTime() - start).toMillis(), clone);
+            return clone;
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Could not clone [{}] profile template, using a blank profile: {}", key, e.getMessage());
+            deleteTree(clone);
+            return null;
+        }
+    }
+
+    /**
+     * Ties a clone to the session using it, so {@link #released(WebDriver)} can delete it.
+     */
+    public void bind(WebDriver driver, Path clone) {
+        sessions.put(driver, clone);
+    }
+
+    public void discard(Path clone) {
+        deleteTree(clone);
+    }
+
+    private void discardAll() {
+        List<Path> remaining;
+        synchronized (sessions) {
+            remaining = new ArrayList<>(sessions.values());
+            sessions.clear();
+        }
+        remaining.forEach(ProfileTemplateManager::deleteTree);
+    }
+
+    /**
+     * Deletes clones whose JVM is gone (crashed runs never get to clean up).
+     */
+    private void sweep(Path dir) {
+        if (!swept.add(dir.toString())) return;
+        Path clonesDir = dir.resolve(CLONES_DIR);
+        if (!Files.isDirectory(clonesDir)) return;
+        try (Stream<Path> list = Files.list(clonesDir)) {
+            list.filter(clone -> !ownerAlive(clone.getFileName().toString())).forEach(clone -> {
+                log.info("Removing profile clone of a finished run: {}", clone);
+                deleteTree(clone);
+            });
+        } catch (IOException e) {
+            log.debug("Could not sweep profile clones in {}: {}", clonesDir, e.getMessage());
+        }
+    }
+
+    private static boolean ownerAlive(String cloneName) {
+        int dash = cloneName.indexOf('-');
+        try {
+            long owner = Long.parseLong(dash > 0 ? cloneName.substring(0, dash) : cloneName);
+            return ProcessHandle.of(owner).map(ProcessHandle::isAlive).orElse(false);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    void copyProfile(Path template, Path clone) throws IOException {
+        Files.createDirectories(clone.getParent());
+        if ((mode == CloneMode.REFLINK || mode == CloneMode.AUTO) && reflink(template, clone)) {
+            removeLockFiles(clone);
+            return;
+        }
+        boolean link = mode == CloneMode.HARDLINK;
+        Files.walkFileTree(template, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(clone.resolve(template.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                // Chrome's Singleton* entries are symlinks; a clone is never "in use"
+                if (attrs.isSymbolicLink() || LOCK_FILES.contains(file.getFileName().toString())) {
+                    return FileVisitResult.CONTINUE;
+                }
+                String relative = template.relativize(file).toString().replace('\\', '/');
+                Path target = clone.resolve(relative);
+                if (link && isCacheEntry(relative)) {
+                    try {
+                        Files.createLink(target, file);
+                        return FileVisitResult.CONTINUE;
+                    } catch (IOException | UnsupportedOperationException e) {
+                        // another file system or no hard links: copy instead
+                    }
+                }
+                Files.copy(file, target, StandardCopyOption.COPY_ATTRIBUTES);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Tries a copy-on-write clone with cp; false when the file system (or OS) cannot.
+     */
+    private boolean reflink(Path template, Path clone) {
+        synchronized (this) {
+            if (Boolean.FALSE.equals(reflinks)) return false;
+        }
+        String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        List<String> command;
+        if (os.contains("linux")) {
+            command = Arrays.asList("cp", "-R", "--reflink=always", template.toString(), clone.toString());
+        } else if (os.contains("mac")) {
+            command = Arrays.asList("cp", "-cR", template.toString(), clone.toString());
+        } else {
+            command = null;
+        }
+        boolean ok = false;
+        if (command != null) {
+            try {
+                Process cp = new ProcessBuilder(command).redirectErrorStream(true)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+                ok = cp.waitFor() == 0;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (reflinks == null) {
+                log.info("Copy-on-write profile clones {}", ok ? "available" : "not available, copying files");
+            }
+            reflinks = ok;
+        }
+        if (!ok) deleteTree(clone);
+        return ok;
+    }
+
+    /**
+     * HTTP / code cache entry files (not their indexes) — the bulk of a warm profile.
+     */
+    static boolean isCacheEntry(String relativePath) {
+        String name = relativePath.substring(relativePath.lastIndexOf('/') + 1);
+        if (name.startsWith("index") || relativePath.contains("index-dir/")) return false;
+        return relativePath.contains("Cache_Data/") || relativePath.contains("Code Cache/")
+                || relativePath.contains("cache2/entries/");
+    }
+
+    // ─── Templates ────────────────────────────────────────────────────────────
+
+    /**
+     * The current template directory, rebuilt first when missing or older than the TTL.
+     */
+    private Path template(String browser, Path dir) {
+        Stamp stamp = readStamp(dir);
+        if (fresh(stamp, dir)) return dir.resolve(stamp.version);
+
+        synchronized (this) {
+            try {
+                Files.createDirectories(dir);
+                try (FileChannel channel = FileChannel.open(dir.resolve("build.lock"),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                     FileLock ignored = channel.lock()) {
+                    stamp = readStamp(dir);
+                    if (fresh(stamp, dir)) return dir.resolve(stamp.version);
+                    return build(browser, dir, stamp);
+                }
+            } catch (IOException e) {
+                log.warn("Profile template for [{}] unavailable, using a blank profile: {}", browser, e.getMessage());
+                failed.add(browser);
+                return null;
+            }
+        }
+    }
+
+    private Path build(String browser, Path dir, Stamp previous) throws IOException {
+        Stamp stamp = new Stamp();
+        stamp.builtAt = System.currentTimeMillis();
+        while (Files.exists(dir.resolve("template-" + stamp.builtAt))) stamp.builtAt++;
+        stamp.version = "template-" + stamp.builtAt;
+        Path template = dir.resolve(stamp.version);
+        Files.createDirectories(template);
+        log.info("Building [{}] profile template: {}", browser, template);
+        long start = System.nanoTime();
+        try {
+            builder.build(browser, template);
+        } catch (Exception e) {
+            deleteTree(template);
+            throw new IOException("template build failed: " + e.getMessage(), e);
+        }
+        removeLockFiles(template);
+
+        Path tmp = dir.resolve(STAMP_FILE + ".tmp");
+        MAPPER.writeValue(tmp.toFile(), stamp);
+        Files.move(tmp, dir.resolve(STAMP_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Built [{}] profile template in {} s", browser, Duration.ofNanos(System.nanoTime() - start).getSeconds());
+
+        // keep the previous version: another JVM may still be cloning it
+        String keep = previous != null ? previous.version : null;
+        try (Stream<Path> list = Files.list(dir)) {
+            list.filter(p -> p.getFileName().toString().startsWith("template-"))
+                    .filter(p -> !p.getFileName().toString().equals(stamp.version)
+                            && !p.getFileName().toString().equals(keep))
+                    .forEach(ProfileTemplateManager::deleteTree);
+        }
+        return template;
+    }
+
+    private boolean fresh(Stamp stamp, Path dir) {
+        return stamp != null && stamp.version != null && Files.isDirectory(dir.resolve(stamp.version))
+                && System.currentTimeMillis() - stamp.builtAt < ttl.toMillis();
+    }
+
+    static Stamp readStamp(Path dir) {
+        Path file = dir.resolve(STAMP_FILE);
+        if (!Files.exists(file)) return null;
+        try {
+            return MAPPER.readValue(file.toFile(), Stamp.class);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable profile template stamp {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Default builder: a real local session on the template directory visits
+     * every warm-up URL, scrolls it to trigger lazy assets, and quits so the
+     * browser flushes its cache and preferences to disk.
+     */
+    private static void warm(String browser, Path profileDir) throws InterruptedException {
+        FrameworkConfig config = ConfigManager.config();
+        List<String> urls = config.getList(ConfigKey.PROFILE_TEMPLATE_URLS);
+        if (urls.isEmpty()) urls = new ArrayList<>(config.section("urls.").values());
+        long settle = config.getDuration(ConfigKey.PROFILE_TEMPLATE_SETTLE).toMillis();
+
+        WebDriver driver = DriverFactory.createLocalDriver(browser, config.headless(), profileDir);
+        try {
+            for (String url : urls) {
+                driver.get(url);
+                ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
+                Thread.sleep(settle);
+            }
+        } finally {
+            driver.quit();
+        }
+    }
+
+    private static void removeLockFiles(Path profile) throws IOException {
+        try (Stream<Path> files = Files.walk(profile)) {
+            files.filter(p -> LOCK_FILES.contains(p.getFileName().toString())).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    log.debug("Could not remove {}: {}", p, e.getMessage());
+                }
+            });
+        }
+    }
+
+    static CloneMode cloneMode(String value) {
+        try {
+            return CloneMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown profile.clone.mode '{}', using auto", value);
+            return CloneMode.AUTO;
+        }
+    }
+
+    static void deleteTree(Path dir) {
+        if (!Files.exists(dir)) return;
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    log.debug("Could not delete {}: {}", p, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.debug("Could not delete {}: {}", dir, e.getMessage());
+        }
+    }
+
+    /**
+     * Contents of template.json: the directory of the current template and when it was built.
+     */
+    public static final class Stamp {
+        public String version;
+        public long builtAt;
+    }
+}
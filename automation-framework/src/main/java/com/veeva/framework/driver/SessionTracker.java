@@ -0,0 +1,329 @@
+package com.veeva.framework.driver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.config.FrameworkConfig;
+import com.veeva.framework.driver.ProcessReaper.ProcessEntry;
+import com.veeva.framework.metrics.FrameworkMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * SessionTracker - Knows every WebDriver session the framework created, and cleans up the ones nobody quit.
+ *
+ * {@link DriverFactory} registers each session with its session id, its driver
+ * service PID (local sessions), the thread that holds it and where it was
+ * created. {@link DriverManager} and {@link DriverPool} report who holds it and
+ * when it is quit. A session is leaked when it is still open while its owner
+ * thread has ended, or at JVM exit while a thread still holds it (a skipped
+ * {@code tearDownTest}, a crashed listener). Leaks are logged with their
+ * creation stack, counted in {@code veeva_driver_sessions_leaked_total},
+ * written to output.dir/session-leaks.json, and closed: {@code quit()} with a
+ * timeout, then the driver / browser process tree is killed.
+ *
+ * {@link #checkLeaks()} runs at every suite finish, and the shutdown hook
+ * closes whatever is left. The first session of a JVM triggers
+ * {@link ProcessReaper#sweep} for processes left behind by earlier runs that
+ * had no chance to clean up (killed JVMs).
+ */
+public final class SessionTracker {
+
+    private static final Logger log = LogManager.getLogger(SessionTracker.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static final String REPORT_FILE = "session-leaks.json";
+    static final String REGISTRY_DIR = "sessions";
+
+    private static volatile SessionTracker shared;
+
+    private final ProcessReaper reaper;
+    private final Duration quitTimeout;
+    private final boolean stacks;
+    private final Path report;
+    private final Map<WebDriver, Session> sessions = new IdentityHashMap<>();
+    private final List<Session> leaked = new ArrayList<>();
+
+    public SessionTracker(ProcessReaper reaper, Duration quitTimeout, boolean stacks, Path report) {
+        this.reaper = reaper;
+        this.quitTimeout = quitTimeout;
+        this.stacks = stacks;
+        this.report = report;
+    }
+
+    /**
+     * Returns the JVM-wide tracker, or null when {@code driver.reaper.enabled=false}.
+     * Created on first use: sweeps earlier runs and installs the shutdown hook.
+     */
+    public static SessionTracker shared() {
+        FrameworkConfig config = ConfigManager.config();
+        if (!config.getBoolean(ConfigKey.DRIVER_REAPER_ENABLED)) return null;
+        if (shared == null) {
+            synchronized (SessionTracker.class) {
+                if (shared == null) {
+                    Duration timeout = config.getDuration(ConfigKey.DRIVER_REAPER_QUIT_TIMEOUT);
+                    SessionTracker tracker = new SessionTracker(
+                            new ProcessReaper(config.getPath(ConfigKey.HISTORY_DIR).resolve(REGISTRY_DIR), timeout),
+                            timeout,
+                            config.getBoolean(ConfigKey.DRIVER_REAPER_STACKS),
+                            Paths.get(config.getString(ConfigKey.OUTPUT_DIR), REPORT_FILE));
+                    int reaped = tracker.reaper.sweep(config.getBoolean(ConfigKey.DRIVER_REAPER_ORPHANS));
+                    FrameworkMetrics.PROCESSES_REAPED.labels("startup").inc(reaped);
+                    Runtime.getRuntime().addShutdownHook(new Thread(tracker::shutdown, "session-reaper"));
+                    shared = tracker;
+                }
+            }
+        }
+        return shared;
+    }
+
+    // ─── Lifecycle events ─────────────────────────────────────────────────────
+
+    /**
+     * Starts tracking a new session, held by the current thread until told otherwise.
+     */
+    public void register(String browser, WebDriver driver) {
+        Session session = new Session();
+        session.browser = browser;
+        session.sessionId = sessionId(driver);
+        session.createdAt = Instant.now().toString();
+        session.stack = stacks ? stack(new Throwable("Session created here")) : null;
+        session.owner = new WeakReference<>(Thread.currentThread());
+        session.ownerName = Thread.currentThread().getName();
+        port(driver).flatMap(reaper::driverProcess).ifPresent(p -> session.process = p);
+        session.pid = session.process != null ? session.process.pid() : -1;
+        synchronized (this) {
+            sessions.put(driver, session);
+            record();
+        }
+        log.debug("Tracking session {} [{}] pid {} for thread {}",
+                session.sessionId, browser, session.pid, session.ownerName);
+    }
+
+    /** The current thread now holds the session (DriverManager). */
+    public synchronized void owned(WebDriver driver) {
+        Session session = sessions.get(driver);
+        if (session != null) {
+            session.owner = new WeakReference<>(Thread.currentThread());
+            session.ownerName = Thread.currentThread().getName();
+        }
+    }
+
+    /** The session is idle in the pool; nobody holds it. */
+    public synchronized void parked(WebDriver driver) {
+        Session session = sessions.get(driver);
+        if (session != null) {
+            session.owner = null;
+            session.ownerName = null;
+        }
+    }
+
+    /** The session was quit. */
+    public synchronized void closed(WebDriver driver) {
+        if (sessions.remove(driver) != null) record();
+    }
+
+    // the static forms report to the shared tracker, if one was created (a session was made)
+
+    public static void held(WebDriver driver) {
+        SessionTracker tracker = shared;
+        if (tracker != null) tracker.owned(driver);
+    }
+
+    public static void idle(WebDriver driver) {
+        SessionTracker tracker = shared;
+        if (tracker != null) tracker.parked(driver);
+    }
+
+    public static void released(WebDriver driver) {
+        SessionTracker tracker = shared;
+        if (tracker != null) tracker.closed(driver);
+    }
+
+    /** Suite finish: closes leaks of the shared tracker, if there is one. */
+    public static int reapLeaks() {
+        SessionTracker tracker = shared;
+        return tracker != null ? tracker.checkLeaks() : 0;
+    }
+
+    public synchronized int open() {
+        return sessions.size();
+    }
+
+    public synchronized int leakedCount() {
+        return leaked.size();
+    }
+
+    // ─── Leak handling ────────────────────────────────────────────────────────
+
+    /**
+     * Closes the sessions whose owner thread has ended without quitting them.
+     *
+     * @return the number of leaks found now
+     */
+    public int checkLeaks() {
+        Map<WebDriver, Session> found = take(false);
+        found.forEach(this::close);
+        writeReport();
+        return found.size();
+    }
+
+    /**
+     * Shutdown hook: closes everything still open; sessions held by a thread count as leaks.
+     */
+    void shutdown() {
+        Map<WebDriver, Session> remaining = take(true);
+        remaining.forEach(this::close);
+        synchronized (this) {
+            record();
+        }
+        writeReport();
+        if (!leaked.isEmpty()) {
+            log.warn("{} WebDriver session(s) were never quit, see: {}", leaked.size(), report.toAbsolutePath());
+        }
+    }
+
+    private synchronized Map<WebDriver, Session> take(boolean all) {
+        Map<WebDriver, Session> taken = new LinkedHashMap<>();
+        for (Map.Entry<WebDriver, Session> entry : new ArrayList<>(sessions.entrySet())) {
+            Session session = entry.getValue();
+            Thread owner = session.owner != null ? session.owner.get() : null;
+            boolean ownerGone = session.owner != null && (owner == null || !owner.isAlive());
+            if (ownerGone || all) {
+                sessions.remove(entry.getKey());
+                taken.put(entry.getKey(), session);
+            }
+        }
+        return taken;
+    }
+
+    private void close(WebDriver driver, Session session) {
+        boolean leak = session.owner != null;
+        if (leak) {
+            session.leakedAt = Instant.now().toString();
+            synchronized (this) {
+                leaked.add(session);
+            }
+            FrameworkMetrics.SESSIONS_LEAKED.labels(String.valueOf(session.browser)).inc();
+            log.warn("Leaked WebDriver session {} [{}] of thread {} (pid {}), created at:\n{}",
+                    session.sessionId, session.browser, session.ownerName, session.pid,
+                    session.stack != null ? session.stack : "  (driver.reaper.stacks=false)");
+        }
+        boolean quit = quitWithin(driver);
+        if (session.process != null && session.process.isAlive()) {
+            int killed = reaper.kill(session.process);
+            FrameworkMetrics.PROCESSES_REAPED.labels(leak ? "leak" : "exit").inc(killed);
+            log.warn("Killed {} process(es) of session {} after {}", killed, session.sessionId,
+                    quit ? "quit" : "quit did not return");
+        }
+        ProfileTemplateManager.released(driver);
+    }
+
+    private boolean quitWithin(WebDriver driver) {
+        Thread quitter = new Thread(() -> {
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                log.debug("Quit failed: {}", e.getMessage());
+            }
+        }, "session-reaper-quit");
+        quitter.setDaemon(true);
+        quitter.start();
+        try {
+            quitter.join(quitTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !quitter.isAlive();
+    }
+
+    // ─── Internals ────────────────────────────────────────────────────────────
+
+    private void record() {
+        List<ProcessEntry> entries = sessions.values().stream()
+                .filter(s -> s.process != null)
+                .map(s -> new ProcessEntry(s.process, s.sessionId))
+                .collect(Collectors.toList());
+        reaper.record(entries);
+    }
+
+    private void writeReport() {
+        List<Session> snapshot;
+        synchronized (this) {
+            if (leaked.isEmpty()) return;
+            snapshot = new ArrayList<>(leaked);
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("generated", Instant.now().toString());
+        json.put("leaked", snapshot.size());
+        json.put("sessions", snapshot);
+        try {
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            MAPPER.writeValue(report.toFile(), json);
+        } catch (IOException e) {
+            log.warn("Could not write session leak report {}: {}", report, e.getMessage());
+        }
+    }
+
+    private static String sessionId(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver) {
+            SessionId id = ((RemoteWebDriver) driver).getSessionId();
+            if (id != null) return id.toString();
+        }
+        return driver.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(driver));
+    }
+
+    /** Local port of the driver service a session talks to. */
+    private static Optional<Integer> port(WebDriver driver) {
+        if (!(driver instanceof RemoteWebDriver)) return Optional.empty();
+        CommandExecutor executor = ((RemoteWebDriver) driver).getCommandExecutor();
+        if (!(executor instanceof HttpCommandExecutor)) return Optional.empty();
+        String host = ((HttpCommandExecutor) executor).getAddressOfRemoteServer().getHost();
+        if (!host.equals("localhost") && !host.startsWith("127.") && !host.equals("[::1]")) return Optional.empty();
+        return Optional.of(((HttpCommandExecutor) executor).getAddressOfRemoteServer().getPort());
+    }
+
+    private static String stack(Throwable origin) {
+        StringWriter out = new StringWriter();
+        origin.printStackTrace(new PrintWriter(out));
+        return out.toString();
+    }
+
+    /**
+     * One tracked session. Public fields are what the leak report shows.
+     */
+    public static final class Session {
+        public String browser;
+        public String sessionId;
+        public long pid;
+        public String ownerName;
+        public String createdAt;
+        public String leakedAt;
+        public String stack;
+        transient WeakReference<Thread> owner;
+        transient ProcessHandle process;
+    }
+}
@@ -0,0 +1,99 @@
+package com.veeva.framework.driver.fake;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * FakeSite - Where {@link FakeWebDriver} gets the HTML for a URL.
+ *
+ * Lookup order:
+ *   1. pages registered for the exact URL (fragment ignored)
+ *   2. {@code data:text/html,...} and {@code file:} URLs, read directly
+ *   3. the fixture root — a classpath directory, else a filesystem directory —
+ *      where only the URL path counts (host ignored):
+ *        /bulls/            → bulls/index.html
+ *        /bulls/news        → bulls/news, bulls/news/index.html, bulls/news.html
+ * Returns null when nothing matches; the driver then shows a 404 page.
+ */
+final class FakeSite {
+
+    private final Map<String, String> pages;
+    private final String root;
+
+    FakeSite(Map<String, String> pages, String root) {
+        this.pages = pages;
+        this.root = root == null || root.isEmpty() ? null : root.replaceAll("/+$", "");
+    }
+
+    String load(String url) {
+        if (url.startsWith("data:text/html,")) {
+            return URLDecoder.decode(url.substring("data:text/html,".length()), StandardCharsets.UTF_8);
+        }
+        String key = withoutFragment(url);
+        String page = pages.get(key);
+        if (page != null) return page;
+
+        URI uri;
+        try {
+            uri = URI.create(key);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if ("file".equalsIgnoreCase(uri.getScheme())) {
+            return read(Paths.get(uri));
+        }
+        if (root == null || uri.getPath() == null) return null;
+
+        String path = uri.getPath().replaceFirst("^/+", "");
+        String[] candidates = path.isEmpty() || path.endsWith("/")
+                ? new String[]{path + "index.html"}
+                : new String[]{path, path + "/index.html", path + ".html"};
+        for (String candidate : candidates) {
+            String html = resource(candidate);
+            if (html != null) return html;
+        }
+        return null;
+    }
+
+    private String resource(String path) {
+        URL resource = FakeSite.class.getClassLoader().getResource(root + "/" + path);
+        if (resource == null) return read(Paths.get(root).resolve(path));
+        try {
+            if ("file".equals(resource.getProtocol())) {
+                // directories resolve too; only regular files are pages
+                return read(Paths.get(resource.toURI()));
+            }
+            try (InputStream in = resource.openStream()) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String read(Path file) {
+        if (!Files.isRegularFile(file)) return null;
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String withoutFragment(String url) {
+        int hash = url.indexOf('#');
+        return hash < 0 ? url : url.substring(0, hash);
+    }
+}
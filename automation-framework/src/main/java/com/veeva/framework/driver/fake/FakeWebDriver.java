@@ -0,0 +1,867 @@
+package com.veeva.framework.driver.fake;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.config.FrameworkConfig;
+import com.veeva.framework.utils.ScriptResources;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Selector;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.interactions.Interactive;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.logging.Logs;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FakeWebDriver - An in-memory WebDriver over HTML fixtures, for verifying
+ * framework changes offline in milliseconds.
+ *
+ * Pages come from a {@link FakeSite}: inline pages registered on the builder,
+ * {@code data:text/html,} / {@code file:} URLs, or a fixture directory where
+ * the URL path picks the file. Each navigation parses the HTML into a jsoup
+ * DOM; after that:
+ *   - findElement(s) support CSS, XPath, id, name, class, tag and link text,
+ *     on the page or under an element
+ *   - elements report text, attributes and a basic visibility model
+ *     (see {@link FakeWebElement}); links navigate when clicked
+ *   - windows / tabs, history, cookies and timeouts are tracked in memory
+ *   - there is no JavaScript engine: executeScript runs registered
+ *     {@link Script}s matched by a fragment of the script text. Built in are
+ *     the framework's element-texts.js and action-batch.js, scrolling (no-op), clicks,
+ *     {@code location.assign}, {@code document.readyState} and {@code document.title};
+ *     anything else returns null
+ *   - pointer actions: a press and release over an element clicks it; moving
+ *     to a hidden element fails as on a real browser. Keys are ignored
+ *   - implicit waits are recorded but not applied — the DOM only changes
+ *     through commands, so waiting would never find more
+ *
+ * Every command (driver or element) is counted and can be delayed by a fixed
+ * latency to imitate a remote grid.
+ *
+ * Selected with {@code browser: fake}; the fixtures and latency come from
+ * {@code fake.site} and {@code fake.latency}:
+ * <pre>
+ *   mvn test -pl automation-framework -Dbrowser=fake -Dfake.site=fake-site -Dfake.latency=50
+ * </pre>
+ */
+public class FakeWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot, Interactive {
+
+    private static final String ELEMENT_TEXTS_SCRIPT = "js/element-texts.js";
+    private static final String ACTION_BATCH_SCRIPT = "js/action-batch.js";
+    private static final String NOT_FOUND_PAGE =
+            "<html><head><title>404 Not Found</title></head><body><h1>Not Found</h1></body></html>";
+    private static final byte[] PNG = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=");
+    private static final AtomicInteger HANDLES = new AtomicInteger();
+
+    /**
+     * Stand-in for one piece of page JavaScript.
+     */
+    @FunctionalInterface
+    public interface Script {
+        Object run(FakeWebDriver driver, Object[] args);
+    }
+
+    private final FakeSite site;
+    private final Duration latency;
+    private final Map<String, Script> scripts;
+    private final AtomicLong commands = new AtomicLong();
+
+    private final Map<String, Tab> windows = new LinkedHashMap<>();
+    private final Map<String, Cookie> cookies = new LinkedHashMap<>();
+    private final Map<String, Duration> timeouts = new LinkedHashMap<>();
+    private Tab current;
+    private boolean quit;
+
+    private FakeWebDriver(Builder builder) {
+        this.site = new FakeSite(new LinkedHashMap<>(builder.pages), builder.site);
+        this.latency = builder.latency;
+        this.scripts = new LinkedHashMap<>(builder.scripts);
+        builtInScripts().forEach(this.scripts::putIfAbsent);
+        timeouts.put("implicit", Duration.ZERO);
+        timeouts.put("pageLoad", Duration.ofSeconds(300));
+        timeouts.put("script", Duration.ofSeconds(30));
+        this.current = newWindow();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A driver over {@code fake.site} with {@code fake.latency} per command.
+     */
+    public static FakeWebDriver fromConfig() {
+        FrameworkConfig config = ConfigManager.config();
+        return builder()
+                .site(config.getString(ConfigKey.FAKE_SITE))
+                .latency(config.getDuration(ConfigKey.FAKE_LATENCY))
+                .build();
+    }
+
+    /**
+     * Commands executed so far — the round trips a real driver would have made.
+     */
+    public long commandCount() {
+        return commands.get();
+    }
+
+    /**
+     * The current window's DOM; tests may change it to simulate a page updating itself.
+     */
+    public Document document() {
+        return tab().page;
+    }
+
+    // ─── WebDriver ────────────────────────────────────────────────────────────
+
+    @Override
+    public void get(String url) {
+        command();
+        navigate(tab().handle, url);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        command();
+        return tab().url;
+    }
+
+    @Override
+    public String getTitle() {
+        command();
+        return tab().page.title();
+    }
+
+    @Override
+    public String getPageSource() {
+        command();
+        return tab().page.outerHtml();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        command();
+        Tab tab = tab();
+        return locate(this, tab.handle, tab.page, tab.page, by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        command();
+        Tab tab = tab();
+        return first(locate(this, tab.handle, tab.page, tab.page, by), by);
+    }
+
+    @Override
+    public void close() {
+        command();
+        windows.remove(tab().handle);
+        current = null;
+        if (windows.isEmpty()) quit = true;
+    }
+
+    @Override
+    public void quit() {
+        if (quit) return;
+        command();
+        windows.clear();
+        current = null;
+        quit = true;
+    }
+
+    /**
+     * True once {@link #quit()} ran (or the last window closed).
+     */
+    public boolean isQuit() {
+        return quit;
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        command();
+        session();
+        return new LinkedHashSet<>(windows.keySet());
+    }
+
+    @Override
+    public String getWindowHandle() {
+        command();
+        return tab().handle;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new FakeTargetLocator();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new FakeNavigation();
+    }
+
+    @Override
+    public Options manage() {
+        return new FakeOptions();
+    }
+
+    // ─── JavascriptExecutor / screenshots / actions ───────────────────────────
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        command();
+        tab();
+        for (Map.Entry<String, Script> handler : scripts.entrySet()) {
+            if (script.contains(handler.getKey())) {
+                return handler.getValue().run(this, args == null ? new Object[0] : args);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return executeScript(script, args);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        command();
+        tab();
+        return screenshot(target);
+    }
+
+    /**
+     * Pointer moves to an element and clicks on it (down + up over the same element)
+     * are applied; everything else is accepted without effect.
+     */
+    @Override
+    public void perform(Collection<Sequence> actions) {
+        command();
+        tab();
+        for (Sequence sequence : actions) {
+            Map<String, Object> encoded = sequence.encode();
+            if (!"pointer".equals(encoded.get("type"))) continue;
+            FakeWebElement over = null;
+            FakeWebElement pressed = null;
+            for (Object action : (List<?>) encoded.get("actions")) {
+                Map<?, ?> step = (Map<?, ?>) action;
+                Object type = step.get("type");
+                if ("pointerMove".equals(type)) {
+                    over = step.get("origin") instanceof FakeWebElement ? (FakeWebElement) step.get("origin") : null;
+                    if (over != null && !FakeWebElement.displayed(over.node())) {
+                        throw new MoveTargetOutOfBoundsException("Element has no size and location: " + over);
+                    }
+                } else if ("pointerDown".equals(type)) {
+                    pressed = over;
+                } else if ("pointerUp".equals(type)) {
+                    if (pressed != null && pressed == over) pressed.activate();
+                    pressed = null;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void resetInputState() {
+        command();
+    }
+
+    // ─── Built-in scripts ─────────────────────────────────────────────────────
+
+    private static Map<String, Script> builtInScripts() {
+        Map<String, Script> builtIn = new LinkedHashMap<>();
+        builtIn.put(ScriptResources.load(ELEMENT_TEXTS_SCRIPT), FakeWebDriver::elementTexts);
+        builtIn.put(ScriptResources.load(ACTION_BATCH_SCRIPT), FakeWebDriver::actionBatch);
+        builtIn.put("arguments[0].click()", (driver, args) -> {
+            ((FakeWebElement) args[0]).activate();
+            return null;
+        });
+        builtIn.put("location.assign(", (driver, args) -> {
+            driver.navigate(driver.tab().handle, String.valueOf(args[0]));
+            return null;
+        });
+        builtIn.put("scrollIntoView", (driver, args) -> null);
+        builtIn.put("scrollTo(", (driver, args) -> null);
+        builtIn.put("scrollBy(", (driver, args) -> null);
+        builtIn.put("document.readyState", (driver, args) -> "complete");
+        builtIn.put("document.title", (driver, args) -> driver.tab().page.title());
+        return builtIn;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object elementTexts(FakeWebDriver driver, Object[] args) {
+        String using = (String) args[0];
+        Tab tab = driver.tab();
+        List<WebElement> elements;
+        if ("css".equals(using)) {
+            elements = driver.locate(driver, tab.handle, tab.page, tab.page, By.cssSelector((String) args[1]));
+        } else if ("xpath".equals(using)) {
+            elements = driver.locate(driver, tab.handle, tab.page, tab.page, By.xpath((String) args[1]));
+        } else {
+            elements = args[2] == null ? Collections.emptyList() : (List<WebElement>) args[2];
+        }
+        List<String> texts = new ArrayList<>(elements.size());
+        for (WebElement element : elements) {
+            texts.add(FakeWebElement.renderedText(((FakeWebElement) element).node()));
+        }
+        return texts;
+    }
+
+    /**
+     * Mirrors action-batch.js: runs the steps from {@code args[1]} until one is missing.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object actionBatch(FakeWebDriver driver, Object[] args) {
+        List<?> steps = (List<?>) args[0];
+        Tab tab = driver.tab();
+        List<Object> values = new ArrayList<>();
+        List<Object> hits = new ArrayList<>();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("values", values);
+        result.put("hits", hits);
+        result.put("missing", -1);
+        for (int i = ((Number) args[1]).intValue(); i < steps.size(); i++) {
+            Map<?, ?> step = (Map<?, ?>) steps.get(i);
+            List<WebElement> found;
+            if (step.get("element") != null) {
+                found = Collections.singletonList((WebElement) step.get("element"));
+            } else if (step.get("elements") != null) {
+                found = (List<WebElement>) step.get("elements");
+            } else if ("css".equals(step.get("using"))) {
+                found = driver.locate(driver, tab.handle, tab.page, tab.page, By.cssSelector((String) step.get("value")));
+            } else if ("xpath".equals(step.get("using"))) {
+                found = driver.locate(driver, tab.handle, tab.page, tab.page, By.xpath((String) step.get("value")));
+            } else {
+                found = Collections.emptyList();
+            }
+            String op = (String) step.get("op");
+            if (op.equals("texts")) {
+                List<String> texts = new ArrayList<>(found.size());
+                for (WebElement element : found) {
+                    texts.add(FakeWebElement.renderedText(((FakeWebElement) element).node()));
+                }
+                values.add(texts);
+                continue;
+            }
+            FakeWebElement element = found.isEmpty() ? null : (FakeWebElement) found.get(0);
+            if (element == null || Boolean.TRUE.equals(step.get("visible")) && !FakeWebElement.displayed(element.node())) {
+                result.put("missing", i);
+                return result;
+            }
+            switch (op) {
+                case "target":
+                    // no layout, so nothing is ever covered: only hidden or disabled targets fail the hit test
+                    values.add(element);
+                    hits.add(!Boolean.TRUE.equals(step.get("click"))
+                            || FakeWebElement.displayed(element.node()) && !element.node().hasAttr("disabled"));
+                    break;
+                case "text":
+                    values.add(FakeWebElement.renderedText(element.node()));
+                    break;
+                case "attribute":
+                    values.add(element.property((String) step.get("name")));
+                    break;
+                case "jsclick":
+                    element.activate();
+                    values.add(null);
+                    break;
+                default:
+                    values.add(null);
+            }
+        }
+        return result;
+    }
+
+    // ─── Internals (shared with FakeWebElement) ───────────────────────────────
+
+    void command() {
+        commands.incrementAndGet();
+        if (latency.isZero()) return;
+        try {
+            Thread.sleep(latency.toMillis(), latency.getNano() % 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    boolean isCurrent(String handle, Document page) {
+        session();
+        Tab tab = windows.get(handle);
+        return tab != null && tab.page == page;
+    }
+
+    void navigate(String handle, String url) {
+        Tab tab = windows.get(handle);
+        String resolved = resolve(tab.url, url);
+        tab.load(resolved);
+        while (tab.history.size() > tab.position + 1) {
+            tab.history.remove(tab.history.size() - 1);
+        }
+        tab.history.add(resolved);
+        tab.position++;
+    }
+
+    void openWindow(String url) {
+        Tab tab = newWindow();
+        navigate(tab.handle, url);
+    }
+
+    <X> X screenshot(OutputType<X> target) {
+        return target.convertFromPngBytes(PNG.clone());
+    }
+
+    List<WebElement> locate(SearchContext context, String handle, Document page, Element scope, By by) {
+        if (!(by instanceof By.Remotable)) {
+            // ByChained, ByAll, ... are built from Remotable locators
+            return by.findElements(context);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        Elements found;
+        try {
+            switch (parameters.using()) {
+                case "css selector":
+                    found = scope.select(value);
+                    break;
+                case "xpath":
+                    found = scope.selectXpath(value);
+                    break;
+                case "tag name":
+                    found = scope.getElementsByTag(value);
+                    break;
+                case "id":
+                    found = scope.getElementsByAttributeValue("id", value);
+                    break;
+                case "name":
+                    found = scope.getElementsByAttributeValue("name", value);
+                    break;
+                case "class name":
+                    found = scope.getElementsByClass(value);
+                    break;
+                case "link text":
+                case "partial link text":
+                    boolean partial = parameters.using().startsWith("partial");
+                    found = new Elements();
+                    for (Element link : scope.select("a")) {
+                        String text = FakeWebElement.renderedText(link);
+                        if (partial ? text.contains(value) : text.equals(value.trim())) found.add(link);
+                    }
+                    break;
+                default:
+                    throw new InvalidSelectorException("Unsupported locator strategy: " + parameters.using());
+            }
+        } catch (Selector.SelectorParseException | IllegalArgumentException e) {
+            throw new InvalidSelectorException("Invalid selector " + by + ": " + e.getMessage());
+        }
+        List<WebElement> elements = new ArrayList<>(found.size());
+        for (Element element : found) {
+            // element.findElements searches descendants only
+            if (element != scope || scope == page) {
+                elements.add(new FakeWebElement(this, handle, page, element));
+            }
+        }
+        return elements;
+    }
+
+    static WebElement first(List<WebElement> elements, By by) {
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + by);
+        }
+        return elements.get(0);
+    }
+
+    private void session() {
+        if (quit) throw new NoSuchSessionException("FakeWebDriver session has been quit");
+    }
+
+    private Tab tab() {
+        session();
+        if (current == null || !windows.containsKey(current.handle)) {
+            throw new NoSuchWindowException("The current window has been closed");
+        }
+        return current;
+    }
+
+    private Tab newWindow() {
+        Tab tab = new Tab("fake-window-" + HANDLES.incrementAndGet());
+        windows.put(tab.handle, tab);
+        return tab;
+    }
+
+    private static String resolve(String base, String url) {
+        if (url.startsWith("data:") || url.startsWith("about:")) return url;
+        try {
+            URI uri = URI.create(url);
+            if (uri.isAbsolute() || base.startsWith("about:") || base.startsWith("data:")) return url;
+            return URI.create(base).resolve(uri).toString();
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private final class Tab {
+        final String handle;
+        final List<String> history = new ArrayList<>();
+        int position = -1;
+        String url = "about:blank";
+        Document page = Jsoup.parse("<html><head></head><body></body></html>", "");
+        Dimension size = new Dimension(1920, 1080);
+        Point position2d = new Point(0, 0);
+
+        Tab(String handle) {
+            this.handle = handle;
+        }
+
+        void load(String target) {
+            String html = target.equals("about:blank") ? "" : site.load(target);
+            this.url = target;
+            this.page = Jsoup.parse(html != null ? html : NOT_FOUND_PAGE, target.startsWith("data:") ? "" : target);
+        }
+    }
+
+    // ─── switchTo / navigate / manage ─────────────────────────────────────────
+
+    private final class FakeTargetLocator implements TargetLocator {
+
+        @Override
+        public WebDriver frame(int index) {
+            command();
+            throw new NoSuchFrameException("FakeWebDriver pages have no frames");
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            return frame(0);
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            return frame(0);
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            command();
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            command();
+            session();
+            Tab tab = windows.get(nameOrHandle);
+            if (tab == null) throw new NoSuchWindowException("No window " + nameOrHandle);
+            current = tab;
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver newWindow(WindowType typeHint) {
+            command();
+            session();
+            current = FakeWebDriver.this.newWindow();
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            command();
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            command();
+            Tab tab = tab();
+            return new FakeWebElement(FakeWebDriver.this, tab.handle, tab.page, tab.page.body());
+        }
+
+        @Override
+        public Alert alert() {
+            command();
+            throw new NoAlertPresentException("FakeWebDriver has no alerts");
+        }
+    }
+
+    private final class FakeNavigation implements Navigation {
+
+        @Override
+        public void back() {
+            move(-1);
+        }
+
+        @Override
+        public void forward() {
+            move(1);
+        }
+
+        private void move(int step) {
+            command();
+            Tab tab = tab();
+            int target = tab.position + step;
+            if (target < 0 || target >= tab.history.size()) return;
+            tab.position = target;
+            tab.load(tab.history.get(target));
+        }
+
+        @Override
+        public void to(String url) {
+            get(url);
+        }
+
+        @Override
+        public void to(URL url) {
+            get(url.toString());
+        }
+
+        @Override
+        public void refresh() {
+            command();
+            Tab tab = tab();
+            tab.load(tab.url);
+        }
+    }
+
+    private final class FakeOptions implements Options {
+
+        @Override
+        public void addCookie(Cookie cookie) {
+            command();
+            session();
+            cookies.put(cookie.getName(), cookie);
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            command();
+            cookies.remove(name);
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            deleteCookieNamed(cookie.getName());
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            command();
+            cookies.clear();
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            command();
+            session();
+            return new LinkedHashSet<>(cookies.values());
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            command();
+            return cookies.get(name);
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return new FakeTimeouts();
+        }
+
+        @Override
+        public WebDriver.Window window() {
+            return new FakeWindow();
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedCommandException("FakeWebDriver has no logs");
+        }
+    }
+
+    private final class FakeTimeouts implements Timeouts {
+
+        @Override
+        @Deprecated
+        public Timeouts implicitlyWait(long time, java.util.concurrent.TimeUnit unit) {
+            return implicitlyWait(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts implicitlyWait(Duration duration) {
+            return set("implicit", duration);
+        }
+
+        @Override
+        public Duration getImplicitWaitTimeout() {
+            return timeouts.get("implicit");
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts setScriptTimeout(long time, java.util.concurrent.TimeUnit unit) {
+            return scriptTimeout(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts scriptTimeout(Duration duration) {
+            return set("script", duration);
+        }
+
+        @Override
+        public Duration getScriptTimeout() {
+            return timeouts.get("script");
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts pageLoadTimeout(long time, java.util.concurrent.TimeUnit unit) {
+            return pageLoadTimeout(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(Duration duration) {
+            return set("pageLoad", duration);
+        }
+
+        @Override
+        public Duration getPageLoadTimeout() {
+            return timeouts.get("pageLoad");
+        }
+
+        private Timeouts set(String name, Duration duration) {
+            command();
+            timeouts.put(name, duration);
+            return this;
+        }
+    }
+
+    private final class FakeWindow implements WebDriver.Window {
+
+        @Override
+        public Dimension getSize() {
+            command();
+            return FakeWebDriver.this.tab().size;
+        }
+
+        @Override
+        public void setSize(Dimension targetSize) {
+            command();
+            FakeWebDriver.this.tab().size = targetSize;
+        }
+
+        @Override
+        public Point getPosition() {
+            command();
+            return FakeWebDriver.this.tab().position2d;
+        }
+
+        @Override
+        public void setPosition(Point targetPosition) {
+            command();
+            FakeWebDriver.this.tab().position2d = targetPosition;
+        }
+
+        @Override
+        public void maximize() {
+            command();
+            FakeWebDriver.this.tab();
+        }
+
+        @Override
+        public void minimize() {
+            command();
+            FakeWebDriver.this.tab();
+        }
+
+        @Override
+        public void fullscreen() {
+            command();
+            FakeWebDriver.this.tab();
+        }
+    }
+
+    // ─── Builder ──────────────────────────────────────────────────────────────
+
+    public static final class Builder {
+        private final Map<String, String> pages = new LinkedHashMap<>();
+        private final Map<String, Script> scripts = new LinkedHashMap<>();
+        private String site;
+        private Duration latency = Duration.ZERO;
+
+        private Builder() {}
+
+        /**
+         * Serves {@code html} for {@code url} (fragment ignored).
+         */
+        public Builder page(String url, String html) {
+            pages.put(FakeSite.withoutFragment(url), html);
+            return this;
+        }
+
+        /**
+         * Fixture root: a classpath directory, else a filesystem directory.
+         */
+        public Builder site(String root) {
+            this.site = root;
+            return this;
+        }
+
+        /**
+         * Delay added to every command, e.g. 50ms to imitate a remote grid.
+         */
+        public Builder latency(Duration latency) {
+            if (latency.isNegative()) throw new IllegalArgumentException("latency must be >= 0");
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Runs {@code script} for any executeScript whose text contains {@code fragment};
+         * checked before the built-in scripts, in registration order.
+         */
+        public Builder script(String fragment, Script script) {
+            scripts.put(fragment, script);
+            return this;
+        }
+
+        public FakeWebDriver build() {
+            return new FakeWebDriver(this);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.veeva.framework.driver.fake;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * FakeWebElement - A {@link WebElement} over a jsoup element in a {@link FakeWebDriver} page.
+ *
+ * Visibility model: an element is displayed unless it or an ancestor
+ *   - is a non-rendered tag (head, script, style, template, noscript, ...),
+ *   - has the {@code hidden} attribute or is {@code <input type="hidden">},
+ *   - has an inline style of {@code display:none}, {@code visibility:hidden}
+ *     or {@code opacity:0} (the nearest {@code visibility} declaration wins).
+ * Stylesheets are not applied. There is no layout: location and size are 0.
+ *
+ * Like a real element it goes stale once its window navigates away from the
+ * page it came from. Every call is one driver command (counted, and delayed by
+ * the driver's latency).
+ */
+public final class FakeWebElement implements WebElement, WrapsDriver {
+
+    private static final Set<String> NOT_RENDERED = new HashSet<>(Arrays.asList(
+            "head", "title", "meta", "link", "script", "style", "template", "noscript", "base"));
+    private static final Set<String> BOOLEAN_ATTRIBUTES = new HashSet<>(Arrays.asList(
+            "checked", "selected", "disabled", "hidden", "readonly", "required", "multiple", "autofocus",
+            "open", "async", "defer", "novalidate"));
+
+    private final FakeWebDriver driver;
+    private final String window;
+    private final Document page;
+    private final Element node;
+
+    FakeWebElement(FakeWebDriver driver, String window, Document page, Element node) {
+        this.driver = driver;
+        this.window = window;
+        this.page = page;
+        this.node = node;
+    }
+
+    // ─── Interaction ──────────────────────────────────────────────────────────
+
+    @Override
+    public void click() {
+        live();
+        if (!displayed(node)) {
+            throw new ElementNotInteractableException("Element is not displayed: " + this);
+        }
+        activate();
+    }
+
+    /**
+     * What a click does, without the visibility check ({@code arguments[0].click()}):
+     * follows links (target=_blank opens a window) and toggles checkboxes / radios.
+     */
+    void activate() {
+        String tag = node.normalName();
+        if (tag.equals("a") && node.hasAttr("href")) {
+            String href = node.absUrl("href");
+            if (href.isEmpty() || href.startsWith("javascript:")) return;
+            if ("_blank".equals(node.attr("target"))) {
+                driver.openWindow(href);
+            } else {
+                driver.navigate(window, href);
+            }
+        } else if (tag.equals("input") && "checkbox".equalsIgnoreCase(node.attr("type"))) {
+            toggle(node, !node.hasAttr("checked"));
+        } else if (tag.equals("input") && "radio".equalsIgnoreCase(node.attr("type"))) {
+            String group = node.attr("name");
+            if (!group.isEmpty()) {
+                page.select("input[type=radio]").stream()
+                        .filter(radio -> group.equals(radio.attr("name")))
+                        .forEach(radio -> toggle(radio, false));
+            }
+            toggle(node, true);
+        }
+    }
+
+    @Override
+    public void submit() {
+        live();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        live();
+        if (!displayed(node) || node.hasAttr("disabled")) {
+            throw new ElementNotInteractableException("Element cannot take keys: " + this);
+        }
+        StringBuilder value = new StringBuilder(value());
+        for (CharSequence keys : keysToSend) {
+            for (int i = 0; i < keys.length(); i++) {
+                char c = keys.charAt(i);
+                // org.openqa.selenium.Keys live in the private-use area; they are not typed
+                if (c < '\uE000' || c > '\uF8FF') value.append(c);
+            }
+        }
+        setValue(value.toString());
+    }
+
+    @Override
+    public void clear() {
+        live();
+        setValue("");
+    }
+
+    // ─── State ────────────────────────────────────────────────────────────────
+
+    @Override
+    public String getTagName() {
+        live();
+        return node.normalName();
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        live();
+        return property(name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        live();
+        return node.hasAttr(name) ? node.attr(name) : null;
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        live();
+        return property(name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        live();
+        return node.hasAttr("checked") || node.hasAttr("selected");
+    }
+
+    @Override
+    public boolean isEnabled() {
+        live();
+        return !node.hasAttr("disabled");
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        live();
+        return displayed(node);
+    }
+
+    @Override
+    public String getText() {
+        live();
+        return renderedText(node);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        live();
+        String value = inlineStyle(node, propertyName.toLowerCase(Locale.ROOT));
+        return value != null ? value : "";
+    }
+
+    @Override
+    public Point getLocation() {
+        live();
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        live();
+        return new Dimension(0, 0);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        live();
+        return new Rectangle(0, 0, 0, 0);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        live();
+        return driver.screenshot(target);
+    }
+
+    // ─── Search ───────────────────────────────────────────────────────────────
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        live();
+        return driver.locate(this, window, page, node, by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        live();
+        return FakeWebDriver.first(driver.locate(this, window, page, node, by), by);
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    /**
+     * The jsoup element behind this one, for tests that want to change the page.
+     */
+    public Element node() {
+        return node;
+    }
+
+    // ─── Internals ────────────────────────────────────────────────────────────
+
+    private void live() {
+        driver.command();
+        if (!driver.isCurrent(window, page)) {
+            throw new StaleElementReferenceException("Element is no longer attached to the page: " + this);
+        }
+    }
+
+    String property(String name) {
+        switch (name) {
+            case "href":
+            case "src":
+                return node.hasAttr(name) ? node.absUrl(name) : null;
+            case "value":
+                return value();
+            case "textContent":
+                return node.wholeText();
+            case "innerText":
+                return renderedText(node);
+            case "innerHTML":
+                return node.html();
+            case "outerHTML":
+                return node.outerHtml();
+            case "className":
+                return node.attr("class");
+            default:
+                if (BOOLEAN_ATTRIBUTES.contains(name)) return node.hasAttr(name) ? "true" : null;
+                return node.hasAttr(name) ? node.attr(name) : null;
+        }
+    }
+
+    private String value() {
+        return node.normalName().equals("textarea") && !node.hasAttr("value") ? node.wholeText() : node.attr("value");
+    }
+
+    private void setValue(String value) {
+        node.attr("value", value);
+    }
+
+    private static void toggle(Element input, boolean on) {
+        if (on) input.attr("checked", "");
+        else input.removeAttr("checked");
+    }
+
+    static boolean displayed(Element element) {
+        String visibility = null;
+        for (Element e = element; e != null && !(e instanceof Document); e = e.parent()) {
+            if (hiddenItself(e)) return false;
+            if (visibility == null) visibility = inlineStyle(e, "visibility");
+        }
+        return !"hidden".equals(visibility) && !"collapse".equals(visibility);
+    }
+
+    private static boolean hiddenItself(Element e) {
+        if (NOT_RENDERED.contains(e.normalName()) || e.hasAttr("hidden")) return true;
+        if (e.normalName().equals("input") && "hidden".equalsIgnoreCase(e.attr("type"))) return true;
+        String display = inlineStyle(e, "display");
+        if ("none".equals(display)) return true;
+        String opacity = inlineStyle(e, "opacity");
+        return opacity != null && opacity.matches("0*(\\.0*)?");
+    }
+
+    /**
+     * The value of {@code property} in the element's style attribute, lower-cased, or null.
+     */
+    static String inlineStyle(Element e, String property) {
+        String style = e.attr("style");
+        if (style.isEmpty()) return null;
+        String found = null;
+        for (String declaration : style.split(";")) {
+            int colon = declaration.indexOf(':');
+            if (colon > 0 && declaration.substring(0, colon).trim().equalsIgnoreCase(property)) {
+                found = declaration.substring(colon + 1).replace("!important", "").trim().toLowerCase(Locale.ROOT);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Approximates WebElement.getText: only displayed text, whitespace collapsed,
+     * block elements and {@code <br>} on their own lines, table cells space-separated.
+     */
+    static String renderedText(Element element) {
+        if (!displayed(element)) return "";
+        StringBuilder raw = new StringBuilder();
+        appendText(element, raw);
+        StringBuilder text = new StringBuilder();
+        for (String line : raw.toString().split("\n")) {
+            String collapsed = line.replace('\u00A0', ' ').replaceAll("[ \\t\\r\\f]+", " ").trim();
+            if (collapsed.isEmpty()) continue;
+            if (text.length() > 0) text.append('\n');
+            text.append(collapsed);
+        }
+        return text.toString();
+    }
+
+    private static void appendText(Element element, StringBuilder out) {
+        for (Node child : element.childNodes()) {
+            if (child instanceof TextNode) {
+                out.append(((TextNode) child).getWholeText().replace('\n', ' '));
+            } else if (child instanceof Element) {
+                Element e = (Element) child;
+                if (hiddenItself(e) || "hidden".equals(inlineStyle(e, "visibility"))) continue;
+                String tag = e.normalName();
+                if (tag.equals("br")) {
+                    out.append('\n');
+                } else if (tag.equals("td") || tag.equals("th")) {
+                    appendText(e, out);
+                    out.append(' ');
+                } else if (e.isBlock()) {
+                    out.append('\n');
+                    appendText(e, out);
+                    out.append('\n');
+                } else {
+                    appendText(e, out);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FakeWebElement)) return false;
+        FakeWebElement other = (FakeWebElement) o;
+        return driver == other.driver && node == other.node;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(node);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder("FakeWebElement[<").append(node.normalName());
+        if (!node.id().isEmpty()) s.append(" id=\"").append(node.id()).append('"');
+        if (!node.className().isEmpty()) s.append(" class=\"").append(node.className()).append('"');
+        return s.append(">]").toString();
+    }
+}
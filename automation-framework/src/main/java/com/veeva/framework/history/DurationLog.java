@@ -0,0 +1,235 @@
+package com.veeva.framework.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * DurationLog - Every recorded duration across runs, in an append-only file with an index.
+ *
+ * <pre>
+ *   durations.log   one line per sample: epochMillis TAB millis TAB key
+ *   durations.idx   JSON: bytes of the log covered, and per key the offsets
+ *                   of its last {@value #INDEX_DEPTH} lines
+ * </pre>
+ * Lines are never rewritten, so offsets stay valid while other JVMs append;
+ * reading a key's recent samples touches only its own lines. The index is a
+ * cache: when it is missing, stale or unreadable it is rebuilt (or caught up)
+ * from the log. Appends take an exclusive lock on the log, like
+ * {@link TestHistory#save()}, and replace the index atomically.
+ */
+public final class DurationLog {
+
+    private static final Logger log = LogManager.getLogger(DurationLog.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static final String LOG_FILE = "durations.log";
+    static final String INDEX_FILE = "durations.idx";
+    static final int INDEX_DEPTH = 100;
+
+    private final Path logFile;
+    private final Path indexFile;
+    private Index index;
+
+    private DurationLog(Path dir) {
+        this.logFile = dir.resolve(LOG_FILE);
+        this.indexFile = dir.resolve(INDEX_FILE);
+    }
+
+    /**
+     * Opens the log in {@code dir}; nothing is created until the first append.
+     */
+    public static DurationLog open(Path dir) {
+        DurationLog durations = new DurationLog(dir);
+        durations.index = durations.readIndex();
+        if (Files.exists(durations.logFile)) {
+            try (FileChannel channel = FileChannel.open(durations.logFile, StandardOpenOption.READ)) {
+                catchUp(durations.index, channel);
+            } catch (IOException e) {
+                log.warn("Could not read duration log {}: {}", durations.logFile, e.getMessage());
+                durations.index = new Index();
+            }
+        }
+        return durations;
+    }
+
+    public synchronized Set<String> keys() {
+        return Collections.unmodifiableSet(new TreeMap<>(index.offsets).keySet());
+    }
+
+    /**
+     * The last {@code limit} durations (ms) recorded for {@code key}, oldest first.
+     */
+    public synchronized List<Long> recent(String key, int limit) {
+        String clean = Record.clean(key);
+        List<Long> offsets = index.offsets.getOrDefault(clean, Collections.emptyList());
+        List<Long> millis = new ArrayList<>();
+        if (offsets.isEmpty() || limit <= 0) return millis;
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            for (long offset : offsets.subList(Math.max(0, offsets.size() - limit), offsets.size())) {
+                Record record = Record.parse(readLine(channel, offset));
+                if (record != null && record.key.equals(clean)) millis.add(record.millis);
+            }
+        } catch (IOException e) {
+            log.warn("Could not read duration log {}: {}", logFile, e.getMessage());
+        }
+        return millis;
+    }
+
+    /**
+     * Appends one line per sample and updates the index, under an exclusive file lock.
+     */
+    public synchronized void append(Map<String, List<Long>> samples) throws IOException {
+        if (samples.isEmpty()) return;
+        Files.createDirectories(logFile.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            Index current = readIndex();
+            catchUp(current, channel);
+
+            long position = channel.size();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            if (position > current.logBytes) {
+                // a torn last line (writer killed mid-append): end it so it cannot swallow ours
+                out.write('\n');
+            }
+            long now = System.currentTimeMillis();
+            for (Map.Entry<String, List<Long>> e : samples.entrySet()) {
+                String key = Record.clean(e.getKey());
+                for (long millis : e.getValue()) {
+                    current.add(key, position + out.size());
+                    out.write((now + "\t" + millis + "\t" + key + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            channel.write(ByteBuffer.wrap(out.toByteArray()), position);
+            current.logBytes = position + out.size();
+            writeIndex(current);
+            index = current;
+        }
+    }
+
+    // ─── Index ────────────────────────────────────────────────────────────────
+
+    private Index readIndex() {
+        if (!Files.exists(indexFile)) return new Index();
+        try {
+            return MAPPER.readValue(indexFile.toFile(), Index.class);
+        } catch (IOException e) {
+            log.warn("Rebuilding unreadable duration index {}: {}", indexFile, e.getMessage());
+            return new Index();
+        }
+    }
+
+    private void writeIndex(Index current) throws IOException {
+        Path tmp = indexFile.resolveSibling(INDEX_FILE + ".tmp");
+        MAPPER.writeValue(tmp.toFile(), current);
+        Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Indexes the complete lines past {@code index.logBytes}; starts over if the log shrank.
+     */
+    private static void catchUp(Index index, FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (index.logBytes > size) {
+            index.logBytes = 0;
+            index.offsets.clear();
+        }
+        if (index.logBytes == size) return;
+
+        InputStream in = new BufferedInputStream(Channels.newInputStream(channel.position(index.logBytes)));
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        long start = index.logBytes;
+        long position = start;
+        int b;
+        while ((b = in.read()) != -1) {
+            position++;
+            if (b != '\n') {
+                line.write(b);
+                continue;
+            }
+            Record record = Record.parse(line.toString(StandardCharsets.UTF_8));
+            if (record != null) index.add(record.key, start);
+            line.reset();
+            start = position;
+        }
+        // a trailing partial line is left for the next catch-up
+        index.logBytes = start;
+    }
+
+    private static String readLine(FileChannel channel, long offset) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        long position = offset;
+        while (channel.read(buffer, position) > 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if (b == '\n') return line.toString(StandardCharsets.UTF_8);
+                line.write(b);
+            }
+            position += buffer.limit();
+            buffer.clear();
+        }
+        return line.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The on-disk index: how far the log was indexed, and the latest record offsets per key.
+     */
+    public static final class Index {
+        public long logBytes;
+        public Map<String, List<Long>> offsets = new TreeMap<>();
+
+        void add(String key, long offset) {
+            List<Long> list = offsets.computeIfAbsent(key, k -> new ArrayList<>());
+            list.add(offset);
+            if (list.size() > INDEX_DEPTH) list.subList(0, list.size() - INDEX_DEPTH).clear();
+        }
+    }
+
+    private static final class Record {
+        final long millis;
+        final String key;
+
+        private Record(long millis, String key) {
+            this.millis = millis;
+            this.key = key;
+        }
+
+        static Record parse(String line) {
+            String[] parts = line.split("\t", 3);
+            if (parts.length < 3) return null;
+            try {
+                return new Record(Long.parseLong(parts[1]), parts[2]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        static String clean(String key) {
+            return key.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+        }
+    }
+}
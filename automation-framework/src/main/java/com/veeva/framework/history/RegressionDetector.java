@@ -0,0 +1,107 @@
+package com.veeva.framework.history;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.FrameworkConfig;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RegressionDetector - Decides whether a duration is a real slowdown against its recent runs.
+ *
+ * The baseline is summarised robustly by its median and MAD (median absolute
+ * deviation), so one slow CI day in the window does not hide the next one.
+ * A duration is flagged when all of these hold:
+ * <pre>
+ *   baseline has at least min.samples values
+ *   score = (now - median) / (1.4826 * MAD)  ≥ threshold     (≈ z-score for normal noise)
+ *   now / median                             ≥ min.ratio
+ *   now - median                             ≥ min.delta ms
+ * </pre>
+ * The scale never drops below 5% of the median, so a perfectly steady
+ * history (MAD 0) does not turn every millisecond into a regression.
+ */
+public final class RegressionDetector {
+
+    static final double MAD_TO_SIGMA = 1.4826;
+    static final double MIN_SPREAD = 0.05;
+
+    private final int minSamples;
+    private final double threshold;
+    private final double minRatio;
+    private final long minDeltaMillis;
+
+    public RegressionDetector(int minSamples, double threshold, double minRatio, long minDeltaMillis) {
+        this.minSamples = Math.max(1, minSamples);
+        this.threshold = threshold;
+        this.minRatio = minRatio;
+        this.minDeltaMillis = minDeltaMillis;
+    }
+
+    public static RegressionDetector fromConfig(FrameworkConfig config) {
+        return new RegressionDetector(config.getInt(ConfigKey.REGRESSION_MIN_SAMPLES),
+                config.getDouble(ConfigKey.REGRESSION_THRESHOLD),
+                config.getDouble(ConfigKey.REGRESSION_MIN_RATIO),
+                config.getDuration(ConfigKey.REGRESSION_MIN_DELTA).toMillis());
+    }
+
+    /**
+     * Returns the regression for {@code millis} against {@code baseline}, or null if it is not one.
+     *
+     * @param test the test id ({@code class#method})
+     * @param step the @Step name, or null for the test itself
+     */
+    public Regression check(String test, String step, long millis, List<Long> baseline) {
+        if (baseline.size() < minSamples) return null;
+        double[] values = baseline.stream().mapToDouble(Long::doubleValue).toArray();
+        double median = median(values);
+        double[] deviations = Arrays.stream(values).map(v -> Math.abs(v - median)).toArray();
+        double mad = median(deviations);
+        double scale = Math.max(Math.max(MAD_TO_SIGMA * mad, MIN_SPREAD * median), 1);
+        double score = (millis - median) / scale;
+        double ratio = millis / Math.max(median, 1);
+
+        if (score < threshold || ratio < minRatio || millis - median < minDeltaMillis) return null;
+        return new Regression(test, step, millis, Math.round(median), Math.round(mad), score, ratio, values.length);
+    }
+
+    static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+    }
+
+    /**
+     * One flagged slowdown: this run's time for the test or step against the median and MAD of its history.
+     */
+    public static final class Regression {
+        public final String test;
+        public final String step;
+        public final long millis;
+        public final long medianMillis;
+        public final long madMillis;
+        public final double score;
+        public final double ratio;
+        public final int samples;
+
+        Regression(String test, String step, long millis, long medianMillis, long madMillis,
+                   double score, double ratio, int samples) {
+            this.test = test;
+            this.step = step;
+            this.millis = millis;
+            this.medianMillis = medianMillis;
+            this.madMillis = madMillis;
+            this.score = Math.round(score * 100) / 100.0;
+            this.ratio = Math.round(ratio * 100) / 100.0;
+            this.samples = samples;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s%s: %d ms vs median %d ms (x%.2f, MAD %d ms, score %.1f, %d runs)",
+                    test, step != null ? " > " + step : "", millis, medianMillis, ratio, madMillis, score, samples);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.veeva.framework.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.config.FrameworkConfig;
+import com.veeva.framework.history.RegressionDetector.Regression;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RegressionTracker - Checks this run's test and @Step durations against earlier runs.
+ *
+ * Steps are summed per name while a test runs (a step called twice counts
+ * once, with both durations), on the test's own thread. When a test passes,
+ * the test and each of its steps are checked by the {@link RegressionDetector}
+ * against their last {@code regression.window} durations in the
+ * {@link DurationLog}, and buffered. Failed tests are not recorded: a timeout
+ * says nothing about speed.
+ *
+ * {@link #finish()} appends the buffered durations to the log and writes the
+ * run's regressions to output.dir/perf-regressions.json. Baselines are read
+ * before the run is appended, so a run never compares against itself.
+ */
+public final class RegressionTracker {
+
+    private static final Logger log = LogManager.getLogger(RegressionTracker.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final ThreadLocal<Map<String, Long>> STEPS = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    static final String REPORT_FILE = "perf-regressions.json";
+
+    private static volatile RegressionTracker shared;
+
+    private final DurationLog durations;
+    private final RegressionDetector detector;
+    private final int window;
+    private final Path report;
+    private final Map<String, List<Long>> pending = new LinkedHashMap<>();
+    private final List<Regression> regressions = new ArrayList<>();
+    private int checked;
+
+    public RegressionTracker(DurationLog durations, RegressionDetector detector, int window, Path report) {
+        this.durations = durations;
+        this.detector = detector;
+        this.window = Math.min(window, DurationLog.INDEX_DEPTH);
+        this.report = report;
+    }
+
+    /**
+     * Returns the JVM-wide tracker backed by {@code history.dir}.
+     */
+    public static RegressionTracker shared() {
+        if (shared == null) {
+            synchronized (RegressionTracker.class) {
+                if (shared == null) {
+                    FrameworkConfig config = ConfigManager.config();
+                    shared = new RegressionTracker(DurationLog.open(config.getPath(ConfigKey.HISTORY_DIR)),
+                            RegressionDetector.fromConfig(config),
+                            config.getInt(ConfigKey.REGRESSION_WINDOW),
+                            Paths.get(config.getString(ConfigKey.OUTPUT_DIR), REPORT_FILE));
+                }
+            }
+        }
+        return shared;
+    }
+
+    public static boolean enabled() {
+        FrameworkConfig config = ConfigManager.config();
+        return config.getBoolean(ConfigKey.HISTORY_ENABLED) && config.getBoolean(ConfigKey.REGRESSION_ENABLED);
+    }
+
+    public static String stepKey(String testId, String step) {
+        return testId + " > " + step;
+    }
+
+    // ─── Per test (test thread) ───────────────────────────────────────────────
+
+    /**
+     * Forgets steps that ran outside a test (e.g. in configuration methods).
+     */
+    public static void testStarted() {
+        STEPS.remove();
+    }
+
+    public static void stepFinished(String step, long millis) {
+        STEPS.get().merge(step, millis, Long::sum);
+    }
+
+    /**
+     * Records a finished test and its steps; returns the regressions among them.
+     */
+    public List<Regression> testFinished(String testId, long millis, boolean passed) {
+        Map<String, Long> steps = new LinkedHashMap<>(STEPS.get());
+        STEPS.remove();
+        if (!passed) return Collections.emptyList();
+
+        List<Regression> found = new ArrayList<>();
+        check(testId, null, millis, found);
+        for (Map.Entry<String, Long> step : steps.entrySet()) {
+            check(testId, step.getKey(), step.getValue(), found);
+        }
+        return found;
+    }
+
+    private void check(String testId, String step, long millis, List<Regression> found) {
+        String key = step == null ? testId : stepKey(testId, step);
+        Regression regression = detector.check(testId, step, millis, durations.recent(key, window));
+        synchronized (this) {
+            pending.computeIfAbsent(key, k -> new ArrayList<>()).add(millis);
+            checked++;
+            if (regression != null) regressions.add(regression);
+        }
+        if (regression != null) {
+            log.warn("[SLOWDOWN] {}", regression);
+            found.add(regression);
+        }
+    }
+
+    // ─── Per run ──────────────────────────────────────────────────────────────
+
+    /**
+     * Appends this run's durations to the log and writes the regression report.
+     */
+    public synchronized List<Regression> finish() {
+        try {
+            durations.append(pending);
+            pending.clear();
+        } catch (IOException e) {
+            log.warn("Could not append run durations to the duration log: {}", e.getMessage());
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("generated", Instant.now().toString());
+        json.put("window", window);
+        json.put("checked", checked);
+        json.put("regressions", regressions);
+        try {
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            MAPPER.writeValue(report.toFile(), json);
+        } catch (IOException e) {
+            log.warn("Could not write regression report {}: {}", report, e.getMessage());
+        }
+        if (!regressions.isEmpty()) {
+            log.warn("{} of {} durations are slower than their history, see: {}", regressions.size(), checked, report);
+        }
+        return new ArrayList<>(regressions);
+    }
+}
@@ -0,0 +1,262 @@
+package com.veeva.framework.history;
+
+import com.veeva.framework.utils.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.stream.Collectors;
+
+/**
+ * ShardPlanner - Splits the product suites into N shards of similar wall time.
+ *
+ * The unit of work is a {@code <test>} block (it owns the driver lifecycle and
+ * the browser parameter). Its cost is the sum of its methods' smoothed
+ * durations from {@link TestHistory}; blocks never seen before cost the mean
+ * of the known blocks. Blocks are bin-packed greedily, longest first, onto the
+ * least-loaded shard, with ties broken by name.
+ *
+ * Every node computes its plan independently, so all nodes must plan from the
+ * same bytes: history is only used when passed explicitly with
+ * {@code --history <shared file>}, optionally verified with
+ * {@code --history-sha256}. A node's own {@code history.dir} is never used,
+ * because nodes accumulate different history and would compute different
+ * partitions (blocks run twice, others never). Without {@code --history} all
+ * blocks cost the same and are dealt round-robin in name order.
+ *
+ * For the requested shard index one TestNG suite per module is written:
+ * <pre>
+ *   mvn -q exec:java -pl automation-framework \
+ *       -Dexec.mainClass=com.veeva.framework.history.ShardPlanner \
+ *       -Dexec.args="--shards 3 --index 0 --out target/shards --history shared/test-history.json \
+ *                    --suites ../core-product-tests/src/test/resources/CoreProductTestNg.xml,..."
+ *
+ *   → target/shards/core-product-tests-shard-0.xml  (run with -DsuiteFile=...)
+ * </pre>
+ */
+public final class ShardPlanner {
+
+    private static final Logger log = LogManager.getLogger(ShardPlanner.class);
+    private static final long UNKNOWN_COST_MILLIS = 60_000;
+
+    private final TestHistory history;
+
+    /**
+     * @param history the shared history to balance by, or null to assign blocks by name only
+     */
+    public ShardPlanner(TestHistory history) {
+        this.history = history;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> opts = parseArgs(args);
+        int shards = Integer.parseInt(require(opts, "shards"));
+        int index = Integer.parseInt(require(opts, "index"));
+        Path out = Paths.get(opts.getOrDefault("out", "target/shards"));
+        List<Path> suites = Arrays.stream(require(opts, "suites").split(","))
+                .map(String::trim).filter(s -> !s.isEmpty()).map(Paths::get)
+                .collect(Collectors.toList());
+        TestHistory history = opts.containsKey("history")
+                ? sharedHistory(Paths.get(opts.get("history")), opts.get("history-sha256"))
+                : null;
+        if (history == null) {
+            log.warn("No --history given: assigning test blocks by name, balanced by count rather than time");
+        }
+
+        List<Path> written = new ShardPlanner(history).writeShard(suites, shards, index, out);
+        written.forEach(p -> System.out.println(p.toAbsolutePath()));
+    }
+
+    /**
+     * Loads the history every node plans from. It must exist, and must match {@code sha256} when given,
+     * since a node planning from other data would produce a different partition.
+     */
+    static TestHistory sharedHistory(Path file, String sha256) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Shared history file not found: " + file
+                    + " (omit --history to plan by name)");
+        }
+        String actual = FileUtils.sha256(Files.readAllBytes(file));
+        if (sha256 != null && !sha256.trim().equalsIgnoreCase(actual)) {
+            throw new IllegalStateException("History " + file + " has sha256 " + actual
+                    + " but " + sha256.trim() + " was expected: nodes would plan from different data");
+        }
+        log.info("Planning from history {} (sha256 {})", file, actual);
+        return TestHistory.load(file);
+    }
+
+    /**
+     * Plans all shards and writes the suites of shard {@code index}; returns the files written.
+     */
+    public List<Path> writeShard(List<Path> suiteFiles, int shards, int index, Path outDir) throws IOException {
+        if (shards < 1 || index < 0 || index >= shards) {
+            throw new IllegalArgumentException("Shard index " + index + " out of range for " + shards + " shards");
+        }
+        List<Unit> units = new ArrayList<>();
+        for (Path suiteFile : suiteFiles) {
+            String module = moduleOf(suiteFile);
+            Parser parser = new Parser(suiteFile.toString());
+            parser.setLoadClasses(false);   // test classes live in other modules
+            for (XmlSuite suite : parser.parseToList()) {
+                for (XmlTest test : suite.getTests()) {
+                    units.add(new Unit(module, suite, test));
+                }
+            }
+        }
+        List<List<Unit>> plan = plan(units, shards);
+
+        Files.createDirectories(outDir);
+        Map<String, List<Unit>> byModule = new LinkedHashMap<>();
+        for (Unit unit : plan.get(index)) {
+            byModule.computeIfAbsent(unit.module, m -> new ArrayList<>()).add(unit);
+        }
+        List<Path> written = new ArrayList<>();
+        for (Map.Entry<String, List<Unit>> e : byModule.entrySet()) {
+            XmlSuite suite = toSuite(e.getValue(), shards, index);
+            Path file = outDir.resolve(e.getKey() + "-shard-" + index + ".xml");
+            Files.write(file, suite.toXml().getBytes(StandardCharsets.UTF_8));
+            written.add(file);
+        }
+        log.info("Shard {}/{}: {} test blocks in {} modules", index + 1, shards,
+                plan.get(index).size(), byModule.size());
+        return written;
+    }
+
+    /**
+     * Greedy longest-processing-time bin packing of units onto {@code shards} bins.
+     */
+    List<List<Unit>> plan(List<Unit> units, int shards) {
+        Map<String, Long> classCosts = new HashMap<>();
+        if (history != null) {
+            for (TestHistory.Entry entry : history.entries()) {
+                classCosts.merge(entry.testClass, entry.avgMillis, Long::sum);
+            }
+        }
+        OptionalDouble known = units.stream().mapToLong(u -> historicalCost(u, classCosts))
+                .filter(c -> c >= 0).average();
+        long fallback = known.isPresent() ? Math.round(known.getAsDouble()) : UNKNOWN_COST_MILLIS;
+        for (Unit unit : units) {
+            long cost = historicalCost(unit, classCosts);
+            unit.cost = cost >= 0 ? cost : fallback;
+        }
+
+        List<List<Unit>> bins = new ArrayList<>();
+        long[] loads = new long[shards];
+        for (int i = 0; i < shards; i++) bins.add(new ArrayList<>());
+
+        List<Unit> sorted = new ArrayList<>(units);
+        sorted.sort(Comparator.comparingLong((Unit u) -> u.cost).reversed().thenComparing(Unit::key));
+        for (Unit unit : sorted) {
+            int target = 0;
+            for (int i = 1; i < shards; i++) {
+                if (loads[i] < loads[target]) target = i;
+            }
+            bins.get(target).add(unit);
+            loads[target] += unit.cost;
+        }
+        for (int i = 0; i < shards; i++) {
+            log.info("Shard {} | estimated {}s | {}", i, loads[i] / 1000,
+                    bins.get(i).stream().map(Unit::key).collect(Collectors.joining(", ")));
+        }
+        return bins;
+    }
+
+    /**
+     * Sum of known method durations of a {@code <test>} block, or -1 if none are known.
+     */
+    private static long historicalCost(Unit unit, Map<String, Long> classCosts) {
+        long total = 0;
+        boolean any = false;
+        for (XmlClass xmlClass : unit.test.getXmlClasses()) {
+            Long cost = classCosts.get(xmlClass.getName());
+            if (cost != null) {
+                total += cost;
+                any = true;
+            }
+        }
+        return any ? total : -1;
+    }
+
+    private static XmlSuite toSuite(List<Unit> units, int shards, int index) {
+        XmlSuite source = units.get(0).suite;
+        XmlSuite suite = source.shallowCopy();
+        suite.setName(source.getName() + " [shard " + (index + 1) + "/" + shards + "]");
+        suite.setTests(new ArrayList<>());
+        for (Unit unit : units) {
+            XmlTest test = new XmlTest(suite);
+            test.setName(unit.test.getName());
+            test.setParameters(unit.test.getLocalParameters());
+            List<XmlClass> classes = new ArrayList<>();
+            for (XmlClass c : unit.test.getXmlClasses()) {
+                XmlClass copy = new XmlClass(c.getName(), false);
+                copy.setIncludedMethods(c.getIncludedMethods());
+                copy.setExcludedMethods(c.getExcludedMethods());
+                classes.add(copy);
+            }
+            test.setXmlClasses(classes);
+        }
+        return suite;
+    }
+
+    /**
+     * The Maven module a suite file belongs to: the nearest ancestor holding a pom.xml.
+     */
+    static String moduleOf(Path suiteFile) {
+        Path dir = suiteFile.toAbsolutePath().normalize().getParent();
+        while (dir != null && !Files.exists(dir.resolve("pom.xml"))) {
+            dir = dir.getParent();
+        }
+        return dir != null && dir.getFileName() != null ? dir.getFileName().toString() : "default";
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            opts.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return opts;
+    }
+
+    private static String require(Map<String, String> opts, String name) {
+        String value = opts.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing --" + name
+                    + " (usage: --shards N --index I --suites a.xml,b.xml [--out dir]"
+                    + " [--history shared-file [--history-sha256 hex]])");
+        }
+        return value;
+    }
+
+    static final class Unit {
+        final String module;
+        final XmlSuite suite;
+        final XmlTest test;
+        long cost;
+
+        Unit(String module, XmlSuite suite, XmlTest test) {
+            this.module = module;
+            this.suite = suite;
+            this.test = test;
+        }
+
+        String key() {
+            return module + "/" + test.getName();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.veeva.framework.history;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * TestHistory - Per-test durations kept across runs in a small JSON file.
+ *
+ * Each test method ({@code class#method}) keeps a smoothed (EMA) duration,
+ * the last duration, a run count and its most recent pass/fail outcomes, plus
+ * the Maven module it ran in so that the {@link ShardPlanner} can map tests
+ * back to module suites.
+ *
+ * Samples are buffered in memory and merged into the file under an exclusive
+ * file lock in {@link #save()}, so concurrent JVMs (one per module) sharing
+ * the same history directory never lose each other's updates.
+ */
+public final class TestHistory {
+
+    private static final Logger log = LogManager.getLogger(TestHistory.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final TypeReference<TreeMap<String, Entry>> ENTRIES = new TypeReference<TreeMap<String, Entry>>() {};
+
+    static final String FILE_NAME = "test-history.json";
+    static final double ALPHA = 0.3;
+    static final int MAX_OUTCOMES = 20;
+    static final char PASS = 'P';
+    static final char FAIL = 'F';
+    static final double OUTCOME_DECAY = 0.8;
+
+    private static volatile TestHistory shared;
+
+    private final Path file;
+    private Map<String, Entry> entries = new TreeMap<>();
+    private final List<Sample> pending = new ArrayList<>();
+
+    private TestHistory(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the JVM-wide history backed by {@code history.dir}.
+     */
+    public static TestHistory shared() {
+        if (shared == null) {
+            synchronized (TestHistory.class) {
+                if (shared == null) {
+                    shared = load(defaultFile());
+                }
+            }
+        }
+        return shared;
+    }
+
+    public static Path defaultFile() {
+        return ConfigManager.config().getPath(ConfigKey.HISTORY_DIR).resolve(FILE_NAME);
+    }
+
+    /**
+     * Loads a history file; a missing or unreadable file yields an empty history.
+     */
+    public static TestHistory load(Path file) {
+        TestHistory history = new TestHistory(file);
+        if (Files.exists(file)) {
+            try {
+                history.entries = MAPPER.readValue(file.toFile(), ENTRIES);
+                log.info("Loaded history for {} tests from: {}", history.entries.size(), file);
+            } catch (IOException e) {
+                log.warn("Could not read test history {}: {}", file, e.getMessage());
+            }
+        }
+        return history;
+    }
+
+    public static String testId(String testClass, String method) {
+        return testClass + "#" + method;
+    }
+
+    /**
+     * Name of the Maven module the current JVM runs in (surefire sets user.dir to it).
+     */
+    public static String currentModule() {
+        Path dir = Paths.get(System.getProperty("user.dir")).toAbsolutePath();
+        return dir.getFileName() != null ? dir.getFileName().toString() : "";
+    }
+
+    public synchronized void record(String module, String testClass, String method, long millis, boolean passed) {
+        Sample sample = new Sample(module, testClass, method, millis, passed);
+        pending.add(sample);
+        apply(entries, sample);
+    }
+
+    public synchronized Entry get(String testId) {
+        return entries.get(testId);
+    }
+
+    /**
+     * Smoothed duration of a test in ms, or -1 if it has never run.
+     */
+    public synchronized long durationOf(String testId) {
+        Entry e = entries.get(testId);
+        return e != null ? e.avgMillis : -1;
+    }
+
+    /**
+     * Estimated probability that a test fails on its next run.
+     *
+     * Recent outcomes are weighted more ({@value #OUTCOME_DECAY} per run of age)
+     * with a Laplace prior, so a test without history scores 0.5 and a test
+     * that just started failing climbs quickly.
+     */
+    public synchronized double failureProbability(String testId) {
+        Entry e = entries.get(testId);
+        String outcomes = e != null && e.outcomes != null ? e.outcomes : "";
+        double weight = 1, fails = 1, total = 2;
+        for (int i = outcomes.length() - 1; i >= 0; i--) {
+            if (outcomes.charAt(i) == FAIL) fails += weight;
+            total += weight;
+            weight *= OUTCOME_DECAY;
+        }
+        return fails / total;
+    }
+
+    public synchronized Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(new ArrayList<>(entries.values()));
+    }
+
+    /**
+     * Merges buffered samples into the file on disk (read-modify-write under lock).
+     */
+    public synchronized void save() {
+        if (pending.isEmpty()) return;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                Map<String, Entry> onDisk = readLocked(channel);
+                for (Sample sample : pending) {
+                    apply(onDisk, sample);
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                MAPPER.writeValue(out, onDisk);
+                channel.truncate(0);
+                channel.write(ByteBuffer.wrap(out.toByteArray()), 0);
+                entries = onDisk;
+            }
+            log.info("Saved {} test timings to: {}", pending.size(), file);
+            pending.clear();
+        } catch (IOException e) {
+            log.warn("Could not save test history {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Map<String, Entry> readLocked(FileChannel channel) throws IOException {
+        if (channel.size() == 0) return new TreeMap<>();
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+            // keep reading until the whole file is buffered
+        }
+        return MAPPER.readValue(buffer.array(), 0, buffer.position(), ENTRIES);
+    }
+
+    private static void apply(Map<String, Entry> target, Sample sample) {
+        Entry e = target.computeIfAbsent(testId(sample.testClass, sample.method), id -> new Entry());
+        e.module = sample.module;
+        e.testClass = sample.testClass;
+        e.method = sample.method;
+        e.avgMillis = e.runs == 0 ? sample.millis : Math.round(ALPHA * sample.millis + (1 - ALPHA) * e.avgMillis);
+        e.lastMillis = sample.millis;
+        e.runs++;
+        String outcomes = (e.outcomes != null ? e.outcomes : "") + (sample.passed ? PASS : FAIL);
+        e.outcomes = outcomes.length() > MAX_OUTCOMES ? outcomes.substring(outcomes.length() - MAX_OUTCOMES) : outcomes;
+    }
+
+    /**
+     * One test method's history: where it lives, its running average and last duration, and recent outcomes.
+     */
+    public static final class Entry {
+        public String module;
+        public String testClass;
+        public String method;
+        public long avgMillis;
+        public long lastMillis;
+        public int runs;
+        /** Last outcomes, oldest first: P = passed, F = failed. */
+        public String outcomes;
+    }
+
+    private static final class Sample {
+        final String module;
+        final String testClass;
+        final String method;
+        final long millis;
+        final boolean passed;
+
+        Sample(String module, String testClass, String method, long millis, boolean passed) {
+            this.module = module;
+            this.testClass = testClass;
+            this.method = method;
+            this.millis = millis;
+            this.passed = passed;
+        }
+    }
+}
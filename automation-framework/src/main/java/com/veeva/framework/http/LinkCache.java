@@ -0,0 +1,70 @@
+package com.veeva.framework.http;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LinkCache - ETag / Last-Modified validators of checked links, kept across runs.
+ *
+ * Lets {@link LinkChecker} revalidate an unchanged link with a conditional
+ * request (304, no body) instead of fetching it again. Only successful final
+ * responses that carry a validator are stored.
+ */
+final class LinkCache {
+
+    private static final Logger log = LogManager.getLogger(LinkCache.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final TypeReference<TreeMap<String, Entry>> ENTRIES = new TypeReference<TreeMap<String, Entry>>() {};
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    LinkCache(Path file) {
+        this.file = file;
+        if (file != null && Files.exists(file)) {
+            try {
+                entries.putAll(MAPPER.readValue(file.toFile(), ENTRIES));
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable link cache {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    Entry get(String url) {
+        return entries.get(url);
+    }
+
+    void put(String url, Entry entry) {
+        entries.put(url, entry);
+    }
+
+    void save() {
+        if (file == null) return;
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            MAPPER.writeValue(tmp.toFile(), new TreeMap<>(entries));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Link cache not saved ({}): {}", file, e.getMessage());
+        }
+    }
+
+    public static final class Entry {
+        public String etag;
+        public String lastModified;
+        public int status;
+        public long checkedAt;
+    }
+}
@@ -0,0 +1,89 @@
+package com.veeva.framework.http;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LinkCheckResult - Outcome of checking one URL with {@link LinkChecker}.
+ *
+ * {@code status} is the HTTP status at the end of the redirect chain, or -1
+ * when no response was received ({@code error} then says why). Each hop of
+ * the chain is recorded as {@code "301 https://next/url"}.
+ */
+public final class LinkCheckResult {
+
+    private final String url;
+    private final int status;
+    private final String method;
+    private final List<String> redirects;
+    private final long elapsedMillis;
+    private final boolean notModified;
+    private final String error;
+
+    LinkCheckResult(String url, int status, String method, List<String> redirects,
+                    long elapsedMillis, boolean notModified, String error) {
+        this.url = url;
+        this.status = status;
+        this.method = method;
+        this.redirects = Collections.unmodifiableList(redirects);
+        this.elapsedMillis = elapsedMillis;
+        this.notModified = notModified;
+        this.error = error;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public int status() {
+        return status;
+    }
+
+    /**
+     * True for a 2xx (or 304 revalidated) final response.
+     */
+    public boolean isOk() {
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * True for 401, 403 and 429 — the server refused the checker (auth, bot
+     * protection, rate limiting), which says nothing about whether the link works.
+     */
+    public boolean isBlocked() {
+        return status == 401 || status == 403 || status == 429;
+    }
+
+    /**
+     * HEAD or GET — the method that produced the final status.
+     */
+    public String method() {
+        return method;
+    }
+
+    public List<String> redirects() {
+        return redirects;
+    }
+
+    public long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * True when the server answered 304 to the cached ETag / Last-Modified; status is the cached one.
+     */
+    public boolean isNotModified() {
+        return notModified;
+    }
+
+    public String error() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return url + " → " + (status < 0 ? "ERROR " + error : status + " (" + method + ")")
+                + (redirects.isEmpty() ? "" : " via " + redirects)
+                + (notModified ? " [not modified]" : "");
+    }
+}
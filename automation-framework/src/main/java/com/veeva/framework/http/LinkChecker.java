@@ -0,0 +1,326 @@
+package com.veeva.framework.http;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.config.FrameworkConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * LinkChecker - Checks many links concurrently over plain HTTP, without the browser.
+ *
+ * One shared {@link HttpClient} (keep-alive connection pool, HTTP/2 where
+ * offered) serves a pool of worker threads. Per-host semaphores bound how
+ * many requests hit one server at a time, so a page full of same-site links
+ * does not trip rate limiting. For every link:
+ *   - HEAD first; GET (body discarded) if HEAD fails or answers &gt;= 400,
+ *     since many servers mishandle HEAD
+ *   - redirects are followed by hand, up to {@code linkcheck.max.redirects},
+ *     recording every hop
+ *   - connect and request timeouts from {@code linkcheck.timeout}
+ *   - when an earlier run stored the URL's ETag / Last-Modified, the request
+ *     is conditional and a 304 reuses the stored status
+ *
+ * Built from config with {@link #fromConfig()}; tests use {@link #builder()}.
+ */
+public final class LinkChecker {
+
+    private static final Logger log = LogManager.getLogger(LinkChecker.class);
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; veeva-automation-link-checker)";
+    static final String CACHE_FILE = "link-cache.json";
+
+    private final int threads;
+    private final int perHost;
+    private final Duration timeout;
+    private final int maxRedirects;
+    private final LinkCache cache;
+    private final HttpClient client;
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    private LinkChecker(Builder builder) {
+        this.threads = builder.threads;
+        this.perHost = builder.perHost;
+        this.timeout = builder.timeout;
+        this.maxRedirects = builder.maxRedirects;
+        this.cache = new LinkCache(builder.cacheFile);
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    public static LinkChecker fromConfig() {
+        FrameworkConfig config = ConfigManager.config();
+        return builder()
+                .threads(config.getInt(ConfigKey.LINKCHECK_THREADS))
+                .perHost(config.getInt(ConfigKey.LINKCHECK_PER_HOST))
+                .timeout(config.getDuration(ConfigKey.LINKCHECK_TIMEOUT))
+                .maxRedirects(config.getInt(ConfigKey.LINKCHECK_MAX_REDIRECTS))
+                .cacheFile(config.getBoolean(ConfigKey.LINKCHECK_CACHE_ENABLED)
+                        ? config.getPath(ConfigKey.HISTORY_DIR).resolve(CACHE_FILE) : null)
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks every distinct http(s) URL and returns the results in input order.
+     * Other schemes (mailto:, tel:, javascript:) are not checked.
+     */
+    public List<LinkCheckResult> checkAll(Collection<String> urls) {
+        List<String> distinct = urls.stream()
+                .filter(u -> u != null && (u.startsWith("http://") || u.startsWith("https://")))
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+                .stream().collect(Collectors.toList());
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, distinct.size())), r -> {
+            Thread t = new Thread(r, "link-checker-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<CompletableFuture<LinkCheckResult>> futures = new ArrayList<>();
+            for (String url : distinct) {
+                futures.add(CompletableFuture.supplyAsync(() -> checkWithPermit(url), pool));
+            }
+            List<LinkCheckResult> results = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+            long broken = results.stream().filter(r -> !r.isOk()).count();
+            log.info("Checked {} links: {} broken", results.size(), broken);
+            return results;
+        } finally {
+            pool.shutdownNow();
+            cache.save();
+        }
+    }
+
+    /**
+     * Checks one URL on the calling thread (per-host limit still applies).
+     */
+    public LinkCheckResult check(String url) {
+        try {
+            return checkWithPermit(url);
+        } finally {
+            cache.save();
+        }
+    }
+
+    private LinkCheckResult checkWithPermit(String url) {
+        Semaphore permit = hostPermits.computeIfAbsent(hostOf(url), h -> new Semaphore(perHost));
+        try {
+            permit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new LinkCheckResult(url, -1, "-", new ArrayList<>(), 0, false, "interrupted");
+        }
+        try {
+            return follow(url);
+        } finally {
+            permit.release();
+        }
+    }
+
+    private LinkCheckResult follow(String url) {
+        long start = System.nanoTime();
+        List<String> hops = new ArrayList<>();
+        String current = url;
+        for (int hop = 0; ; hop++) {
+            Attempt attempt = request(current, "HEAD");
+            if (attempt.failed() || attempt.status >= 400) {
+                attempt = request(current, "GET");
+            }
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            if (attempt.failed()) {
+                return new LinkCheckResult(url, -1, attempt.method, hops, elapsed, false, attempt.error);
+            }
+
+            Optional<String> location = attempt.response.headers().firstValue("Location");
+            if (isRedirect(attempt.status) && location.isPresent()) {
+                if (hop >= maxRedirects) {
+                    return new LinkCheckResult(url, attempt.status, attempt.method, hops, elapsed, false,
+                            "more than " + maxRedirects + " redirects");
+                }
+                String next = resolve(current, location.get());
+                if (next == null) {
+                    return new LinkCheckResult(url, attempt.status, attempt.method, hops, elapsed, false,
+                            "invalid redirect Location: " + location.get());
+                }
+                hops.add(attempt.status + " " + next);
+                current = next;
+                continue;
+            }
+
+            if (attempt.status == 304) {
+                LinkCache.Entry cached = cache.get(current);
+                int status = cached != null ? cached.status : 304;
+                return new LinkCheckResult(url, status, attempt.method, hops, elapsed, true, null);
+            }
+            remember(current, attempt);
+            return new LinkCheckResult(url, attempt.status, attempt.method, hops, elapsed, false, null);
+        }
+    }
+
+    private Attempt request(String url, String method) {
+        HttpRequest.Builder request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(timeout)
+                    .header("User-Agent", USER_AGENT)
+                    .method(method, HttpRequest.BodyPublishers.noBody());
+        } catch (IllegalArgumentException e) {
+            return Attempt.failed(method, "invalid URL: " + e.getMessage());
+        }
+        LinkCache.Entry cached = cache.get(url);
+        if (cached != null) {
+            if (cached.etag != null) request.header("If-None-Match", cached.etag);
+            if (cached.lastModified != null) request.header("If-Modified-Since", cached.lastModified);
+        }
+        try {
+            return new Attempt(method, client.send(request.build(), HttpResponse.BodyHandlers.discarding()));
+        } catch (IOException e) {
+            return Attempt.failed(method, e.getClass().getSimpleName()
+                    + (e.getMessage() != null ? ": " + e.getMessage() : ""));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Attempt.failed(method, "interrupted");
+        }
+    }
+
+    private void remember(String url, Attempt attempt) {
+        if (attempt.status < 200 || attempt.status >= 300) return;
+        Optional<String> etag = attempt.response.headers().firstValue("ETag");
+        Optional<String> lastModified = attempt.response.headers().firstValue("Last-Modified");
+        if (!etag.isPresent() && !lastModified.isPresent()) return;
+        LinkCache.Entry entry = new LinkCache.Entry();
+        entry.etag = etag.orElse(null);
+        entry.lastModified = lastModified.orElse(null);
+        entry.status = attempt.status;
+        entry.checkedAt = System.currentTimeMillis();
+        cache.put(url, entry);
+    }
+
+    private static boolean isRedirect(int status) {
+        return status == 301 || status == 302 || status == 303 || status == 307 || status == 308;
+    }
+
+    /**
+     * Resolves a Location header against the URL that sent it, or null when it
+     * is not a valid URI even with its spaces escaped.
+     */
+    private static String resolve(String url, String location) {
+        try {
+            return URI.create(url).resolve(location.trim().replace(" ", "%20")).toString();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase() : "";
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    private static final class Attempt {
+        final String method;
+        final HttpResponse<Void> response;
+        final int status;
+        final String error;
+
+        Attempt(String method, HttpResponse<Void> response) {
+            this.method = method;
+            this.response = response;
+            this.status = response.statusCode();
+            this.error = null;
+        }
+
+        private Attempt(String method, String error) {
+            this.method = method;
+            this.response = null;
+            this.status = -1;
+            this.error = error;
+        }
+
+        static Attempt failed(String method, String error) {
+            return new Attempt(method, error);
+        }
+
+        boolean failed() {
+            return response == null;
+        }
+    }
+
+    // ─── Builder ──────────────────────────────────────────────────────────────
+
+    public static final class Builder {
+
+        private int threads = 16;
+        private int perHost = 4;
+        private Duration timeout = Duration.ofSeconds(15);
+        private int maxRedirects = 5;
+        private Path cacheFile;
+
+        private Builder() {
+        }
+
+        public Builder threads(int threads) {
+            this.threads = Math.max(1, threads);
+            return this;
+        }
+
+        /**
+         * Maximum concurrent requests to one host.
+         */
+        public Builder perHost(int perHost) {
+            this.perHost = Math.max(1, perHost);
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder maxRedirects(int maxRedirects) {
+            this.maxRedirects = Math.max(0, maxRedirects);
+            return this;
+        }
+
+        /**
+         * ETag / Last-Modified cache file; null disables conditional requests.
+         */
+        public Builder cacheFile(Path cacheFile) {
+            this.cacheFile = cacheFile;
+            return this;
+        }
+
+        public LinkChecker build() {
+            return new LinkChecker(this);
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package com.veeva.framework.listeners;
 
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
 import com.veeva.framework.driver.DriverManager;
+import com.veeva.framework.driver.SessionTracker;
+import com.veeva.framework.metrics.FrameworkMetrics;
+import com.veeva.framework.metrics.MetricsExporter;
+import com.veeva.framework.pages.RetryStats;
+import com.veeva.framework.utils.FileUtils;
 import io.qameta.allure.Allure;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -10,10 +17,16 @@ import org.openqa.selenium.WebDriver;
 import org.testng.*;
 
 import java.io.ByteArrayInputStream;
+import java.util.List;
 
 /**
  * AllureListener - Integrates TestNG events with Allure reporting.
  * Automatically attaches screenshots on failure.
+ * Attaches the in-session retries of each test (see RetryPolicy) and writes
+ * the run's flaky-action summary to output.dir/retry-stats.csv.
+ * Counts test outcomes and screenshots into {@link FrameworkMetrics} and
+ * publishes them through {@link MetricsExporter} (metrics.prom at suite finish).
+ * At suite finish, sessions left open by ended threads are closed (see {@link SessionTracker}).
  * Register in testng.xml or via @Listeners annotation.
  */
 public class AllureListener implements ITestListener, ISuiteListener {
@@ -28,28 +41,57 @@ public class AllureListener implements ITestListener, ISuiteListener {
     @Override
     public void onTestSuccess(ITestResult result) {
         log.info("[TEST PASS] {}", result.getName());
+        FrameworkMetrics.TESTS.labels("passed").inc();
+        attachRetries();
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
         log.error("[TEST FAIL] {} | Reason: {}", result.getName(),
                 result.getThrowable() != null ? result.getThrowable().getMessage() : "Unknown");
+        FrameworkMetrics.TESTS.labels("failed").inc();
         attachScreenshot(result.getName());
+        attachRetries();
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
         log.warn("[TEST SKIP] {}", result.getName());
+        FrameworkMetrics.TESTS.labels("skipped").inc();
+        attachRetries();
     }
 
     @Override
     public void onStart(ISuite suite) {
         log.info("========== SUITE START: {} ==========", suite.getName());
+        MetricsExporter.suiteStarted();
     }
 
     @Override
     public void onFinish(ISuite suite) {
         log.info("========== SUITE FINISH: {} ==========", suite.getName());
+        reportFlakyActions();
+        int leaks = SessionTracker.reapLeaks();
+        if (leaks > 0) log.warn("Closed {} WebDriver session(s) whose thread ended without quitting them", leaks);
+        MetricsExporter.suiteFinished(suite.getName());
+    }
+
+    private void attachRetries() {
+        List<String> retries = RetryStats.drainCurrentTest();
+        if (retries.isEmpty()) return;
+        Allure.addAttachment("Retried actions (" + retries.size() + ")", "text/plain",
+                String.join(System.lineSeparator(), retries));
+    }
+
+    private void reportFlakyActions() {
+        List<String[]> rows = RetryStats.flakyActions();
+        if (rows.isEmpty()) return;
+        for (String[] row : rows) {
+            log.warn("[FLAKY] {} | calls={} retries={} recovered={} exhausted={}",
+                    row[0], row[1], row[2], row[3], row[4]);
+        }
+        FileUtils.writeToCsvFile(ConfigManager.config().getString(ConfigKey.OUTPUT_DIR) + "/retry-stats.csv",
+                RetryStats.headers(), rows);
     }
 
     private void attachScreenshot(String testName) {
@@ -57,6 +99,7 @@ public class AllureListener implements ITestListener, ISuiteListener {
             WebDriver driver = DriverManager.getDriver();
            TakesScreenshot ts = (TakesScreenshot) driver;
                 byte[] screenshot = ts.getScreenshotAs(OutputType.BYTES);
+                FrameworkMetrics.SCREENSHOTS.inc();
                 Allure.addAttachment("Failure Screenshot - " + testName,
                         "image/png", new ByteArrayInputStream(screenshot), "png");
 
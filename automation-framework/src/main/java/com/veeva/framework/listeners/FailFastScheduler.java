@@ -0,0 +1,78 @@
+package com.veeva.framework.listeners;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.history.TestHistory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FailFastScheduler - Runs the tests most likely to fail first.
+ *
+ * With {@code scheduler.mode=fail-fast}, blocks and methods are ordered by
+ * {@link TestHistory#failureProbability(String)} instead of duration, so a site
+ * change that breaks the fragile flows (hover menus etc.) shows up in the first
+ * minutes of the run rather than the last.
+ *
+ * Independently of the mode, {@code failfast.max.failures=K} (K &gt; 0) skips
+ * every test method that has not started yet once K tests have failed,
+ * ending the run early and freeing the agent.
+ *
+ * Register in testng.xml next to {@link LongestFirstScheduler}; only the
+ * one matching {@code scheduler.mode} reorders anything.
+ */
+public class FailFastScheduler extends LongestFirstScheduler implements ITestListener, IInvokedMethodListener {
+
+    private static final Logger log = LogManager.getLogger(FailFastScheduler.class);
+
+    static final String MODE = "fail-fast";
+
+    private final int maxFailures;
+    private final AtomicInteger failures = new AtomicInteger();
+
+    public FailFastScheduler() {
+        this(null, null, ConfigManager.config().getInt(ConfigKey.FAILFAST_MAX_FAILURES));
+    }
+
+    /**
+     * @param maxFailures failures after which remaining tests are skipped (0 = never)
+     */
+    FailFastScheduler(TestHistory history, String mode, int maxFailures) {
+        super(history, mode);
+        this.maxFailures = maxFailures;
+    }
+
+    @Override
+    protected boolean isActive() {
+        return MODE.equals(mode());
+    }
+
+    @Override
+    protected double score(String testId) {
+        return history().failureProbability(testId);
+    }
+
+    // ─── Failure budget ───────────────────────────────────────────────────────
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        int count = failures.incrementAndGet();
+        if (maxFailures > 0 && count == maxFailures) {
+            log.warn("Fail-fast: {} failures reached — remaining tests will be skipped", count);
+        }
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (maxFailures > 0 && method.isTestMethod() && failures.get() >= maxFailures) {
+            throw new SkipException("Fail-fast: stopped after " + maxFailures + " failures");
+        }
+    }
+}
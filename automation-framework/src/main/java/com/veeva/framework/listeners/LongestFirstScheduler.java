@@ -0,0 +1,139 @@
+package com.veeva.framework.listeners;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.history.TestHistory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * LongestFirstScheduler - Orders work by historical duration, longest first.
+ *
+ * TestNG hands {@code <test>} blocks (parallel="tests") and methods
+ * (parallel="methods") to its worker pool in list order, and each worker takes
+ * the next item as soon as it is free. Putting the longest items first turns
+ * that into longest-processing-time scheduling: the long tail no longer starts
+ * last while the other threads sit idle.
+ *
+ * Blocks with equal cost (e.g. no history yet) are grouped by browser so that,
+ * with {@code driver.pool.enabled=true}, consecutive blocks reuse warm sessions.
+ * Methods without history keep their declared position relative to each other.
+ *
+ * Enabled with {@code scheduler.mode=longest-first} (default); any other
+ * value keeps the declared order. Register in testng.xml.
+ */
+public class LongestFirstScheduler implements IAlterSuiteListener, IMethodInterceptor {
+
+    private static final Logger log = LogManager.getLogger(LongestFirstScheduler.class);
+
+    static final String MODE = "longest-first";
+
+    private final TestHistory history;
+    private final String mode;
+
+    public LongestFirstScheduler() {
+        this(null, null);
+    }
+
+    /**
+     * @param history history to rank by, or null for {@link TestHistory#shared()}
+     * @param mode    scheduler mode, or null for {@code scheduler.mode}
+     */
+    LongestFirstScheduler(TestHistory history, String mode) {
+        this.history = history;
+        this.mode = mode;
+    }
+
+    protected TestHistory history() {
+        return history != null ? history : TestHistory.shared();
+    }
+
+    protected String mode() {
+        return mode != null ? mode : ConfigManager.config().getString(ConfigKey.SCHEDULER_MODE);
+    }
+
+    protected boolean isActive() {
+        return MODE.equals(mode());
+    }
+
+    /**
+     * Sort key of a method; higher runs earlier. Subclasses may rank differently.
+     */
+    protected double score(String testId) {
+        return history().durationOf(testId);
+    }
+
+    // ─── <test> block ordering ────────────────────────────────────────────────
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!isActive()) return;
+        for (XmlSuite suite : suites) {
+            List<XmlTest> tests = new ArrayList<>(suite.getTests());
+            tests.sort(Comparator.comparingDouble(this::blockScore).reversed()
+                    .thenComparing(LongestFirstScheduler::browserOf));
+            suite.setTests(tests);
+            log.info("Scheduled <test> blocks of '{}': {}", suite.getName(),
+                    tests.stream().map(XmlTest::getName).collect(Collectors.joining(" → ")));
+        }
+    }
+
+    private double blockScore(XmlTest test) {
+        double total = 0;
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            for (TestHistory.Entry entry : history().entries()) {
+                if (xmlClass.getName().equals(entry.testClass)) {
+                    total += Math.max(score(TestHistory.testId(entry.testClass, entry.method)), 0);
+                }
+            }
+        }
+        return total;
+    }
+
+    private static String browserOf(XmlTest test) {
+        String browser = test.getParameter("browser");
+        return browser != null ? browser : "";
+    }
+
+    // ─── Method ordering within a block ───────────────────────────────────────
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!isActive() || hasDependencies(methods)) return methods;
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingInt((IMethodInstance m) -> m.getMethod().getPriority())
+                .thenComparing(Comparator.comparingDouble(this::methodScore).reversed()));
+        return ordered;
+    }
+
+    private double methodScore(IMethodInstance instance) {
+        ITestNGMethod method = instance.getMethod();
+        return score(TestHistory.testId(method.getRealClass().getName(), method.getMethodName()));
+    }
+
+    /**
+     * Methods with dependsOn* keep TestNG's own ordering.
+     */
+    private static boolean hasDependencies(List<IMethodInstance> methods) {
+        for (IMethodInstance m : methods) {
+            if (m.getMethod().getMethodsDependedUpon().length > 0
+                    || m.getMethod().getGroupsDependedUpon().length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
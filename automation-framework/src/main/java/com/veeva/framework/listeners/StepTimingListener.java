@@ -0,0 +1,20 @@
+package com.veeva.framework.listeners;
+
+import com.veeva.framework.history.RegressionTracker;
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+
+/**
+ * StepTimingListener - Feeds the duration of every Allure step (@Step) to the {@link RegressionTracker}.
+ * Allure loads it through META-INF/services; nothing to register in testng.xml.
+ */
+public class StepTimingListener implements StepLifecycleListener {
+
+    private final boolean enabled = RegressionTracker.enabled();
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        if (!enabled || result.getStart() == null || result.getStop() == null) return;
+        RegressionTracker.stepFinished(result.getName(), result.getStop() - result.getStart());
+    }
+}
@@ -0,0 +1,71 @@
+package com.veeva.framework.listeners;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.history.RegressionDetector.Regression;
+import com.veeva.framework.history.RegressionTracker;
+import com.veeva.framework.history.TestHistory;
+import io.qameta.allure.Allure;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * TestHistoryListener - Records every test method's duration and outcome into {@link TestHistory}.
+ * The history is flushed to disk when the suite finishes.
+ * Passed tests (and their @Step timings) are also checked for slowdowns by the
+ * {@link RegressionTracker}; a slowdown is attached to the test in Allure and
+ * tagged "perf-regression".
+ * Register in testng.xml next to AllureListener.
+ */
+public class TestHistoryListener implements ITestListener, ISuiteListener {
+
+    private final boolean enabled = ConfigManager.config().getBoolean(ConfigKey.HISTORY_ENABLED);
+    private final boolean regressions = RegressionTracker.enabled();
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        if (regressions) RegressionTracker.testStarted();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (enabled) TestHistory.shared().save();
+        if (regressions) RegressionTracker.shared().finish();
+    }
+
+    private void record(ITestResult result) {
+        if (!enabled) return;
+        TestHistory.shared().record(TestHistory.currentModule(),
+                result.getTestClass().getName(),
+                result.getMethod().getMethodName(),
+                result.getEndMillis() - result.getStartMillis(),
+                result.getStatus() == ITestResult.SUCCESS);
+        if (regressions) checkSlowdowns(result);
+    }
+
+    private void checkSlowdowns(ITestResult result) {
+        List<Regression> found = RegressionTracker.shared().testFinished(
+                TestHistory.testId(result.getTestClass().getName(), result.getMethod().getMethodName()),
+                result.getEndMillis() - result.getStartMillis(),
+                result.getStatus() == ITestResult.SUCCESS);
+        if (found.isEmpty()) return;
+        Allure.label("tag", "perf-regression");
+        Allure.addAttachment("Performance regressions (" + found.size() + ")", "text/plain",
+                found.stream().map(Regression::toString).collect(Collectors.joining(System.lineSeparator())));
+    }
+}
@@ -0,0 +1,42 @@
+package com.veeva.framework.metrics;
+
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Counter - A value that only goes up (tests finished, retries, screenshots).
+ */
+public final class Counter extends Metric<Counter.Child> {
+
+    Counter(String name, String help, String... labelNames) {
+        super(name, help, labelNames, Child::new);
+    }
+
+    /**
+     * Shortcut for a counter without labels.
+     */
+    public void inc() {
+        labels().inc();
+    }
+
+    @Override
+    String type() {
+        return "counter";
+    }
+
+    public static final class Child {
+        private final DoubleAdder value = new DoubleAdder();
+
+        public void inc() {
+            value.add(1);
+        }
+
+        public void inc(double amount) {
+            if (amount < 0) throw new IllegalArgumentException("Counters only go up: " + amount);
+            value.add(amount);
+        }
+
+        public double get() {
+            return value.sum();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.veeva.framework.metrics;
+
+/**
+ * FrameworkMetrics - The run-health metrics the framework records, in
+ * {@link MetricsRegistry#shared()}. Times are in seconds.
+ *
+ *   veeva_driver_startup_seconds{browser}       DriverManager: session creation / pool lease
+ *   veeva_driver_sessions_active{browser}       DriverManager: sessions held by test threads
+ *   veeva_driver_sessions_leaked_total{browser} SessionTracker: sessions never quit by their owner
+ *   veeva_driver_processes_reaped_total{reason} SessionTracker: startup | leak | exit
+ *   veeva_page_load_seconds{page}               BasePage.navigateTo: driver.get round trip
+ *   veeva_wait_seconds{outcome}                 BasePage explicit waits: satisfied | timeout | error
+ *   veeva_action_retries_total                  RetryPolicy: attempts repeated after a transient failure
+ *   veeva_action_retries_exhausted_total        RetryPolicy: actions that failed on every attempt
+ *   veeva_tests_total{status}                   AllureListener: passed | failed | skipped
+ *   veeva_screenshots_total                     screenshots taken (failures and on request)
+ *   veeva_suite_last_finish_timestamp_seconds{suite}
+ *
+ * Synthetic monitoring (SyntheticMonitor), windows over monitor.window:
+ *   veeva_monitor_runs_total{flow,outcome}      available | unavailable | skipped (previous run still busy)
+ *   veeva_monitor_run_seconds{flow}             duration of every run
+ *   veeva_monitor_availability_ratio{flow}      available / runs in the window
+ *   veeva_monitor_latency_seconds{flow,quantile} 0.5 | 0.95 | 1 of available runs in the window
+ *   veeva_monitor_window_runs{flow}
+ *   veeva_monitor_last_success_timestamp_seconds{flow}
+ *
+ * Written at suite finish and optionally served during the run — see {@link MetricsExporter}.
+ */
+public final class FrameworkMetrics {
+
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.shared();
+
+    public static final Histogram DRIVER_STARTUP = REGISTRY.histogram("veeva_driver_startup_seconds",
+            "Time to create or lease a WebDriver session.", Histogram.SECONDS_BUCKETS, "browser");
+    public static final Gauge SESSIONS_ACTIVE = REGISTRY.gauge("veeva_driver_sessions_active",
+            "WebDriver sessions currently held by test threads.", "browser");
+    public static final Counter SESSIONS_LEAKED = REGISTRY.counter("veeva_driver_sessions_leaked_total",
+            "WebDriver sessions still open after their owner thread ended, closed by the reaper.", "browser");
+    public static final Counter PROCESSES_REAPED = REGISTRY.counter("veeva_driver_processes_reaped_total",
+            "Driver and browser processes killed, by reason.", "reason");
+    public static final Histogram PAGE_LOAD = REGISTRY.histogram("veeva_page_load_seconds",
+            "Time for driver.get to return, per page object.", Histogram.SECONDS_BUCKETS, "page");
+    public static final Histogram WAIT = REGISTRY.histogram("veeva_wait_seconds",
+            "Time spent in explicit waits, by outcome.", Histogram.SECONDS_BUCKETS, "outcome");
+    public static final Counter ACTION_RETRIES = REGISTRY.counter("veeva_action_retries_total",
+            "Page actions repeated after a transient failure.");
+    public static final Counter ACTION_RETRIES_EXHAUSTED = REGISTRY.counter("veeva_action_retries_exhausted_total",
+            "Page actions that failed on every attempt.");
+    public static final Counter TESTS = REGISTRY.counter("veeva_tests_total",
+            "Finished test invocations, by status.", "status");
+    public static final Counter SCREENSHOTS = REGISTRY.counter("veeva_screenshots_total",
+            "Screenshots taken.");
+    public static final Gauge SUITE_FINISHED = REGISTRY.gauge("veeva_suite_last_finish_timestamp_seconds",
+            "Unix time the suite last finished.", "suite");
+
+    public static final Counter MONITOR_RUNS = REGISTRY.counter("veeva_monitor_runs_total",
+            "Synthetic monitor runs, by outcome.", "flow", "outcome");
+    public static final Histogram MONITOR_RUN = REGISTRY.histogram("veeva_monitor_run_seconds",
+            "Duration of synthetic monitor runs.", Histogram.SECONDS_BUCKETS, "flow");
+    public static final Gauge MONITOR_AVAILABILITY = REGISTRY.gauge("veeva_monitor_availability_ratio",
+            "Share of a flow's runs in the rolling window that succeeded.", "flow");
+    public static final Gauge MONITOR_LATENCY = REGISTRY.gauge("veeva_monitor_latency_seconds",
+            "Latency quantiles of a flow's successful runs in the rolling window.", "flow", "quantile");
+    public static final Gauge MONITOR_WINDOW_RUNS = REGISTRY.gauge("veeva_monitor_window_runs",
+            "Runs of a flow in the rolling window.", "flow");
+    public static final Gauge MONITOR_LAST_SUCCESS = REGISTRY.gauge("veeva_monitor_last_success_timestamp_seconds",
+            "Unix time a flow last succeeded.", "flow");
+
+    static {
+        // export zeros from the start, so rate() and alerts see the series before the first event
+        for (String status : new String[]{"passed", "failed", "skipped"}) TESTS.labels(status);
+        ACTION_RETRIES.labels();
+        ACTION_RETRIES_EXHAUSTED.labels();
+        SCREENSHOTS.labels();
+        PROCESSES_REAPED.labels("startup");
+    }
+
+    private FrameworkMetrics() {}
+}
@@ -0,0 +1,43 @@
+package com.veeva.framework.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gauge - A value that goes up and down (active sessions, last finish time).
+ */
+public final class Gauge extends Metric<Gauge.Child> {
+
+    Gauge(String name, String help, String... labelNames) {
+        super(name, help, labelNames, Child::new);
+    }
+
+    @Override
+    String type() {
+        return "gauge";
+    }
+
+    public static final class Child {
+        private final AtomicLong bits = new AtomicLong(Double.doubleToLongBits(0));
+
+        public void inc() {
+            add(1);
+        }
+
+        public void dec() {
+            add(-1);
+        }
+
+        public void add(double amount) {
+            bits.accumulateAndGet(0, (current, ignored) ->
+                    Double.doubleToLongBits(Double.longBitsToDouble(current) + amount));
+        }
+
+        public void set(double value) {
+            bits.set(Double.doubleToLongBits(value));
+        }
+
+        public double get() {
+            return Double.longBitsToDouble(bits.get());
+        }
+    }
+}
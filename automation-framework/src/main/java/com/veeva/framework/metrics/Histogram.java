@@ -0,0 +1,84 @@
+package com.veeva.framework.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram - Observations counted into fixed buckets, plus their sum and count
+ * (driver startup, page loads, waits). Buckets are upper bounds in seconds;
+ * +Inf is implicit.
+ */
+public final class Histogram extends Metric<Histogram.Child> {
+
+    /**
+     * Seconds from 10ms to 2 minutes — browser operations, not CPU work.
+     */
+    public static final double[] SECONDS_BUCKETS = {0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 120};
+
+    private final double[] buckets;
+
+    Histogram(String name, String help, double[] buckets, String... labelNames) {
+        super(name, help, labelNames, () -> new Child(buckets));
+        for (int i = 1; i < buckets.length; i++) {
+            if (buckets[i] <= buckets[i - 1]) {
+                throw new IllegalArgumentException(name + ": buckets must increase");
+            }
+        }
+        this.buckets = buckets.clone();
+    }
+
+    double[] buckets() {
+        return buckets;
+    }
+
+    @Override
+    String type() {
+        return "histogram";
+    }
+
+    public static final class Child {
+        private final double[] buckets;
+        private final LongAdder[] counts;
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+
+        Child(double[] buckets) {
+            this.buckets = buckets.clone();
+            counts = new LongAdder[buckets.length];
+            for (int i = 0; i < buckets.length; i++) counts[i] = new LongAdder();
+        }
+
+        public void observe(double value) {
+            for (int i = 0; i < buckets.length; i++) {
+                if (value <= buckets[i]) {
+                    counts[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            sum.add(value);
+        }
+
+        public void observe(Duration duration) {
+            observe(duration.toNanos() / 1e9);
+        }
+
+        /**
+         * Observations up to and including bucket {@code i} (cumulative, as exported).
+         */
+        long cumulative(int i) {
+            long total = 0;
+            for (int b = 0; b <= i; b++) total += counts[b].sum();
+            return total;
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public double sum() {
+            return sum.sum();
+        }
+    }
+}
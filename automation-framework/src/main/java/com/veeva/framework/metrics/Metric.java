@@ -0,0 +1,66 @@
+package com.veeva.framework.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Metric - A named metric family: one child per combination of label values.
+ *
+ * Children are created on first use and live for the rest of the run;
+ * {@link #labels(String...)} is a map lookup, safe to call from any thread.
+ *
+ * @param <C> the child type holding the actual value(s)
+ */
+public abstract class Metric<C> {
+
+    private final String name;
+    private final String help;
+    private final List<String> labelNames;
+    private final Map<List<String>, C> children = new ConcurrentHashMap<>();
+    private final Supplier<C> childFactory;
+
+    Metric(String name, String help, String[] labelNames, Supplier<C> childFactory) {
+        if (!name.matches("[a-zA-Z_:][a-zA-Z0-9_:]*")) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        this.name = name;
+        this.help = help;
+        this.labelNames = Collections.unmodifiableList(Arrays.asList(labelNames.clone()));
+        this.childFactory = childFactory;
+    }
+
+    /**
+     * The child for these label values, in the order the label names were declared.
+     */
+    public C labels(String... values) {
+        if (values.length != labelNames.size()) {
+            throw new IllegalArgumentException(name + " takes labels " + labelNames + ", got " + values.length);
+        }
+        return children.computeIfAbsent(Arrays.asList(values.clone()), k -> childFactory.get());
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String help() {
+        return help;
+    }
+
+    public List<String> labelNames() {
+        return labelNames;
+    }
+
+    /**
+     * "counter", "gauge" or "histogram" — the exposition TYPE.
+     */
+    abstract String type();
+
+    Map<List<String>, C> children() {
+        return children;
+    }
+}
@@ -0,0 +1,134 @@
+package com.veeva.framework.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.config.FrameworkConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * MetricsExporter - Publishes {@link MetricsRegistry#shared()} for Prometheus.
+ *
+ *   - At every suite finish the registry is written to {@code metrics.file}
+ *     (default output.dir/metrics.prom), atomically, for node_exporter's
+ *     textfile collector or a CI artifact.
+ *   - With {@code metrics.port > 0}, {@code GET /metrics} is served on
+ *     {@code metrics.bind}:{@code metrics.port} while any suite is running,
+ *     for a direct scrape during long runs.
+ *
+ * Driven by AllureListener; suites running in one JVM share the server.
+ * Daemons without suites start and stop it with {@link #serve} / {@link #stopServing}.
+ */
+public final class MetricsExporter {
+
+    private static final Logger log = LogManager.getLogger(MetricsExporter.class);
+
+    private static HttpServer server;
+    private static ExecutorService serverThreads;
+    private static int runningSuites;
+
+    private MetricsExporter() {}
+
+    public static synchronized void suiteStarted() {
+        FrameworkConfig config = ConfigManager.config();
+        if (!config.getBoolean(ConfigKey.METRICS_ENABLED)) return;
+        runningSuites++;
+        int port = config.getInt(ConfigKey.METRICS_PORT);
+        if (server == null && port > 0) {
+            startServer(config.getString(ConfigKey.METRICS_BIND), port);
+        }
+    }
+
+    public static synchronized void suiteFinished(String suite) {
+        FrameworkConfig config = ConfigManager.config();
+        if (!config.getBoolean(ConfigKey.METRICS_ENABLED)) return;
+        FrameworkMetrics.SUITE_FINISHED.labels(suite).set(System.currentTimeMillis() / 1000.0);
+        Path file = file(config);
+        try {
+            MetricsRegistry.shared().writeTo(file);
+            log.info("Run metrics written to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("Could not write run metrics to {}: {}", file, e.getMessage());
+        }
+        if (--runningSuites <= 0) {
+            runningSuites = 0;
+            stopServer();
+        }
+    }
+
+    /**
+     * Port the endpoint is bound to (useful with {@code metrics.port} set to a
+     * fixed value), or -1 when it is not running.
+     */
+    public static synchronized int port() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    /**
+     * Serves the endpoint without a test suite, for long-running tools such as
+     * the {@code SyntheticMonitor}; does nothing if it is already serving.
+     */
+    public static synchronized void serve(String bind, int port) {
+        if (server == null) startServer(bind, port);
+    }
+
+    public static synchronized void stopServing() {
+        stopServer();
+    }
+
+    static Path file(FrameworkConfig config) {
+        String file = config.getString(ConfigKey.METRICS_FILE);
+        return file.isEmpty()
+                ? Paths.get(config.getString(ConfigKey.OUTPUT_DIR), "metrics.prom")
+                : config.getPath(ConfigKey.METRICS_FILE);
+    }
+
+    /**
+     * Serves the shared registry on {@code bind:port} (0 = any free port).
+     */
+    static synchronized void startServer(String bind, int port) {
+        try {
+            server = HttpServer.create(new InetSocketAddress(bind, port), 0);
+            server.createContext("/metrics", MetricsExporter::serve);
+            serverThreads = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "metrics-http");
+                t.setDaemon(true);
+                return t;
+            });
+            server.setExecutor(serverThreads);
+            server.start();
+            log.info("Serving run metrics on http://{}:{}/metrics", bind, server.getAddress().getPort());
+        } catch (IOException e) {
+            server = null;
+            log.warn("Metrics endpoint not started on {}:{}: {}", bind, port, e.getMessage());
+        }
+    }
+
+    static synchronized void stopServer() {
+        if (server == null) return;
+        server.stop(0);
+        serverThreads.shutdownNow();
+        server = null;
+        serverThreads = null;
+    }
+
+    private static void serve(HttpExchange exchange) throws IOException {
+        byte[] body = MetricsRegistry.shared().toPrometheusText().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", MetricsRegistry.CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.veeva.framework.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * MetricsRegistry - Counters, gauges and histograms for one run, rendered in
+ * the Prometheus text exposition format (version 0.0.4).
+ *
+ * Registering a name twice returns the first metric when type and labels
+ * match, so classes can declare their metrics as static fields independently;
+ * a clash throws. Metrics render sorted by name.
+ */
+public final class MetricsRegistry {
+
+    /** Content-Type of {@link #toPrometheusText()}. */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final MetricsRegistry SHARED = new MetricsRegistry();
+
+    private final Map<String, Metric<?>> metrics = new ConcurrentSkipListMap<>();
+
+    /**
+     * The process-wide registry fed by the framework (see {@link FrameworkMetrics}).
+     */
+    public static MetricsRegistry shared() {
+        return SHARED;
+    }
+
+    public Counter counter(String name, String help, String... labelNames) {
+        return register(new Counter(name, help, labelNames), Counter.class);
+    }
+
+    public Gauge gauge(String name, String help, String... labelNames) {
+        return register(new Gauge(name, help, labelNames), Gauge.class);
+    }
+
+    public Histogram histogram(String name, String help, double[] buckets, String... labelNames) {
+        return register(new Histogram(name, help, buckets, labelNames), Histogram.class);
+    }
+
+    public Collection<Metric<?>> metrics() {
+        return metrics.values();
+    }
+
+    private <M extends Metric<?>> M register(M metric, Class<M> type) {
+        Metric<?> existing = metrics.putIfAbsent(metric.name(), metric);
+        if (existing == null) return metric;
+        if (!type.isInstance(existing) || !existing.labelNames().equals(metric.labelNames())) {
+            throw new IllegalArgumentException("Metric " + metric.name() + " is already registered as "
+                    + existing.type() + existing.labelNames());
+        }
+        return type.cast(existing);
+    }
+
+    // ─── Exposition ───────────────────────────────────────────────────────────
+
+    public String toPrometheusText() {
+        StringBuilder out = new StringBuilder();
+        for (Metric<?> metric : metrics.values()) {
+            if (metric.children().isEmpty()) continue;
+            out.append("# HELP ").append(metric.name()).append(' ').append(escapeHelp(metric.help())).append('\n');
+            out.append("# TYPE ").append(metric.name()).append(' ').append(metric.type()).append('\n');
+            for (Map.Entry<? extends List<String>, ?> child : metric.children().entrySet()) {
+                appendChild(out, metric, child.getKey(), child.getValue());
+            }
+        }
+        return out.toString();
+    }
+
+    private static void appendChild(StringBuilder out, Metric<?> metric, List<String> values, Object child) {
+        String name = metric.name();
+        if (child instanceof Counter.Child) {
+            sample(out, name, metric.labelNames(), values, null, ((Counter.Child) child).get());
+        } else if (child instanceof Gauge.Child) {
+            sample(out, name, metric.labelNames(), values, null, ((Gauge.Child) child).get());
+        } else {
+            Histogram.Child h = (Histogram.Child) child;
+            double[] buckets = ((Histogram) metric).buckets();
+            for (int i = 0; i < buckets.length; i++) {
+                sample(out, name + "_bucket", metric.labelNames(), values, format(buckets[i]), h.cumulative(i));
+            }
+            sample(out, name + "_bucket", metric.labelNames(), values, "+Inf", h.count());
+            sample(out, name + "_sum", metric.labelNames(), values, null, h.sum());
+            sample(out, name + "_count", metric.labelNames(), values, null, h.count());
+        }
+    }
+
+    private static void sample(StringBuilder out, String name, List<String> labelNames, List<String> values,
+                               String le, double value) {
+        out.append(name);
+        if (!labelNames.isEmpty() || le != null) {
+            out.append('{');
+            List<String> pairs = new ArrayList<>();
+            for (int i = 0; i < labelNames.size(); i++) {
+                pairs.add(labelNames.get(i) + "=\"" + escapeLabel(values.get(i)) + '"');
+            }
+            if (le != null) pairs.add("le=\"" + le + '"');
+            out.append(String.join(",", pairs)).append('}');
+        }
+        out.append(' ').append(format(value)).append('\n');
+    }
+
+    /**
+     * Writes the exposition to {@code file} via a temp file and a rename, so a
+     * scraper (e.g. node_exporter's textfile collector) never reads half a file.
+     */
+    public void writeTo(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            writer.write(toPrometheusText());
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static String format(double value) {
+        if (Double.isNaN(value)) return "NaN";
+        if (Double.isInfinite(value)) return value > 0 ? "+Inf" : "-Inf";
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long) value);
+        return Double.toString(value);
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static String escapeLabel(String value) {
+        return String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,15 @@
+package com.veeva.framework.monitor;
+
+import java.util.List;
+
+/**
+ * FlowProvider - Contributes {@link MonitorFlow}s to the {@link SyntheticMonitor}.
+ *
+ * Product modules implement it next to their page objects and list the class
+ * in {@code META-INF/services/com.veeva.framework.monitor.FlowProvider}; the
+ * monitor finds every provider on the classpath with {@link java.util.ServiceLoader}.
+ */
+public interface FlowProvider {
+
+    List<MonitorFlow> flows();
+}
@@ -0,0 +1,96 @@
+package com.veeva.framework.monitor;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * MonitorFlow - One page flow run by the {@link SyntheticMonitor}.
+ *
+ * The body drives page objects as a test would: it runs on a monitor worker
+ * whose {@code DriverManager} session is attached for the run, so
+ * {@code new WarriorsHomePage().open()} works unchanged. A run is available
+ * when the body returns, and unavailable when it throws.
+ * <pre>
+ *   MonitorFlow.builder("warriors-home")
+ *       .interval(Duration.ofMinutes(5))
+ *       .body(() -&gt; new WarriorsHomePage().open())
+ *       .build();
+ * </pre>
+ * Without an interval the flow runs every {@code monitor.interval}; without a
+ * browser it uses the configured {@code browser}.
+ */
+public final class MonitorFlow {
+
+    private final String name;
+    private final Duration interval;
+    private final String browser;
+    private final Runnable body;
+
+    private MonitorFlow(Builder builder) {
+        this.name = builder.name;
+        this.interval = builder.interval;
+        this.browser = builder.browser;
+        this.body = builder.body;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /** The flow's own interval, or null for {@code monitor.interval}. */
+    public Duration interval() {
+        return interval;
+    }
+
+    /** The flow's own browser, or null for the configured one. */
+    public String browser() {
+        return browser;
+    }
+
+    void run() {
+        body.run();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static final class Builder {
+        private final String name;
+        private Duration interval;
+        private String browser;
+        private Runnable body;
+
+        private Builder(String name) {
+            this.name = Objects.requireNonNull(name, "name");
+        }
+
+        public Builder interval(Duration interval) {
+            if (interval.isZero() || interval.isNegative()) {
+                throw new IllegalArgumentException("interval must be > 0: " + interval);
+            }
+            this.interval = interval;
+            return this;
+        }
+
+        public Builder browser(String browser) {
+            this.browser = browser;
+            return this;
+        }
+
+        public Builder body(Runnable body) {
+            this.body = body;
+            return this;
+        }
+
+        public MonitorFlow build() {
+            Objects.requireNonNull(body, "body");
+            return new MonitorFlow(this);
+        }
+    }
+}
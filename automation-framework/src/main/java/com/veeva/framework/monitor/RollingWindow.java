@@ -0,0 +1,92 @@
+package com.veeva.framework.monitor;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * RollingWindow - Availability and latency of a flow's runs over the last {@code window}.
+ *
+ * Runs are kept in a fixed ring of primitive arrays (end time, millis, ok).
+ * A run drops out once it is older than the window, or when {@code capacity}
+ * newer runs overwrite it. Memory stays constant however long the monitor
+ * runs. {@link #stats} scans the ring, which is cheap at monitoring rates.
+ */
+public final class RollingWindow {
+
+    private final long windowMillis;
+    private final long[] endedAt;
+    private final long[] millis;
+    private final boolean[] ok;
+    private int next;
+    private int size;
+
+    public RollingWindow(Duration window, int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be >= 1: " + capacity);
+        this.windowMillis = window.toMillis();
+        this.endedAt = new long[capacity];
+        this.millis = new long[capacity];
+        this.ok = new boolean[capacity];
+    }
+
+    public synchronized void record(long endedAtMillis, long durationMillis, boolean available) {
+        endedAt[next] = endedAtMillis;
+        millis[next] = durationMillis;
+        ok[next] = available;
+        next = (next + 1) % endedAt.length;
+        size = Math.min(size + 1, endedAt.length);
+    }
+
+    /**
+     * The runs that ended within the window before {@code nowMillis}. Latency is
+     * taken from available runs only, because a failure's duration is mostly its timeout.
+     */
+    public synchronized Stats stats(long nowMillis) {
+        long from = nowMillis - windowMillis;
+        long[] latencies = new long[size];
+        int runs = 0;
+        int available = 0;
+        for (int i = 0; i < size; i++) {
+            if (endedAt[i] < from || endedAt[i] > nowMillis) continue;
+            runs++;
+            if (ok[i]) latencies[available++] = millis[i];
+        }
+        long[] sorted = Arrays.copyOf(latencies, available);
+        Arrays.sort(sorted);
+        return new Stats(runs, available, sorted);
+    }
+
+    /**
+     * One window's summary. Availability is NaN while there are no runs, and latencies are NaN without available runs.
+     */
+    public static final class Stats {
+        public final int runs;
+        public final int available;
+        private final long[] sortedMillis;
+
+        Stats(int runs, int available, long[] sortedMillis) {
+            this.runs = runs;
+            this.available = available;
+            this.sortedMillis = sortedMillis;
+        }
+
+        public double availability() {
+            return runs == 0 ? Double.NaN : (double) available / runs;
+        }
+
+        /**
+         * Nearest-rank percentile of the available runs' latency, in millis ({@code q} in 0..1).
+         */
+        public double latencyMillis(double q) {
+            if (sortedMillis.length == 0) return Double.NaN;
+            int rank = (int) Math.ceil(q * sortedMillis.length);
+            return sortedMillis[Math.min(Math.max(rank, 1), sortedMillis.length) - 1];
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d/%d available, p50 %.0f ms, p95 %.0f ms",
+                    available, runs, latencyMillis(0.5), latencyMillis(0.95));
+        }
+    }
+}
@@ -0,0 +1,493 @@
+package com.veeva.framework.monitor;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.config.FrameworkConfig;
+import com.veeva.framework.driver.DriverManager;
+import com.veeva.framework.driver.DriverPool;
+import com.veeva.framework.history.RegressionTracker;
+import com.veeva.framework.metrics.FrameworkMetrics;
+import com.veeva.framework.metrics.MetricsExporter;
+import com.veeva.framework.pages.RetryStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SyntheticMonitor - Runs page flows as synthetic monitors, for days, and publishes their availability and latency.
+ *
+ * Flows come from every {@link FlowProvider} on the classpath (the product
+ * modules register theirs), optionally filtered by {@code monitor.flows}.
+ * Each flow is scheduled on its own clock:
+ *   - every {@code monitor.interval} (or its own), shifted by up to
+ *     ±{@code monitor.jitter} of the interval, first run spread over one interval
+ *   - a flow whose previous run is still busy is skipped, never queued twice
+ *   - at most {@code monitor.concurrency} flows run at once, each on a warm
+ *     session from a {@link DriverPool} attached to the worker's {@link DriverManager}
+ *   - a session is quit after a failed run (it may be broken) and after
+ *     {@code monitor.session.max.runs} runs (browsers grow), otherwise reset and reused
+ *   - a warm session that died while idle is replaced when leased; that does not fail the run
+ *   - a run longer than {@code monitor.run.timeout} gets its session quit, which fails the run and frees the worker
+ * Each run goes into the flow's {@link RollingWindow} over {@code monitor.window}. The windows are
+ * published as {@link FrameworkMetrics} gauges ({@code veeva_monitor_*}) and refreshed on a timer,
+ * so they also age when a flow stops running.
+ *
+ * Everything kept per run is bounded (ring buffers, per-flow metric children,
+ * drained per-thread retry and step state), so memory stays flat for days.
+ * <pre>
+ *   mvn -q exec:java -P all-products -pl all-products-tests \
+ *       -Dexec.mainClass=com.veeva.framework.monitor.SyntheticMonitor -Dheadless=true
+ * </pre>
+ * serves {@code GET /metrics} on {@code metrics.bind}:{@code monitor.port} until stopped
+ * (Ctrl-C / SIGTERM), or for {@code --duration <seconds>}.
+ */
+public final class SyntheticMonitor {
+
+    private static final Logger log = LogManager.getLogger(SyntheticMonitor.class);
+    private static final double[] QUANTILES = {0.5, 0.95, 1};
+    private static final long MAX_TICK_MILLIS = 15_000;
+
+    private final List<MonitorFlow> flows;
+    private final String browser;
+    private final Duration interval;
+    private final double jitter;
+    private final int concurrency;
+    private final Duration window;
+    private final Duration runTimeout;
+    private final int sessionMaxRuns;
+
+    private final DriverPool pool;
+    private final Map<String, FlowState> states = new LinkedHashMap<>();
+    private final Map<WebDriver, Integer> sessionRuns = new IdentityHashMap<>();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private ScheduledExecutorService scheduler;
+    private ExecutorService workers;
+
+    private SyntheticMonitor(Builder builder) {
+        this.flows = new ArrayList<>(builder.flows);
+        this.browser = builder.browser;
+        this.interval = builder.interval;
+        this.jitter = builder.jitter;
+        this.concurrency = builder.concurrency;
+        this.window = builder.window;
+        this.runTimeout = builder.runTimeout;
+        this.sessionMaxRuns = builder.sessionMaxRuns;
+        this.pool = new DriverPool(concurrency, this::forget);
+        for (MonitorFlow flow : flows) {
+            if (states.put(flow.name(), new FlowState(flow, window)) != null) {
+                throw new IllegalArgumentException("Duplicate monitor flow: " + flow.name());
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A monitor over the flows of every {@link FlowProvider}, configured from {@code monitor.*}.
+     */
+    public static SyntheticMonitor fromConfig() {
+        FrameworkConfig config = ConfigManager.config();
+        List<String> only = config.getList(ConfigKey.MONITOR_FLOWS);
+        Builder builder = builder()
+                .browser(config.browser())
+                .interval(config.getDuration(ConfigKey.MONITOR_INTERVAL))
+                .jitter(config.getDouble(ConfigKey.MONITOR_JITTER))
+                .concurrency(config.getInt(ConfigKey.MONITOR_CONCURRENCY))
+                .window(config.getDuration(ConfigKey.MONITOR_WINDOW))
+                .runTimeout(config.getDuration(ConfigKey.MONITOR_RUN_TIMEOUT))
+                .sessionMaxRuns(config.getInt(ConfigKey.MONITOR_SESSION_MAX_RUNS));
+        for (FlowProvider provider : ServiceLoader.load(FlowProvider.class)) {
+            for (MonitorFlow flow : provider.flows()) {
+                if (only.isEmpty() || only.contains(flow.name())) builder.flow(flow);
+            }
+        }
+        return builder.build();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> opts = parseArgs(args);
+        FrameworkConfig config = ConfigManager.config();
+        SyntheticMonitor monitor = fromConfig();
+        if (monitor.flows.isEmpty()) {
+            throw new IllegalStateException("No monitor flows found: add a product module (FlowProvider) to the classpath"
+                    + " or check monitor.flows");
+        }
+        MetricsExporter.serve(config.getString(ConfigKey.METRICS_BIND), config.getInt(ConfigKey.MONITOR_PORT));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            monitor.stop();
+            MetricsExporter.stopServing();
+        }, "monitor-shutdown"));
+        monitor.start();
+
+        if (opts.containsKey("duration")) {
+            monitor.awaitStop(Duration.ofSeconds(Long.parseLong(opts.get("duration"))));
+            monitor.stop();
+            MetricsExporter.stopServing();
+            monitor.states.values().forEach(s -> System.out.println(s.flow.name() + ": "
+                    + s.window.stats(System.currentTimeMillis())));
+        } else {
+            monitor.awaitStop(null);
+        }
+    }
+
+    // ─── Lifecycle ────────────────────────────────────────────────────────────
+
+    public synchronized void start() {
+        if (scheduler != null) throw new IllegalStateException("Monitor already started");
+        AtomicInteger workerIds = new AtomicInteger();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "monitor-scheduler"));
+        workers = Executors.newFixedThreadPool(concurrency,
+                r -> daemon(r, "monitor-worker-" + workerIds.incrementAndGet()));
+        long now = System.currentTimeMillis();
+        for (FlowState state : states.values()) {
+            long first = (long) (ThreadLocalRandom.current().nextDouble() * intervalOf(state.flow).toMillis());
+            state.plannedAt = now + first;
+            schedule(state);
+        }
+        long tick = Math.min(MAX_TICK_MILLIS, Math.max(100, runTimeout.toMillis() / 4));
+        scheduler.scheduleWithFixedDelay(this::tick, tick, tick, TimeUnit.MILLISECONDS);
+        log.info("Monitoring {} flow(s) {} with {} worker(s), window {}s", states.size(), states.keySet(),
+                concurrency, window.getSeconds());
+    }
+
+    /**
+     * Stops scheduling, lets running flows finish (up to the run timeout) and quits every session.
+     * Safe to call more than once.
+     */
+    public void stop() {
+        ScheduledExecutorService scheduler;
+        ExecutorService workers;
+        synchronized (this) {
+            scheduler = this.scheduler;
+            workers = this.workers;
+            if (scheduler == null || scheduler.isShutdown()) return;
+        }
+        scheduler.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(runTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                states.values().forEach(this::abort);
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pool.shutdown();
+        synchronized (sessionRuns) {
+            sessionRuns.clear();
+        }
+        tick();
+        stopped.countDown();
+        log.info("Monitor stopped");
+    }
+
+    /**
+     * Blocks until {@link #stop()} (null timeout) or for at most {@code timeout}.
+     */
+    public void awaitStop(Duration timeout) throws InterruptedException {
+        if (timeout == null) {
+            stopped.await();
+        } else {
+            stopped.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * The flow's rolling window now, or null for an unknown flow.
+     */
+    public RollingWindow.Stats stats(String flow) {
+        FlowState state = states.get(flow);
+        return state == null ? null : state.window.stats(System.currentTimeMillis());
+    }
+
+    /** Sessions currently open (leased or idle in the pool). */
+    public int sessions() {
+        synchronized (sessionRuns) {
+            return sessionRuns.size();
+        }
+    }
+
+    // ─── Scheduling ───────────────────────────────────────────────────────────
+
+    private void schedule(FlowState state) {
+        long delay = Math.max(0, state.plannedAt - System.currentTimeMillis());
+        try {
+            scheduler.schedule(() -> due(state), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // stopping
+        }
+    }
+
+    private void due(FlowState state) {
+        if (state.busy.compareAndSet(false, true)) {
+            try {
+                workers.execute(() -> execute(state));
+            } catch (RejectedExecutionException e) {
+                state.busy.set(false);
+                return;
+            }
+        } else {
+            FrameworkMetrics.MONITOR_RUNS.labels(state.flow.name(), "skipped").inc();
+            log.warn("[MONITOR] {} skipped: previous run still busy", state.flow.name());
+        }
+        long now = System.currentTimeMillis();
+        state.plannedAt += jittered(intervalOf(state.flow));
+        if (state.plannedAt < now) {
+            // fell behind (machine asleep, long GC): resume from now instead of catching up in a burst
+            state.plannedAt = now + jittered(intervalOf(state.flow));
+        }
+        schedule(state);
+    }
+
+    private long jittered(Duration interval) {
+        double shift = jitter <= 0 ? 0 : ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Math.max(1, Math.round(interval.toMillis() * (1 + shift)));
+    }
+
+    private Duration intervalOf(MonitorFlow flow) {
+        return flow.interval() != null ? flow.interval() : interval;
+    }
+
+    // ─── Runs ─────────────────────────────────────────────────────────────────
+
+    private void execute(FlowState state) {
+        String flowBrowser = state.flow.browser() != null ? state.flow.browser() : browser;
+        WebDriver driver = null;
+        boolean available = false;
+        long start = 0;
+        try {
+            driver = lease(flowBrowser);
+            DriverManager.attachDriver(flowBrowser, driver);
+            start = System.nanoTime();
+            state.current = new Run(driver, start);
+            state.flow.run();
+            available = true;
+        } catch (RuntimeException | AssertionError e) {
+            String reason = state.current != null && state.current.aborted ? "timed out" : firstLine(e);
+            log.warn("[MONITOR] {} unavailable: {}", state.flow.name(), reason);
+        } finally {
+            long millis = start == 0 ? 0 : (System.nanoTime() - start) / 1_000_000;
+            state.current = null;
+            DriverManager.detachDriver();
+            // per-thread state a test would have drained; workers live for days
+            RetryStats.drainCurrentTest();
+            RegressionTracker.testStarted();
+            record(state, millis, available);
+            if (driver != null) giveBack(flowBrowser, driver, available);
+            state.busy.set(false);
+        }
+    }
+
+    private WebDriver lease(String browser) {
+        WebDriver driver = pool.lease(browser);
+        synchronized (sessionRuns) {
+            sessionRuns.putIfAbsent(driver, 0);
+        }
+        return driver;
+    }
+
+    private void giveBack(String browser, WebDriver driver, boolean healthy) {
+        int runs;
+        synchronized (sessionRuns) {
+            runs = sessionRuns.merge(driver, 1, Integer::sum);
+        }
+        if (healthy && runs < sessionMaxRuns && !isStopping()) {
+            pool.release(browser, driver);
+        } else {
+            log.debug("Quitting monitor session after {} run(s){}", runs, healthy ? "" : " (failed run)");
+            pool.discard(driver);
+        }
+    }
+
+    /** Called by the pool for every session it quits, wherever that happens. */
+    private void forget(WebDriver driver) {
+        synchronized (sessionRuns) {
+            sessionRuns.remove(driver);
+        }
+    }
+
+    private synchronized boolean isStopping() {
+        return scheduler == null || scheduler.isShutdown();
+    }
+
+    private void record(FlowState state, long millis, boolean available) {
+        long now = System.currentTimeMillis();
+        String name = state.flow.name();
+        state.window.record(now, millis, available);
+        FrameworkMetrics.MONITOR_RUNS.labels(name, available ? "available" : "unavailable").inc();
+        FrameworkMetrics.MONITOR_RUN.labels(name).observe(millis / 1000.0);
+        if (available) {
+            FrameworkMetrics.MONITOR_LAST_SUCCESS.labels(name).set(now / 1000.0);
+            log.info("[MONITOR] {} available in {} ms", name, millis);
+        }
+        publish(state, now);
+    }
+
+    /**
+     * Timer: ages the published windows and aborts runs past the timeout.
+     */
+    private void tick() {
+        long now = System.currentTimeMillis();
+        for (FlowState state : states.values()) {
+            Run run = state.current;
+            if (run != null && !run.aborted && System.nanoTime() - run.startNanos > runTimeout.toNanos()) {
+                log.warn("[MONITOR] {} exceeded {}s, quitting its session", state.flow.name(), runTimeout.getSeconds());
+                abort(state);
+            }
+            publish(state, now);
+        }
+    }
+
+    private void abort(FlowState state) {
+        Run run = state.current;
+        if (run == null || run.aborted) return;
+        run.aborted = true;
+        // quit from a fresh thread: the stuck command may hold the driver's connection
+        Thread quitter = new Thread(() -> {
+            try {
+                run.driver.quit();
+            } catch (RuntimeException e) {
+                log.debug("Quit of a stuck session failed: {}", e.getMessage());
+            }
+        }, "monitor-abort");
+        quitter.setDaemon(true);
+        quitter.start();
+    }
+
+    private void publish(FlowState state, long now) {
+        String name = state.flow.name();
+        RollingWindow.Stats stats = state.window.stats(now);
+        FrameworkMetrics.MONITOR_WINDOW_RUNS.labels(name).set(stats.runs);
+        FrameworkMetrics.MONITOR_AVAILABILITY.labels(name).set(stats.availability());
+        for (double q : QUANTILES) {
+            FrameworkMetrics.MONITOR_LATENCY.labels(name, q == 1 ? "1" : String.valueOf(q))
+                    .set(stats.latencyMillis(q) / 1000.0);
+        }
+    }
+
+    private static String firstLine(Throwable e) {
+        String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        int newline = message.indexOf('\n');
+        return newline >= 0 ? message.substring(0, newline) : message;
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            opts.put(args[i].substring(2), args[i + 1]);
+        }
+        return opts;
+    }
+
+    private static final class FlowState {
+        final MonitorFlow flow;
+        final RollingWindow window;
+        final AtomicBoolean busy = new AtomicBoolean();
+        volatile Run current;
+        long plannedAt;
+
+        FlowState(MonitorFlow flow, Duration window) {
+            this.flow = flow;
+            // room for one run per second of the window, capped: enough for any sane interval
+            this.window = new RollingWindow(window, (int) Math.min(Math.max(window.getSeconds(), 16), 4096));
+        }
+    }
+
+    private static final class Run {
+        final WebDriver driver;
+        final long startNanos;
+        volatile boolean aborted;
+
+        Run(WebDriver driver, long startNanos) {
+            this.driver = driver;
+            this.startNanos = startNanos;
+        }
+    }
+
+    public static final class Builder {
+        private final List<MonitorFlow> flows = new ArrayList<>();
+        private String browser = "chrome";
+        private Duration interval = Duration.ofMinutes(5);
+        private double jitter = 0.1;
+        private int concurrency = 2;
+        private Duration window = Duration.ofHours(1);
+        private Duration runTimeout = Duration.ofMinutes(3);
+        private int sessionMaxRuns = 50;
+
+        private Builder() {
+        }
+
+        public Builder flow(MonitorFlow flow) {
+            flows.add(flow);
+            return this;
+        }
+
+        public Builder browser(String browser) {
+            this.browser = browser;
+            return this;
+        }
+
+        public Builder interval(Duration interval) {
+            this.interval = interval;
+            return this;
+        }
+
+        /** Share of the interval each run may move earlier or later (0..1). */
+        public Builder jitter(double jitter) {
+            if (jitter < 0 || jitter >= 1) throw new IllegalArgumentException("jitter must be in [0, 1): " + jitter);
+            this.jitter = jitter;
+            return this;
+        }
+
+        public Builder concurrency(int concurrency) {
+            this.concurrency = Math.max(1, concurrency);
+            return this;
+        }
+
+        public Builder window(Duration window) {
+            this.window = window;
+            return this;
+        }
+
+        public Builder runTimeout(Duration runTimeout) {
+            this.runTimeout = runTimeout;
+            return this;
+        }
+
+        public Builder sessionMaxRuns(int sessionMaxRuns) {
+            this.sessionMaxRuns = Math.max(1, sessionMaxRuns);
+            return this;
+        }
+
+        public SyntheticMonitor build() {
+            return new SyntheticMonitor(this);
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.veeva.framework.pages;
+
+import com.veeva.framework.utils.ScriptResources;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ActionBatch - A multi-step page interaction sent in as few round trips as possible.
+ *
+ * Built fluently from {@link BasePage#batch()} and executed by {@link #run()}:
+ * <pre>
+ *   ActionBatch.Result r = batch().scrollTo(footer).hover(teamMenu).click(statsLink).readText(heading).run();
+ *   String heading = r.text(0);
+ * </pre>
+ * The steps are cut into alternating segments:
+ *   - script steps (scrollTo, jsClick, reads) run in one {@code executeScript}
+ *     (js/action-batch.js), which also locates the elements of the pointer
+ *     segment that follows and returns them
+ *   - pointer steps (hover, click, pause) go out as one W3C Actions chain per click
+ * so the example costs two script calls and one Actions call. The separate
+ * BasePage methods would need a find, a wait poll and an action per step.
+ *
+ * Waits work as in BasePage. A step whose element is missing, or hidden when
+ * it must be visible, stops the script. Its element is then waited for with
+ * the page's explicit wait, and the script resumes at that step; steps that
+ * already ran are not repeated. After {@value #MAX_SCRIPT_ROUNDS} script calls
+ * in one segment the rest of it runs as plain WebDriver commands instead.
+ * Only the first pointer target of a segment has to be visible up front,
+ * because a hover may be what reveals the next one. The chain is cut after
+ * every click. If a chain fails anyway (a target that is still hidden, stale
+ * or covered), the segment is replayed step by step with waits, under the
+ * page's action {@link RetryPolicy}, from the first step that had not completed.
+ *
+ * A pointer click stays in the chain only when the script saw the target
+ * enabled and on top at its centre point. Any other click (covered, disabled,
+ * or not yet shown when the script ran) is sent on its own after
+ * {@code waitUntilClickable}, so it gets the interception check of {@code WebElement.click}.
+ */
+public final class ActionBatch {
+
+    private static final Logger log = LogManager.getLogger(ActionBatch.class);
+    private static final String SCRIPT = "js/action-batch.js";
+    static final int MAX_SCRIPT_ROUNDS = 5;
+
+    enum Kind {
+        SCROLL("scroll"), JS_CLICK("jsclick"), TEXT("text"), TEXTS("texts"), ATTRIBUTE("attribute"),
+        HOVER(null), CLICK(null), PAUSE(null);
+
+        final String op;
+
+        Kind(String op) {
+            this.op = op;
+        }
+
+        boolean pointer() {
+            return op == null;
+        }
+    }
+
+    private static final class Step {
+        final Kind kind;
+        final Element element;
+        final String attribute;
+        final Duration pause;
+        final int slot;
+
+        Step(Kind kind, Element element, String attribute, Duration pause, int slot) {
+            this.kind = kind;
+            this.element = element;
+            this.attribute = attribute;
+            this.pause = pause;
+            this.slot = slot;
+        }
+
+        @Override
+        public String toString() {
+            return kind.name().toLowerCase() + (element != null ? " " + element : " " + pause.toMillis() + "ms");
+        }
+    }
+
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final RetryPolicy retry;
+    private final List<Step> steps = new ArrayList<>();
+    private int reads;
+    private int roundTrips;
+
+    ActionBatch(WebDriver driver, WebDriverWait wait, RetryPolicy retry) {
+        this.driver = driver;
+        this.wait = wait;
+        this.retry = retry;
+    }
+
+    // ─── Steps ────────────────────────────────────────────────────────────────
+
+    /** Scrolls the element into view (top aligned), like {@code BasePage.scrollToElement}. */
+    public ActionBatch scrollTo(Element element) {
+        return add(Kind.SCROLL, element, null, null, false);
+    }
+
+    public ActionBatch hover(Element element) {
+        return add(Kind.HOVER, element, null, null, false);
+    }
+
+    public ActionBatch click(Element element) {
+        return add(Kind.CLICK, element, null, null, false);
+    }
+
+    /** Clicks through JavaScript (overlays do not block it), like {@code BasePage.jsClick}. */
+    public ActionBatch jsClick(Element element) {
+        return add(Kind.JS_CLICK, element, null, null, false);
+    }
+
+    /** Waits inside the pointer chain, e.g. for a menu's opening animation. */
+    public ActionBatch pause(Duration duration) {
+        return add(Kind.PAUSE, null, null, duration, false);
+    }
+
+    /** Collects the element's trimmed rendered text (see {@link Result#text(int)}). */
+    public ActionBatch readText(Element element) {
+        return add(Kind.TEXT, element, null, null, true);
+    }
+
+    /** Collects the trimmed text of every match, possibly none (see {@link Result#texts(int)}). */
+    public ActionBatch readTexts(Element element) {
+        return add(Kind.TEXTS, element, null, null, true);
+    }
+
+    /** Collects a property / attribute of the element (see {@link Result#text(int)}). */
+    public ActionBatch readAttribute(Element element, String attribute) {
+        return add(Kind.ATTRIBUTE, element, attribute, null, true);
+    }
+
+    private ActionBatch add(Kind kind, Element element, String attribute, Duration pause, boolean read) {
+        steps.add(new Step(kind, element, attribute, pause, read ? reads++ : -1));
+        return this;
+    }
+
+    // ─── Execution ────────────────────────────────────────────────────────────
+
+    /**
+     * Runs the steps in order and returns the values read, in the order they were added.
+     */
+    public Result run() {
+        Object[] values = new Object[reads];
+        roundTrips = 0;
+        int i = 0;
+        while (i < steps.size()) {
+            int pointerStart = i;
+            while (pointerStart < steps.size() && !steps.get(pointerStart).kind.pointer()) pointerStart++;
+            int end = pointerStart;
+            while (end < steps.size() && steps.get(end).kind.pointer()) end++;
+
+            List<Step> scripted = steps.subList(i, pointerStart);
+            List<Step> pointer = steps.subList(pointerStart, end);
+            List<WebElement> targets = new ArrayList<>();
+            List<Boolean> hitTested = new ArrayList<>();
+            runScript(scripted, pointer, values, targets, hitTested);
+            if (!pointer.isEmpty()) perform(pointer, targets, hitTested);
+            i = end;
+        }
+        log.debug("Batch of {} steps ran in {} round trips", steps.size(), roundTrips);
+        return new Result(values, roundTrips);
+    }
+
+    /**
+     * Runs the script steps and locates the pointer targets in one script call
+     * (more only when an element has to be waited for). Fills {@code targets},
+     * and {@code hitTested} with whether each one may be clicked from the chain.
+     */
+    private void runScript(List<Step> scripted, List<Step> pointer, Object[] values,
+                           List<WebElement> targets, List<Boolean> hitTested) {
+        List<Step> all = new ArrayList<>(scripted);
+        List<Map<String, Object>> ops = new ArrayList<>();
+        for (Step step : scripted) {
+            ops.add(op(step.kind.op, step, step.kind != Kind.SCROLL && step.kind != Kind.TEXTS));
+        }
+        boolean first = true;
+        for (Step step : pointer) {
+            if (step.kind == Kind.PAUSE) continue;
+            all.add(step);
+            Map<String, Object> target = op("target", step, first);
+            target.put("click", step.kind == Kind.CLICK);
+            ops.add(target);
+            first = false;
+        }
+
+        int start = 0;
+        int rounds = 0;
+        while (start < ops.size()) {
+            if (rounds++ == MAX_SCRIPT_ROUNDS) {
+                log.debug("Batch still waiting after {} script calls, running the rest step by step", MAX_SCRIPT_ROUNDS);
+                runStepByStep(all, ops, start, values, targets, hitTested);
+                return;
+            }
+            Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(
+                    ScriptResources.load(SCRIPT), ops, start);
+            roundTrips++;
+            List<?> returned = (List<?>) result.get("values");
+            List<?> hits = (List<?>) result.get("hits");
+            int h = 0;
+            for (int k = 0; k < returned.size(); k++) {
+                Step step = all.get(start + k);
+                if (step.kind.pointer()) {
+                    targets.add((WebElement) returned.get(k));
+                    hitTested.add(Boolean.TRUE.equals(hits.get(h++)));
+                } else if (step.slot >= 0) {
+                    values[step.slot] = returned.get(k);
+                }
+            }
+            int missing = ((Number) result.get("missing")).intValue();
+            if (missing < 0) break;
+
+            Step step = all.get(missing);
+            log.debug("Batch waits for: {}", step);
+            boolean mustBeVisible = Boolean.TRUE.equals(ops.get(missing).get("visible"));
+            WebElement found = mustBeVisible
+                    ? step.element.waitUntilVisible(driver, wait)
+                    : step.element.waitPresence(driver, wait).get(0);
+            roundTrips++;
+            ops.get(missing).put("element", found);
+            start = missing;
+        }
+    }
+
+    /**
+     * The script steps from {@code start} as separate WebDriver commands, for
+     * when the script keeps reporting a step the explicit wait says is there.
+     */
+    private void runStepByStep(List<Step> all, List<Map<String, Object>> ops, int start, Object[] values,
+                               List<WebElement> targets, List<Boolean> hitTested) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        for (int k = start; k < all.size(); k++) {
+            Step step = all.get(k);
+            if (step.kind == Kind.TEXTS) {
+                List<String> texts = new ArrayList<>();
+                for (WebElement element : step.element.findAll(driver)) texts.add(element.getText().trim());
+                values[step.slot] = texts;
+                roundTrips++;
+                continue;
+            }
+            WebElement element = Boolean.TRUE.equals(ops.get(k).get("visible"))
+                    ? step.element.waitUntilVisible(driver, wait)
+                    : step.element.waitPresence(driver, wait).get(0);
+            roundTrips++;
+            if (step.kind.pointer()) {
+                // not hit-tested, so a click goes out on its own
+                targets.add(element);
+                hitTested.add(step.kind != Kind.CLICK);
+                continue;
+            }
+            switch (step.kind) {
+                case SCROLL:
+                    js.executeScript("arguments[0].scrollIntoView(true);", element);
+                    break;
+                case JS_CLICK:
+                    js.executeScript("arguments[0].click();", element);
+                    break;
+                case TEXT:
+                    values[step.slot] = element.getText().trim();
+                    break;
+                default:
+                    values[step.slot] = element.getAttribute(step.attribute);
+            }
+            roundTrips++;
+        }
+    }
+
+    private Map<String, Object> op(String op, Step step, boolean visible) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("op", op);
+        map.put("using", step.element.scriptUsing());
+        map.put("value", step.element.scriptValue());
+        map.put("name", step.attribute);
+        map.put("visible", visible);
+        if (step.element.scriptUsing() == null && step.kind == Kind.TEXTS) {
+            // only WebDriver understands this locator; a missing match is simply no text
+            map.put("elements", step.element.findAll(driver));
+            roundTrips++;
+        }
+        return map;
+    }
+
+    /**
+     * Sends the segment as Actions chains that each end at a click, so a chain that
+     * returned means its click went through; a click that was not hit-tested is sent
+     * on its own. If anything fails, the segment is replayed step by step with waits
+     * from the first step not yet done: a completed click is never sent again.
+     */
+    private void perform(List<Step> pointer, List<WebElement> targets, List<Boolean> hitTested) {
+        AtomicInteger done = new AtomicInteger();
+        try {
+            Actions chain = new Actions(driver);
+            boolean pending = false;
+            int t = 0;
+            for (int i = 0; i < pointer.size(); i++) {
+                Step step = pointer.get(i);
+                if (step.kind == Kind.PAUSE) {
+                    chain.pause(step.pause);
+                    pending = true;
+                    continue;
+                }
+                WebElement target = targets.get(t);
+                if (!hitTested.get(t++)) {
+                    if (pending) {
+                        chain.perform();
+                        roundTrips++;
+                        done.set(i);
+                        chain = new Actions(driver);
+                        pending = false;
+                    }
+                    log.debug("Batch clicks on its own (covered, disabled or not shown yet): {}", step);
+                    step.element.waitUntilClickable(driver, wait).click();
+                    roundTrips += 2;
+                    done.set(i + 1);
+                    continue;
+                }
+                chain.moveToElement(target);
+                pending = true;
+                if (step.kind == Kind.CLICK) {
+                    chain.click().perform();
+                    roundTrips++;
+                    done.set(i + 1);
+                    chain = new Actions(driver);
+                    pending = false;
+                }
+            }
+            if (pending) {
+                chain.perform();
+                roundTrips++;
+                done.set(pointer.size());
+            }
+        } catch (TimeoutException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            roundTrips++;
+            log.debug("Batched pointer step failed ({}), replaying from step {} of {}",
+                    e.getClass().getSimpleName(), done.get() + 1, pointer.size());
+            retry.run("batch " + pointer.subList(done.get(), pointer.size()), () -> {
+                while (done.get() < pointer.size()) {
+                    Step step = pointer.get(done.get());
+                    if (step.kind == Kind.PAUSE) {
+                        new Actions(driver).pause(step.pause).perform();
+                    } else if (step.kind == Kind.HOVER) {
+                        new Actions(driver).moveToElement(step.element.waitUntilVisible(driver, wait)).perform();
+                    } else {
+                        step.element.waitUntilClickable(driver, wait).click();
+                    }
+                    done.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Values collected by a batch, indexed by read step (0 = first readText / readTexts / readAttribute).
+     */
+    public static final class Result {
+        private final Object[] values;
+        private final int roundTrips;
+
+        Result(Object[] values, int roundTrips) {
+            this.values = values;
+            this.roundTrips = roundTrips;
+        }
+
+        public String text(int read) {
+            Object value = values[read];
+            return value == null ? null : String.valueOf(value);
+        }
+
+        @SuppressWarnings("unchecked")
+        public List<String> texts(int read) {
+            Object value = values[read];
+            return value instanceof List ? (List<String>) value : Collections.emptyList();
+        }
+
+        public int size() {
+            return values.length;
+        }
+
+        /**
+         * Driver commands the batch needed (scripts, waits, Actions chains); for logs and tests.
+         */
+        public int roundTrips() {
+            return roundTrips;
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.veeva.framework.pages;
 
+import com.veeva.framework.config.ConfigKey;
 import com.veeva.framework.config.ConfigManager;
 import com.veeva.framework.driver.DriverManager;
+import com.veeva.framework.driver.DriverPool;
+import com.veeva.framework.metrics.FrameworkMetrics;
+import com.veeva.framework.perf.PerformanceCollector;
+import com.veeva.framework.utils.ScriptResources;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
@@ -10,9 +15,12 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 /**
  * BasePage - Foundation for all Page Objects.
@@ -35,20 +43,30 @@ import java.util.Set;
  *       click(loginBtn);
  *   }
  * </pre>
+ *
+ * Single-element actions (click, type, hover, hoverThenClick, jsClick) are
+ * retried in the same session on transient failures per
+ * {@link RetryPolicy#transientFailures()}; multi-step flows use
+ * {@link #retry(RetryPolicy, String, Runnable)} with their own policy.
+ * Sequences of hovers, clicks and reads go through {@link #batch()}, which
+ * sends them in a couple of driver calls instead of several per step.
  */
 public abstract class BasePage {
 
+    private static final String ELEMENT_TEXTS_SCRIPT = "js/element-texts.js";
+
     protected final Logger log = LogManager.getLogger(getClass());
     protected WebDriver driver;
     protected WebDriverWait wait;
     protected Actions actions;
+    protected RetryPolicy actionRetry;
     //private boolean initialized = false;
 
     public BasePage() {
         this.driver = DriverManager.getDriver();
-        int explicitWait = Integer.parseInt(ConfigManager.get("explicit.wait", "70"));
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(explicitWait));
+        this.wait = new MeteredWait(driver, ConfigManager.config().explicitWait());
         this.actions = new Actions(driver);
+        this.actionRetry = RetryPolicy.transientFailures();
     }
     //public BasePage() { }   // safe — nothing runs at instantiation time
 
@@ -70,7 +88,57 @@ public abstract class BasePage {
 
     public void navigateTo(String url) {
         log.info("Navigating to: {}", url);
+        StorageState state = StorageState.shared();
+        if (state != null) {
+            state.restore(driver, url);
+        }
+        DriverPool.visited(driver, url);
+        long start = System.nanoTime();
         driver.get(url);
+        FrameworkMetrics.PAGE_LOAD.labels(getClass().getSimpleName()).observe((System.nanoTime() - start) / 1e9);
+        if (PerformanceCollector.isEnabled()) {
+            PerformanceCollector.record(driver, url);
+        }
+    }
+
+    /**
+     * Reaches a page that is normally only reachable through menus.
+     *
+     * With a fresh shortcut in the {@link NavigationCache} the page is opened
+     * directly; if {@code landed} then fails, the shortcut is dropped, the page
+     * the path starts from is reopened (the shortcut may have left an error page
+     * or a redirect) and {@code uiPath} runs from there. After a UI run that
+     * lands correctly, the resulting URL is (re-)learned.
+     *
+     * @param path    unique, stable name of the menu path (include the product)
+     * @param uiPath  the hover/click sequence through the menus
+     * @param landed  true once the target page is showing
+     */
+    protected void navigateVia(String path, Runnable uiPath, BooleanSupplier landed) {
+        NavigationCache cache = NavigationCache.shared();
+        String shortcut = cache != null ? cache.lookup(path) : null;
+        if (shortcut != null) {
+            String origin = driver.getCurrentUrl();
+            log.info("Navigation shortcut for '{}': {}", path, shortcut);
+            navigateTo(shortcut);
+            if (landed.getAsBoolean()) return;
+            log.warn("Shortcut for '{}' did not land on the expected page — using the menus from {}", path, origin);
+            cache.invalidate(path);
+            navigateTo(origin);
+        }
+        navigateViaMenu(path, uiPath, landed);
+    }
+
+    /**
+     * Always runs the UI path (used by the tests that cover the menus themselves);
+     * still records the landing URL for later shortcut runs.
+     */
+    protected void navigateViaMenu(String path, Runnable uiPath, BooleanSupplier landed) {
+        uiPath.run();
+        NavigationCache cache = NavigationCache.shared();
+        if (cache != null && landed.getAsBoolean()) {
+            cache.record(path, driver.getCurrentUrl());
+        }
     }
 
     public String getCurrentUrl() {
@@ -89,7 +157,7 @@ public abstract class BasePage {
     protected void click(Element element) {
      //   ensureInitialized();
         log.debug("Clicking: {}", element);
-        element.waitUntilVisible(driver, wait).click();
+        actionRetry.run("click " + element, () -> element.waitUntilVisible(driver, wait).click());
        // element.waitUntilClickable(driver, wait).click();
     }
 
@@ -98,9 +166,11 @@ public abstract class BasePage {
      */
     protected void type(Element element, String text) {
         log.debug("Typing '{}' into: {}", text, element);
-        WebElement el = element.waitUntilVisible(driver, wait);
-        el.clear();
-        el.sendKeys(text);
+        actionRetry.run("type " + element, () -> {
+            WebElement el = element.waitUntilVisible(driver, wait);
+            el.clear();
+            el.sendKeys(text);
+        });
     }
 
     /**
@@ -110,6 +180,19 @@ public abstract class BasePage {
         return element.waitUntilVisible(driver, wait).getText().trim();
     }
 
+    /**
+     * Returns the trimmed text of every element matching the locator (no wait,
+     * may be empty) in one script call, instead of a getText round trip per element.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<String> getTexts(Element element) {
+        String using = element.scriptUsing();
+        List<WebElement> located = using == null ? element.findAll(driver) : null;
+        List<String> texts = (List<String>) ((JavascriptExecutor) driver).executeScript(
+                ScriptResources.load(ELEMENT_TEXTS_SCRIPT), using, element.scriptValue(), located);
+        return texts != null ? texts : Collections.emptyList();
+    }
+
     /**
      * Waits until visible and returns the value of the given attribute.
      */
@@ -122,8 +205,8 @@ public abstract class BasePage {
      */
     protected void hover(Element element) {
         log.debug("Hovering over: {}", element);
-        WebElement el = element.waitUntilVisible(driver, wait);
-        actions.moveToElement(el).perform();
+        actionRetry.run("hover " + element,
+                () -> actions.moveToElement(element.waitUntilVisible(driver, wait)).perform());
     }
 
     public boolean waitForTitleIs(String title)
@@ -135,8 +218,15 @@ public abstract class BasePage {
      */
     protected void hoverThenClick(Element hoverTarget, Element clickTarget) {
         log.debug("Hover {} → click {}", hoverTarget, clickTarget);
-        actions.moveToElement(hoverTarget.waitUntilVisible(driver, wait)).perform();
-        clickTarget.waitUntilClickable(driver, wait).click();
+        batch().hover(hoverTarget).click(clickTarget).run();
+    }
+
+    /**
+     * Starts a multi-step interaction sent in as few driver round trips as possible, e.g.
+     * {@code batch().scrollTo(footer).hover(menu).click(link).readText(heading).run().text(0)}.
+     */
+    protected ActionBatch batch() {
+        return new ActionBatch(driver, wait, actionRetry);
     }
 
     /**
@@ -152,8 +242,8 @@ public abstract class BasePage {
      */
     protected void jsClick(Element element) {
         log.debug("JS click: {}", element);
-        WebElement el = element.waitUntilVisible(driver, wait);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
+        actionRetry.run("jsClick " + element, () -> ((JavascriptExecutor) driver)
+                .executeScript("arguments[0].click();", element.waitUntilVisible(driver, wait)));
     }
 
     /**
@@ -162,6 +252,18 @@ public abstract class BasePage {
     protected boolean isDisplayed(Element element) {
         return element.isDisplayed(driver);
     }
+    /**
+     * Returns true if the element becomes visible within {@code timeout}; never throws on timeout.
+     */
+    protected boolean isVisibleWithin(Element element, Duration timeout) {
+        try {
+            element.waitUntilVisible(driver, new MeteredWait(driver, timeout));
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
     /**
      * Waits until the given text is present inside the element.
      */
@@ -170,6 +272,20 @@ public abstract class BasePage {
                 ExpectedConditions.textToBePresentInElementLocated(element.getLocator(), text));
     }
 
+    // ─── Retry ────────────────────────────────────────────────────────────────
+
+    /**
+     * Runs a multi-step action under the given policy, in the same session.
+     * The action name is what shows up in the retry report.
+     */
+    protected void retry(RetryPolicy policy, String action, Runnable body) {
+        policy.run(action, body);
+    }
+
+    protected <T> T retry(RetryPolicy policy, String action, Supplier<T> body) {
+        return policy.execute(action, body);
+    }
+
     // ─── Multi-Element Interactions (accept Element wrapper) ──────────────────
 
     /**
@@ -218,7 +334,9 @@ public abstract class BasePage {
     }
 
     public byte[] takeScreenshot() {
-        return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        FrameworkMetrics.SCREENSHOTS.inc();
+        return png;
     }
 
     public String switchToWindow()
@@ -238,16 +356,64 @@ public abstract class BasePage {
         return driver.getTitle();
     }
 
+    /**
+     * Starts a {@link TabGroup} on this page's session for overlapping read-only checks.
+     * Close it (try-with-resources) to get back to this page's tab.
+     */
+    protected TabGroup openTabs() {
+        return new TabGroup(driver);
+    }
+
     public String getLocatorAsString(Element element)
     {
         return toString();
     }
     public void dismissCookieBannerIfPresent(Element cookiesAcceptBtn) {
-        try {
-            click(cookiesAcceptBtn);
+        if (dismissIfPresent(cookiesAcceptBtn)) {
             log.info("Cookie banner dismissed");
-        } catch (Exception e) {
+        } else {
             log.debug("No cookie banner found or already dismissed");
         }
     }
+
+    // ─── One-time setup (banners, dialogs) and StorageState ───────────────────
+
+    /**
+     * Clicks a banner / dialog control if it shows up; returns whether it did.
+     *
+     * On an origin restored from a {@link StorageState} snapshot the control is
+     * expected to be gone, so it is only waited for {@code storage.state.probe};
+     * if it shows up anyway the snapshot is stale and gets dropped.
+     */
+    protected boolean dismissIfPresent(Element control) {
+        StorageState state = StorageState.shared();
+        String url = state != null ? driver.getCurrentUrl() : null;
+        boolean restored = state != null && state.restoredIn(driver, url);
+        Duration timeout = restored
+                ? ConfigManager.config().getDuration(ConfigKey.STORAGE_STATE_PROBE)
+                : ConfigManager.config().explicitWait();
+        if (!isVisibleWithin(control, timeout)) return false;
+        try {
+            click(control);
+        } catch (WebDriverException e) {
+            log.debug("Could not dismiss {}: {}", control, e.getMessage());
+            return false;
+        }
+        if (restored) state.invalidate(url);
+        return true;
+    }
+
+    /**
+     * Ends a page's one-time setup: snapshots the origin's cookies and storage
+     * (unless a usable snapshot exists) so later sessions start past it.
+     */
+    protected void captureStorageState() {
+        StorageState state = StorageState.shared();
+        if (state == null) return;
+        try {
+            state.capture(driver);
+        } catch (WebDriverException e) {
+            log.warn("Storage state not captured: {}", e.getMessage());
+        }
+    }
 }
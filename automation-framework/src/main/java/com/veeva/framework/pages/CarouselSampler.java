@@ -0,0 +1,177 @@
+package com.veeva.framework.pages;
+
+import com.veeva.framework.utils.ScriptResources;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CarouselSampler - Measures how long each carousel slide stays active.
+ *
+ * Polling the active slide from Java is only as precise as a WebDriver round
+ * trip and blocks the test thread. Instead, {@code js/carousel-sampler.js}
+ * runs inside the page: a MutationObserver on the slide container timestamps
+ * every active-slide change with {@code performance.now()} for the whole
+ * window, and the timestamps come back in a single async-script call.
+ *
+ * A slide counts as active when it carries {@code aria-selected/aria-pressed="true"},
+ * {@code aria-current}, {@code data-active} or an active/selected/current class.
+ * The first and last dwell of the window are cut off by the window itself and
+ * are not counted as samples; the last one is kept as the slide's
+ * {@link Slide#partialMillis()}, so a slide still showing when the window
+ * closed can be told apart from one that never showed.
+ */
+public final class CarouselSampler {
+
+    private static final Logger log = LogManager.getLogger(CarouselSampler.class);
+    private static final String SCRIPT_RESOURCE = "js/carousel-sampler.js";
+    private static final Duration SCRIPT_MARGIN = Duration.ofSeconds(10);
+
+    private CarouselSampler() {
+    }
+
+    /**
+     * Observes {@code container}'s children for {@code window} and returns per-slide dwell times.
+     */
+    @SuppressWarnings("unchecked")
+    public static Timing sample(WebDriver driver, WebElement container, Duration window) {
+        Duration previous = driver.manage().timeouts().getScriptTimeout();
+        driver.manage().timeouts().scriptTimeout(window.plus(SCRIPT_MARGIN));
+        Map<String, Object> raw;
+        try {
+            log.info("Sampling carousel for {}s", window.getSeconds());
+            raw = (Map<String, Object>) ((JavascriptExecutor) driver)
+                    .executeAsyncScript(ScriptResources.load(SCRIPT_RESOURCE), container, window.toMillis());
+        } finally {
+            driver.manage().timeouts().scriptTimeout(previous);
+        }
+        Timing timing = Timing.from((List<List<Number>>) raw.get("changes"),
+                (List<String>) raw.get("titles"), ((Number) raw.get("end")).doubleValue());
+        log.info("Carousel: {} slide changes, dwell per slide: {}", timing.transitions(), timing.slides());
+        return timing;
+    }
+
+    // ─── Result ───────────────────────────────────────────────────────────────
+
+    public static final class Timing {
+
+        private final int transitions;
+        private final List<Slide> slides;
+
+        private Timing(int transitions, List<Slide> slides) {
+            this.transitions = transitions;
+            this.slides = Collections.unmodifiableList(slides);
+        }
+
+        static Timing from(List<List<Number>> changes, List<String> titles, double end) {
+            List<Slide> slides = new ArrayList<>();
+            for (int i = 0; i < titles.size(); i++) {
+                slides.add(new Slide(i, titles.get(i)));
+            }
+            // changes[0] is the state at the start of the window; its dwell began earlier
+            for (int i = 1; i + 1 < changes.size(); i++) {
+                int index = changes.get(i).get(0).intValue();
+                double dwell = changes.get(i + 1).get(1).doubleValue() - changes.get(i).get(1).doubleValue();
+                if (index >= 0 && index < slides.size()) {
+                    slides.get(index).samples.add(dwell);
+                }
+            }
+            // the last change was still showing when the window ended at `end`
+            if (changes.size() > 1) {
+                List<Number> last = changes.get(changes.size() - 1);
+                int index = last.get(0).intValue();
+                if (index >= 0 && index < slides.size()) {
+                    slides.get(index).partial = end - last.get(1).doubleValue();
+                }
+            }
+            return new Timing(Math.max(0, changes.size() - 1), slides);
+        }
+
+        /**
+         * Number of active-slide changes observed in the window.
+         */
+        public int transitions() {
+            return transitions;
+        }
+
+        public List<Slide> slides() {
+            return slides;
+        }
+
+        /**
+         * The slide with the given title (trimmed, case-insensitive), or null.
+         */
+        public Slide slide(String title) {
+            for (Slide slide : slides) {
+                if (slide.title.equalsIgnoreCase(title.trim())) return slide;
+            }
+            return null;
+        }
+    }
+
+    public static final class Slide {
+
+        private final int index;
+        private final String title;
+        private final List<Double> samples = new ArrayList<>();
+        private double partial = Double.NaN;
+
+        Slide(int index, String title) {
+            this.index = index;
+            this.title = title;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public String title() {
+            return title;
+        }
+
+        /**
+         * Complete dwell times observed, in milliseconds.
+         */
+        public List<Double> samples() {
+            return Collections.unmodifiableList(samples);
+        }
+
+        /**
+         * How long the slide had been showing when the window ended, or NaN if it was not showing then.
+         */
+        public double partialMillis() {
+            return partial;
+        }
+
+        public double meanMillis() {
+            return samples.stream().mapToDouble(Double::doubleValue).average().orElse(Double.NaN);
+        }
+
+        public double minMillis() {
+            return samples.stream().mapToDouble(Double::doubleValue).min().orElse(Double.NaN);
+        }
+
+        public double maxMillis() {
+            return samples.stream().mapToDouble(Double::doubleValue).max().orElse(Double.NaN);
+        }
+
+        @Override
+        public String toString() {
+            if (samples.isEmpty()) {
+                return Double.isNaN(partial)
+                        ? String.format("#%d '%s' (never shown)", index, title)
+                        : String.format("#%d '%s' (only a partial dwell of %.0fms at the end)", index, title, partial);
+            }
+            return String.format("#%d '%s' n=%d mean=%.0fms min=%.0fms max=%.0fms",
+                            index, title, samples.size(), meanMillis(), minMillis(), maxMillis());
+        }
+    }
+}
@@ -30,41 +30,45 @@ import java.util.List;
 public final class Element {
 
     private final By locator;
+    private final String scriptUsing;
+    private final String scriptValue;
 
     // ─── Private constructor ───────────────────────────────────────────────────
 
-    private Element(By locator) {
+    private Element(By locator, String scriptUsing, String scriptValue) {
         this.locator = locator;
+        this.scriptUsing = scriptUsing;
+        this.scriptValue = scriptValue;
     }
 
     // ─── Static factory methods (Page Objects use ONLY these) ─────────────────
 
     public static Element css(String selector) {
-        return new Element(By.cssSelector(selector));
+        return new Element(By.cssSelector(selector), "css", selector);
     }
 
     public static Element xpath(String expression) {
-        return new Element(By.xpath(expression));
+        return new Element(By.xpath(expression), "xpath", expression);
     }
 
     public static Element id(String id) {
-        return new Element(By.id(id));
+        return new Element(By.id(id), "css", "[id=\"" + cssString(id) + "\"]");
     }
 
     public static Element name(String name) {
-        return new Element(By.name(name));
+        return new Element(By.name(name), "css", "[name=\"" + cssString(name) + "\"]");
     }
 
     public static Element linkText(String text) {
-        return new Element(By.linkText(text));
+        return new Element(By.linkText(text), null, null);
     }
 
     public static Element partialLinkText(String text) {
-        return new Element(By.partialLinkText(text));
+        return new Element(By.partialLinkText(text), null, null);
     }
 
     public static Element tagName(String tag) {
-        return new Element(By.tagName(tag));
+        return new Element(By.tagName(tag), "css", tag);
     }
 
     // ─── Resolution methods ───────────────────────────────────────────────────
@@ -140,6 +144,25 @@ public final class Element {
         return locator;
     }
 
+    /**
+     * How page scripts locate the element themselves: "css" or "xpath", or
+     * null when only WebDriver can (link text). See {@link #scriptValue()}.
+     */
+    String scriptUsing() {
+        return scriptUsing;
+    }
+
+    /**
+     * The CSS selector or XPath expression for {@link #scriptUsing()}.
+     */
+    String scriptValue() {
+        return scriptValue;
+    }
+
+    private static String cssString(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
     @Override
     public String toString() {
         return String.valueOf(locator);
@@ -0,0 +1,36 @@
+package com.veeva.framework.pages;
+
+import com.veeva.framework.metrics.FrameworkMetrics;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * MeteredWait - WebDriverWait that records how long each wait took, and how it
+ * ended, in {@code veeva_wait_seconds{outcome}} (see FrameworkMetrics).
+ */
+class MeteredWait extends WebDriverWait {
+
+    MeteredWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            V value = super.until(isTrue);
+            outcome = "satisfied";
+            return value;
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            throw e;
+        } finally {
+            FrameworkMetrics.WAIT.labels(outcome).observe((System.nanoTime() - start) / 1e9);
+        }
+    }
+}
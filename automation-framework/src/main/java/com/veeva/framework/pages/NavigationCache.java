@@ -0,0 +1,131 @@
+package com.veeva.framework.pages;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * NavigationCache - Learned shortcuts for menu navigation.
+ *
+ * The first time a menu path (hover → click → maybe a new window) lands on a
+ * valid page, its resolved URL is recorded under the path's name. Later runs
+ * within {@code navigation.cache.ttl} go straight to that URL with
+ * {@code driver.get}; see {@link BasePage#navigateVia}. A shortcut that no
+ * longer validates is dropped and the UI path runs (and re-learns it).
+ *
+ * Stored as {@code navigation-cache.json} next to the test history
+ * ({@code history.dir}); every change re-reads the file and replaces it
+ * atomically, so parallel JVMs only ever lose a shortcut, never corrupt it.
+ */
+public final class NavigationCache {
+
+    private static final Logger log = LogManager.getLogger(NavigationCache.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final TypeReference<TreeMap<String, Entry>> ENTRIES = new TypeReference<TreeMap<String, Entry>>() {};
+
+    static final String FILE_NAME = "navigation-cache.json";
+
+    private static volatile NavigationCache shared;
+
+    private final Path file;
+    private final Duration ttl;
+    private Map<String, Entry> entries;
+
+    NavigationCache(Path file, Duration ttl) {
+        this.file = file;
+        this.ttl = ttl;
+        this.entries = read();
+    }
+
+    /**
+     * Returns the JVM-wide cache, or null when {@code navigation.cache.enabled=false}.
+     */
+    public static NavigationCache shared() {
+        if (!ConfigManager.config().getBoolean(ConfigKey.NAV_CACHE_ENABLED)) {
+            return null;
+        }
+        if (shared == null) {
+            synchronized (NavigationCache.class) {
+                if (shared == null) {
+                    shared = new NavigationCache(
+                            ConfigManager.config().getPath(ConfigKey.HISTORY_DIR).resolve(FILE_NAME),
+                            ConfigManager.config().getDuration(ConfigKey.NAV_CACHE_TTL));
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Returns the recorded URL of a path, or null when unknown or older than the TTL.
+     */
+    public synchronized String lookup(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) return null;
+        if (System.currentTimeMillis() - entry.recordedAt > ttl.toMillis()) {
+            log.debug("Navigation shortcut expired: {}", path);
+            return null;
+        }
+        return entry.url;
+    }
+
+    public synchronized void record(String path, String url) {
+        Entry entry = new Entry();
+        entry.url = url;
+        entry.recordedAt = System.currentTimeMillis();
+        update(path, entry);
+        log.info("Learned navigation shortcut: {} → {}", path, url);
+    }
+
+    public synchronized void invalidate(String path) {
+        if (entries.containsKey(path)) {
+            update(path, null);
+            log.info("Dropped navigation shortcut: {}", path);
+        }
+    }
+
+    private void update(String path, Entry entry) {
+        Map<String, Entry> merged = read();
+        if (entry == null) {
+            merged.remove(path);
+        } else {
+            merged.put(path, entry);
+        }
+        entries = merged;
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+            MAPPER.writeValue(tmp.toFile(), merged);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Navigation cache not saved ({}): {}", file, e.getMessage());
+        }
+    }
+
+    private Map<String, Entry> read() {
+        if (!Files.exists(file)) return new TreeMap<>();
+        try {
+            return MAPPER.readValue(file.toFile(), ENTRIES);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable navigation cache {}: {}", file, e.getMessage());
+            return new TreeMap<>();
+        }
+    }
+
+    public static final class Entry {
+        public String url;
+        public long recordedAt;
+    }
+}
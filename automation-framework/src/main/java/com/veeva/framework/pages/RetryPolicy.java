@@ -0,0 +1,205 @@
+package com.veeva.framework.pages;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * RetryPolicy - Declarative in-session retry for flaky UI actions.
+ *
+ * A policy names the exceptions worth retrying, how many attempts to make,
+ * how long to back off between them and an optional recovery action run
+ * before each retry (re-hover a menu, scroll back, dismiss an overlay).
+ * Anything not listed propagates immediately. Every retry is counted in
+ * {@link RetryStats} so flaky steps show up in the report instead of
+ * silently passing.
+ *
+ * Usage in a Page Object:
+ * <pre>
+ *   private final RetryPolicy menuRetry = RetryPolicy.builder()
+ *           .retryOn(TimeoutException.class, ElementClickInterceptedException.class)
+ *           .attempts(3)
+ *           .recover(() -&gt; hover(nbaHome))
+ *           .build();
+ *
+ *   retry(menuRetry, "News &amp; Features", () -&gt; { openMenu(); click(newsLink); });
+ * </pre>
+ *
+ * {@link #transientFailures()} is the policy BasePage applies to its own
+ * single-element actions ({@code retry.attempts}, {@code retry.backoff}).
+ */
+public final class RetryPolicy {
+
+    private static final Logger log = LogManager.getLogger(RetryPolicy.class);
+
+    private final List<Class<? extends Throwable>> retryOn;
+    private final int attempts;
+    private final Duration backoff;
+    private final double multiplier;
+    private final Runnable recovery;
+
+    private RetryPolicy(Builder builder) {
+        this.retryOn = Collections.unmodifiableList(new ArrayList<>(builder.retryOn));
+        this.attempts = builder.attempts;
+        this.backoff = builder.backoff;
+        this.multiplier = builder.multiplier;
+        this.recovery = builder.recovery;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retries the exceptions that a re-resolve of the element usually cures
+     * (stale, intercepted, not interactable, moved), as configured.
+     */
+    public static RetryPolicy transientFailures() {
+        return builder()
+                .retryOn(StaleElementReferenceException.class,
+                        ElementClickInterceptedException.class,
+                        ElementNotInteractableException.class,
+                        MoveTargetOutOfBoundsException.class)
+                .attempts(ConfigManager.config().getInt(ConfigKey.RETRY_ATTEMPTS))
+                .backoff(ConfigManager.config().getDuration(ConfigKey.RETRY_BACKOFF))
+                .build();
+    }
+
+    public int attempts() {
+        return attempts;
+    }
+
+    /**
+     * Runs the action, retrying per this policy. The last failure is rethrown
+     * when attempts run out.
+     */
+    public <T> T execute(String action, Supplier<T> body) {
+        Duration delay = backoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = body.get();
+                RetryStats.recordSuccess(action, attempt);
+                return result;
+            } catch (RuntimeException e) {
+                if (!isRetryable(e) || attempt >= attempts) {
+                    RetryStats.recordFailure(action, attempt, e);
+                    throw e;
+                }
+                log.warn("Retrying '{}' ({}/{}) after {}: {}", action, attempt + 1, attempts,
+                        e.getClass().getSimpleName(), firstLine(e.getMessage()));
+                RetryStats.recordRetry(action, attempt, e);
+                pause(delay);
+                delay = Duration.ofMillis((long) (delay.toMillis() * multiplier));
+                recover(action);
+            }
+        }
+    }
+
+    public void run(String action, Runnable body) {
+        execute(action, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    private boolean isRetryable(Throwable e) {
+        for (Class<? extends Throwable> type : retryOn) {
+            if (type.isInstance(e)) return true;
+        }
+        return false;
+    }
+
+    private void recover(String action) {
+        if (recovery == null) return;
+        try {
+            recovery.run();
+        } catch (RuntimeException e) {
+            // The next attempt decides; a failed recovery must not mask the original flow
+            log.debug("Recovery for '{}' failed: {}", action, e.getMessage());
+        }
+    }
+
+    private static void pause(Duration delay) {
+        if (delay.isZero() || delay.isNegative()) return;
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static String firstLine(String message) {
+        if (message == null) return "";
+        int nl = message.indexOf('\n');
+        return nl < 0 ? message : message.substring(0, nl);
+    }
+
+    // ─── Builder ──────────────────────────────────────────────────────────────
+
+    public static final class Builder {
+
+        private final List<Class<? extends Throwable>> retryOn = new ArrayList<>();
+        private int attempts = 3;
+        private Duration backoff = Duration.ofMillis(250);
+        private double multiplier = 2.0;
+        private Runnable recovery;
+
+        private Builder() {
+        }
+
+        @SafeVarargs
+        public final Builder retryOn(Class<? extends Throwable>... types) {
+            retryOn.addAll(Arrays.asList(types));
+            return this;
+        }
+
+        /**
+         * Total attempts including the first; 1 disables retrying.
+         */
+        public Builder attempts(int attempts) {
+            this.attempts = Math.max(1, attempts);
+            return this;
+        }
+
+        public Builder backoff(Duration initial) {
+            this.backoff = initial;
+            return this;
+        }
+
+        /**
+         * Exponential backoff: each pause is the previous one times {@code multiplier}.
+         */
+        public Builder backoff(Duration initial, double multiplier) {
+            this.backoff = initial;
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Runs before every retry to put the page back into a known state.
+         */
+        public Builder recover(Runnable recovery) {
+            this.recovery = recovery;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            if (retryOn.isEmpty()) {
+                retryOn.add(RuntimeException.class);
+            }
+            return new RetryPolicy(this);
+        }
+    }
+}
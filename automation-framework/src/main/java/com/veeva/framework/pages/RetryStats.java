@@ -0,0 +1,97 @@
+package com.veeva.framework.pages;
+
+import com.veeva.framework.metrics.FrameworkMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RetryStats - Per-action retry counters for {@link RetryPolicy}.
+ *
+ * Two views are kept:
+ *   - run-wide totals per action name (calls, retries, recovered, exhausted),
+ *     reported by AllureListener when the suite finishes
+ *   - the retries of the test running on the current thread, drained and
+ *     attached to that test's Allure result when it finishes
+ */
+public final class RetryStats {
+
+    private static final Map<String, Counts> TOTALS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<List<String>> CURRENT_TEST = ThreadLocal.withInitial(ArrayList::new);
+
+    private RetryStats() {
+    }
+
+    static void recordSuccess(String action, int attempt) {
+        Counts counts = counts(action);
+        counts.calls.incrementAndGet();
+        if (attempt > 1) counts.recovered.incrementAndGet();
+    }
+
+    static void recordRetry(String action, int attempt, Throwable cause) {
+        counts(action).retries.incrementAndGet();
+        FrameworkMetrics.ACTION_RETRIES.inc();
+        CURRENT_TEST.get().add(action + " | attempt " + attempt + " failed: "
+                + cause.getClass().getSimpleName() + " " + RetryPolicy.firstLine(cause.getMessage()));
+    }
+
+    static void recordFailure(String action, int attempt, Throwable cause) {
+        Counts counts = counts(action);
+        counts.calls.incrementAndGet();
+        if (attempt > 1) {
+            counts.exhausted.incrementAndGet();
+            FrameworkMetrics.ACTION_RETRIES_EXHAUSTED.inc();
+            CURRENT_TEST.get().add(action + " | gave up after " + attempt + " attempts: "
+                    + cause.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Returns and clears the retry log of the test on the current thread.
+     */
+    public static List<String> drainCurrentTest() {
+        List<String> events = CURRENT_TEST.get();
+        if (events.isEmpty()) return Collections.emptyList();
+        List<String> copy = new ArrayList<>(events);
+        events.clear();
+        return copy;
+    }
+
+    /**
+     * One CSV row per action that needed at least one retry, sorted by action name.
+     */
+    public static List<String[]> flakyActions() {
+        List<String[]> rows = new ArrayList<>();
+        new TreeMap<>(TOTALS).forEach((action, c) -> {
+            if (c.retries.get() > 0) {
+                rows.add(new String[]{action, String.valueOf(c.calls.get()), String.valueOf(c.retries.get()),
+                        String.valueOf(c.recovered.get()), String.valueOf(c.exhausted.get())});
+            }
+        });
+        return rows;
+    }
+
+    public static String[] headers() {
+        return new String[]{"Action", "Calls", "Retries", "Recovered", "Exhausted"};
+    }
+
+    public static void reset() {
+        TOTALS.clear();
+    }
+
+    private static Counts counts(String action) {
+        return TOTALS.computeIfAbsent(action, a -> new Counts());
+    }
+
+    private static final class Counts {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger retries = new AtomicInteger();
+        final AtomicInteger recovered = new AtomicInteger();
+        final AtomicInteger exhausted = new AtomicInteger();
+    }
+}
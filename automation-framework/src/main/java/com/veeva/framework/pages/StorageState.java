@@ -0,0 +1,311 @@
+package com.veeva.framework.pages;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.utils.ScriptResources;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+/**
+ * StorageState - Snapshots of an origin's cookies and Web Storage, replayed into new sessions.
+ *
+ * A page object ends its one-time setup (consent banner, promo dialogs) with
+ * {@link BasePage#captureStorageState()}: the origin's cookies, localStorage
+ * and sessionStorage are saved. Before a session's first
+ * {@link BasePage#navigateTo} to that origin, the snapshot is restored from a
+ * lightweight same-origin URL ({@code storage.state.landing}), because
+ * WebDriver only sets cookies for the page it is on. The test then lands on
+ * an already-consented page.
+ *
+ * A snapshot is dropped when it is older than {@code storage.state.ttl}, or
+ * when a banner shows up anyway on a restored origin
+ * ({@link BasePage#dismissIfPresent}); the next setup captures a fresh one.
+ *
+ * Stored as {@code storage-state.json} in {@code history.dir}, re-read and
+ * replaced atomically on every change like the {@link NavigationCache}.
+ */
+public final class StorageState {
+
+    private static final Logger log = LogManager.getLogger(StorageState.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final TypeReference<TreeMap<String, Snapshot>> SNAPSHOTS = new TypeReference<TreeMap<String, Snapshot>>() {};
+
+    static final String FILE_NAME = "storage-state.json";
+    static final String SCRIPT = "js/storage-state.js";
+
+    private static volatile StorageState shared;
+
+    private final Path file;
+    private final Duration ttl;
+    private final String landing;
+    private Map<String, Snapshot> snapshots;
+    /** Origins each session has been prepared for, and which of them got a snapshot. */
+    private final Map<WebDriver, Set<String>> prepared = new WeakHashMap<>();
+    private final Map<WebDriver, Set<String>> restored = new WeakHashMap<>();
+
+    StorageState(Path file, Duration ttl, String landing) {
+        this.file = file;
+        this.ttl = ttl;
+        this.landing = landing.startsWith("/") ? landing : "/" + landing;
+        this.snapshots = read();
+    }
+
+    /**
+     * Returns the JVM-wide store, or null when {@code storage.state.enabled=false}.
+     */
+    public static StorageState shared() {
+        if (!ConfigManager.config().getBoolean(ConfigKey.STORAGE_STATE_ENABLED)) {
+            return null;
+        }
+        if (shared == null) {
+            synchronized (StorageState.class) {
+                if (shared == null) {
+                    shared = new StorageState(
+                            ConfigManager.config().getPath(ConfigKey.HISTORY_DIR).resolve(FILE_NAME),
+                            ConfigManager.config().getDuration(ConfigKey.STORAGE_STATE_TTL),
+                            ConfigManager.config().getString(ConfigKey.STORAGE_STATE_LANDING));
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Forgets what a session was prepared with (its cookies were cleared, e.g. by {@code DriverPool}).
+     */
+    public static void forget(WebDriver driver) {
+        StorageState state = shared;
+        if (state != null) {
+            synchronized (state) {
+                state.prepared.remove(driver);
+                state.restored.remove(driver);
+            }
+        }
+    }
+
+    /**
+     * {@code scheme://host[:port]} of an http(s) URL, or null for anything else.
+     */
+    public static String origin(String url) {
+        try {
+            URI uri = URI.create(url);
+            String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+            if (!scheme.equals("http") && !scheme.equals("https") || uri.getHost() == null) return null;
+            return scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT) + (uri.getPort() >= 0 ? ":" + uri.getPort() : "");
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // ─── Restore ──────────────────────────────────────────────────────────────
+
+    /**
+     * Before the session's first visit to the URL's origin: restores its snapshot, if there is one.
+     *
+     * @return true when a snapshot was restored
+     */
+    public boolean restore(WebDriver driver, String url) {
+        String origin = origin(url);
+        if (origin == null) return false;
+        Snapshot snapshot;
+        synchronized (this) {
+            if (!prepared.computeIfAbsent(driver, d -> new HashSet<>()).add(origin)) return false;
+            snapshot = lookup(origin);
+            if (snapshot == null) return false;
+        }
+
+        long now = System.currentTimeMillis();
+        try {
+            driver.get(origin + landing);
+            int cookies = 0;
+            for (CookieState c : snapshot.cookies) {
+                if (c.expiry != null && c.expiry < now) continue;
+                try {
+                    driver.manage().addCookie(c.toCookie());
+                    cookies++;
+                } catch (WebDriverException e) {
+                    log.debug("Cookie {} not restored on {}: {}", c.name, origin, e.getMessage());
+                }
+            }
+            ((JavascriptExecutor) driver).executeScript(ScriptResources.load(SCRIPT),
+                    snapshot.localStorage, snapshot.sessionStorage);
+            synchronized (this) {
+                restored.computeIfAbsent(driver, d -> new HashSet<>()).add(origin);
+            }
+            log.info("Restored storage state of {}: {} cookies, {} localStorage, {} sessionStorage entries",
+                    origin, cookies, snapshot.localStorage.size(), snapshot.sessionStorage.size());
+            return true;
+        } catch (WebDriverException e) {
+            log.warn("Storage state of {} not restored: {}", origin, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * True when the session's state for the origin of {@code url} came from a snapshot.
+     */
+    public synchronized boolean restoredIn(WebDriver driver, String url) {
+        String origin = origin(url);
+        Set<String> origins = restored.get(driver);
+        return origin != null && origins != null && origins.contains(origin);
+    }
+
+    // ─── Capture ──────────────────────────────────────────────────────────────
+
+    /**
+     * Saves the current page's origin, unless a usable snapshot of it already exists.
+     */
+    @SuppressWarnings("unchecked")
+    public void capture(WebDriver driver) {
+        String origin = origin(driver.getCurrentUrl());
+        if (origin == null) return;
+        synchronized (this) {
+            if (lookup(origin) != null) return;
+        }
+
+        Snapshot snapshot = new Snapshot();
+        snapshot.capturedAt = System.currentTimeMillis();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            snapshot.cookies.add(CookieState.of(cookie));
+        }
+        Object storage = ((JavascriptExecutor) driver).executeScript(ScriptResources.load(SCRIPT), null, null);
+        if (storage instanceof Map) {
+            snapshot.localStorage = strings(((Map<String, Object>) storage).get("local"));
+            snapshot.sessionStorage = strings(((Map<String, Object>) storage).get("session"));
+        }
+        synchronized (this) {
+            update(origin, snapshot);
+            restored.computeIfAbsent(driver, d -> new HashSet<>()).add(origin);
+        }
+        log.info("Captured storage state of {}: {} cookies, {} localStorage, {} sessionStorage entries",
+                origin, snapshot.cookies.size(), snapshot.localStorage.size(), snapshot.sessionStorage.size());
+    }
+
+    /**
+     * Drops the snapshot of the URL's origin (it no longer gets the session past the setup).
+     */
+    public synchronized void invalidate(String url) {
+        String origin = origin(url);
+        if (origin != null && snapshots.containsKey(origin)) {
+            update(origin, null);
+            log.info("Dropped storage state of {}: setup was needed again", origin);
+        }
+    }
+
+    /**
+     * The snapshot of an origin, or null when unknown or older than the TTL.
+     */
+    synchronized Snapshot lookup(String origin) {
+        Snapshot snapshot = snapshots.get(origin);
+        if (snapshot == null) return null;
+        if (System.currentTimeMillis() - snapshot.capturedAt > ttl.toMillis()) {
+            log.debug("Storage state expired: {}", origin);
+            return null;
+        }
+        return snapshot;
+    }
+
+    private static Map<String, String> strings(Object value) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        if (value instanceof Map) {
+            ((Map<?, ?>) value).forEach((k, v) -> entries.put(String.valueOf(k), v == null ? null : String.valueOf(v)));
+        }
+        return entries;
+    }
+
+    private void update(String origin, Snapshot snapshot) {
+        Map<String, Snapshot> merged = read();
+        if (snapshot == null) {
+            merged.remove(origin);
+        } else {
+            merged.put(origin, snapshot);
+        }
+        snapshots = merged;
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+            MAPPER.writeValue(tmp.toFile(), merged);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Storage state not saved ({}): {}", file, e.getMessage());
+        }
+    }
+
+    private Map<String, Snapshot> read() {
+        if (!Files.exists(file)) return new TreeMap<>();
+        try {
+            return MAPPER.readValue(file.toFile(), SNAPSHOTS);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable storage state {}: {}", file, e.getMessage());
+            return new TreeMap<>();
+        }
+    }
+
+    public static final class Snapshot {
+        public long capturedAt;
+        public List<CookieState> cookies = new ArrayList<>();
+        public Map<String, String> localStorage = Collections.emptyMap();
+        public Map<String, String> sessionStorage = Collections.emptyMap();
+    }
+
+    public static final class CookieState {
+        public String name;
+        public String value;
+        public String domain;
+        public String path;
+        /** Epoch millis; null for a session cookie. */
+        public Long expiry;
+        public boolean secure;
+        public boolean httpOnly;
+        public String sameSite;
+
+        static CookieState of(Cookie cookie) {
+            CookieState c = new CookieState();
+            c.name = cookie.getName();
+            c.value = cookie.getValue();
+            c.domain = cookie.getDomain();
+            c.path = cookie.getPath();
+            c.expiry = cookie.getExpiry() != null ? cookie.getExpiry().getTime() : null;
+            c.secure = cookie.isSecure();
+            c.httpOnly = cookie.isHttpOnly();
+            c.sameSite = cookie.getSameSite();
+            return c;
+        }
+
+        Cookie toCookie() {
+            return new Cookie.Builder(name, value)
+                    .domain(domain)
+                    .path(path != null ? path : "/")
+                    .expiresOn(expiry != null ? new Date(expiry) : null)
+                    .isSecure(secure)
+                    .isHttpOnly(httpOnly)
+                    .sameSite(sameSite)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.veeva.framework.pages;
+
+import com.veeva.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * TabGroup - Runs several read-only page checks in tabs of one browser session.
+ *
+ * WebDriver drives one tab at a time, but the browser loads every tab at
+ * once. A TabGroup therefore works in phases instead of page by page:
+ *   1. {@link #open(String, String)} opens a tab per check and starts its
+ *      navigation with {@code location.assign} — which, unlike
+ *      {@code driver.get}, returns immediately
+ *   2. {@link #awaitLoaded()} visits the tabs round-robin until each reports
+ *      {@code document.readyState == "complete"}, so the network waits overlap
+ *   3. {@link #extract(Function)} switches to each tab in turn and collects
+ *      the results, keyed by tab name
+ * Closing the group closes its tabs and returns to the original one.
+ *
+ * Usage (page objects built inside the extractor act on the current tab):
+ * <pre>
+ *   try (TabGroup tabs = new TabGroup(driver)) {
+ *       tabs.open("news", newsUrl).open("stats", statsUrl).awaitLoaded();
+ *       Map&lt;String, Integer&gt; counts = tabs.extract(d -&gt; new SomePage().count());
+ *   }
+ * </pre>
+ */
+public final class TabGroup implements AutoCloseable {
+
+    private static final Logger log = LogManager.getLogger(TabGroup.class);
+    private static final long POLL_MILLIS = 100;
+
+    private final WebDriver driver;
+    private final String origin;
+    private final Map<String, String> handles = new LinkedHashMap<>();
+
+    public TabGroup(WebDriver driver) {
+        this.driver = driver;
+        this.origin = driver.getWindowHandle();
+    }
+
+    /**
+     * Opens a new tab named {@code name} and starts loading {@code url} without waiting.
+     */
+    public TabGroup open(String name, String url) {
+        if (handles.containsKey(name)) {
+            throw new IllegalArgumentException("Tab '" + name + "' is already open");
+        }
+        driver.switchTo().newWindow(WindowType.TAB);
+        handles.put(name, driver.getWindowHandle());
+        ((JavascriptExecutor) driver).executeScript("window.location.assign(arguments[0]);", url);
+        log.debug("Tab '{}' loading {}", name, url);
+        return this;
+    }
+
+    /**
+     * Waits until every tab has finished loading, up to {@code page.load.timeout}.
+     */
+    public TabGroup awaitLoaded() {
+        return awaitLoaded(ConfigManager.config().pageLoadTimeout());
+    }
+
+    public TabGroup awaitLoaded(Duration timeout) {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        List<String> pending = new ArrayList<>(handles.keySet());
+        while (!pending.isEmpty()) {
+            pending.removeIf(this::isLoaded);
+            if (pending.isEmpty()) break;
+            if (System.currentTimeMillis() > deadline) {
+                throw new TimeoutException("Tabs still loading after " + timeout.getSeconds() + "s: " + pending);
+            }
+            try {
+                Thread.sleep(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for tabs " + pending, e);
+            }
+        }
+        log.info("{} tabs loaded", handles.size());
+        return this;
+    }
+
+    /**
+     * Runs {@code extractor} in every tab (switched to it) and returns the results by tab name.
+     */
+    public <T> Map<String, T> extract(Function<WebDriver, T> extractor) {
+        Map<String, T> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> tab : handles.entrySet()) {
+            driver.switchTo().window(tab.getValue());
+            results.put(tab.getKey(), extractor.apply(driver));
+        }
+        return results;
+    }
+
+    /**
+     * Switches the driver to a named tab, for checks that need more than {@link #extract}.
+     */
+    public WebDriver switchTo(String name) {
+        String handle = handles.get(name);
+        if (handle == null) {
+            throw new IllegalArgumentException("No tab named '" + name + "'");
+        }
+        return driver.switchTo().window(handle);
+    }
+
+    /**
+     * Closes the group's tabs and switches back to the tab that was active when it was created.
+     */
+    @Override
+    public void close() {
+        for (String handle : handles.values()) {
+            try {
+                driver.switchTo().window(handle).close();
+            } catch (Exception e) {
+                log.debug("Tab already closed: {}", e.getMessage());
+            }
+        }
+        handles.clear();
+        driver.switchTo().window(origin);
+    }
+
+    private boolean isLoaded(String name) {
+        driver.switchTo().window(handles.get(name));
+        Object state = ((JavascriptExecutor) driver).executeScript(
+                "return location.href === 'about:blank' ? 'pending' : document.readyState;");
+        return "complete".equals(state);
+    }
+}
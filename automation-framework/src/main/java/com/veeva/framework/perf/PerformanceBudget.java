@@ -0,0 +1,89 @@
+package com.veeva.framework.perf;
+
+import com.veeva.framework.config.FrameworkConfig;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PerformanceBudget - Upper limits for page metrics, resolved per URL from config.yaml.
+ *
+ * <pre>
+ *   perf.budget.default.lcp: 4000        → every page
+ *   perf.budget.core-product.lcp: 3000   → pages under urls.core-product
+ * </pre>
+ * The most specific (longest) matching {@code urls.*} entry overrides the defaults
+ * metric by metric.
+ */
+public final class PerformanceBudget {
+
+    static final String PREFIX = "perf.budget.";
+    static final String DEFAULT_GROUP = "default";
+
+    private final String group;
+    private final Map<String, Double> limits;
+
+    private PerformanceBudget(String group, Map<String, Double> limits) {
+        this.group = group;
+        this.limits = limits;
+    }
+
+    public static PerformanceBudget forUrl(FrameworkConfig config, String url) {
+        Map<String, Map<String, Double>> groups = new LinkedHashMap<>();
+        for (Map.Entry<String, String> e : config.section(PREFIX).entrySet()) {
+            int dot = e.getKey().indexOf('.');
+            if (dot < 0) continue;
+            groups.computeIfAbsent(e.getKey().substring(0, dot), g -> new LinkedHashMap<>())
+                    .put(e.getKey().substring(dot + 1), Double.parseDouble(e.getValue().trim()));
+        }
+
+        String match = null;
+        int matchLength = -1;
+        for (String group : groups.keySet()) {
+            String base = config.productUrl(group, null);
+            if (base == null || DEFAULT_GROUP.equals(group)) continue;
+            String prefix = stripSlash(base);
+            if (stripSlash(url).startsWith(prefix) && prefix.length() > matchLength) {
+                match = group;
+                matchLength = prefix.length();
+            }
+        }
+
+        Map<String, Double> limits = new LinkedHashMap<>(groups.getOrDefault(DEFAULT_GROUP, new LinkedHashMap<>()));
+        if (match != null) limits.putAll(groups.get(match));
+        return new PerformanceBudget(match != null ? match : DEFAULT_GROUP, limits);
+    }
+
+    public String group() {
+        return group;
+    }
+
+    public Map<String, Double> limits() {
+        return limits;
+    }
+
+    /**
+     * One message per metric over its limit; metrics the browser did not report are not judged.
+     */
+    public List<String> violations(Map<String, Object> metrics) {
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, Double> limit : limits.entrySet()) {
+            Object value = metrics.get(limit.getKey());
+            if (value instanceof Number && ((Number) value).doubleValue() > limit.getValue()) {
+                violations.add(limit.getKey() + " " + value + " > budget " + format(limit.getValue())
+                        + " (" + group + ")");
+            }
+        }
+        return violations;
+    }
+
+    private static String stripSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
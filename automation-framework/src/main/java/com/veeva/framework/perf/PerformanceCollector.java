@@ -0,0 +1,128 @@
+package com.veeva.framework.perf;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import com.veeva.framework.config.FrameworkConfig;
+import com.veeva.framework.context.TestContext;
+import com.veeva.framework.utils.ScriptResources;
+import io.qameta.allure.Allure;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PerformanceCollector - Web performance metrics for every navigation.
+ *
+ * With {@code perf.enabled=true}, {@code BasePage.navigateTo} calls
+ * {@link #record(WebDriver, String)} once the page has loaded.
+ * {@code js/perf-metrics.js} then reads Navigation Timing (ttfb, dcl, load),
+ * paint timing (fp, fcp), LCP and CLS through buffered PerformanceObservers,
+ * and resource count and transfer size, all in one async-script call.
+ *
+ * Each sample is:
+ *   - attached to the running test's Allure result
+ *   - appended as one JSON line to {@code <output.dir>/perf-metrics.jsonl}
+ *   - checked against the URL's {@link PerformanceBudget}; every exceeded
+ *     metric fails the running test once its method returns (see {@link TestContext#fail})
+ * Collection problems are logged and never fail the navigation.
+ */
+public final class PerformanceCollector {
+
+    private static final Logger log = LogManager.getLogger(PerformanceCollector.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SCRIPT_RESOURCE = "js/perf-metrics.js";
+    private static final String METRICS_FILE = "perf-metrics.jsonl";
+    private static final Duration SCRIPT_MARGIN = Duration.ofSeconds(10);
+
+    private PerformanceCollector() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigManager.config().getBoolean(ConfigKey.PERF_ENABLED);
+    }
+
+    /**
+     * Collects, reports and budget-checks the metrics of the page just loaded from {@code url}.
+     */
+    public static void record(WebDriver driver, String url) {
+        FrameworkConfig config = ConfigManager.config();
+        Map<String, Object> metrics;
+        try {
+            metrics = collect(driver, config.getDuration(ConfigKey.PERF_SETTLE));
+        } catch (Exception e) {
+            log.warn("Performance metrics not collected for {}: {}", url, e.getMessage());
+            return;
+        }
+        PerformanceBudget budget = PerformanceBudget.forUrl(config, url);
+        List<String> violations = budget.violations(metrics);
+        TestContext context = TestContext.currentOrNull();
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("timestamp", Instant.now().toString());
+        row.put("test", context != null ? context.name() : null);
+        row.put("browser", context != null ? context.browser() : null);
+        row.put("url", url);
+        row.putAll(metrics);
+        row.put("budget", budget.group());
+        row.put("violations", violations);
+
+        String json;
+        try {
+            json = MAPPER.writeValueAsString(row);
+        } catch (JsonProcessingException e) {
+            log.warn("Performance metrics not serialisable: {}", e.getMessage());
+            return;
+        }
+        log.info("Performance | {} | {}", url, metrics);
+        Allure.addAttachment("Performance - " + url, "application/json", json, "json");
+        append(Paths.get(config.getString(ConfigKey.OUTPUT_DIR), METRICS_FILE), json);
+
+        for (String violation : violations) {
+            log.warn("Performance budget exceeded on {}: {}", url, violation);
+            if (context != null) {
+                context.fail("Performance budget exceeded on " + url + ": " + violation);
+            }
+        }
+    }
+
+    /**
+     * Runs the in-page collector; waits for the load event plus {@code settle}.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> collect(WebDriver driver, Duration settle) {
+        Duration previous = driver.manage().timeouts().getScriptTimeout();
+        driver.manage().timeouts().scriptTimeout(settle.plus(SCRIPT_MARGIN));
+        try {
+            Object result = ((JavascriptExecutor) driver)
+                    .executeAsyncScript(ScriptResources.load(SCRIPT_RESOURCE), settle.toMillis());
+            return new LinkedHashMap<>((Map<String, Object>) result);
+        } finally {
+            driver.manage().timeouts().scriptTimeout(previous);
+        }
+    }
+
+    private static synchronized void append(Path file, String line) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Could not append to {}: {}", file, e.getMessage());
+        }
+    }
+}
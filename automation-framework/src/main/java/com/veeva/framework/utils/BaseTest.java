@@ -1,11 +1,15 @@
 package com.veeva.framework.utils;
 
+import com.veeva.framework.context.TestContext;
 import com.veeva.framework.driver.DriverManager;
+import com.veeva.framework.metrics.FrameworkMetrics;
 import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
 import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
@@ -17,6 +21,8 @@ import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * BaseTest - Parent class for all test classes.
@@ -30,11 +36,23 @@ import java.nio.file.Paths;
  *     <test> block, not one per method).
  *   - @BeforeMethod / @AfterMethod handle per-method concerns only
  *     (SoftAssert reset, logging, screenshots).
+ *
+ * Method-level parallelism:
+ *   - Every @Test invocation gets its own {@link TestContext} (SoftAssert,
+ *     output dir, log context) bound to its thread — use {@link #softAssert()}.
+ *   - With {@code driver.scope=method} the driver is created per invocation
+ *     instead of per <test> block, so parallel="methods" and
+ *     {@code @DataProvider(parallel = true)} each get their own session.
+ *
+ * Failures the framework records on the invocation's {@link TestContext}
+ * (performance budgets) fail the test once its method returns, whether or
+ * not the test calls {@code softAssert().assertAll()}.
  */
-public class BaseTest {
+public class BaseTest implements IHookable {
+
+    static final String BROWSER_ATTRIBUTE = "browser";
 
     protected final Logger log = LogManager.getLogger(getClass());
-    public SoftAssert softAssert;
 
     // ─── Driver lifecycle: one driver per <test> block ────────────────────────
 
@@ -45,21 +63,28 @@ public class BaseTest {
                 context.getName(), browser);
         // Pass browser directly — never via System.setProperty()
         // Each parallel thread stores its own browser in ThreadLocal
-        DriverManager.initDriver(browser);
+        context.setAttribute(BROWSER_ATTRIBUTE, browser);
+        if (!TestContext.isMethodScope()) {
+            DriverManager.initDriver(browser);
+        }
     }
 
     @AfterTest(alwaysRun = true)
     public void tearDownTest(ITestContext context) {
         log.info("========== Finished Test Block: {} ==========", context.getName());
-        DriverManager.quitDriver();
+        if (!TestContext.isMethodScope()) {
+            DriverManager.quitDriver();
+        }
     }
 
     // ─── Per-method lifecycle: SoftAssert + screenshot ────────────────────────
 
     @BeforeMethod(alwaysRun = true)
-    public void setUpMethod(Method method) {
+    public void setUpMethod(Method method, ITestContext context) {
         log.info("---------- Starting Method: {} ----------", method.getName());
-        softAssert = new SoftAssert();   // fresh SoftAssert for every @Test method
+        // fresh SoftAssert, output dir and (in method scope) driver for every invocation
+        TestContext.start(getClass().getName(), method.getName(),
+                (String) context.getAttribute(BROWSER_ATTRIBUTE));
     }
 
     @AfterMethod(alwaysRun = true)
@@ -73,8 +98,30 @@ public class BaseTest {
         }
         log.info("---------- Method: {} | Status: {} ----------", result.getName(), status);
 
-        if (result.getStatus() == ITestResult.FAILURE) {
-            captureScreenshotOnFailure(result.getName());
+        try {
+            if (result.getStatus() == ITestResult.FAILURE) {
+                captureScreenshotOnFailure(result.getName());
+            }
+        } finally {
+            TestContext.end();
+        }
+    }
+
+    // ─── Framework failures ───────────────────────────────────────────────────
+
+    @Override
+    public void run(IHookCallBack callBack, ITestResult result) {
+        callBack.runTestMethod(result);
+        TestContext context = TestContext.currentOrNull();
+        List<String> failures = context != null ? context.failures() : Collections.emptyList();
+        if (failures.isEmpty()) return;
+        AssertionError failure = new AssertionError("The framework recorded " + failures.size()
+                + " failure(s):\n  " + String.join("\n  ", failures));
+        if (result.getThrowable() != null) {
+            result.getThrowable().addSuppressed(failure);
+        } else {
+            result.setThrowable(failure);
+            result.setStatus(ITestResult.FAILURE);
         }
     }
 
@@ -84,11 +131,19 @@ public class BaseTest {
         return DriverManager.getDriver();
     }
 
+    /**
+     * SoftAssert of the running invocation — safe under parallel methods.
+     */
+    protected SoftAssert softAssert() {
+        return TestContext.current().softAssert();
+    }
+
     @Step("Capturing screenshot on failure: {testName}")
     private void captureScreenshotOnFailure(String testName) {
         try {
             byte[] screenshot = ((org.openqa.selenium.TakesScreenshot) DriverManager.getDriver())
                     .getScreenshotAs(org.openqa.selenium.OutputType.BYTES);
+            FrameworkMetrics.SCREENSHOTS.inc();
             Allure.getLifecycle().addAttachment(
                     "Screenshot on Failure - " + testName,
                     "image/png", "png", screenshot
@@ -111,6 +166,13 @@ public class BaseTest {
         }
     }
 
+    /**
+     * Output directory private to the running invocation.
+     */
+    protected String invocationOutputDir() {
+        return TestContext.current().outputDir();
+    }
+
     protected String ensureOutputDir(String subDir) {
         String dir = "target/test-outputs/" + subDir;
         new File(dir).mkdirs();
@@ -6,11 +6,13 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.*;
 import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.List;
 
 /**
  * FileUtils - Reusable file I/O operations.
- * Supports text file writing and CSV generation.
+ * Supports text file writing, CSV generation and content hashes.
  */
 public class FileUtils {
 
@@ -67,4 +69,19 @@ public class FileUtils {
             throw new RuntimeException("Failed to read file: " + filePath, e);
         }
     }
+
+    /**
+     * Hex SHA-256 of the given bytes.
+     */
+    public static String sha256(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder(64);
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
@@ -0,0 +1,265 @@
+package com.veeva.framework.utils;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * RelativeTimeParser - Turns feed timestamps ("5m", "2 hours ago", "Oct 15") into an age.
+ *
+ * Recognised forms (case-insensitive, surrounding words such as "ago" ignored,
+ * non-breaking spaces count as spaces):
+ *   - just now, now, moments ago, today           → 0
+ *   - yesterday                                    → 1 day
+ *   - N unit / Nunit / a|an unit, where unit is
+ *       s, sec(s), second(s)      m, min(s), minute(s)     h, hr(s), hour(s)
+ *       d, day(s)                 w, wk(s), week(s)
+ *       mo, mos, mon, month(s)    y, yr(s), year(s)
+ *     months count 30 days, years 365
+ *   - absolute dates: 2026-10-15, 10/15/2026, Oct 15, 2026, 15 October 2026
+ *     and Oct 15 (the latest such date not in the future) — age measured from
+ *     the start of that day in the clock's zone, never negative
+ * Anything else returns null.
+ *
+ * The parser is a single forward scan over the text: no regular expressions,
+ * no substrings, no lower-casing copies. The only allocation for relative
+ * forms is the returned Duration. Instances are immutable and thread-safe.
+ */
+public final class RelativeTimeParser {
+
+    private static final long MINUTE = 60;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+
+    private static final String[][] UNIT_NAMES = {
+            {"s", "sec", "secs", "second", "seconds"},
+            {"m", "min", "mins", "minute", "minutes"},
+            {"h", "hr", "hrs", "hour", "hours"},
+            {"d", "day", "days"},
+            {"w", "wk", "wks", "week", "weeks"},
+            {"mo", "mos", "mon", "month", "months"},
+            {"y", "yr", "yrs", "year", "years"}
+    };
+    private static final long[] UNIT_SECONDS = {1, MINUTE, HOUR, DAY, 7 * DAY, 30 * DAY, 365 * DAY};
+
+    private static final String[] MONTHS = {"january", "february", "march", "april", "may", "june", "july",
+            "august", "september", "october", "november", "december"};
+
+    private static final RelativeTimeParser SYSTEM = new RelativeTimeParser(Clock.systemDefaultZone());
+
+    private final Clock clock;
+
+    public RelativeTimeParser(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Parser measuring absolute dates against the system clock and zone.
+     */
+    public static RelativeTimeParser system() {
+        return SYSTEM;
+    }
+
+    /**
+     * The age described by {@code text}, or null when it is not a recognised timestamp.
+     */
+    public Duration parse(CharSequence text) {
+        if (text == null) return null;
+        int n = text.length();
+        int i = skipSpaces(text, 0);
+        if (i == n) return null;
+
+        if (isDigit(text.charAt(i))) {
+            int numEnd = skipDigits(text, i);
+            if (numEnd - i > 9) return null;
+            int value = parseInt(text, i, numEnd);
+            if (numEnd < n && text.charAt(numEnd) == '-' && numEnd - i == 4) {
+                return isoDate(text, value, numEnd + 1);
+            }
+            if (numEnd < n && text.charAt(numEnd) == '/') {
+                return slashDate(text, value, numEnd + 1);
+            }
+            int wordStart = skipSpaces(text, numEnd);
+            int wordEnd = skipLetters(text, wordStart);
+            int unit = unit(text, wordStart, wordEnd);
+            if (unit >= 0) {
+                return Duration.ofSeconds(value * UNIT_SECONDS[unit]);
+            }
+            int month = month(text, wordStart, wordEnd);
+            if (month >= 0) {
+                // "15 Oct 2026" / "15 October"
+                return dayMonthYear(text, value, month, wordEnd);
+            }
+            return null;
+        }
+
+        int wordEnd = skipLetters(text, i);
+        if (wordEnd == i) return null;
+        if (equalsIgnoreCase(text, i, wordEnd, "just") || equalsIgnoreCase(text, i, wordEnd, "now")
+                || equalsIgnoreCase(text, i, wordEnd, "moments") || equalsIgnoreCase(text, i, wordEnd, "today")) {
+            return Duration.ZERO;
+        }
+        if (equalsIgnoreCase(text, i, wordEnd, "yesterday")) {
+            return Duration.ofSeconds(DAY);
+        }
+        if (equalsIgnoreCase(text, i, wordEnd, "a") || equalsIgnoreCase(text, i, wordEnd, "an")) {
+            int unitStart = skipSpaces(text, wordEnd);
+            int unit = unit(text, unitStart, skipLetters(text, unitStart));
+            return unit >= 0 ? Duration.ofSeconds(UNIT_SECONDS[unit]) : null;
+        }
+        int month = month(text, i, wordEnd);
+        if (month >= 0) {
+            // "Oct 15, 2026" / "October 15"
+            int dayStart = skipSpaces(text, skipPeriod(text, wordEnd));
+            int dayEnd = skipDigits(text, dayStart);
+            if (dayEnd == dayStart || dayEnd - dayStart > 2) return null;
+            int day = parseInt(text, dayStart, dayEnd);
+            return monthDayYear(text, month, day, dayEnd);
+        }
+        return null;
+    }
+
+    /**
+     * Whole days of {@link #parse(CharSequence)}, or -1 when not recognised.
+     */
+    public long days(CharSequence text) {
+        Duration age = parse(text);
+        return age == null ? -1 : age.toDays();
+    }
+
+    // ─── Absolute dates ───────────────────────────────────────────────────────
+
+    private Duration isoDate(CharSequence text, int year, int i) {
+        int monthEnd = skipDigits(text, i);
+        if (monthEnd == i || monthEnd >= text.length() || text.charAt(monthEnd) != '-') return null;
+        int dayEnd = skipDigits(text, monthEnd + 1);
+        if (dayEnd == monthEnd + 1) return null;
+        return ageOf(year, parseInt(text, i, monthEnd), parseInt(text, monthEnd + 1, dayEnd));
+    }
+
+    private Duration slashDate(CharSequence text, int month, int i) {
+        int dayEnd = skipDigits(text, i);
+        if (dayEnd == i || dayEnd >= text.length() || text.charAt(dayEnd) != '/') return null;
+        int yearEnd = skipDigits(text, dayEnd + 1);
+        if (yearEnd - (dayEnd + 1) != 4) return null;
+        return ageOf(parseInt(text, dayEnd + 1, yearEnd), month, parseInt(text, i, dayEnd));
+    }
+
+    private Duration monthDayYear(CharSequence text, int month, int day, int i) {
+        int j = skipSpaces(text, i);
+        if (j < text.length() && text.charAt(j) == ',') j = skipSpaces(text, j + 1);
+        int yearEnd = skipDigits(text, j);
+        return yearEnd - j == 4 ? ageOf(parseInt(text, j, yearEnd), month + 1, day) : ageOfRecent(month + 1, day);
+    }
+
+    private Duration dayMonthYear(CharSequence text, int day, int month, int i) {
+        int j = skipSpaces(text, skipPeriod(text, i));
+        if (j < text.length() && text.charAt(j) == ',') j = skipSpaces(text, j + 1);
+        int yearEnd = skipDigits(text, j);
+        return yearEnd - j == 4 ? ageOf(parseInt(text, j, yearEnd), month + 1, day) : ageOfRecent(month + 1, day);
+    }
+
+    private Duration ageOfRecent(int month, int day) {
+        LocalDate today = LocalDate.now(clock);
+        try {
+            LocalDate date = LocalDate.of(today.getYear(), month, day);
+            return age(date.isAfter(today) ? date.minusYears(1) : date);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private Duration ageOf(int year, int month, int day) {
+        try {
+            return age(LocalDate.of(year, month, day));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private Duration age(LocalDate date) {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        Duration age = Duration.between(date.atStartOfDay(clock.getZone()), now);
+        return age.isNegative() ? Duration.ZERO : age;
+    }
+
+    // ─── Scanning ─────────────────────────────────────────────────────────────
+
+    /**
+     * Index into {@link #UNIT_NAMES} of the word text[from, to), or -1.
+     */
+    private static int unit(CharSequence text, int from, int to) {
+        if (from == to) return -1;
+        for (int u = 0; u < UNIT_NAMES.length; u++) {
+            for (String name : UNIT_NAMES[u]) {
+                if (equalsIgnoreCase(text, from, to, name)) return u;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Zero-based month of the word text[from, to) — a full name, its first three letters or "sept" — or -1.
+     */
+    private static int month(CharSequence text, int from, int to) {
+        int len = to - from;
+        if (len < 3) return -1;
+        for (int m = 0; m < MONTHS.length; m++) {
+            String name = MONTHS[m];
+            if (len > name.length() || !startsWithIgnoreCase(name, text, from, to)) continue;
+            if (len == 3 || len == name.length() || (m == 8 && len == 4)) return m;
+        }
+        return -1;
+    }
+
+    private static boolean equalsIgnoreCase(CharSequence text, int from, int to, String word) {
+        return to - from == word.length() && startsWithIgnoreCase(word, text, from, to);
+    }
+
+    /**
+     * True when text[from, to) is a prefix of the lower-case {@code word}.
+     */
+    private static boolean startsWithIgnoreCase(String word, CharSequence text, int from, int to) {
+        for (int k = from; k < to; k++) {
+            char c = text.charAt(k);
+            if (c >= 'A' && c <= 'Z') c += 'a' - 'A';
+            if (c != word.charAt(k - from)) return false;
+        }
+        return true;
+    }
+
+    private static int skipSpaces(CharSequence text, int i) {
+        while (i < text.length() && (Character.isWhitespace(text.charAt(i)) || text.charAt(i) == '\u00A0')) i++;
+        return i;
+    }
+
+    private static int skipDigits(CharSequence text, int i) {
+        while (i < text.length() && isDigit(text.charAt(i))) i++;
+        return i;
+    }
+
+    private static int skipLetters(CharSequence text, int i) {
+        while (i < text.length() && isAsciiLetter(text.charAt(i))) i++;
+        return i;
+    }
+
+    private static int skipPeriod(CharSequence text, int i) {
+        return i < text.length() && text.charAt(i) == '.' ? i + 1 : i;
+    }
+
+    private static int parseInt(CharSequence text, int from, int to) {
+        int value = 0;
+        for (int k = from; k < to; k++) value = value * 10 + (text.charAt(k) - '0');
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
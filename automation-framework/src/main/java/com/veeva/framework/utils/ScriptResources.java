@@ -0,0 +1,34 @@
+package com.veeva.framework.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ScriptResources - Loads (and caches) JavaScript injected into pages from the classpath ({@code js/...}).
+ */
+public final class ScriptResources {
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private ScriptResources() {
+    }
+
+    public static String load(String resource) {
+        return CACHE.computeIfAbsent(resource, ScriptResources::read);
+    }
+
+    private static String read(String resource) {
+        try (InputStream in = ScriptResources.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing classpath resource " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.veeva.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SuiteAggregator - Merges the product suites into one TestNG suite.
+ *
+ * Every {@code <test>} block of every input suite becomes a block of a single
+ * suite with {@code parallel="tests"}, so one TestNG run (one JVM, one worker
+ * pool, one {@link com.veeva.framework.driver.DriverPool}) executes all
+ * products concurrently. Listeners are de-duplicated, suite-level parameters
+ * are pushed down into the blocks that inherited them, and clashing block
+ * names are prefixed with their source suite's name.
+ *
+ * Invoked at build time by the {@code all-products-tests} module:
+ * <pre>
+ *   SuiteAggregator --out target/AllProductsTestNg.xml --threads 4 \
+ *                   --suites a.xml,b.xml,c.xml [--name "All Products"]
+ * </pre>
+ * {@code --threads 0} (default) sizes the pool to the number of blocks.
+ */
+public final class SuiteAggregator {
+
+    private static final Logger log = LogManager.getLogger(SuiteAggregator.class);
+    private static final String DEFAULT_NAME = "All Products Test Suite";
+
+    private SuiteAggregator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> opts = parseArgs(args);
+        String suites = opts.get("suites");
+        String out = opts.get("out");
+        if (suites == null || out == null) {
+            throw new IllegalArgumentException(
+                    "Usage: --suites a.xml,b.xml --out combined.xml [--threads N] [--name name]");
+        }
+        List<Path> files = new ArrayList<>();
+        for (String s : suites.split(",")) {
+            if (!s.trim().isEmpty()) files.add(Paths.get(s.trim()));
+        }
+        XmlSuite merged = aggregate(files, opts.getOrDefault("name", DEFAULT_NAME),
+                Integer.parseInt(opts.getOrDefault("threads", "0")));
+
+        Path target = Paths.get(out);
+        if (target.getParent() != null) Files.createDirectories(target.getParent());
+        Files.write(target, merged.toXml().getBytes(StandardCharsets.UTF_8));
+        log.info("Combined {} suites into {} ({} blocks, thread-count {})",
+                files.size(), target, merged.getTests().size(), merged.getThreadCount());
+    }
+
+    /**
+     * Builds the combined suite; {@code threads <= 0} means one thread per block.
+     */
+    public static XmlSuite aggregate(List<Path> suiteFiles, String name, int threads) throws IOException {
+        XmlSuite merged = new XmlSuite();
+        merged.setName(name);
+        merged.setParallel(XmlSuite.ParallelMode.TESTS);
+
+        Set<String> listeners = new LinkedHashSet<>();
+        Set<String> names = new HashSet<>();
+        for (Path file : suiteFiles) {
+            Parser parser = new Parser(file.toString());
+            parser.setLoadClasses(false);   // test classes live in other modules
+            for (XmlSuite source : parser.parseToList()) {
+                listeners.addAll(source.getListeners());
+                for (XmlTest test : source.getTests()) {
+                    copyInto(merged, source, test, names);
+                }
+            }
+        }
+        merged.setListeners(new ArrayList<>(listeners));
+        merged.setThreadCount(threads > 0 ? threads : Math.max(1, merged.getTests().size()));
+        return merged;
+    }
+
+    private static void copyInto(XmlSuite merged, XmlSuite source, XmlTest test, Set<String> names) {
+        XmlTest copy = new XmlTest(merged);
+        String name = test.getName();
+        if (!names.add(name)) {
+            name = source.getName() + " / " + name;
+            names.add(name);
+        }
+        copy.setName(name);
+
+        Map<String, String> parameters = new HashMap<>(source.getParameters());
+        parameters.putAll(test.getLocalParameters());
+        copy.setParameters(new LinkedHashMap<>(parameters));
+        XmlSuite.ParallelMode parallel = test.getParallel();
+        if (parallel != null && parallel != XmlSuite.ParallelMode.NONE && parallel != XmlSuite.ParallelMode.TESTS) {
+            copy.setParallel(parallel);
+            copy.setThreadCount(test.getThreadCount());
+        }
+        copy.setIncludedGroups(test.getIncludedGroups());
+        copy.setExcludedGroups(test.getExcludedGroups());
+
+        List<XmlClass> classes = new ArrayList<>();
+        for (XmlClass c : test.getXmlClasses()) {
+            XmlClass xmlClass = new XmlClass(c.getName(), false);
+            xmlClass.setIncludedMethods(c.getIncludedMethods());
+            xmlClass.setExcludedMethods(c.getExcludedMethods());
+            classes.add(xmlClass);
+        }
+        copy.setXmlClasses(classes);
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            opts.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return opts;
+    }
+}
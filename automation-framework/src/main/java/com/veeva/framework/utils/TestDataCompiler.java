@@ -0,0 +1,130 @@
+package com.veeva.framework.utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * TestDataCompiler - Build-time validation and Smile compilation of test data.
+ *
+ * Run by exec-maven-plugin in the process-test-resources phase (see parent pom):
+ * <pre>
+ *   TestDataCompiler &lt;sourceDir&gt; &lt;outputDir&gt; &lt;file&gt;=&lt;modelClass&gt; ...
+ * </pre>
+ * Every JSON/YAML file in sourceDir must have a mapping. Each file is bound
+ * strictly to its model class (unknown properties and null primitives fail),
+ * then its tree is written unchanged as {@code <file>.smile} in outputDir,
+ * with the SHA-256 of the source in {@code <file>.smile.sha256}. The loader
+ * ignores a Smile copy whose hash no longer matches its source (data edited
+ * without a build). Any problem fails the build instead of the test run.
+ */
+public final class TestDataCompiler {
+
+    private static final Logger log = LogManager.getLogger(TestDataCompiler.class);
+
+    static final String SMILE_SUFFIX = ".smile";
+    static final String HASH_SUFFIX = ".sha256";
+
+    private TestDataCompiler() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(
+                    "Usage: TestDataCompiler <sourceDir> <outputDir> <file>=<modelClass> ...");
+        }
+        Path sourceDir = Paths.get(args[0]);
+        Path outputDir = Paths.get(args[1]);
+        Map<String, String> models = new LinkedHashMap<>();
+        for (int i = 2; i < args.length; i++) {
+            String[] pair = args[i].split("=", 2);
+            if (pair.length != 2) throw new IllegalArgumentException("Expected <file>=<modelClass>: " + args[i]);
+            models.put(pair[0].trim(), pair[1].trim());
+        }
+
+        List<String> failures = compile(sourceDir, outputDir, models);
+        if (!failures.isEmpty()) {
+            failures.forEach(f -> log.error("Invalid test data: {}", f));
+            throw new IllegalStateException("Test data validation failed:\n  "
+                    + String.join("\n  ", failures));
+        }
+    }
+
+    /**
+     * Validates and compiles every data file; returns a description of each failure.
+     */
+    static List<String> compile(Path sourceDir, Path outputDir, Map<String, String> models) throws IOException {
+        List<String> failures = new ArrayList<>();
+        if (!Files.isDirectory(sourceDir)) {
+            log.info("No test data directory at {}, nothing to compile", sourceDir);
+            return failures;
+        }
+        List<Path> files;
+        try (Stream<Path> s = Files.list(sourceDir)) {
+            files = s.filter(TestDataCompiler::isDataFile).sorted().collect(Collectors.toList());
+        }
+
+        ObjectMapper smile = new ObjectMapper(new SmileFactory());
+        Files.createDirectories(outputDir);
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            String modelName = models.get(name);
+            if (modelName == null) {
+                failures.add(name + ": no model class mapped for this file");
+                continue;
+            }
+            try {
+                ObjectMapper mapper = strict(isYaml(name)
+                        ? new ObjectMapper(new YAMLFactory()) : new ObjectMapper());
+                byte[] source = Files.readAllBytes(file);
+                JsonNode tree = mapper.readTree(source);
+                mapper.treeToValue(tree, Class.forName(modelName));
+                smile.writeValue(outputDir.resolve(name + SMILE_SUFFIX).toFile(), tree);
+                Files.write(outputDir.resolve(name + SMILE_SUFFIX + HASH_SUFFIX),
+                        FileUtils.sha256(source).getBytes(StandardCharsets.US_ASCII));
+                log.info("Compiled test data {} → {}{} ({})", name, name, SMILE_SUFFIX, modelName);
+            } catch (ClassNotFoundException e) {
+                failures.add(name + ": model class not found: " + modelName);
+            } catch (Exception e) {
+                failures.add(name + ": " + e.getMessage().replace('\n', ' '));
+            }
+        }
+        for (String mapped : models.keySet()) {
+            if (!Files.exists(sourceDir.resolve(mapped))) {
+                failures.add(mapped + ": mapped file does not exist");
+            }
+        }
+        return failures;
+    }
+
+    private static ObjectMapper strict(ObjectMapper mapper) {
+        return mapper.enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+                .enable(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
+    }
+
+    private static boolean isDataFile(Path p) {
+        String name = p.getFileName().toString().toLowerCase();
+        return name.endsWith(".json") || isYaml(name);
+    }
+
+    private static boolean isYaml(String name) {
+        String lower = name.toLowerCase();
+        return lower.endsWith(".yaml") || lower.endsWith(".yml");
+    }
+}
@@ -1,21 +1,49 @@
 package com.veeva.framework.utils;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * TestDataLoader - Loads test data from JSON or YAML files.
  * Files are read from the classpath (src/test/resources/testdata/).
+ *
+ * Parsed data is cached per resource and shared across test classes and
+ * threads, so each file is read at most once per JVM. The cache holds the
+ * parsed JSON tree; every call and every streamed row gets its own freshly
+ * bound object, so a test that mutates its data cannot affect another test.
+ *
+ * When the build has compiled a file (see {@link TestDataCompiler}), the
+ * pre-validated {@code <file>.smile} copy next to it is read instead, unless
+ * the source has changed since (e.g. edited and run from the IDE without
+ * {@code process-test-resources}): then the source is read, with a warning.
  */
 public class TestDataLoader {
 
     private static final Logger log = LogManager.getLogger(TestDataLoader.class);
     private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
     private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+
+    private static final Map<String, JsonNode> LOADED = new ConcurrentHashMap<>();
+    private static final Map<CacheKey, SharedRows<?>> STREAMED = new ConcurrentHashMap<>();
 
     private TestDataLoader() {}
 
@@ -33,12 +61,57 @@ public class TestDataLoader {
         return load(resourcePath, clazz, YAML_MAPPER);
     }
 
+    /**
+     * Streams rows of a JSON/YAML data set for a TestNG {@code @DataProvider}.
+     *
+     * The rows are the elements of the root array, or of the first array-valued
+     * field when the root is an object. Rows are parsed on demand with Jackson's
+     * streaming parser and memoized, so any number of iterators (across classes
+     * and threads) share a single pass over the file. Each iterator binds its own
+     * row objects. {@code null} elements are skipped with a warning.
+     *
+     * <pre>
+     *   &#64;DataProvider(parallel = true)
+     *   public Iterator&lt;Object[]&gt; slides() {
+     *       return TestDataLoader.stream("testdata/slides.json", SlideData.class);
+     *   }
+     * </pre>
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Iterator<Object[]> stream(String resourcePath, Class<T> rowType) {
+        SharedRows<T> rows = (SharedRows<T>) STREAMED.computeIfAbsent(
+                new CacheKey(resourcePath, rowType),
+                k -> new SharedRows<>(resourcePath, rowType));
+        return new RowIterator<>(rows);
+    }
+
+    /**
+     * Drops all cached data (e.g. between suites in a long-lived JVM).
+     */
+    public static void clearCache() {
+        LOADED.clear();
+        STREAMED.values().forEach(SharedRows::close);
+        STREAMED.clear();
+    }
+
     private static <T> T load(String resourcePath, Class<T> clazz, ObjectMapper mapper) {
-        try (InputStream is = TestDataLoader.class.getClassLoader().getResourceAsStream(resourcePath)) {
-            if (is == null) {
-                throw new RuntimeException("Test data file not found: " + resourcePath);
-            }
-            T data = mapper.readValue(is, clazz);
+        JsonNode tree = LOADED.computeIfAbsent(resourcePath, k -> read(resourcePath, mapper));
+        try {
+            return JSON_MAPPER.treeToValue(tree, clazz);
+        } catch (IOException e) {
+            log.error("Failed to map test data {} to {}", resourcePath, clazz.getSimpleName(), e);
+            throw new RuntimeException("Failed to load test data: " + resourcePath, e);
+        }
+    }
+
+    private static JsonNode read(String resourcePath, ObjectMapper mapper) {
+        String compiled = compiledResource(resourcePath);
+        if (compiled != null) {
+            resourcePath = compiled;
+            mapper = SMILE_MAPPER;
+        }
+        try (InputStream is = openResource(resourcePath)) {
+            JsonNode data = mapper.readTree(is);
             log.info("Loaded test data from: {}", resourcePath);
             return data;
         } catch (Exception e) {
@@ -46,4 +119,176 @@ public class TestDataLoader {
             throw new RuntimeException("Failed to load test data: " + resourcePath, e);
         }
     }
+
+    private static InputStream openResource(String resourcePath) {
+        InputStream is = TestDataLoader.class.getClassLoader().getResourceAsStream(resourcePath);
+        if (is == null) {
+            throw new RuntimeException("Test data file not found: " + resourcePath);
+        }
+        return is;
+    }
+
+    /**
+     * Returns the build-compiled Smile copy of the resource, or null if it is absent or stale.
+     */
+    static String compiledResource(String resourcePath) {
+        ClassLoader loader = TestDataLoader.class.getClassLoader();
+        String compiled = resourcePath + TestDataCompiler.SMILE_SUFFIX;
+        if (loader.getResource(compiled) == null) return null;
+        try (InputStream source = loader.getResourceAsStream(resourcePath);
+             InputStream hash = loader.getResourceAsStream(compiled + TestDataCompiler.HASH_SUFFIX)) {
+            if (source == null) return compiled; // only the compiled copy is shipped
+            if (hash != null && new String(hash.readAllBytes(), StandardCharsets.US_ASCII).trim()
+                    .equals(FileUtils.sha256(source.readAllBytes()))) {
+                return compiled;
+            }
+        } catch (IOException e) {
+            log.debug("Could not compare {} with its source: {}", compiled, e.getMessage());
+        }
+        log.warn("{} is stale (source changed since the last build), reading {} instead", compiled, resourcePath);
+        return null;
+    }
+
+    private static ObjectMapper mapperFor(String resourcePath) {
+        String lower = resourcePath.toLowerCase();
+        if (lower.endsWith(TestDataCompiler.SMILE_SUFFIX)) return SMILE_MAPPER;
+        return lower.endsWith(".yaml") || lower.endsWith(".yml") ? YAML_MAPPER : JSON_MAPPER;
+    }
+
+    // ─── Streaming support ────────────────────────────────────────────────────
+
+    /**
+     * Rows parsed so far (as trees) plus the parser that produces the rest.
+     * All access is synchronized; the parser is opened lazily on first read.
+     */
+    private static final class SharedRows<T> {
+
+        private final String resourcePath;
+        private final ObjectReader reader;
+        private final List<JsonNode> rows = new ArrayList<>();
+        private JsonParser parser;
+        private boolean exhausted;
+
+        SharedRows(String resourcePath, Class<T> rowType) {
+            this.resourcePath = resourcePath;
+            this.reader = JSON_MAPPER.readerFor(rowType);
+        }
+
+        /**
+         * Returns row {@code index} as a new object, parsing ahead as needed, or null past the end.
+         */
+        T get(int index) {
+            JsonNode row = tree(index);
+            if (row == null) return null;
+            try {
+                return reader.readValue(row);
+            } catch (IOException e) {
+                log.error("Failed to map row {} of {}", index, resourcePath, e);
+                throw new RuntimeException("Failed to stream test data: " + resourcePath, e);
+            }
+        }
+
+        /**
+         * The row's tree, reading ahead as needed; null past the last row. Nothing is bound.
+         */
+        synchronized JsonNode tree(int index) {
+            try {
+                while (rows.size() <= index && !exhausted) {
+                    if (parser == null) open();
+                    if (exhausted) break;
+                    JsonToken token = parser.nextToken();
+                    if (token == null || token == JsonToken.END_ARRAY) {
+                        log.info("Streamed {} rows from: {}", rows.size(), resourcePath);
+                        close();
+                    } else if (token == JsonToken.VALUE_NULL) {
+                        log.warn("Skipping null row after row {} in: {}", rows.size(), resourcePath);
+                    } else {
+                        rows.add(parser.readValueAsTree());
+                    }
+                }
+            } catch (IOException e) {
+                close();
+                log.error("Failed to stream test data: {}", resourcePath, e);
+                throw new RuntimeException("Failed to stream test data: " + resourcePath, e);
+            }
+            return index < rows.size() ? rows.get(index) : null;
+        }
+
+        private void open() throws IOException {
+            String compiled = compiledResource(resourcePath);
+            String source = compiled != null ? compiled : resourcePath;
+            ObjectMapper mapper = mapperFor(source);
+            parser = mapper.getFactory().createParser(openResource(source));
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                // Root is an object: descend into the first array-valued field
+                while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                    if (parser.nextToken() == JsonToken.START_ARRAY) return;
+                    parser.skipChildren();
+                }
+                token = null;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                log.warn("No array of rows found in: {}", resourcePath);
+                close();
+            }
+        }
+
+        synchronized void close() {
+            exhausted = true;
+            if (parser != null) {
+                try {
+                    parser.close();
+                } catch (IOException e) {
+                    log.debug("Could not close parser for {}: {}", resourcePath, e.getMessage());
+                }
+                parser = null;
+            }
+        }
+    }
+
+    private static final class RowIterator<T> implements Iterator<Object[]> {
+
+        private final SharedRows<T> rows;
+        private int index;
+
+        RowIterator(SharedRows<T> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            return rows.tree(index) != null;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            T row = rows.get(index);
+            if (row == null) throw new NoSuchElementException();
+            index++;
+            return new Object[]{row};
+        }
+    }
+
+    private static final class CacheKey {
+        private final String resourcePath;
+        private final Class<?> type;
+
+        CacheKey(String resourcePath, Class<?> type) {
+            this.resourcePath = resourcePath;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CacheKey)) return false;
+            CacheKey other = (CacheKey) o;
+            return resourcePath.equals(other.resourcePath) && type.equals(other.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resourcePath, type);
+        }
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * action-batch.js - Runs the script steps of an ActionBatch in one round trip.
+ * Run through executeScript by ActionBatch.
+ *
+ * arguments[0] : steps, each {op, using, value, element, elements, name, visible, click}
+ *                  op       scroll | target | text | texts | attribute | jsclick
+ *                  using    "css" or "xpath" (value holds the locator); null when
+ *                           element / elements hold what WebDriver located
+ * arguments[1] : index of the first step to run
+ *
+ * Returns {values: [one per step run], hits: [one per target run], missing:
+ * index or -1}. The batch stops
+ * at the first step whose element is missing (or hidden, for steps that need
+ * it visible) and reports its index; the caller waits for it and resumes there.
+ * "target" returns the element itself (for the pointer actions that follow),
+ * scrolled into the viewport when it is visible but outside it. Its hit is
+ * false for a click target that is hidden, disabled or covered at its centre
+ * point; the caller then clicks it on its own rather than in the Actions chain.
+ */
+var steps = arguments[0];
+var start = arguments[1];
+
+function locateAll(step) {
+    if (step.element) return [step.element];
+    if (step.elements) return step.elements;
+    if (step.using === 'xpath') {
+        var nodes = [];
+        var snapshot = document.evaluate(step.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+        for (var i = 0; i < snapshot.snapshotLength; i++) nodes.push(snapshot.snapshotItem(i));
+        return nodes;
+    }
+    if (step.using === 'css') return Array.prototype.slice.call(document.querySelectorAll(step.value));
+    return [];
+}
+
+function visible(el) {
+    if (!el.isConnected || el.getClientRects().length === 0) return false;
+    var visibility = window.getComputedStyle(el).visibility;
+    return visibility !== 'hidden' && visibility !== 'collapse';
+}
+
+function inViewport(el) {
+    var r = el.getBoundingClientRect();
+    return r.top >= 0 && r.left >= 0 && r.bottom <= window.innerHeight && r.right <= window.innerWidth;
+}
+
+function clickable(el) {
+    if (!visible(el) || el.disabled) return false;
+    var r = el.getBoundingClientRect();
+    var top = document.elementFromPoint(r.left + r.width / 2, r.top + r.height / 2);
+    return top !== null && (top === el || el.contains(top));
+}
+
+function text(el) {
+    var t = el.innerText !== undefined ? el.innerText : el.textContent;
+    return (t || '').trim();
+}
+
+function attribute(el, name) {
+    var property = el[name];
+    var type = typeof property;
+    if (property !== undefined && property !== null && type !== 'object' && type !== 'function') {
+        return String(property);
+    }
+    return el.getAttribute(name);
+}
+
+var values = [];
+var hits = [];
+for (var i = start; i < steps.length; i++) {
+    var step = steps[i];
+    if (step.op === 'texts') {
+        values.push(locateAll(step).map(text));
+        continue;
+    }
+    var el = locateAll(step)[0];
+    if (!el || (step.visible && !visible(el))) return {values: values, hits: hits, missing: i};
+    switch (step.op) {
+        case 'scroll':
+            el.scrollIntoView(true);
+            values.push(null);
+            break;
+        case 'target':
+            if (step.visible && !inViewport(el)) el.scrollIntoView({block: 'center', inline: 'center'});
+            values.push(el);
+            hits.push(!step.click || clickable(el));
+            break;
+        case 'text':
+            values.push(text(el));
+            break;
+        case 'attribute':
+            values.push(attribute(el, step.name));
+            break;
+        case 'jsclick':
+            el.click();
+            values.push(null);
+            break;
+    }
+}
+return {values: values, hits: hits, missing: -1};
@@ -0,0 +1,66 @@
+/*
+ * carousel-sampler.js - Timestamps active-slide changes inside the browser.
+ * Run through executeAsyncScript by CarouselSampler.
+ *
+ * arguments[0] : element whose direct children are the slides (or their buttons/dots)
+ * arguments[1] : sampling window in ms
+ * arguments[2] : async callback
+ *
+ * Calls back once with { changes: [[activeIndex, performance.now()], ...],
+ *                        titles: [...], end: performance.now() }.
+ */
+var container = arguments[0];
+var windowMs = arguments[1];
+var done = arguments[arguments.length - 1];
+
+var ACTIVE_CLASS = /(^|[\s_-])(active|selected|current)([\s_-]|$)/i;
+var STATE_ATTRIBUTES = ['class', 'aria-selected', 'aria-current', 'aria-pressed', 'data-active'];
+
+function slides() {
+    return Array.prototype.slice.call(container.children);
+}
+
+function flag(el, name) {
+    var value = el.getAttribute(name);
+    return value !== null && value !== 'false';
+}
+
+function isActive(el) {
+    if (el.getAttribute('aria-selected') === 'true' || el.getAttribute('aria-pressed') === 'true'
+            || flag(el, 'aria-current') || flag(el, 'data-active')) {
+        return true;
+    }
+    var cls = typeof el.className === 'string' ? el.className : el.getAttribute('class') || '';
+    return ACTIVE_CLASS.test(cls);
+}
+
+function activeIndex() {
+    var all = slides();
+    for (var i = 0; i < all.length; i++) {
+        if (isActive(all[i])) return i;
+    }
+    return -1;
+}
+
+var current = activeIndex();
+var changes = [[current, performance.now()]];
+
+var observer = new MutationObserver(function () {
+    var index = activeIndex();
+    if (index !== current) {
+        current = index;
+        changes.push([index, performance.now()]);
+    }
+});
+observer.observe(container, {
+    subtree: true, childList: true, attributes: true, attributeFilter: STATE_ATTRIBUTES
+});
+
+setTimeout(function () {
+    observer.disconnect();
+    done({
+        changes: changes,
+        titles: slides().map(function (s) { return (s.innerText || s.textContent || '').trim(); }),
+        end: performance.now()
+    });
+}, windowMs);
@@ -0,0 +1,30 @@
+/*
+ * element-texts.js - Rendered text of every element matching a locator.
+ * Run through executeScript by BasePage.getTexts.
+ *
+ * arguments[0] : "css" or "xpath"; null when arguments[2] holds the elements
+ * arguments[1] : CSS selector or XPath expression
+ * arguments[2] : already located elements (locators only WebDriver understands)
+ *
+ * Returns the trimmed innerText of each element in document order; like
+ * WebElement.getText, text that is not rendered comes back as "".
+ */
+var using = arguments[0];
+var value = arguments[1];
+var nodes = [];
+
+if (using === 'xpath') {
+    var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+    for (var i = 0; i < snapshot.snapshotLength; i++) {
+        nodes.push(snapshot.snapshotItem(i));
+    }
+} else if (using === 'css') {
+    nodes = Array.prototype.slice.call(document.querySelectorAll(value));
+} else {
+    nodes = arguments[2] || [];
+}
+
+return nodes.map(function (node) {
+    var text = node.innerText !== undefined ? node.innerText : node.textContent;
+    return (text || '').trim();
+});
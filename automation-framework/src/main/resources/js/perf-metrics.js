@@ -0,0 +1,71 @@
+/*
+ * perf-metrics.js - Web performance metrics of the current page.
+ * Run through executeAsyncScript by PerformanceCollector.
+ *
+ * arguments[0] : settle time in ms after the load event, for buffered LCP / layout-shift entries
+ * arguments[1] : async callback
+ *
+ * All times are ms since navigation start; a metric the browser does not
+ * support is reported as null.
+ */
+var settleMs = arguments[0];
+var done = arguments[arguments.length - 1];
+
+var lcp = null;
+var cls = null;
+
+function observe(type, onEntry) {
+    try {
+        new PerformanceObserver(function (list) { list.getEntries().forEach(onEntry); })
+            .observe({ type: type, buffered: true });
+        return true;
+    } catch (e) {
+        return false;
+    }
+}
+
+function round(value) {
+    return value === null || value === undefined ? null : Math.round(value * 1000) / 1000;
+}
+
+function report() {
+    var out = { ttfb: null, dcl: null, load: null, fp: null, fcp: null };
+    var nav = performance.getEntriesByType('navigation')[0];
+    var bytes = 0;
+    if (nav) {
+        out.ttfb = round(nav.responseStart);
+        out.dcl = round(nav.domContentLoadedEventEnd);
+        out.load = round(nav.loadEventEnd);
+        bytes += nav.transferSize || 0;
+    }
+    performance.getEntriesByType('paint').forEach(function (p) {
+        if (p.name === 'first-paint') out.fp = round(p.startTime);
+        if (p.name === 'first-contentful-paint') out.fcp = round(p.startTime);
+    });
+    out.lcp = round(lcp);
+    out.cls = round(cls);
+    var resources = performance.getEntriesByType('resource');
+    resources.forEach(function (r) { bytes += r.transferSize || 0; });
+    out.resources = resources.length;
+    out.transfer_kb = round(bytes / 1024);
+    done(out);
+}
+
+function start() {
+    observe('largest-contentful-paint', function (e) {
+        lcp = Math.max(lcp || 0, e.renderTime || e.loadTime || e.startTime);
+    });
+    // no shifts on a supporting browser is a CLS of 0, not "unknown"
+    if (observe('layout-shift', function (e) {
+            if (!e.hadRecentInput) cls = (cls || 0) + e.value;
+        })) {
+        cls = cls || 0;
+    }
+    setTimeout(report, settleMs);
+}
+
+if (document.readyState === 'complete') {
+    start();
+} else {
+    window.addEventListener('load', start);
+}
@@ -0,0 +1,33 @@
+/*
+ * storage-state.js - Reads or writes the page origin's Web Storage.
+ * Run through executeScript by StorageState (capture and restore).
+ *
+ * arguments[0] : entries to write into localStorage, or null to only read
+ * arguments[1] : entries to write into sessionStorage, or null to only read
+ *
+ * Returns {local: {...}, session: {...}} with every key of both storages
+ * after the writes; a storage the page may not use comes back empty.
+ */
+function copy(name, entries) {
+    var all = {};
+    try {
+        var storage = window[name];
+        if (entries) {
+            for (var k in entries) {
+                if (Object.prototype.hasOwnProperty.call(entries, k)) storage.setItem(k, entries[k]);
+            }
+        }
+        for (var i = 0; i < storage.length; i++) {
+            var key = storage.key(i);
+            all[key] = storage.getItem(key);
+        }
+    } catch (e) {
+        // storage disabled, or not available on this document
+    }
+    return all;
+}
+
+return {
+    local: copy('localStorage', arguments[0]),
+    session: copy('sessionStorage', arguments[1])
+};
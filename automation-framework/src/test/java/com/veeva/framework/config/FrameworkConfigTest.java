@@ -0,0 +1,131 @@
+package com.veeva.framework.config;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * FrameworkConfigTest - Resolving a flattened config.yaml against the ConfigKey schema.
+ */
+public class FrameworkConfigTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void clearOverrides() {
+        System.clearProperty("retry.attempts");
+        System.clearProperty("remote");
+    }
+
+    private static Map<String, String> yaml(String... pairs) {
+        Map<String, String> yaml = new HashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) yaml.put(pairs[i], pairs[i + 1]);
+        return yaml;
+    }
+
+    @Test
+    public void parsesEveryTypeFromYaml() {
+        FrameworkConfig config = FrameworkConfig.resolve(yaml(
+                "browser", " Chrome ",
+                "headless", "TRUE",
+                "retry.attempts", "4",
+                "monitor.jitter", "0.25",
+                "explicit.wait", "30",
+                "retry.backoff", "500",
+                "crawl.tracking.params", "utm_*, gclid ,,fbclid"));
+
+        assertEquals(config.browser(), "chrome");
+        assertTrue(config.headless());
+        assertEquals(config.getInt(ConfigKey.RETRY_ATTEMPTS), 4);
+        assertEquals(config.getDouble(ConfigKey.MONITOR_JITTER), 0.25);
+        assertEquals(config.explicitWait(), Duration.ofSeconds(30));
+        assertEquals(config.getDuration(ConfigKey.RETRY_BACKOFF), Duration.ofMillis(500));
+        assertEquals(config.getList(ConfigKey.CRAWL_TRACKING_PARAMS), Arrays.asList("utm_*", "gclid", "fbclid"));
+        assertTrue(config.errors().isEmpty(), config.errors().toString());
+    }
+
+    @Test
+    public void usesSchemaDefaultsForMissingKeys() {
+        FrameworkConfig config = FrameworkConfig.resolve(Collections.emptyMap());
+
+        assertEquals(config.getInt(ConfigKey.RETRY_ATTEMPTS), Integer.parseInt(ConfigKey.RETRY_ATTEMPTS.defaultValue()));
+        assertEquals(config.pageLoadTimeout(), Duration.ofSeconds(120));
+        assertEquals(config.getList(ConfigKey.MONITOR_FLOWS), Collections.emptyList());
+        assertTrue(config.errors().isEmpty(), config.errors().toString());
+    }
+
+    @Test
+    public void mistypedValuesFallBackToTheDefaultAndAreReported() {
+        FrameworkConfig config = FrameworkConfig.resolve(yaml(
+                "headless", "yes",
+                "retry.attempts", "two",
+                "remote.hub_url", "not a url"));
+
+        assertFalse(config.headless());
+        assertEquals(config.getInt(ConfigKey.RETRY_ATTEMPTS), 2);
+        assertEquals(config.hubUrl(), ConfigKey.REMOTE_HUB_URL.defaultValue());
+        List<String> errors = config.errors();
+        assertEquals(errors.size(), 3, errors.toString());
+        assertTrue(errors.contains("retry.attempts=two is not a valid INT, using default 2"), errors.toString());
+    }
+
+    @Test
+    public void reportsUnknownKeysButAcceptsMapSections() {
+        FrameworkConfig config = FrameworkConfig.resolve(yaml(
+                "retry.atempts", "3",
+                "urls.core-product", "https://www.nba.com/warriors/",
+                "perf.budget.default.lcp", "2500"));
+
+        assertEquals(config.unknownKeys(), Collections.singletonList("retry.atempts"));
+        assertEquals(config.productUrl("core-product", "fallback"), "https://www.nba.com/warriors/");
+        assertEquals(config.productUrl("missing", "fallback"), "fallback");
+        assertEquals(config.section("perf.budget.default."), Collections.singletonMap("lcp", "2500"));
+        assertTrue(config.errors().isEmpty(), config.errors().toString());
+    }
+
+    @Test
+    public void validatesMapSectionValuesByTheirPrefixType() {
+        FrameworkConfig config = FrameworkConfig.resolve(yaml(
+                "urls.broken", "nba dot com",
+                "perf.budget.default.lcp", "fast"));
+
+        assertEquals(config.errors().size(), 2, config.errors().toString());
+        assertTrue(config.unknownKeys().isEmpty());
+    }
+
+    @Test
+    public void aliasesResolveToTheSchemaKeyAndBack() {
+        FrameworkConfig config = FrameworkConfig.resolve(yaml(
+                "remote", "true",
+                "hub_url", "http://grid:4444/wd/hub"));
+
+        assertTrue(config.remoteEnabled());
+        assertEquals(config.hubUrl(), "http://grid:4444/wd/hub");
+        assertEquals(config.raw("remote.enabled"), "true");
+        assertEquals(config.raw("hub_url"), "http://grid:4444/wd/hub");
+        assertTrue(config.unknownKeys().isEmpty(), "aliases are not unknown keys");
+        assertEquals(ConfigKey.forKey("remote"), ConfigKey.REMOTE_ENABLED);
+        assertNull(ConfigKey.forKey("remote.unknown"));
+    }
+
+    @Test
+    public void systemPropertiesOverrideYamlUnderTheKeyOrAnAlias() {
+        System.setProperty("retry.attempts", "7");
+        System.setProperty("remote", "true");
+        FrameworkConfig config = FrameworkConfig.resolve(yaml(
+                "retry.attempts", "3",
+                "remote.enabled", "false"));
+
+        assertEquals(config.getInt(ConfigKey.RETRY_ATTEMPTS), 7);
+        assertTrue(config.remoteEnabled(), "-Dremote overrides remote.enabled in YAML");
+    }
+}
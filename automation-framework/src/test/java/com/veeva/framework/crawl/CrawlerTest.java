@@ -0,0 +1,194 @@
+package com.veeva.framework.crawl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * CrawlerTest - Crawler against the fixture site in src/test/resources/crawl-site,
+ * served by a local HttpServer under /site/.
+ */
+public class CrawlerTest {
+
+    private HttpServer server;
+    private String base;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::serve);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @BeforeMethod
+    public void resetHits() {
+        hits.clear();
+    }
+
+    private Crawler.Builder crawler() {
+        return Crawler.builder().threads(4).timeout(Duration.ofSeconds(5)).expectedUrls(1_000);
+    }
+
+    @Test
+    public void crawlsEveryCanonicalPageOnce() throws IOException {
+        List<CrawlRecord> records = new CopyOnWriteArrayList<>();
+
+        Crawler.Summary summary = crawler().build().crawl(Collections.singletonList(base + "/site/"), records::add);
+
+        assertEquals(urls(records, CrawlRecord.Kind.PAGE), new HashSet<>(Arrays.asList(
+                base + "/site", base + "/site/index.html", base + "/site/about.html", base + "/site/news",
+                base + "/site/news/article.html?a=1&b=2", base + "/site/missing.html", base + "/site/moved",
+                base + "/site/deep/1.html", base + "/site/deep/2.html", base + "/site/deep/3.html")));
+        assertEquals(urls(records, CrawlRecord.Kind.EXTERNAL), new HashSet<>(Arrays.asList(
+                base + "/other/outside.html", "https://example.org/partner")));
+        assertEquals(records.size(), 12, "one record per distinct URL");
+        // about.html is also reached by following /site/moved
+        hits.forEach((path, count) -> assertEquals(count.get(), path.equals("/site/about.html") ? 2 : 1,
+                path + " fetch count"));
+
+        CrawlRecord missing = record(records, base + "/site/missing.html");
+        assertTrue(missing.isBroken());
+        assertEquals(missing.status(), 404);
+        assertNotNull(missing.referrer());
+        assertEquals(record(records, base + "/site/moved").finalUrl(), base + "/site/about.html");
+        assertEquals(summary.pages(), 10);
+        assertEquals(summary.broken(), 1);
+        assertEquals(summary.external(), 2);
+        assertEquals(summary.distinctUrls(), 12);
+        assertTrue(summary.duplicates() > 0, "fragment, tracking and trailing-slash variants are duplicates");
+    }
+
+    @Test
+    public void stopsAtMaxDepth() throws IOException {
+        List<CrawlRecord> records = new CopyOnWriteArrayList<>();
+
+        crawler().maxDepth(1).build().crawl(Collections.singletonList(base + "/site/"), records::add);
+
+        Set<String> pages = urls(records, CrawlRecord.Kind.PAGE);
+        assertTrue(pages.contains(base + "/site/deep/1.html"), "depth 1 is fetched");
+        assertFalse(pages.contains(base + "/site/deep/2.html"), "depth 1 is not scanned for links");
+        assertFalse(pages.contains(base + "/site/news/article.html?a=1&b=2"));
+    }
+
+    @Test
+    public void dropsPagesBeyondTheLimit() throws IOException {
+        List<CrawlRecord> records = new CopyOnWriteArrayList<>();
+
+        Crawler.Summary summary = crawler().maxPages(3).build()
+                .crawl(Collections.singletonList(base + "/site/"), records::add);
+
+        assertEquals(summary.pages(), 3);
+        assertTrue(summary.dropped() > 0);
+        assertTrue(records.stream().filter(r -> r.kind() == CrawlRecord.Kind.DROPPED)
+                .allMatch(r -> r.error().startsWith("page limit")));
+    }
+
+    @Test
+    public void dropsInsteadOfBlockingWhenTheFrontierIsFull() throws IOException {
+        List<CrawlRecord> records = new CopyOnWriteArrayList<>();
+
+        crawler().threads(1).frontierCapacity(1).build()
+                .crawl(Collections.singletonList(base + "/site/"), records::add);
+
+        assertTrue(records.stream().anyMatch(r -> r.kind() == CrawlRecord.Kind.DROPPED
+                && r.error().startsWith("frontier full")));
+    }
+
+    @Test
+    public void streamsJsonLines() throws IOException {
+        Path file = Files.createTempDirectory("crawl").resolve("out/crawl.jsonl");
+        Crawler.Summary summary;
+        try (CrawlSink sink = CrawlSink.jsonLines(file)) {
+            summary = crawler().build().crawl(Collections.singletonList(base + "/site/"), sink);
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(lines.size(), summary.distinctUrls());
+        Map<?, ?> first = new ObjectMapper().readValue(lines.get(0), Map.class);
+        assertTrue(first.containsKey("url") && first.containsKey("kind"), lines.get(0));
+    }
+
+    private static Set<String> urls(List<CrawlRecord> records, CrawlRecord.Kind kind) {
+        return records.stream().filter(r -> r.kind() == kind).map(CrawlRecord::url).collect(Collectors.toSet());
+    }
+
+    private static CrawlRecord record(List<CrawlRecord> records, String url) {
+        return records.stream().filter(r -> r.url().equals(url)).findFirst()
+                .orElseThrow(() -> new AssertionError("no record for " + url));
+    }
+
+    // ─── Fixture site ─────────────────────────────────────────────────────────
+
+    private void serve(HttpExchange ex) throws IOException {
+        String path = ex.getRequestURI().getPath();
+        hits.computeIfAbsent(path + (ex.getRequestURI().getRawQuery() != null ? "?" + ex.getRequestURI().getRawQuery() : ""),
+                p -> new AtomicInteger()).incrementAndGet();
+        if (path.equals("/site") || path.equals("/site/news")) {
+            redirect(ex, path + "/");
+        } else if (path.equals("/site/moved")) {
+            redirect(ex, "/site/about.html");
+        } else if (path.startsWith("/site/")) {
+            String resource = "crawl-site/" + path.substring("/site/".length());
+            if (resource.endsWith("/")) resource += "index.html";
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream(resource)) {
+                if (in == null) {
+                    respond(ex, 404, "<html><body>Not found</body></html>".getBytes());
+                } else {
+                    respond(ex, 200, in.readAllBytes());
+                }
+            }
+        } else {
+            respond(ex, 404, new byte[0]);
+        }
+    }
+
+    private static void respond(HttpExchange ex, int status, byte[] body) throws IOException {
+        ex.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+        ex.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void redirect(HttpExchange ex, String location) throws IOException {
+        ex.getResponseHeaders().set("Location", location);
+        ex.sendResponseHeaders(301, -1);
+        ex.close();
+    }
+}
@@ -0,0 +1,102 @@
+package com.veeva.framework.crawl;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * UrlCanonicalizerTest - Canonical forms and dedupe keys, plus the SeenUrls set built on them.
+ */
+public class UrlCanonicalizerTest {
+
+    private final UrlCanonicalizer canonicalizer = new UrlCanonicalizer();
+
+    @Test
+    public void normalizesSchemeHostAndPort() {
+        assertEquals(canonicalizer.canonicalize("HTTPS://WWW.NBA.com:443/Bulls"), "https://www.nba.com/Bulls");
+        assertEquals(canonicalizer.canonicalize("http://www.nba.com:80"), "http://www.nba.com/");
+        assertEquals(canonicalizer.canonicalize("http://localhost:8080/a"), "http://localhost:8080/a");
+    }
+
+    @Test
+    public void dropsTrailingSlashFragmentAndDotSegments() {
+        assertEquals(canonicalizer.canonicalize("https://nba.com/bulls/tickets/#faq"), "https://nba.com/bulls/tickets");
+        assertEquals(canonicalizer.canonicalize("https://nba.com/bulls/./news/../schedule/"), "https://nba.com/bulls/schedule");
+        assertEquals(canonicalizer.canonicalize("https://nba.com/"), "https://nba.com/");
+    }
+
+    @Test
+    public void dropsTrackingParamsAndSortsTheRest() {
+        assertEquals(canonicalizer.canonicalize("https://nba.com/x?utm_source=a&b=2&gclid=z&a=1&UTM_Campaign=c"),
+                "https://nba.com/x?a=1&b=2");
+        assertEquals(canonicalizer.canonicalize("https://nba.com/x?fbclid=1"), "https://nba.com/x");
+        assertEquals(new UrlCanonicalizer(Arrays.asList("session*")).canonicalize("https://nba.com/x?sessionid=1&utm_source=a"),
+                "https://nba.com/x?utm_source=a");
+    }
+
+    @Test
+    public void resolvesRelativeLinks() {
+        assertEquals(canonicalizer.canonicalize("https://nba.com/bulls/news/", "../tickets?a=1#top"),
+                "https://nba.com/bulls/tickets?a=1");
+        assertEquals(canonicalizer.canonicalize("https://nba.com", "bulls"), "https://nba.com/bulls");
+        assertEquals(canonicalizer.canonicalize("https://nba.com/bulls", "//cdn.nba.com/logo.svg"),
+                "https://cdn.nba.com/logo.svg");
+        assertEquals(canonicalizer.canonicalize("https://nba.com/a/", "my page.html"), "https://nba.com/a/my%20page.html");
+    }
+
+    @Test
+    public void rejectsNonHttpLinks() {
+        assertNull(canonicalizer.canonicalize("https://nba.com/", "mailto:tickets@nba.com"));
+        assertNull(canonicalizer.canonicalize("https://nba.com/", "javascript:void(0)"));
+        assertNull(canonicalizer.canonicalize("https://nba.com/", "#top"));
+        assertNull(canonicalizer.canonicalize("https://nba.com/", "http://bad host/"));
+    }
+
+    @Test
+    public void keyIgnoresScheme() {
+        assertEquals(UrlCanonicalizer.key(canonicalizer.canonicalize("http://nba.com/bulls/")),
+                UrlCanonicalizer.key(canonicalizer.canonicalize("https://nba.com/bulls")));
+    }
+
+    @Test
+    public void seenUrlsIsExactBeyondTheBloomFilterCapacity() {
+        // sized for 100 entries, filled with 20,000: the Bloom filter saturates, the exact set must not
+        SeenUrls seen = new SeenUrls(100, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(seen.add("nba.com/page/" + i), "first add of page " + i);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            assertFalse(seen.add("nba.com/page/" + i), "second add of page " + i);
+        }
+        assertEquals(seen.size(), 20_000);
+        assertFalse(seen.contains("nba.com/page/20000"));
+    }
+
+    @Test
+    public void seenUrlsTellsApartKeysWithTheSameHash() {
+        SeenUrls seen = new SeenUrls(100, 0.01, key -> 42L);
+        assertTrue(seen.add("nba.com/bulls/tickets"));
+        assertTrue(seen.add("nba.com/bulls/schedule"), "a colliding hash is not a seen URL");
+        assertFalse(seen.add("nba.com/bulls/tickets"));
+        assertTrue(seen.contains("nba.com/bulls/schedule"));
+        assertFalse(seen.contains("nba.com/bulls/roster"));
+        assertEquals(seen.size(), 2);
+    }
+
+    @Test
+    public void bloomFilterStaysNearItsFalsePositiveRate() {
+        BloomFilter bloom = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) bloom.add(BloomFilter.hash("in-" + i));
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(bloom.mightContain(BloomFilter.hash("in-" + i)));
+            if (bloom.mightContain(BloomFilter.hash("out-" + i))) falsePositives++;
+        }
+        assertTrue(falsePositives < 300, falsePositives + " false positives in 10,000");
+    }
+}
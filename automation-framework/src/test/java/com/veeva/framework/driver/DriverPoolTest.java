@@ -0,0 +1,100 @@
+package com.veeva.framework.driver;
+
+import com.veeva.framework.driver.fake.FakeWebDriver;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * DriverPoolTest - Resetting, probing and quitting pooled FakeWebDriver sessions.
+ */
+public class DriverPoolTest {
+
+    @Test
+    public void resetClosesExtraWindowsAndClearsEveryVisitedOrigin() {
+        List<String> cleared = new ArrayList<>();
+        FakeWebDriver driver = FakeWebDriver.builder()
+                .script("localStorage.clear()", (d, args) -> cleared.add(d.getCurrentUrl()))
+                .build();
+        String first = driver.getWindowHandle();
+        DriverPool.visited(driver, "https://www.nba.com/warriors/");
+        driver.get("https://www.nba.com/warriors/");
+        driver.switchTo().newWindow(WindowType.TAB);
+        driver.get("https://stats.example.com/team");
+        driver.switchTo().newWindow(WindowType.WINDOW);
+        driver.get("https://shop.example.com/");
+        driver.manage().addCookie(new Cookie("consent", "yes"));
+
+        DriverPool pool = new DriverPool(1);
+        assertTrue(pool.release("fake", driver));
+
+        assertEquals(driver.getWindowHandles().size(), 1);
+        assertEquals(driver.getWindowHandle(), first);
+        assertEquals(driver.getCurrentUrl(), "about:blank");
+        assertTrue(driver.manage().getCookies().isEmpty());
+        assertEquals(cleared, Arrays.asList(
+                "https://www.nba.com/robots.txt",
+                "https://stats.example.com/robots.txt",
+                "https://shop.example.com/robots.txt"));
+        assertEquals(pool.lease("fake"), driver);
+        pool.shutdown();
+    }
+
+    @Test
+    public void sessionThatCannotBeResetIsQuit() {
+        FakeWebDriver driver = FakeWebDriver.builder()
+                .script("localStorage.clear()", (d, args) -> {
+                    throw new WebDriverException("storage is gone");
+                })
+                .build();
+        driver.get("https://www.nba.com/bulls/");
+
+        assertFalse(new DriverPool(1).release("fake", driver));
+        assertTrue(driver.isQuit());
+    }
+
+    @Test
+    public void leaseReplacesASessionThatDiedWhileIdleAndReportsIt() {
+        List<WebDriver> quit = new ArrayList<>();
+        DriverPool pool = new DriverPool(1, quit::add);
+        FakeWebDriver dead = FakeWebDriver.builder().build();
+        assertTrue(pool.release("fake", dead));
+        dead.quit();
+
+        WebDriver leased = pool.lease("fake");
+        try {
+            assertNotSame(leased, dead);
+            leased.getWindowHandle();
+            assertEquals(quit, Arrays.asList(dead));
+        } finally {
+            pool.discard(leased);
+        }
+        assertEquals(quit.size(), 2, "discard is reported too");
+    }
+
+    @Test
+    public void shutdownReportsEveryIdleSessionItQuits() {
+        List<WebDriver> quit = new ArrayList<>();
+        DriverPool pool = new DriverPool(2, quit::add);
+        FakeWebDriver first = FakeWebDriver.builder().build();
+        FakeWebDriver second = FakeWebDriver.builder().build();
+        pool.release("fake", first);
+        pool.release("fake", second);
+
+        pool.shutdown();
+
+        assertEquals(quit.size(), 2);
+        assertTrue(first.isQuit() && second.isQuit());
+    }
+}
@@ -0,0 +1,94 @@
+package com.veeva.framework.driver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.veeva.framework.driver.ProcessReaper.ProcessEntry;
+import com.veeva.framework.driver.ProcessReaper.RunFile;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * ProcessReaperTest - The startup sweep, with {@code sleep} standing in for driver processes.
+ */
+public class ProcessReaperTest {
+
+    private Path dir;
+    private Process stale;
+
+    @BeforeMethod
+    public void start() throws IOException {
+        dir = Files.createTempDirectory("sessions");
+        stale = new ProcessBuilder("sleep", "300").start();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stop() {
+        stale.destroyForcibly();
+    }
+
+    @Test
+    public void killsTheProcessesOfAJvmThatIsGone() throws Exception {
+        Process exited = new ProcessBuilder("true").start();
+        exited.waitFor(10, TimeUnit.SECONDS);
+        Path file = write(exited.pid(), 0, stale.toHandle());
+
+        int reaped = new ProcessReaper(dir, Duration.ofSeconds(2)).sweep(false);
+
+        assertEquals(reaped, 1);
+        assertTrue(stale.waitFor(5, TimeUnit.SECONDS), "the recorded process was stopped");
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void leavesLiveJvmsAndRecycledPidsAlone() throws Exception {
+        ProcessHandle self = ProcessHandle.current();
+        Path mine = write(self.pid(), ProcessReaper.started(self), stale.toHandle());
+
+        // a dead JVM whose recorded PID now belongs to a process started at another time
+        Process exited = new ProcessBuilder("true").start();
+        exited.waitFor(10, TimeUnit.SECONDS);
+        Path gone = write(exited.pid(), 0, stale.toHandle());
+        RunFile run = new ObjectMapper().readValue(gone.toFile(), RunFile.class);
+        run.processes.get(0).started -= 60_000;
+        new ObjectMapper().writeValue(gone.toFile(), run);
+
+        int reaped = new ProcessReaper(dir, Duration.ofSeconds(2)).sweep(false);
+
+        assertEquals(reaped, 0);
+        assertTrue(stale.isAlive());
+        assertTrue(Files.exists(mine), "the file of a running JVM is kept");
+        assertFalse(Files.exists(gone));
+    }
+
+    @Test
+    public void recordsAndClearsThisJvmsProcesses() {
+        ProcessReaper reaper = new ProcessReaper(dir, Duration.ofSeconds(2));
+        Path file = dir.resolve(ProcessHandle.current().pid() + ".json");
+
+        reaper.record(Collections.singletonList(new ProcessEntry(stale.toHandle(), "s1")));
+        assertTrue(Files.exists(file));
+        reaper.record(Collections.emptyList());
+        assertFalse(Files.exists(file));
+    }
+
+    private Path write(long owner, long started, ProcessHandle process) throws IOException {
+        RunFile run = new RunFile();
+        run.pid = owner;
+        run.started = started;
+        run.processes = Collections.singletonList(new ProcessEntry(process, "session-1"));
+        Path file = dir.resolve(owner + ".json");
+        new ObjectMapper().writeValue(file.toFile(), run);
+        return file;
+    }
+}
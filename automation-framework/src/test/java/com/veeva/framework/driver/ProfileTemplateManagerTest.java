@@ -0,0 +1,135 @@
+package com.veeva.framework.driver;
+
+import com.veeva.framework.driver.ProfileTemplateManager.CloneMode;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * ProfileTemplateManagerTest - Template build / refresh and profile cloning, with a stub builder instead of a browser.
+ */
+public class ProfileTemplateManagerTest {
+
+    private static final String CACHE_ENTRY = "Default/Cache/Cache_Data/f_000001";
+
+    private Path root;
+    private final AtomicInteger builds = new AtomicInteger();
+
+    @BeforeMethod
+    public void createRoot() throws IOException {
+        root = Files.createTempDirectory("profiles");
+        builds.set(0);
+    }
+
+    @Test
+    public void buildsOnceAndClonesPerSession() throws IOException {
+        ProfileTemplateManager manager = manager(Duration.ofHours(1), CloneMode.COPY);
+
+        Path first = manager.cloneFor("chrome");
+        Path second = manager.cloneFor("Chrome");
+
+        assertEquals(builds.get(), 1);
+        assertNotEquals(first, second);
+        assertEquals(read(first.resolve(CACHE_ENTRY)), "logo.png");
+        assertEquals(read(second.resolve("Default/Preferences")), "{\"notifications\":2}");
+        assertFalse(Files.exists(first.resolve("SingletonLock")), "a clone is never marked in use");
+        assertTrue(Files.exists(manager(Duration.ofHours(1), CloneMode.COPY).cloneFor("chrome")),
+                "another JVM reuses the template on disk");
+        assertEquals(builds.get(), 1);
+    }
+
+    @Test
+    public void rebuildsAfterTheTtlAndKeepsThePreviousVersion() throws IOException {
+        ProfileTemplateManager manager = manager(Duration.ZERO, CloneMode.COPY);
+        manager.cloneFor("firefox");
+        manager.cloneFor("firefox");
+        manager.cloneFor("firefox");
+
+        assertEquals(builds.get(), 3);
+        try (Stream<Path> versions = Files.list(root.resolve("firefox"))) {
+            assertEquals(versions.filter(p -> p.getFileName().toString().startsWith("template-")).count(), 2L);
+        }
+    }
+
+    @Test
+    public void hardLinksOnlyCacheEntries() throws IOException {
+        Path clone = manager(Duration.ofHours(1), CloneMode.HARDLINK).cloneFor("edge");
+        Path template = root.resolve("edge").resolve(ProfileTemplateManager.readStamp(root.resolve("edge")).version);
+
+        assertTrue(Files.isSameFile(clone.resolve(CACHE_ENTRY), template.resolve(CACHE_ENTRY)));
+        assertFalse(Files.isSameFile(clone.resolve("Default/Preferences"), template.resolve("Default/Preferences")));
+        assertFalse(Files.isSameFile(clone.resolve("Default/Cache/Cache_Data/index"),
+                template.resolve("Default/Cache/Cache_Data/index")));
+    }
+
+    @Test
+    public void releasingASessionDeletesItsClone() throws IOException {
+        ProfileTemplateManager manager = manager(Duration.ofHours(1), CloneMode.AUTO);
+        Path clone = manager.cloneFor("chrome");
+        assertTrue(Files.isRegularFile(clone.resolve(CACHE_ENTRY)));
+
+        manager.discard(clone);
+        assertFalse(Files.exists(clone));
+    }
+
+    @Test
+    public void sweepsClonesOfDeadRunsAndFallsBackWhenTheBuildFails() throws IOException {
+        Path orphan = Files.createDirectories(root.resolve("chrome").resolve("clones").resolve("999999999-1"));
+        manager(Duration.ofHours(1), CloneMode.COPY).cloneFor("chrome");
+        assertFalse(Files.exists(orphan));
+
+        ProfileTemplateManager broken = new ProfileTemplateManager(root, Duration.ofHours(1), CloneMode.COPY,
+                (browser, dir) -> {
+                    builds.incrementAndGet();
+                    throw new IllegalStateException("no browser");
+                });
+        assertNull(broken.cloneFor("firefox"));
+        assertNull(broken.cloneFor("firefox"));
+        assertEquals(builds.get(), 2, "one stub build for chrome, one failed firefox build");
+        assertNull(broken.cloneFor("safari"));
+    }
+
+    @Test
+    public void classifiesCacheEntries() {
+        assertTrue(ProfileTemplateManager.isCacheEntry(CACHE_ENTRY));
+        assertTrue(ProfileTemplateManager.isCacheEntry("cache2/entries/0A1B2C"));
+        assertTrue(ProfileTemplateManager.isCacheEntry("Default/Code Cache/js/abc_0"));
+        assertFalse(ProfileTemplateManager.isCacheEntry("Default/Cache/Cache_Data/index-dir/the-real-index"));
+        assertFalse(ProfileTemplateManager.isCacheEntry("cache2/index"));
+        assertFalse(ProfileTemplateManager.isCacheEntry("prefs.js"));
+        assertEquals(ProfileTemplateManager.cloneMode("Hardlink"), CloneMode.HARDLINK);
+        assertEquals(ProfileTemplateManager.cloneMode("zfs"), CloneMode.AUTO);
+    }
+
+    private ProfileTemplateManager manager(Duration ttl, CloneMode mode) {
+        return new ProfileTemplateManager(root, ttl, mode, (browser, dir) -> {
+            builds.incrementAndGet();
+            write(dir.resolve(CACHE_ENTRY), "logo.png");
+            write(dir.resolve("Default/Cache/Cache_Data/index"), "index");
+            write(dir.resolve("Default/Preferences"), "{\"notifications\":2}");
+            write(dir.resolve("SingletonLock"), "host-123");
+        });
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
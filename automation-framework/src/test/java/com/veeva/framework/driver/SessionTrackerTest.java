@@ -0,0 +1,71 @@
+package com.veeva.framework.driver;
+
+import com.veeva.framework.driver.fake.FakeWebDriver;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * SessionTrackerTest - Leak detection and cleanup, on FakeWebDriver sessions.
+ */
+public class SessionTrackerTest {
+
+    private Path dir;
+    private SessionTracker tracker;
+
+    @BeforeMethod
+    public void create() throws IOException {
+        dir = Files.createTempDirectory("session-tracker");
+        tracker = new SessionTracker(new ProcessReaper(dir.resolve("sessions"), Duration.ofSeconds(1)),
+                Duration.ofSeconds(2), true, dir.resolve(SessionTracker.REPORT_FILE));
+    }
+
+    @Test
+    public void closesSessionsWhoseThreadEndedWithoutQuitting() throws InterruptedException {
+        FakeWebDriver[] leaked = new FakeWebDriver[1];
+        Thread owner = new Thread(() -> {
+            leaked[0] = FakeWebDriver.builder().build();
+            tracker.register("fake", leaked[0]);
+        });
+        owner.start();
+        owner.join();
+        FakeWebDriver held = FakeWebDriver.builder().build();
+        tracker.register("fake", held);
+
+        assertEquals(tracker.checkLeaks(), 1);
+        assertTrue(leaked[0].isQuit());
+        assertFalse(held.isQuit(), "its thread is still running");
+        assertEquals(tracker.open(), 1);
+        assertTrue(Files.exists(dir.resolve(SessionTracker.REPORT_FILE)));
+
+        tracker.closed(held);
+        held.quit();
+        assertEquals(tracker.open(), 0);
+        assertEquals(tracker.checkLeaks(), 0);
+        assertEquals(tracker.leakedCount(), 1);
+    }
+
+    @Test
+    public void atExitHeldSessionsAreLeaksAndPooledOnesAreNot() {
+        FakeWebDriver held = FakeWebDriver.builder().build();
+        FakeWebDriver pooled = FakeWebDriver.builder().build();
+        tracker.register("fake", held);
+        tracker.register("fake", pooled);
+        tracker.parked(pooled);
+
+        tracker.shutdown();
+
+        assertTrue(held.isQuit());
+        assertTrue(pooled.isQuit());
+        assertEquals(tracker.leakedCount(), 1);
+        assertEquals(tracker.open(), 0);
+    }
+}
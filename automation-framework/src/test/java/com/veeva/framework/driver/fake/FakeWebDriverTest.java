@@ -0,0 +1,237 @@
+package com.veeva.framework.driver.fake;
+
+import com.veeva.framework.driver.DriverFactory;
+import com.veeva.framework.driver.DriverManager;
+import com.veeva.framework.pages.BasePage;
+import com.veeva.framework.pages.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * FakeWebDriverTest - FakeWebDriver against the fixture site in src/test/resources/fake-site.
+ */
+public class FakeWebDriverTest {
+
+    private static final String HOME = "https://fake.test/";
+
+    private FakeWebDriver driver;
+
+    @BeforeMethod
+    public void open() {
+        driver = FakeWebDriver.builder().site("fake-site").build();
+        driver.get(HOME);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void close() {
+        driver.quit();
+    }
+
+    @Test
+    public void findsByEveryLocatorStrategy() {
+        assertEquals(driver.getTitle(), "Fake Team Home");
+        assertEquals(driver.findElements(By.cssSelector("nav a.nav-link")).size(), 4);
+        assertEquals(driver.findElements(By.xpath("//nav/a[contains(text(),'Top')]")).size(), 1);
+        assertEquals(driver.findElement(By.id("search")).getTagName(), "input");
+        assertEquals(driver.findElement(By.name("q")).getAttribute("id"), "search");
+        assertEquals(driver.findElements(By.className("intro")).size(), 3);
+        assertEquals(driver.findElements(By.tagName("li")).size(), 3);
+        assertEquals(driver.findElement(By.linkText("News")).getAttribute("href"), HOME + "news/");
+        assertEquals(driver.findElement(By.partialLinkText("Stor")).getText(), "Top Story");
+        assertThrows(NoSuchElementException.class, () -> driver.findElement(By.id("nope")));
+    }
+
+    @Test
+    public void searchesUnderAnElementOnly() {
+        WebElement menu = driver.findElement(By.id("menu"));
+
+        assertEquals(menu.findElements(By.xpath(".//a")).size(), 4);
+        assertEquals(menu.findElements(By.cssSelector("a")).size(), 4);
+        assertTrue(menu.findElements(By.cssSelector("nav")).isEmpty(), "the element itself is not a match");
+        assertTrue(menu.findElements(By.cssSelector("li")).isEmpty());
+    }
+
+    @Test
+    public void appliesTheVisibilityModel() {
+        List<WebElement> intros = driver.findElements(By.cssSelector("p.intro"));
+        assertEquals(intros.stream().map(WebElement::isDisplayed).collect(Collectors.toList()),
+                Arrays.asList(true, false, false), "hidden attribute and display:none ancestor");
+        List<WebElement> ghosts = driver.findElements(By.cssSelector(".ghost"));
+        assertEquals(ghosts.stream().map(WebElement::isDisplayed).collect(Collectors.toList()),
+                Arrays.asList(false, true, false), "visibility:hidden, visible override, opacity 0");
+        assertFalse(driver.findElement(By.id("token")).isDisplayed());
+        assertFalse(driver.findElement(By.tagName("title")).isDisplayed());
+        assertEquals(intros.get(1).getText(), "", "hidden elements have no text");
+    }
+
+    @Test
+    public void rendersTextLikeABrowser() {
+        assertEquals(driver.findElement(By.tagName("h1")).getText(), "Welcome home");
+        assertEquals(driver.findElement(By.cssSelector("p.intro")).getText(), "Season opener tonight\nat 7pm");
+        assertEquals(driver.findElement(By.cssSelector("ul.scores")).getText(),
+                "Win 110-98\nLoss 101-104\nWin 120-99");
+        assertEquals(driver.findElement(By.tagName("table")).getText(), "Player Points");
+        assertEquals(driver.findElement(By.cssSelector("ul.scores li:nth-child(2)")).getAttribute("textContent")
+                .trim(), "Loss 101-104 (OT)");
+    }
+
+    @Test
+    public void reportsAttributesAndFormState() {
+        WebElement search = driver.findElement(By.id("search"));
+        search.sendKeys("!", Keys.ENTER);
+        assertEquals(search.getAttribute("value"), "bulls!");
+        search.clear();
+        assertEquals(search.getAttribute("value"), "");
+        assertNull(search.getAttribute("disabled"));
+        assertNull(search.getDomAttribute("missing"));
+
+        assertEquals(driver.findElement(By.id("disabled")).getAttribute("disabled"), "true");
+        assertFalse(driver.findElement(By.id("disabled")).isEnabled());
+        assertThrows(ElementNotInteractableException.class, () -> driver.findElement(By.id("disabled")).sendKeys("x"));
+        assertEquals(driver.findElement(By.id("token")).getAttribute("value"), "abc");
+        assertEquals(driver.findElement(By.id("notes")).getAttribute("value"), "first line");
+        assertEquals(driver.findElement(By.id("logo")).getAttribute("src"), HOME + "img/logo.png");
+        assertEquals(driver.findElement(By.id("logo")).getDomAttribute("src"), "img/logo.png");
+
+        WebElement alerts = driver.findElement(By.id("alerts"));
+        alerts.click();
+        assertTrue(alerts.isSelected());
+    }
+
+    @Test
+    public void followsLinksAndKeepsHistory() {
+        WebElement topStory = driver.findElement(By.linkText("Top Story"));
+        topStory.click();
+
+        assertEquals(driver.getCurrentUrl(), HOME + "news/article.html#top");
+        assertEquals(driver.getTitle(), "Top Story");
+        assertThrows(StaleElementReferenceException.class, topStory::getText);
+
+        driver.navigate().back();
+        assertEquals(driver.getTitle(), "Fake Team Home");
+        driver.navigate().forward();
+        assertEquals(driver.getTitle(), "Top Story");
+
+        driver.get(HOME + "missing.html");
+        assertEquals(driver.getTitle(), "404 Not Found");
+        driver.get("data:text/html,<title>Inline</title><p>hi</p>");
+        assertEquals(driver.getTitle(), "Inline");
+    }
+
+    @Test
+    public void opensBlankTargetsInANewWindow() {
+        String home = driver.getWindowHandle();
+        driver.findElement(By.linkText("Tickets")).click();
+
+        assertEquals(driver.getWindowHandle(), home, "focus stays on the opener");
+        List<String> handles = driver.getWindowHandles().stream().collect(Collectors.toList());
+        assertEquals(handles.size(), 2);
+        driver.switchTo().window(handles.get(1));
+        assertEquals(driver.getCurrentUrl(), "https://tickets.example.com/");
+        driver.close();
+        driver.switchTo().window(home);
+        assertEquals(driver.getWindowHandles().size(), 1);
+    }
+
+    @Test
+    public void emulatesRegisteredAndBuiltInScripts() {
+        FakeWebDriver scripted = FakeWebDriver.builder().site("fake-site")
+                .script("return 42", (d, args) -> 42L)
+                .build();
+        try {
+            scripted.get(HOME);
+            assertEquals(scripted.executeScript("return 42;"), 42L);
+            assertEquals(scripted.executeScript("return document.readyState"), "complete");
+            assertNull(scripted.executeScript("return window.somethingElse"));
+            scripted.executeScript("arguments[0].click();", scripted.findElement(By.linkText("News")));
+            assertEquals(scripted.getTitle(), "Fake News");
+        } finally {
+            scripted.quit();
+        }
+    }
+
+    @Test
+    public void countsAndDelaysCommands() {
+        FakeWebDriver slow = FakeWebDriver.builder().site("fake-site").latency(Duration.ofMillis(25)).build();
+        try {
+            long start = System.nanoTime();
+            slow.get(HOME);
+            WebElement h1 = slow.findElement(By.tagName("h1"));
+            h1.getText();
+            h1.isDisplayed();
+
+            assertEquals(slow.commandCount(), 4);
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 100);
+        } finally {
+            slow.quit();
+        }
+    }
+
+    @Test
+    public void refusesCommandsAfterQuit() {
+        FakeWebDriver quitting = FakeWebDriver.builder().build();
+        quitting.quit();
+
+        assertTrue(quitting.isQuit());
+        assertThrows(NoSuchSessionException.class, quitting::getTitle);
+    }
+
+    @Test
+    public void isSelectedByDriverFactoryAndDrivesPageObjects() {
+        WebDriver fake = DriverFactory.createDriver("fake");
+        assertTrue(fake instanceof FakeWebDriver);
+        DriverManager.attachDriver("fake", fake);
+        try {
+            FixturePage page = new FixturePage();
+            page.navigateTo("https://www.nba.com/");
+
+            page.openNews();
+            assertEquals(page.getTitle(), "Fake News");
+            assertEquals(page.headlines(), Arrays.asList("Draft night recap", "Training camp opens", "Season preview"));
+            assertEquals(page.timestamps(), Arrays.asList("2h", "3 days ago", "1w"));
+            assertTrue(((JavascriptExecutor) fake).executeScript("return document.title").equals("Fake News"));
+        } finally {
+            DriverManager.quitDriver();
+        }
+        assertTrue(((FakeWebDriver) fake).isQuit());
+    }
+
+    private static final class FixturePage extends BasePage {
+        private final Element newsLink = Element.css("nav a[href='/news/']");
+        private final Element headlines = Element.css(".feed h3");
+        private final Element timestamps = Element.xpath("//div[@class='feed']//time");
+
+        void openNews() {
+            click(newsLink);
+        }
+
+        List<String> headlines() {
+            return getTexts(headlines);
+        }
+
+        List<String> timestamps() {
+            return getTexts(timestamps);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.veeva.framework.history;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * DurationLogTest - Append-only duration log, its index, and slowdown detection on top of it.
+ */
+public class DurationLogTest {
+
+    private Path dir;
+
+    @BeforeMethod
+    public void createDir() throws IOException {
+        dir = Files.createTempDirectory("durations");
+    }
+
+    @Test
+    public void readsRecentSamplesThroughTheIndex() throws IOException {
+        DurationLog log = DurationLog.open(dir);
+        log.append(samples("A#test", 100, 110, 120));
+        log.append(samples("B#test > Open page", 5));
+        log.append(samples("A#test", 130));
+
+        assertEquals(log.recent("A#test", 2), Arrays.asList(120L, 130L));
+        assertEquals(DurationLog.open(dir).recent("A#test", 10), Arrays.asList(100L, 110L, 120L, 130L));
+        assertEquals(DurationLog.open(dir).keys(), new TreeSet<>(Arrays.asList("A#test", "B#test > Open page")));
+        assertTrue(log.recent("missing", 5).isEmpty());
+    }
+
+    @Test
+    public void rebuildsAMissingOrStaleIndex() throws IOException {
+        DurationLog first = DurationLog.open(dir);
+        first.append(samples("A#test", 1, 2));
+        DurationLog second = DurationLog.open(dir);
+
+        // another writer appends; then the index disappears
+        first.append(samples("A#test", 3));
+        assertEquals(second.recent("A#test", 10), Arrays.asList(1L, 2L), "snapshot of the index when opened");
+        Files.delete(dir.resolve(DurationLog.INDEX_FILE));
+        assertEquals(DurationLog.open(dir).recent("A#test", 10), Arrays.asList(1L, 2L, 3L));
+
+        second.append(samples("A#test", 4));
+        assertEquals(DurationLog.open(dir).recent("A#test", 10), Arrays.asList(1L, 2L, 3L, 4L));
+    }
+
+    @Test
+    public void survivesATornLastLine() throws IOException {
+        DurationLog log = DurationLog.open(dir);
+        log.append(samples("A#test", 10));
+        Files.write(dir.resolve(DurationLog.LOG_FILE), "1700000000000\t99".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        DurationLog reopened = DurationLog.open(dir);
+        reopened.append(samples("A#test", 20));
+        assertEquals(DurationLog.open(dir).recent("A#test", 10), Arrays.asList(10L, 20L));
+        Files.delete(dir.resolve(DurationLog.INDEX_FILE));
+        assertEquals(DurationLog.open(dir).recent("A#test", 10), Arrays.asList(10L, 20L));
+    }
+
+    @Test
+    public void keepsOnlyTheLastOffsetsPerKey() throws IOException {
+        DurationLog log = DurationLog.open(dir);
+        log.append(Collections.singletonMap("A#test",
+                LongStream.range(0, DurationLog.INDEX_DEPTH + 5).boxed().collect(Collectors.toList())));
+
+        List<Long> recent = DurationLog.open(dir).recent("A#test", 1000);
+        assertEquals(recent.size(), DurationLog.INDEX_DEPTH);
+        assertEquals(recent.get(0).longValue(), 5L);
+    }
+
+    @Test
+    public void trackerFlagsASlowStepAndWritesTheReport() throws IOException {
+        DurationLog log = DurationLog.open(dir);
+        Map<String, List<Long>> history = new LinkedHashMap<>();
+        history.put("A#test", Arrays.asList(1000L, 1040L, 980L, 1010L, 1020L));
+        history.put(RegressionTracker.stepKey("A#test", "Open page"), Arrays.asList(400L, 420L, 390L, 410L, 405L));
+        log.append(history);
+
+        Path report = dir.resolve("out").resolve(RegressionTracker.REPORT_FILE);
+        RegressionTracker tracker = new RegressionTracker(DurationLog.open(dir),
+                new RegressionDetector(5, 3.5, 1.3, 200), 20, report);
+        RegressionTracker.testStarted();
+        RegressionTracker.stepFinished("Open page", 500);
+        RegressionTracker.stepFinished("Open page", 400);
+        List<RegressionDetector.Regression> found = tracker.testFinished("A#test", 1050, true);
+
+        assertEquals(found.size(), 1);
+        assertEquals(found.get(0).step, "Open page");
+        assertEquals(found.get(0).millis, 900);
+        assertEquals(found.get(0).medianMillis, 405);
+        assertTrue(tracker.testFinished("A#test", 9000, false).isEmpty(), "failed runs are not judged");
+
+        assertEquals(tracker.finish().size(), 1);
+        assertTrue(new String(Files.readAllBytes(report), StandardCharsets.UTF_8).contains("\"step\" : \"Open page\""));
+        assertEquals(DurationLog.open(dir).recent("A#test", 1).get(0).longValue(), 1050L);
+        assertNull(new RegressionDetector(5, 3.5, 1.3, 200)
+                .check("A#test", null, 1050, DurationLog.open(dir).recent("A#test", 20)));
+    }
+
+    private static Map<String, List<Long>> samples(String key, long... millis) {
+        return Collections.singletonMap(key, Arrays.stream(millis).boxed().collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.veeva.framework.history;
+
+import com.veeva.framework.history.RegressionDetector.Regression;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * RegressionDetectorTest - Median/MAD slowdown rule.
+ */
+public class RegressionDetectorTest {
+
+    private static final List<Long> STEADY = Arrays.asList(2000L, 2100L, 1900L, 2050L, 1950L, 2000L, 2020L);
+
+    private final RegressionDetector detector = new RegressionDetector(5, 3.5, 1.3, 200);
+
+    @Test
+    public void flagsAClearSlowdown() {
+        Regression r = detector.check("A#test", null, 4000, STEADY);
+
+        assertNotNull(r);
+        assertEquals(r.medianMillis, 2000);
+        assertEquals(r.madMillis, 50);
+        assertEquals(r.ratio, 2.0);
+        assertEquals(r.samples, 7);
+    }
+
+    @Test
+    public void ignoresNoiseAndSmallSlowdowns() {
+        assertNull(detector.check("A#test", null, 2150, STEADY), "within the noise");
+        assertNull(detector.check("A#test", null, 2500, STEADY), "outlier, but only x1.25");
+        assertNull(detector.check("A#test", "Tiny step", 150, Arrays.asList(50L, 50L, 50L, 50L, 50L)),
+                "x3, but only 100 ms slower");
+    }
+
+    @Test
+    public void needsEnoughHistory() {
+        assertNull(detector.check("A#test", null, 9000, STEADY.subList(0, 4)));
+    }
+
+    @Test
+    public void oneSlowRunInTheWindowDoesNotHideTheNext() {
+        List<Long> withOutlier = Arrays.asList(2000L, 2100L, 1900L, 6000L, 1950L, 2000L, 2020L);
+        assertNotNull(detector.check("A#test", null, 4000, withOutlier));
+    }
+
+    @Test
+    public void aPerfectlySteadyHistoryUsesAMinimumSpread() {
+        List<Long> flat = Arrays.asList(1000L, 1000L, 1000L, 1000L, 1000L);
+        assertNull(detector.check("A#test", null, 1010, flat));
+        assertNotNull(detector.check("A#test", null, 1400, flat));
+    }
+}
@@ -0,0 +1,146 @@
+package com.veeva.framework.history;
+
+import org.testng.annotations.Test;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * ShardPlannerTest - Partitioning, balance and determinism of the CI shard plan.
+ */
+public class ShardPlannerTest {
+
+    private static final long[] COSTS = {8_000, 7_000, 6_000, 5_000, 4_000, 3_000, 2_000, 1_000, 900, 500};
+
+    @Test
+    public void everyBlockLandsInExactlyOneShard() {
+        ShardPlanner planner = new ShardPlanner(history(COSTS));
+        for (int shards = 1; shards <= 12; shards++) {
+            List<String> planned = planner.plan(units(COSTS.length), shards).stream()
+                    .flatMap(List::stream).map(ShardPlanner.Unit::key).sorted()
+                    .collect(Collectors.toList());
+            assertEquals(planned, keys(units(COSTS.length)), shards + " shards");
+        }
+    }
+
+    @Test
+    public void balancesKnownDurationsAndCostsNewBlocksAtTheMean() {
+        List<ShardPlanner.Unit> units = units(COSTS.length + 1);   // the last block has no history
+        List<List<ShardPlanner.Unit>> plan = new ShardPlanner(history(COSTS)).plan(units, 3);
+
+        long mean = Math.round(Arrays.stream(COSTS).average().getAsDouble());
+        assertEquals(units.get(COSTS.length).cost, mean);
+        long[] loads = plan.stream().mapToLong(bin -> bin.stream().mapToLong(u -> u.cost).sum()).toArray();
+        long spread = Arrays.stream(loads).max().getAsLong() - Arrays.stream(loads).min().getAsLong();
+        assertTrue(spread <= COSTS[0], "loads " + Arrays.toString(loads));
+    }
+
+    @Test
+    public void samePlanForTheSameHistoryWhateverTheInputOrder() {
+        List<List<String>> expected = keysOf(new ShardPlanner(history(COSTS)).plan(units(COSTS.length), 4));
+        Random random = new Random(7);
+        for (int i = 0; i < 5; i++) {
+            List<ShardPlanner.Unit> shuffled = units(COSTS.length);
+            Collections.shuffle(shuffled, random);
+            assertEquals(keysOf(new ShardPlanner(history(COSTS)).plan(shuffled, 4)), expected);
+        }
+    }
+
+    @Test
+    public void withoutHistoryDealsBlocksRoundRobinInNameOrder() {
+        List<List<String>> plan = keysOf(new ShardPlanner(null).plan(units(5), 2));
+        assertEquals(plan, Arrays.asList(
+                Arrays.asList("module/T0", "module/T2", "module/T4"),
+                Arrays.asList("module/T1", "module/T3")));
+    }
+
+    @Test
+    public void sharedHistoryMustExistAndMatchItsChecksum() throws IOException {
+        Path dir = Files.createTempDirectory("shard-planner");
+        Path file = dir.resolve(TestHistory.FILE_NAME);
+        assertThrows(IllegalArgumentException.class, () -> ShardPlanner.sharedHistory(file, null));
+
+        Files.write(file, "{}".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalStateException.class, () -> ShardPlanner.sharedHistory(file, "0000"));
+        String sha256 = "44136fa355b3678a1146ad16f7e8649e94fb4fc21fe77e8310c060f61caaff8a";
+        assertTrue(ShardPlanner.sharedHistory(file, sha256.toUpperCase()).entries().isEmpty());
+    }
+
+    @Test
+    public void shardsOfTheProductSuitesCoverEveryBlockOnce() throws IOException {
+        List<Path> suites = Arrays.asList(
+                Paths.get("../core-product-tests/src/test/resources/CoreProductTestNg.xml"),
+                Paths.get("../derived-product1-tests/src/test/resources/DerivedProduct_1TestNg.xml"),
+                Paths.get("../derived-product2-tests/src/test/resources/DerivedProduct_2TestNg.xml"));
+        Path out = Files.createTempDirectory("shards");
+        ShardPlanner planner = new ShardPlanner(null);
+
+        List<String> planned = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            for (Path file : planner.writeShard(suites, 3, index, out)) {
+                planned.addAll(testNames(file));
+            }
+        }
+        List<String> all = new ArrayList<>();
+        for (Path suite : suites) all.addAll(testNames(suite));
+        Collections.sort(planned);
+        Collections.sort(all);
+        assertEquals(planned, all);
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    /** History where block {@code Ti} took {@code costs[i]} ms. */
+    private static TestHistory history(long[] costs) {
+        TestHistory history = TestHistory.load(Paths.get("does-not-exist", TestHistory.FILE_NAME));
+        for (int i = 0; i < costs.length; i++) {
+            history.record("module", "com.example.T" + i, "test", costs[i], true);
+        }
+        return history;
+    }
+
+    private static List<ShardPlanner.Unit> units(int count) {
+        XmlSuite suite = new XmlSuite();
+        List<ShardPlanner.Unit> units = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            XmlTest test = new XmlTest(suite);
+            test.setName("T" + i);
+            test.setXmlClasses(Collections.singletonList(new XmlClass("com.example.T" + i, false)));
+            units.add(new ShardPlanner.Unit("module", suite, test));
+        }
+        return units;
+    }
+
+    private static List<String> keys(List<ShardPlanner.Unit> units) {
+        return units.stream().map(ShardPlanner.Unit::key).sorted().collect(Collectors.toList());
+    }
+
+    private static List<List<String>> keysOf(List<List<ShardPlanner.Unit>> plan) {
+        return plan.stream().map(bin -> bin.stream().map(ShardPlanner.Unit::key).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> testNames(Path suiteFile) throws IOException {
+        Parser parser = new Parser(suiteFile.toString());
+        parser.setLoadClasses(false);
+        return parser.parseToList().stream().flatMap(s -> s.getTests().stream()).map(XmlTest::getName)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,191 @@
+package com.veeva.framework.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * LinkCheckerTest - LinkChecker against a local HttpServer.
+ */
+public class LinkCheckerTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    private HttpServer server;
+    private String base;
+    private Path cacheDir;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", ex -> respond(ex, 200));
+        server.createContext("/missing", ex -> respond(ex, 404));
+        server.createContext("/forbidden", ex -> respond(ex, 403));
+        server.createContext("/no-head", ex -> respond(ex, "HEAD".equals(ex.getRequestMethod()) ? 405 : 200));
+        server.createContext("/moved", ex -> redirect(ex, "/hop"));
+        server.createContext("/hop", ex -> redirect(ex, base + "/ok"));
+        server.createContext("/spaced", ex -> redirect(ex, "/ok?q=two words"));
+        server.createContext("/malformed", ex -> redirect(ex, "http://[not-a-host/ok"));
+        server.createContext("/loop", ex -> redirect(ex, "/loop"));
+        server.createContext("/etag", ex -> {
+            if (ETAG.equals(ex.getRequestHeaders().getFirst("If-None-Match"))) {
+                respond(ex, 304);
+            } else {
+                ex.getResponseHeaders().set("ETag", ETAG);
+                respond(ex, 200);
+            }
+        });
+        server.createContext("/slow", ex -> {
+            sleep(2_000);
+            respond(ex, 200);
+        });
+        server.createContext("/busy", ex -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(100);
+            inFlight.decrementAndGet();
+            respond(ex, 200);
+        });
+        server.setExecutor(java.util.concurrent.Executors.newCachedThreadPool());
+        server.start();
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+        cacheDir = Files.createTempDirectory("link-cache");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    private LinkChecker.Builder checker() {
+        return LinkChecker.builder().timeout(Duration.ofMillis(500)).maxRedirects(3);
+    }
+
+    @Test
+    public void reportsStatusOfHealthyAndBrokenLinks() {
+        List<LinkCheckResult> results = checker().build()
+                .checkAll(Arrays.asList(base + "/ok", base + "/missing", "mailto:someone@example.com", base + "/ok"));
+
+        assertEquals(results.size(), 2, "non-http and duplicate links are not checked");
+        assertTrue(results.get(0).isOk());
+        assertEquals(results.get(0).method(), "HEAD");
+        assertEquals(results.get(1).status(), 404);
+        assertEquals(results.get(1).method(), "GET", "a HEAD >= 400 is retried with GET");
+    }
+
+    @Test
+    public void separatesBlockedLinksFromBrokenOnes() {
+        List<LinkCheckResult> results = checker().build()
+                .checkAll(Arrays.asList(base + "/forbidden", base + "/missing"));
+
+        assertFalse(results.get(0).isOk());
+        assertTrue(results.get(0).isBlocked(), "403 is bot protection, not a broken link");
+        assertFalse(results.get(1).isBlocked());
+    }
+
+    @Test
+    public void fallsBackToGetWhenHeadIsRejected() {
+        LinkCheckResult result = checker().build().check(base + "/no-head");
+        assertEquals(result.status(), 200);
+        assertEquals(result.method(), "GET");
+    }
+
+    @Test
+    public void capturesTheRedirectChain() {
+        LinkCheckResult result = checker().build().check(base + "/moved");
+        assertTrue(result.isOk());
+        assertEquals(result.redirects(), Arrays.asList("301 " + base + "/hop", "301 " + base + "/ok"));
+    }
+
+    @Test
+    public void escapesSpacesInARedirectLocation() {
+        LinkCheckResult result = checker().build().check(base + "/spaced");
+        assertTrue(result.isOk(), result.toString());
+        assertEquals(result.redirects(), Arrays.asList("301 " + base + "/ok?q=two%20words"));
+    }
+
+    @Test
+    public void failsOnlyTheLinkWithAMalformedRedirect() {
+        List<LinkCheckResult> results = checker().build()
+                .checkAll(Arrays.asList(base + "/malformed", base + "/ok"));
+
+        assertEquals(results.size(), 2);
+        assertFalse(results.get(0).isOk());
+        assertEquals(results.get(0).status(), 301);
+        assertTrue(results.get(0).error().startsWith("invalid redirect Location"), results.get(0).error());
+        assertTrue(results.get(1).isOk());
+    }
+
+    @Test
+    public void stopsFollowingRedirectLoops() {
+        LinkCheckResult result = checker().build().check(base + "/loop");
+        assertFalse(result.isOk());
+        assertEquals(result.redirects().size(), 3);
+        assertTrue(result.error().contains("redirects"));
+    }
+
+    @Test
+    public void timesOutSlowServers() {
+        LinkCheckResult result = checker().build().check(base + "/slow");
+        assertEquals(result.status(), -1);
+        assertTrue(result.error().contains("Timeout"), result.error());
+    }
+
+    @Test
+    public void revalidatesWithTheCachedEtagOnTheNextRun() {
+        Path cacheFile = cacheDir.resolve("etag.json");
+        LinkCheckResult first = checker().cacheFile(cacheFile).build().check(base + "/etag");
+        assertFalse(first.isNotModified());
+        assertTrue(Files.exists(cacheFile));
+
+        LinkCheckResult second = checker().cacheFile(cacheFile).build().check(base + "/etag");
+        assertTrue(second.isNotModified());
+        assertEquals(second.status(), 200, "a 304 reports the cached status");
+    }
+
+    @Test
+    public void limitsConcurrentRequestsPerHost() {
+        List<String> urls = new java.util.ArrayList<>();
+        for (int i = 0; i < 12; i++) urls.add(base + "/busy?i=" + i);
+        maxInFlight.set(0);
+
+        List<LinkCheckResult> results = checker().threads(12).perHost(2).build().checkAll(urls);
+
+        assertTrue(results.stream().allMatch(LinkCheckResult::isOk));
+        assertTrue(maxInFlight.get() <= 2, "max in flight was " + maxInFlight.get());
+    }
+
+    private static void respond(HttpExchange ex, int status) throws IOException {
+        ex.sendResponseHeaders(status, -1);
+        ex.close();
+    }
+
+    private static void redirect(HttpExchange ex, String location) throws IOException {
+        ex.getResponseHeaders().set("Location", location);
+        respond(ex, 301);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.veeva.framework.listeners;
+
+import com.veeva.framework.history.TestHistory;
+import org.testng.ITestResult;
+import org.testng.TestListenerAdapter;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.veeva.framework.listeners.LongestFirstSchedulerTest.emptyHistory;
+import static com.veeva.framework.listeners.LongestFirstSchedulerTest.run;
+import static com.veeva.framework.listeners.LongestFirstSchedulerTest.seed;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * FailFastSchedulerTest - Failure-probability ordering and the failfast.max.failures cutoff.
+ */
+public class FailFastSchedulerTest {
+
+    @BeforeMethod
+    public void reset() {
+        SchedulerFixture.RAN.clear();
+        SchedulerFixture.FAILING.clear();
+    }
+
+    @Test
+    public void runsTheMostLikelyFailuresFirst() {
+        TestHistory history = emptyHistory();
+        // Longest-first would run stable, flaky, broken
+        seed(history, "broken", 1000, "PPFF");
+        seed(history, "flaky", 2000, "FPFP");
+        seed(history, "stable", 3000, "PPPP");
+
+        run(new FailFastScheduler(history, FailFastScheduler.MODE, 0));
+
+        assertEquals(SchedulerFixture.RAN, Arrays.asList("broken", "flaky", "stable"));
+    }
+
+    @Test
+    public void recentFailuresOutrankOldOnes() {
+        TestHistory history = emptyHistory();
+        seed(history, "broken", 1000, "FPPP");
+        seed(history, "flaky", 1000, "PPPP");
+        seed(history, "stable", 1000, "PPPF");
+
+        run(new FailFastScheduler(history, FailFastScheduler.MODE, 0));
+
+        assertEquals(SchedulerFixture.RAN, Arrays.asList("stable", "broken", "flaky"));
+    }
+
+    @Test
+    public void skipsTheRemainingTestsAfterMaxFailures() {
+        SchedulerFixture.FAILING.addAll(Arrays.asList("broken", "flaky", "stable"));
+
+        TestListenerAdapter results = run(new FailFastScheduler(emptyHistory(), "declared", 2));
+
+        assertEquals(SchedulerFixture.RAN, Arrays.asList("broken", "flaky"));
+        assertEquals(names(results.getFailedTests()), Arrays.asList("broken", "flaky"));
+        List<ITestResult> skipped = results.getSkippedTests();
+        assertEquals(names(skipped), Collections.singletonList("stable"));
+        assertTrue(skipped.get(0).getThrowable().getMessage().contains("stopped after 2 failures"),
+                String.valueOf(skipped.get(0).getThrowable()));
+    }
+
+    @Test
+    public void zeroMaxFailuresNeverSkips() {
+        SchedulerFixture.FAILING.addAll(Arrays.asList("broken", "flaky", "stable"));
+
+        TestListenerAdapter results = run(new FailFastScheduler(emptyHistory(), "declared", 0));
+
+        assertEquals(results.getFailedTests().size(), 3);
+        assertTrue(results.getSkippedTests().isEmpty());
+    }
+
+    private static List<String> names(List<ITestResult> results) {
+        return results.stream().map(ITestResult::getName).sorted().collect(Collectors.toList());
+    }
+}
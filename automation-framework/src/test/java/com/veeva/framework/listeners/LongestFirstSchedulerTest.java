@@ -0,0 +1,91 @@
+package com.veeva.framework.listeners;
+
+import com.veeva.framework.history.TestHistory;
+import org.testng.ITestNGListener;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * LongestFirstSchedulerTest - Method ordering from a seeded TestHistory, through a TestNG run.
+ */
+public class LongestFirstSchedulerTest {
+
+    @BeforeMethod
+    public void reset() {
+        SchedulerFixture.RAN.clear();
+        SchedulerFixture.FAILING.clear();
+    }
+
+    @Test
+    public void runsTheLongestMethodsFirst() {
+        TestHistory history = emptyHistory();
+        seed(history, "broken", 1000, "PPPP");
+        seed(history, "flaky", 3000, "PPPP");
+        seed(history, "stable", 2000, "PPPP");
+
+        run(new LongestFirstScheduler(history, LongestFirstScheduler.MODE));
+
+        assertEquals(SchedulerFixture.RAN, Arrays.asList("flaky", "stable", "broken"));
+    }
+
+    @Test
+    public void methodsWithoutHistoryRunLast() {
+        TestHistory history = emptyHistory();
+        seed(history, "stable", 500, "P");
+
+        run(new LongestFirstScheduler(history, LongestFirstScheduler.MODE));
+
+        assertEquals(SchedulerFixture.RAN.get(0), "stable");
+    }
+
+    @Test
+    public void otherModesKeepTheDeclaredOrder() {
+        TestHistory history = emptyHistory();
+        seed(history, "stable", 5000, "P");
+
+        run(new LongestFirstScheduler(history, "declared"));
+
+        assertEquals(SchedulerFixture.RAN, Arrays.asList("broken", "flaky", "stable"));
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    static TestHistory emptyHistory() {
+        return TestHistory.load(Paths.get("does-not-exist", "test-history.json"));
+    }
+
+    /** Records {@code outcomes} (P/F, oldest first) for a fixture method, each taking {@code millis}. */
+    static void seed(TestHistory history, String method, long millis, String outcomes) {
+        for (char outcome : outcomes.toCharArray()) {
+            history.record("module", SchedulerFixture.class.getName(), method, millis, outcome == 'P');
+        }
+    }
+
+    static TestListenerAdapter run(ITestNGListener scheduler) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("scheduler");
+        XmlTest test = new XmlTest(suite);
+        test.setName("fixture");
+        test.setXmlClasses(Collections.singletonList(new XmlClass(SchedulerFixture.class)));
+
+        TestListenerAdapter results = new TestListenerAdapter();
+        TestNG testng = new TestNG(false);
+        testng.setXmlSuites(Collections.singletonList(suite));
+        testng.addListener(scheduler);
+        testng.addListener(results);
+        testng.setVerbose(0);
+        testng.run();
+        return results;
+    }
+}
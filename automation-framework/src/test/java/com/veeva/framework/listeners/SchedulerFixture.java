@@ -0,0 +1,42 @@
+package com.veeva.framework.listeners;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SchedulerFixture - Test class the scheduler tests run through TestNG.
+ *
+ * Each method records that it ran and fails when its name is in {@link #FAILING}.
+ */
+public class SchedulerFixture {
+
+    static final List<String> RAN = Collections.synchronizedList(new ArrayList<>());
+    static final Set<String> FAILING = Collections.synchronizedSet(new HashSet<>());
+
+    @Test
+    public void broken() {
+        ran("broken");
+    }
+
+    @Test
+    public void flaky() {
+        ran("flaky");
+    }
+
+    @Test
+    public void stable() {
+        ran("stable");
+    }
+
+    private static void ran(String method) {
+        RAN.add(method);
+        if (FAILING.contains(method)) {
+            throw new AssertionError(method + " failed");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.veeva.framework.metrics;
+
+import com.veeva.framework.driver.DriverManager;
+import com.veeva.framework.driver.fake.FakeWebDriver;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * MetricsRegistryTest - Exposition format, registration rules, the file and
+ * HTTP exporters, and the DriverManager hooks.
+ */
+public class MetricsRegistryTest {
+
+    @Test
+    public void rendersPrometheusTextFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("runs_total", "Runs.\nTwo lines", "status").labels("pa\"ss\\ed").inc(2);
+        registry.gauge("sessions", "Open sessions.").labels().set(1.5);
+        Histogram.Child wait = registry.histogram("wait_seconds", "Waits.", new double[]{0.1, 1}).labels();
+        wait.observe(0.05);
+        wait.observe(0.5);
+        wait.observe(3);
+        registry.counter("unused_total", "Never incremented, never rendered.");
+
+        assertEquals(registry.toPrometheusText(), String.join("\n",
+                "# HELP runs_total Runs.\\nTwo lines",
+                "# TYPE runs_total counter",
+                "runs_total{status=\"pa\\\"ss\\\\ed\"} 2",
+                "# HELP sessions Open sessions.",
+                "# TYPE sessions gauge",
+                "sessions 1.5",
+                "# HELP wait_seconds Waits.",
+                "# TYPE wait_seconds histogram",
+                "wait_seconds_bucket{le=\"0.1\"} 1",
+                "wait_seconds_bucket{le=\"1\"} 2",
+                "wait_seconds_bucket{le=\"+Inf\"} 3",
+                "wait_seconds_sum 3.55",
+                "wait_seconds_count 3",
+                ""));
+    }
+
+    @Test
+    public void returnsTheSameMetricForTheSameDeclaration() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter first = registry.counter("events_total", "Events.", "kind");
+
+        assertTrue(registry.counter("events_total", "Events.", "kind") == first);
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("events_total", "Events.", "kind"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("events_total", "Events.", "other"));
+        assertThrows(IllegalArgumentException.class, () -> first.labels("a", "b"));
+        assertThrows(IllegalArgumentException.class, () -> first.labels("a").inc(-1));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("bad-name", "x"));
+    }
+
+    @Test
+    public void writesTheFileInPlace() throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("written_total", "Written.").inc();
+        Path file = Files.createTempDirectory("metrics").resolve("out/metrics.prom");
+
+        registry.writeTo(file);
+        registry.writeTo(file);
+
+        assertEquals(new String(Files.readAllBytes(file)), registry.toPrometheusText());
+        try (java.util.stream.Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(files.count(), 1L, "no temp files left behind");
+        }
+    }
+
+    @Test
+    public void servesTheSharedRegistryOverHttp() throws Exception {
+        FrameworkMetrics.SCREENSHOTS.inc();
+        MetricsExporter.startServer("127.0.0.1", 0);
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder(
+                    URI.create("http://127.0.0.1:" + MetricsExporter.port() + "/metrics")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(response.statusCode(), 200);
+            assertEquals(response.headers().firstValue("Content-Type").orElse(""), MetricsRegistry.CONTENT_TYPE);
+            assertTrue(response.body().contains("# TYPE veeva_screenshots_total counter"), response.body());
+            assertTrue(response.body().contains("veeva_tests_total{status=\"failed\"}"), "zero series exported");
+        } finally {
+            MetricsExporter.stopServer();
+        }
+        assertEquals(MetricsExporter.port(), -1);
+    }
+
+    @Test
+    public void tracksDriverSessions() {
+        Gauge.Child active = FrameworkMetrics.SESSIONS_ACTIVE.labels("fake");
+        long startups = FrameworkMetrics.DRIVER_STARTUP.labels("fake").count();
+        double before = active.get();
+
+        DriverManager.initDriver("fake");
+        try {
+            assertTrue(DriverManager.getDriver() instanceof FakeWebDriver);
+            assertEquals(active.get(), before + 1);
+            assertEquals(FrameworkMetrics.DRIVER_STARTUP.labels("fake").count(), startups + 1);
+        } finally {
+            DriverManager.quitDriver();
+        }
+        assertEquals(active.get(), before);
+    }
+}
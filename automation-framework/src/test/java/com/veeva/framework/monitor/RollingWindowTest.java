@@ -0,0 +1,55 @@
+package com.veeva.framework.monitor;
+
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * RollingWindowTest - Expiry, capacity and percentiles of the monitor's rolling window.
+ */
+public class RollingWindowTest {
+
+    @Test
+    public void dropsRunsOlderThanTheWindow() {
+        RollingWindow window = new RollingWindow(Duration.ofSeconds(10), 100);
+        window.record(1_000, 100, false);
+        window.record(9_000, 200, true);
+        window.record(12_000, 300, true);
+
+        RollingWindow.Stats stats = window.stats(15_000);
+        assertEquals(stats.runs, 2);
+        assertEquals(stats.available, 2);
+        assertEquals(stats.availability(), 1.0);
+        assertTrue(Double.isNaN(window.stats(100_000).availability()));
+    }
+
+    @Test
+    public void keepsOnlyTheNewestRunsAtCapacity() {
+        RollingWindow window = new RollingWindow(Duration.ofHours(1), 4);
+        for (int i = 1; i <= 10; i++) {
+            window.record(i, i * 10, i % 2 == 0);
+        }
+        RollingWindow.Stats stats = window.stats(100);
+        assertEquals(stats.runs, 4);
+        assertEquals(stats.available, 2);
+        assertEquals(stats.availability(), 0.5);
+    }
+
+    @Test
+    public void nearestRankPercentilesOfAvailableRuns() {
+        RollingWindow window = new RollingWindow(Duration.ofHours(1), 200);
+        for (int i = 100; i >= 1; i--) {
+            window.record(1_000, i, true);
+        }
+        window.record(1_000, 60_000, false);
+
+        RollingWindow.Stats stats = window.stats(2_000);
+        assertEquals(stats.latencyMillis(0.5), 50.0);
+        assertEquals(stats.latencyMillis(0.95), 95.0);
+        assertEquals(stats.latencyMillis(1.0), 100.0);
+        assertEquals(stats.latencyMillis(0.0), 1.0);
+    }
+}
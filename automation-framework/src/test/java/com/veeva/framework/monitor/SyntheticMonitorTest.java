@@ -0,0 +1,94 @@
+package com.veeva.framework.monitor;
+
+import com.veeva.framework.driver.DriverManager;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * SyntheticMonitorTest - Scheduling, session reuse and availability, on FakeWebDriver sessions.
+ */
+public class SyntheticMonitorTest {
+
+    @Test
+    public void recordsAvailabilityAndReusesWarmSessions() throws InterruptedException {
+        Set<WebDriver> seen = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        AtomicInteger failures = new AtomicInteger();
+        SyntheticMonitor monitor = SyntheticMonitor.builder()
+                .browser("fake")
+                .interval(Duration.ofMillis(50))
+                .concurrency(2)
+                .window(Duration.ofMinutes(1))
+                .runTimeout(Duration.ofSeconds(5))
+                .sessionMaxRuns(1_000)
+                .flow(MonitorFlow.builder("up")
+                        .body(() -> {
+                            WebDriver driver = DriverManager.getDriver();
+                            seen.add(driver);
+                            driver.get("https://fake.test/");
+                        })
+                        .build())
+                .flow(MonitorFlow.builder("down")
+                        .body(() -> {
+                            failures.incrementAndGet();
+                            throw new IllegalStateException("page did not load");
+                        })
+                        .build())
+                .build();
+
+        monitor.start();
+        try {
+            waitFor(() -> monitor.stats("up").runs >= 5 && monitor.stats("down").runs >= 3);
+        } finally {
+            monitor.stop();
+        }
+
+        assertEquals(monitor.stats("up").availability(), 1.0);
+        assertEquals(monitor.stats("down").availability(), 0.0);
+        // a failed run quits its session, so at most one new session per failure beyond the pool
+        assertTrue(seen.size() <= 2 + failures.get(), "up runs should share warm sessions, used " + seen.size());
+        assertEquals(monitor.sessions(), 0);
+        assertEquals(monitor.stats("down").runs, failures.get());
+    }
+
+    @Test
+    public void recyclesSessionsAfterMaxRuns() throws InterruptedException {
+        Set<WebDriver> seen = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        SyntheticMonitor monitor = SyntheticMonitor.builder()
+                .browser("fake")
+                .interval(Duration.ofMillis(30))
+                .concurrency(1)
+                .sessionMaxRuns(2)
+                .flow(MonitorFlow.builder("recycled")
+                        .body(() -> seen.add(DriverManager.getDriver()))
+                        .build())
+                .build();
+
+        monitor.start();
+        try {
+            waitFor(() -> monitor.stats("recycled").runs >= 6);
+            assertTrue(monitor.sessions() <= 1);
+        } finally {
+            monitor.stop();
+        }
+        assertTrue(seen.size() >= 3, "expected a fresh session every 2 runs, got " + seen.size());
+        assertEquals(monitor.sessions(), 0);
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("condition not met in 10s");
+            Thread.sleep(20);
+        }
+    }
+}
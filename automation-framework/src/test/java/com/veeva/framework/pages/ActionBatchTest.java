@@ -0,0 +1,147 @@
+package com.veeva.framework.pages;
+
+import com.veeva.framework.driver.fake.FakeWebDriver;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * ActionBatchTest - Batched steps on FakeWebDriver over the fixture site in src/test/resources/fake-site.
+ */
+public class ActionBatchTest {
+
+    private static final String HOME = "https://fake.test/";
+
+    private FakeWebDriver driver;
+
+    @BeforeMethod
+    public void open() {
+        driver = FakeWebDriver.builder().site("fake-site").build();
+        driver.get(HOME);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void close() {
+        driver.quit();
+    }
+
+    @Test
+    public void runsEachSegmentInOneRoundTrip() {
+        long before = driver.commandCount();
+        ActionBatch.Result result = batch()
+                .scrollTo(Element.css("ul.scores"))
+                .readText(Element.css("h1"))
+                .readAttribute(Element.id("search"), "value")
+                .hover(Element.id("menu"))
+                .click(Element.css("nav a[href='/news/']"))
+                .readTexts(Element.css(".feed h3"))
+                .run();
+        long commands = driver.commandCount() - before;
+
+        assertEquals(result.text(0), "Welcome home");
+        assertEquals(result.text(1), "bulls");
+        assertEquals(result.texts(2), Arrays.asList("Draft night recap", "Training camp opens", "Season preview"));
+        assertEquals(driver.getTitle(), "Fake News", "the pointer click followed the link");
+        assertEquals(result.roundTrips(), 3, "script + Actions chain + script");
+        assertEquals(commands, 3);
+    }
+
+    @Test
+    public void waitsForAStepTheScriptCannotResolveAndResumesThere() {
+        ActionBatch.Result result = batch()
+                .readText(Element.css("h1"))
+                .click(Element.linkText("News"))
+                .readText(Element.css("h1"))
+                .run();
+
+        assertEquals(result.text(0), "Welcome home");
+        assertEquals(result.text(1), "News");
+        assertEquals(result.roundTrips(), 5, "script, wait for the link, resumed script, Actions chain, script");
+    }
+
+    @Test
+    public void hiddenTargetsFailWithTheExplicitWait() {
+        assertThrows(TimeoutException.class, () -> batch().hover(Element.css("p.intro[hidden]")).run());
+
+        // only the first target must be visible up front; the hidden click goes out on its own and waits
+        long start = System.nanoTime();
+        assertThrows(TimeoutException.class, () -> batch()
+                .hover(Element.id("menu"))
+                .click(Element.css("p.intro[hidden]"))
+                .run());
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(200).toNanos(), "replayed with waits");
+    }
+
+    @Test
+    public void clicksATargetThatFailsTheHitTestOnItsOwn() {
+        long before = driver.commandCount();
+        assertThrows(TimeoutException.class, () -> batch()
+                .hover(Element.id("menu"))
+                .click(Element.id("disabled"))
+                .run());
+        assertTrue(driver.commandCount() - before > 2, "waited for the disabled input instead of clicking it in the chain");
+    }
+
+    @Test
+    public void stopsRerunningAScriptThatKeepsReportingAStepMissing() {
+        driver.quit();
+        AtomicInteger calls = new AtomicInteger();
+        driver = FakeWebDriver.builder().site("fake-site")
+                .script("action-batch.js", (d, args) -> {
+                    calls.incrementAndGet();
+                    Map<String, Object> result = new HashMap<>();
+                    result.put("values", Collections.emptyList());
+                    result.put("hits", Collections.emptyList());
+                    result.put("missing", args[1]);
+                    return result;
+                })
+                .build();
+        driver.get(HOME);
+
+        ActionBatch.Result result = batch()
+                .readText(Element.css("h1"))
+                .readAttribute(Element.id("search"), "value")
+                .click(Element.linkText("News"))
+                .run();
+
+        assertEquals(calls.get(), ActionBatch.MAX_SCRIPT_ROUNDS);
+        assertEquals(result.text(0), "Welcome home");
+        assertEquals(result.text(1), "bulls");
+        assertEquals(driver.getTitle(), "Fake News", "the WebDriver path still clicked");
+    }
+
+    @Test
+    public void replaysOnlyTheStepsAfterTheLastCompletedClick() {
+        driver.quit();
+        String page = "<title>%s</title><div id='menu' %s>menu</div><a id='next' href='%s'>next</a>";
+        driver = FakeWebDriver.builder()
+                .page("https://fake.test/a", String.format(page, "A", "hidden", "/b"))
+                .page("https://fake.test/b", String.format(page, "B", "", "/c"))
+                .page("https://fake.test/c", String.format(page, "C", "", "/a"))
+                .build();
+        driver.get("https://fake.test/a");
+
+        // the hover's target as located on A is hidden, so the chain after the click fails
+        ActionBatch.Result result = batch().click(Element.id("next")).hover(Element.id("menu")).run();
+
+        assertEquals(driver.getTitle(), "B", "the completed click was not sent again");
+        assertTrue(result.roundTrips() >= 3);
+    }
+
+    private ActionBatch batch() {
+        return new ActionBatch(driver, new WebDriverWait(driver, Duration.ofMillis(200)), RetryPolicy.transientFailures());
+    }
+}
@@ -0,0 +1,48 @@
+package com.veeva.framework.pages;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * CarouselSamplerTest - Turning the in-page change log into per-slide dwell times.
+ */
+public class CarouselSamplerTest {
+
+    private static final List<String> TITLES = Arrays.asList("Season", "Playoffs", "Groups");
+
+    @Test
+    public void countsCompleteDwellsAndKeepsTheLastOneAsPartial() {
+        // [active slide, performance.now()]: slide 0 was already showing when sampling started
+        CarouselSampler.Timing timing = CarouselSampler.Timing.from(Arrays.asList(
+                change(0, 0), change(1, 400), change(2, 1_400), change(0, 2_600), change(1, 3_600)),
+                TITLES, 3_900);
+
+        assertEquals(timing.transitions(), 4);
+        assertEquals(timing.slide("playoffs").samples(), Arrays.asList(1_000.0));
+        assertEquals(timing.slide("Groups").samples(), Arrays.asList(1_200.0));
+        assertEquals(timing.slide("Season").samples(), Arrays.asList(1_000.0));
+        assertEquals(timing.slide("Playoffs").partialMillis(), 300.0);
+        assertTrue(Double.isNaN(timing.slide("Season").partialMillis()));
+    }
+
+    @Test
+    public void tellsAPartialDwellFromASlideThatNeverShowed() {
+        CarouselSampler.Timing timing = CarouselSampler.Timing.from(Arrays.asList(
+                change(0, 0), change(1, 500)), TITLES, 2_000);
+
+        CarouselSampler.Slide playoffs = timing.slide("Playoffs");
+        assertTrue(playoffs.samples().isEmpty());
+        assertEquals(playoffs.partialMillis(), 1_500.0);
+        assertEquals(playoffs.toString(), "#1 'Playoffs' (only a partial dwell of 1500ms at the end)");
+        assertEquals(timing.slide("Groups").toString(), "#2 'Groups' (never shown)");
+    }
+
+    private static List<Number> change(int slide, double at) {
+        return Arrays.asList(slide, at);
+    }
+}
@@ -0,0 +1,130 @@
+package com.veeva.framework.pages;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * RetryPolicyTest - Attempts, recovery and the counters a policy leaves in RetryStats.
+ */
+public class RetryPolicyTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger recoveries = new AtomicInteger();
+
+    @BeforeMethod
+    public void reset() {
+        calls.set(0);
+        recoveries.set(0);
+        RetryStats.reset();
+        RetryStats.drainCurrentTest();
+    }
+
+    private RetryPolicy staleRetry(int attempts) {
+        return RetryPolicy.builder()
+                .retryOn(StaleElementReferenceException.class)
+                .attempts(attempts)
+                .backoff(Duration.ZERO)
+                .recover(recoveries::incrementAndGet)
+                .build();
+    }
+
+    /** Throws a stale-element failure on the first {@code failures} calls, then returns the call count. */
+    private int failing(int failures) {
+        int call = calls.incrementAndGet();
+        if (call <= failures) throw new StaleElementReferenceException("stale #" + call);
+        return call;
+    }
+
+    @Test
+    public void recoversBeforeEachRetryUntilTheActionSucceeds() {
+        int result = staleRetry(3).execute("open menu", () -> failing(2));
+
+        assertEquals(result, 3);
+        assertEquals(recoveries.get(), 2);
+        assertEquals(RetryStats.flakyActions().get(0), new String[]{"open menu", "1", "2", "1", "0"});
+        List<String> events = RetryStats.drainCurrentTest();
+        assertEquals(events.size(), 2, events.toString());
+        assertTrue(events.get(0).startsWith("open menu | attempt 1 failed: StaleElementReferenceException stale #1"),
+                events.get(0));
+    }
+
+    @Test
+    public void rethrowsTheLastFailureWhenAttemptsRunOut() {
+        StaleElementReferenceException e = expectThrows(StaleElementReferenceException.class,
+                () -> staleRetry(3).run("open menu", () -> failing(Integer.MAX_VALUE)));
+
+        assertTrue(e.getMessage().startsWith("stale #3"), e.getMessage());
+        assertEquals(calls.get(), 3);
+        assertEquals(recoveries.get(), 2, "no recovery after the last attempt");
+        assertEquals(RetryStats.flakyActions().get(0), new String[]{"open menu", "1", "2", "0", "1"});
+        assertTrue(RetryStats.drainCurrentTest().contains("open menu | gave up after 3 attempts: StaleElementReferenceException"));
+    }
+
+    @Test
+    public void unlistedExceptionsPropagateWithoutRetrying() {
+        NoSuchElementException missing = new NoSuchElementException("no #menu");
+
+        NoSuchElementException e = expectThrows(NoSuchElementException.class,
+                () -> staleRetry(3).run("open menu", () -> {
+                    calls.incrementAndGet();
+                    throw missing;
+                }));
+
+        assertSame(e, missing);
+        assertEquals(calls.get(), 1);
+        assertEquals(recoveries.get(), 0);
+        assertTrue(RetryStats.flakyActions().isEmpty());
+        assertTrue(RetryStats.drainCurrentTest().isEmpty());
+    }
+
+    @Test
+    public void aFailingRecoveryDoesNotMaskTheNextAttempt() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .retryOn(StaleElementReferenceException.class)
+                .backoff(Duration.ZERO)
+                .recover(() -> {
+                    recoveries.incrementAndGet();
+                    throw new IllegalStateException("overlay already gone");
+                })
+                .build();
+
+        assertEquals((int) policy.execute("dismiss overlay", () -> failing(1)), 2);
+        assertEquals(recoveries.get(), 1);
+    }
+
+    @Test
+    public void atLeastOneAttemptIsMade() {
+        RetryPolicy policy = staleRetry(0);
+
+        assertEquals(policy.attempts(), 1);
+        expectThrows(StaleElementReferenceException.class, () -> policy.run("open menu", () -> failing(1)));
+        assertEquals(calls.get(), 1);
+        assertEquals(recoveries.get(), 0);
+    }
+
+    @Test
+    public void backoffGrowsByTheMultiplier() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .retryOn(StaleElementReferenceException.class)
+                .attempts(3)
+                .backoff(Duration.ofMillis(40), 2.0)
+                .build();
+
+        long start = System.nanoTime();
+        policy.execute("open menu", () -> failing(2));
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertTrue(elapsedMs >= 40 + 80, "paused " + elapsedMs + " ms");
+    }
+}
@@ -0,0 +1,113 @@
+package com.veeva.framework.pages;
+
+import com.veeva.framework.driver.fake.FakeWebDriver;
+import org.openqa.selenium.Cookie;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * StorageStateTest - Capture and restore of cookies and Web Storage, on FakeWebDriver with emulated storage.
+ */
+public class StorageStateTest {
+
+    private static final String HOME = "https://team.test/";
+
+    private Path file;
+    private final List<Object> storageWrites = new ArrayList<>();
+
+    @BeforeMethod
+    public void createFile() throws IOException {
+        file = Files.createTempDirectory("storage-state").resolve(StorageState.FILE_NAME);
+        storageWrites.clear();
+    }
+
+    @Test
+    public void capturesASetupAndReplaysItIntoANewSession() {
+        FakeWebDriver setup = driver();
+        try {
+            setup.get(HOME);
+            setup.manage().addCookie(new Cookie("consent", "all", "team.test", "/", null));
+            new StorageState(file, Duration.ofHours(1), "/robots.txt").capture(setup);
+        } finally {
+            setup.quit();
+        }
+
+        StorageState state = new StorageState(file, Duration.ofHours(1), "robots.txt");
+        FakeWebDriver fresh = driver();
+        try {
+            assertTrue(state.restore(fresh, HOME + "news/"));
+            assertEquals(fresh.getCurrentUrl(), HOME + "robots.txt", "cookies are set from the landing URL");
+            assertEquals(fresh.manage().getCookieNamed("consent").getValue(), "all");
+            assertEquals(storageWrites.get(storageWrites.size() - 1), Collections.singletonMap("promo", "seen"));
+            assertTrue(state.restoredIn(fresh, HOME + "any/page"));
+
+            assertFalse(state.restore(fresh, HOME), "only before the first visit of a session");
+            assertFalse(state.restore(fresh, "https://other.test/"), "no snapshot for that origin");
+            assertFalse(state.restoredIn(fresh, "https://other.test/"));
+        } finally {
+            fresh.quit();
+        }
+    }
+
+    @Test
+    public void dropsStaleAndExpiredSnapshots() {
+        FakeWebDriver setup = driver();
+        try {
+            setup.get(HOME);
+            StorageState state = new StorageState(file, Duration.ofHours(1), "/robots.txt");
+            state.capture(setup);
+            assertNotNull(state.lookup("https://team.test"));
+
+            state.invalidate(HOME + "news/");
+            assertNull(state.lookup("https://team.test"));
+            assertNull(new StorageState(file, Duration.ofHours(1), "/robots.txt").lookup("https://team.test"),
+                    "dropped on disk too");
+
+            state.capture(setup);
+            assertNull(new StorageState(file, Duration.ZERO, "/robots.txt").lookup("https://team.test"));
+        } finally {
+            setup.quit();
+        }
+    }
+
+    @Test
+    public void keysSnapshotsByOrigin() {
+        assertEquals(StorageState.origin("https://www.NBA.com/warriors?x=1#top"), "https://www.nba.com");
+        assertEquals(StorageState.origin("http://localhost:8080/a"), "http://localhost:8080");
+        assertNull(StorageState.origin("about:blank"));
+        assertNull(StorageState.origin("data:text/html,<p>hi</p>"));
+    }
+
+    /**
+     * A fake session whose storage-state.js reports {promo: seen} in localStorage and records writes.
+     */
+    private FakeWebDriver driver() {
+        return FakeWebDriver.builder()
+                .page(HOME, "<title>Team</title><p>home</p>")
+                .script("sessionStorage", (d, args) -> {
+                    if (args[0] != null) storageWrites.add(args[0]);
+                    Map<String, Object> storage = new HashMap<>();
+                    storage.put("local", new LinkedHashMap<>(Collections.singletonMap("promo", "seen")));
+                    storage.put("session", new LinkedHashMap<>());
+                    return storage;
+                })
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.veeva.framework.pages;
+
+import com.veeva.framework.driver.fake.FakeWebDriver;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * TabGroupTest - Opening, reading and closing grouped tabs, on the FakeWebDriver fixture site.
+ */
+public class TabGroupTest {
+
+    private static final String HOME = "https://fake.test/";
+
+    private FakeWebDriver driver;
+
+    @BeforeMethod
+    public void open() {
+        driver = FakeWebDriver.builder().site("fake-site").build();
+        driver.get(HOME);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void close() {
+        driver.quit();
+    }
+
+    @Test
+    public void extractsFromEveryTabAndReturnsToTheOriginalOne() {
+        String home = driver.getWindowHandle();
+        Map<String, String> titles;
+        try (TabGroup tabs = new TabGroup(driver)) {
+            tabs.open("home", HOME).open("news", HOME + "news/").awaitLoaded(Duration.ofSeconds(5));
+            assertEquals(driver.getWindowHandles().size(), 3);
+            titles = tabs.extract(WebDriver::getTitle);
+            assertEquals(tabs.switchTo("news").getCurrentUrl(), HOME + "news/");
+        }
+        assertEquals(titles.keySet().toString(), "[home, news]");
+        assertEquals(titles.get("home"), "Fake Team Home");
+        assertEquals(titles.get("news"), "Fake News");
+        assertEquals(driver.getWindowHandles().size(), 1);
+        assertEquals(driver.getWindowHandle(), home);
+    }
+
+    @Test
+    public void rejectsDuplicateAndUnknownTabNames() {
+        try (TabGroup tabs = new TabGroup(driver)) {
+            tabs.open("news", HOME + "news/");
+            assertThrows(IllegalArgumentException.class, () -> tabs.open("news", HOME));
+            assertThrows(IllegalArgumentException.class, () -> tabs.switchTo("stats"));
+        }
+        assertEquals(driver.getWindowHandles().size(), 1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.veeva.framework.utils;
+
+import org.testng.ITestResult;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * BaseTestTest - Framework failures on the TestContext, through a TestNG run on FakeWebDriver.
+ */
+public class BaseTestTest {
+
+    @Test
+    public void failsTheInvocationThatRecordedAFrameworkFailure() {
+        TestListenerAdapter results = run(FrameworkFailureFixture.class);
+
+        List<ITestResult> failed = results.getFailedTests();
+        assertEquals(failed.size(), 1);
+        assertEquals(failed.get(0).getName(), "budgetExceeded");
+        assertTrue(failed.get(0).getThrowable().getMessage().contains("lcp 4000 > 2500"));
+        assertEquals(results.getPassedTests().size(), 1, "the next invocation starts clean");
+    }
+
+    private static TestListenerAdapter run(Class<?> testClass) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("base-test");
+        XmlTest test = new XmlTest(suite);
+        test.setName("fake");
+        test.setParameters(Collections.singletonMap("browser", "fake"));
+        test.setXmlClasses(Collections.singletonList(new XmlClass(testClass)));
+
+        TestListenerAdapter results = new TestListenerAdapter();
+        TestNG testng = new TestNG(false);
+        testng.setXmlSuites(Collections.singletonList(suite));
+        testng.addListener(results);
+        testng.setVerbose(0);
+        testng.run();
+        return results;
+    }
+}
@@ -0,0 +1,21 @@
+package com.veeva.framework.utils;
+
+import com.veeva.framework.context.TestContext;
+import org.testng.annotations.Test;
+
+/**
+ * FrameworkFailureFixture - Run by BaseTestTest only: one invocation records a
+ * framework failure and never asserts, the next does nothing.
+ */
+public class FrameworkFailureFixture extends BaseTest {
+
+    @Test(priority = 0)
+    public void budgetExceeded() {
+        TestContext.current().fail("Performance budget exceeded on https://fake.test/: lcp 4000 > 2500");
+    }
+
+    @Test(priority = 1)
+    public void clean() {
+        TestContext.current();
+    }
+}
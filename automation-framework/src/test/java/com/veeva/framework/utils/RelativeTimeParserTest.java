@@ -0,0 +1,109 @@
+package com.veeva.framework.utils;
+
+import org.testng.annotations.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * RelativeTimeParserTest - Relative and absolute timestamps against a fixed clock.
+ */
+public class RelativeTimeParserTest {
+
+    // 2026-10-19 15:30 in New York
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-19T19:30:00Z"), ZoneId.of("America/New_York"));
+    private static final Duration SINCE_MIDNIGHT = Duration.ofHours(15).plusMinutes(30);
+
+    private final RelativeTimeParser parser = new RelativeTimeParser(CLOCK);
+
+    private static final Map<List<String>, Long> UNITS = new LinkedHashMap<>();
+
+    static {
+        UNITS.put(Arrays.asList("s", "sec", "secs", "second", "seconds"), 1L);
+        UNITS.put(Arrays.asList("m", "min", "mins", "minute", "minutes"), 60L);
+        UNITS.put(Arrays.asList("h", "hr", "hrs", "hour", "hours"), 3_600L);
+        UNITS.put(Arrays.asList("d", "day", "days"), 86_400L);
+        UNITS.put(Arrays.asList("w", "wk", "wks", "week", "weeks"), 7 * 86_400L);
+        UNITS.put(Arrays.asList("mo", "mos", "mon", "month", "months"), 30 * 86_400L);
+        UNITS.put(Arrays.asList("y", "yr", "yrs", "year", "years"), 365 * 86_400L);
+    }
+
+    @Test
+    public void parsesEveryUnitSpellingInEveryLayout() {
+        int checked = 0;
+        for (Map.Entry<List<String>, Long> unit : UNITS.entrySet()) {
+            for (String name : unit.getKey()) {
+                for (int value : new int[]{0, 1, 2, 3, 7, 12, 30, 59, 365, 1_000, 123_456}) {
+                    Duration expected = Duration.ofSeconds(value * unit.getValue());
+                    for (String layout : new String[]{"%d%s", "%d %s", "%d %s ago", "  %d%s ago  ", "%d\u00A0%s", "%d %s, updated"}) {
+                        String lower = String.format(layout, value, name);
+                        assertEquals(parser.parse(lower), expected, "'" + lower + "'");
+                        String upper = lower.toUpperCase(Locale.ROOT);
+                        assertEquals(parser.parse(upper), expected, "'" + upper + "'");
+                        checked += 2;
+                    }
+                }
+            }
+        }
+        assertEquals(checked, 33 * 11 * 6 * 2);
+    }
+
+    @Test
+    public void parsesWordForms() {
+        assertEquals(parser.parse("just now"), Duration.ZERO);
+        assertEquals(parser.parse("Now"), Duration.ZERO);
+        assertEquals(parser.parse("moments ago"), Duration.ZERO);
+        assertEquals(parser.parse("Today"), Duration.ZERO);
+        assertEquals(parser.parse("Yesterday"), Duration.ofDays(1));
+        assertEquals(parser.parse("a minute ago"), Duration.ofMinutes(1));
+        assertEquals(parser.parse("an hour ago"), Duration.ofHours(1));
+        assertEquals(parser.parse("A week ago"), Duration.ofDays(7));
+        assertEquals(parser.parse("a year ago"), Duration.ofDays(365));
+    }
+
+    @Test
+    public void parsesAbsoluteDates() {
+        Duration fourDays = Duration.ofDays(4).plus(SINCE_MIDNIGHT);
+        for (String date : new String[]{"2026-10-15", "10/15/2026", "Oct 15, 2026", "Oct. 15, 2026", "October 15 2026",
+                "15 Oct 2026", "15 October, 2026", "Oct 15", "october 15", "15 OCT"}) {
+            assertEquals(parser.parse(date), fourDays, "'" + date + "'");
+        }
+        assertEquals(parser.parse("Sept 19, 2026"), Duration.ofDays(30).plus(SINCE_MIDNIGHT));
+        assertEquals(parser.parse("Dec 25"), Duration.between(LocalDate.of(2025, 12, 25).atStartOfDay(CLOCK.getZone()).toInstant(),
+                CLOCK.instant()), "a future month/day means last year");
+        assertEquals(parser.parse("2027-01-01"), Duration.ZERO, "future dates are never negative");
+        assertEquals(parser.parse("Oct 19"), SINCE_MIDNIGHT);
+    }
+
+    @Test
+    public void rejectsUnrecognisedText() {
+        for (String text : new String[]{null, "", "   ", "LIVE", "5", "5 parsecs", "d", "ago", "a lot ago",
+                "Octopus 5", "Feb 30, 2026", "2026-13-01", "1/2/26", "99999999999d", "—", "• 3d"}) {
+            assertNull(parser.parse(text), "'" + text + "'");
+        }
+    }
+
+    @Test
+    public void daysRoundsDownAndFlagsUnknown() {
+        assertEquals(parser.days("3d"), 3);
+        assertEquals(parser.days("71h"), 2);
+        assertEquals(parser.days("2w"), 14);
+        assertEquals(parser.days("n/a"), -1);
+    }
+
+    @Test
+    public void acceptsAnyCharSequence() {
+        assertEquals(parser.parse(new StringBuilder("45 min ago")), Duration.ofMinutes(45));
+    }
+}
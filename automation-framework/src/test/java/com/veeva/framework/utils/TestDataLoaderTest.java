@@ -0,0 +1,134 @@
+package com.veeva.framework.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+
+/**
+ * TestDataLoaderTest - Streaming rows, the shared cache, isolation of the objects it hands out,
+ * and falling back to the source when a compiled copy is stale.
+ */
+public class TestDataLoaderTest {
+
+    private static final String ROWS = "testdata/loader-rows.json";
+
+    public static class Row {
+        public String name;
+        public List<String> tags;
+    }
+
+    public static class CountedRow {
+        static final AtomicInteger BOUND = new AtomicInteger();
+        public String name;
+        public List<String> tags;
+
+        public CountedRow() {
+            BOUND.incrementAndGet();
+        }
+    }
+
+    public static class RowFile {
+        public String description;
+        public List<Row> rows;
+    }
+
+    @AfterMethod
+    public void clear() {
+        TestDataLoader.clearCache();
+    }
+
+    @Test
+    public void streamsRowsOfTheFirstArrayAndSkipsNulls() {
+        assertEquals(names(TestDataLoader.stream(ROWS, Row.class)), List.of("first", "second", "third"));
+    }
+
+    @Test
+    public void bindsEachStreamedRowOnce() {
+        CountedRow.BOUND.set(0);
+        Iterator<Object[]> rows = TestDataLoader.stream(ROWS, CountedRow.class);
+        int count = 0;
+        while (rows.hasNext() && rows.hasNext()) {
+            rows.next();
+            count++;
+        }
+        assertEquals(count, 3);
+        assertEquals(CountedRow.BOUND.get(), 3, "hasNext binds nothing");
+    }
+
+    @Test
+    public void iteratorsShareOnePassButNotRowObjects() {
+        Iterator<Object[]> a = TestDataLoader.stream(ROWS, Row.class);
+        Row fromA = (Row) a.next()[0];
+        fromA.name = "mutated";
+        fromA.tags.add("x");
+
+        Iterator<Object[]> b = TestDataLoader.stream(ROWS, Row.class);
+        Row fromB = (Row) b.next()[0];
+        assertNotSame(fromB, fromA);
+        assertEquals(fromB.name, "first");
+        assertEquals(fromB.tags, List.of("a"));
+        assertEquals(names(a), List.of("second", "third"));
+        assertEquals(names(b), List.of("second", "third"));
+    }
+
+    @Test
+    public void loadJsonCachesTheFileButReturnsFreshObjects() {
+        RowFile first = TestDataLoader.loadJson(ROWS, RowFile.class);
+        first.rows.get(0).name = "mutated";
+        first.rows.clear();
+
+        RowFile second = TestDataLoader.loadJson(ROWS, RowFile.class);
+        assertNotSame(second, first);
+        assertEquals(second.description, "TestDataLoaderTest fixture");
+        assertEquals(second.rows.size(), 4);
+        assertEquals(second.rows.get(0).name, "first");
+    }
+
+    @Test
+    public void readsTheSmileCopyOnlyWhileItMatchesItsSource() throws IOException, URISyntaxException {
+        Path dir = Paths.get(getClass().getClassLoader().getResource(ROWS).toURI()).getParent();
+        Path source = dir.resolve("compiled-rows.json");
+        Path smile = dir.resolve("compiled-rows.json" + TestDataCompiler.SMILE_SUFFIX);
+        Path hash = dir.resolve(smile.getFileName() + TestDataCompiler.HASH_SUFFIX);
+        byte[] built = "{\"description\": \"as built\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] edited = "{\"description\": \"edited\"}".getBytes(StandardCharsets.UTF_8);
+        try {
+            // the Smile copy differs from its source only to tell which one was read
+            new ObjectMapper(new SmileFactory()).writeValue(smile.toFile(),
+                    new ObjectMapper().readTree("{\"description\": \"compiled\"}"));
+            Files.write(hash, FileUtils.sha256(built).getBytes(StandardCharsets.US_ASCII));
+
+            Files.write(source, built);
+            assertEquals(TestDataLoader.loadJson("testdata/compiled-rows.json", RowFile.class).description, "compiled");
+
+            TestDataLoader.clearCache();
+            Files.write(source, edited);
+            assertEquals(TestDataLoader.loadJson("testdata/compiled-rows.json", RowFile.class).description, "edited");
+        } finally {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(smile);
+            Files.deleteIfExists(hash);
+        }
+    }
+
+    private static List<String> names(Iterator<Object[]> rows) {
+        List<String> names = new ArrayList<>();
+        rows.forEachRemaining(row -> names.add(((Row) row[0]).name));
+        return names;
+    }
+}
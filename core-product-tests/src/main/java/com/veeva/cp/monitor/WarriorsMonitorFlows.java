@@ -0,0 +1,32 @@
+package com.veeva.cp.monitor;
+
+import com.veeva.cp.pages.WarriorsHomePage;
+import com.veeva.cp.pages.WarriorsNewsPage;
+import com.veeva.framework.monitor.FlowProvider;
+import com.veeva.framework.monitor.MonitorFlow;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * WarriorsMonitorFlows - Warriors page flows run by the SyntheticMonitor.
+ *
+ *   warriors-home   home page opens, banners dismissed
+ *   warriors-news   News &amp; Features reached and its feed loaded
+ */
+public class WarriorsMonitorFlows implements FlowProvider {
+
+    @Override
+    public List<MonitorFlow> flows() {
+        return Arrays.asList(
+                MonitorFlow.builder("warriors-home")
+                        .body(() -> new WarriorsHomePage().open())
+                        .build(),
+                MonitorFlow.builder("warriors-news")
+                        .body(() -> {
+                            WarriorsNewsPage news = new WarriorsHomePage().open().navigateToNewAndFeatures();
+                            if (!news.isLoaded()) throw new IllegalStateException("News & Features did not load");
+                        })
+                        .build());
+    }
+}
@@ -3,8 +3,11 @@ package com.veeva.cp.pages;
 import com.veeva.framework.config.ConfigManager;
 import com.veeva.framework.pages.BasePage;
 import com.veeva.framework.pages.Element;
+import com.veeva.framework.pages.NavigationCache;
+import com.veeva.framework.pages.RetryPolicy;
+import com.veeva.framework.pages.TabGroup;
 import io.qameta.allure.Step;
-import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriverException;
 
 /**
  * WarriorsHomePage - Entry point for Core Product (Warriors).
@@ -30,6 +33,15 @@ public class WarriorsHomePage extends BasePage {
 
     private final Element cookiesAcceptBtn = Element.xpath("//button[text()='I Accept']");
 
+    // ─── Retry policies ───────────────────────────────────────────────────────
+
+    /** The hamburger menu collapses when the pointer drifts; park it on Home and reopen. */
+    private final RetryPolicy menuRetry = RetryPolicy.builder()
+            .retryOn(WebDriverException.class)
+            .attempts(3)
+            .recover(() -> hover(nbaHome))
+            .build();
+
     // ─── Actions ──────────────────────────────────────────────────────────────
 
     @Step("Open Warriors home page")
@@ -37,7 +49,8 @@ public class WarriorsHomePage extends BasePage {
         navigateTo(baseUrl);
         log.info("Opened Warriors home page: {}", baseUrl);
         dismissCookieBannerIfPresent(cookiesAcceptBtn);
-        click(preSaleDialog);
+        dismissIfPresent(preSaleDialog);
+        captureStorageState();
         return this;
     }
 
@@ -47,34 +60,86 @@ public class WarriorsHomePage extends BasePage {
         hover(hamburgerIcon);
         return this;
     }
-    @Step("Hover on hamburger menu → click 'New & Features'")
+    @Step("Go to 'New & Features' (learned shortcut, else hamburger menu)")
     public WarriorsNewsPage navigateToNewAndFeatures() {
-        int counter = 0;
-        while(counter < 3) {
-            try {
-                openMenu();
-                click(newAndFeaturesLink);
-                break;
-            } catch (Exception e) {
-                log.info("Unable to click News and features option so Falling back to direct News menu click again");
-                counter++;
-                hover(nbaHome);
-            }
-        }
-        if(counter == 3)
-        {
-            throw new NoSuchElementException("Not able to click the News and Features after retrying 3 times");
-        }
+        navigateVia(newAndFeaturesPath(), this::newAndFeaturesMenuPath,
+                () -> new WarriorsNewsPage().isLoaded());
         log.info("Navigated to New & Features | URL: {}", getCurrentUrl());
         return new WarriorsNewsPage();
     }
 
-    @Step("Hover on hamburger menu → click 'TEAMS'")
-    public WarriorsStatsPage navigateToTeams()
-    {
+    @Step("Hover on hamburger menu → click 'New & Features'")
+    public WarriorsNewsPage navigateToNewAndFeaturesViaMenu() {
+        navigateViaMenu(newAndFeaturesPath(), this::newAndFeaturesMenuPath,
+                () -> new WarriorsNewsPage().isLoaded());
+        log.info("Navigated to New & Features via menu | URL: {}", getCurrentUrl());
+        return new WarriorsNewsPage();
+    }
+
+    @Step("Go to 'Team Stats' (learned shortcut, else TEAM menu)")
+    public WarriorsStatsPage navigateToTeams() {
+        navigateVia(teamStatsPath(), this::teamStatsMenuPath,
+                () -> new WarriorsStatsPage().isLoaded());
+        return new WarriorsStatsPage();
+    }
+
+    @Step("Hover on 'TEAM' menu → click 'Team Stats'")
+    public WarriorsStatsPage navigateToTeamsViaMenu() {
+        navigateViaMenu(teamStatsPath(), this::teamStatsMenuPath,
+                () -> new WarriorsStatsPage().isLoaded());
+        return new WarriorsStatsPage();
+    }
+
+    /**
+     * Writes the Team Stats tables to a text file and returns its path.
+     *
+     * With a learned Team Stats URL the page is read in a tab of its own
+     * ({@link TabGroup}), which is closed again, leaving this page's tab as it
+     * was. Otherwise, or when that URL no longer shows the stats, the TEAM menu
+     * is used (it opens Team Stats in a new window and learns its URL).
+     */
+    @Step("Collect Team Stats (learned URL in a tab, else TEAM menu)")
+    public String captureTeamStats() {
+        NavigationCache cache = NavigationCache.shared();
+        String url = cache != null ? cache.lookup(teamStatsPath()) : null;
+        if (url != null) {
+            try (TabGroup tabs = openTabs()) {
+                tabs.open("stats", url).awaitLoaded();
+                String file = tabs.extract(d -> {
+                    WarriorsStatsPage stats = new WarriorsStatsPage();
+                    return stats.isLoaded() ? stats.captureTeamStats() : null;
+                }).get("stats");
+                if (file != null) return file;
+            }
+            log.warn("Learned Team Stats URL {} no longer shows the stats — using the TEAM menu", url);
+            cache.invalidate(teamStatsPath());
+        }
+        return navigateToTeams().captureTeamStats();
+    }
+
+    // ─── Menu paths ───────────────────────────────────────────────────────────
+
+    /** Name of the Team Stats path in the NavigationCache. */
+    public String teamStatsPath() {
+        return baseUrl + " > Team > Team Stats";
+    }
+
+    /** Name of the News &amp; Features path in the NavigationCache. */
+    public String newAndFeaturesPath() {
+        return baseUrl + " > News & Features";
+    }
+
+    private void newAndFeaturesMenuPath() {
+        retry(menuRetry, "menu → News & Features", () -> {
+            openMenu();
+            click(newAndFeaturesLink);
+        });
+    }
+
+    private void teamStatsMenuPath() {
         hover(teams);
         click(teamsStats);
         String newWindowTitle = switchToWindow();
-        return new WarriorsStatsPage();
+        log.info("Team Stats opened in window: {}", newWindowTitle);
     }
 }
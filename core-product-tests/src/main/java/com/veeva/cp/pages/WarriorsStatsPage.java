@@ -1,5 +1,7 @@
 package com.veeva.cp.pages;
 
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
 import com.veeva.framework.pages.BasePage;
 import com.veeva.framework.pages.Element;
 import io.qameta.allure.Step;
@@ -34,6 +36,13 @@ public class WarriorsStatsPage extends BasePage {
     private String body = "//div[contains(@class,'Crom_base')][%d]//tr[%d]/td";
     // ─── Actions ──────────────────────────────────────────────────────────────
 
+    /**
+     * True once the stats tables are showing.
+     */
+    public boolean isLoaded() {
+        return isVisibleWithin(statsDivision, ConfigManager.config().getDuration(ConfigKey.NAV_CACHE_VALIDATE_WAIT));
+    }
+
     @Step("Navigate to Warriors Shop > Men's section")
     public String captureTeamStats() {
 
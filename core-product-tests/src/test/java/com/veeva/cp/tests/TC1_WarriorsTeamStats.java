@@ -1,7 +1,6 @@
 package com.veeva.cp.tests;
 
 import com.veeva.cp.pages.WarriorsHomePage;
-import com.veeva.cp.pages.WarriorsStatsPage;
 import com.veeva.framework.utils.BaseTest;
 import io.qameta.allure.*;
 import org.testng.annotations.Listeners;
@@ -9,7 +8,7 @@ import org.testng.annotations.Test;
 
 /**
  * TC1 - Collect Team Statistics
- * Navigate: Home > Team > Team Stats
+ * Navigate: Home > Team > Team Stats (in a tab of the session once its URL is learned)
  * - Collect all information
  * - Store Team Statistics info to a text file
  * - Attach the text file to Allure report
@@ -25,8 +24,7 @@ public class TC1_WarriorsTeamStats extends BaseTest {
     public void collectTeamStatsAndExportToFile() {
         // Open home page
         WarriorsHomePage homePage = new WarriorsHomePage();
-        WarriorsStatsPage warriorsStatsPage = homePage.open().navigateToTeams();
-        String textFilePath = warriorsStatsPage.captureTeamStats();
+        String textFilePath = homePage.open().captureTeamStats();
         attachFileToReport("Team Stats Text File",textFilePath , "text/csv");
     }
 }
\ No newline at end of file
@@ -27,16 +27,16 @@ public class TC2_WarriorsVideosTest extends BaseTest {
     public void countVideoFeedsAndFilterByAge() {
         // Open home page and Navigate to New & Features
         warriorsNewsPage = new WarriorsHomePage().open().openMenu().navigateToNewAndFeatures();
-        softAssert.assertTrue(warriorsNewsPage.waitForTitleIs(AppConstants.NEWS_PAGE_TITLE), AppConstants.TITLE_NOT_FOUND);
+        softAssert().assertTrue(warriorsNewsPage.waitForTitleIs(AppConstants.NEWS_PAGE_TITLE), AppConstants.TITLE_NOT_FOUND);
         // Count all videos
         int totalVideos = warriorsNewsPage.getTotalVideoCount();
         Allure.addAttachment("Total Video Feeds", "text/plain", "Total Videos: " + totalVideos);
         log.info("Total video feeds: {}", totalVideos);
-        softAssert.assertTrue(totalVideos > 0, AppConstants.TOTAL_VIDEOS_ASSERTION_MESSAGE);
+        softAssert().assertTrue(totalVideos > 0, AppConstants.TOTAL_VIDEOS_ASSERTION_MESSAGE);
         int videosOlderThan3Days = warriorsNewsPage.getVideosOlderThan3Days();
         Allure.addAttachment("Videos >= 3 Days", "text/plain",
                 "Videos >= 3d: " + videosOlderThan3Days);
         log.info("TC2 PASSED | Total:>= 3d: {}", videosOlderThan3Days);
-        softAssert.assertAll();
+        softAssert().assertAll();
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.veeva.cp.tests;
+
+import com.veeva.cp.pages.WarriorsHomePage;
+import com.veeva.framework.pages.NavigationCache;
+import com.veeva.framework.utils.BaseTest;
+import io.qameta.allure.*;
+import org.testng.SkipException;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/**
+ * TC5 - Warriors Menu Navigation
+ * TC1 and TC2 may reach their pages through learned shortcuts (NavigationCache),
+ * so the menus themselves are covered here:
+ * - Home > Hamburger Menu > New & Features
+ * - Home > Team > Team Stats
+ * - a stale shortcut falls back to the menu, starting again from the home page
+ */
+@Epic("Core Product - Golden State Warriors")
+@Feature("Menu Navigation")
+@Listeners(com.veeva.framework.listeners.AllureListener.class)
+public class TC5_WarriorsMenuNavigationTest extends BaseTest {
+
+    @Test(description = "Reach New & Features through the hamburger menu")
+    @Story("TC5.1: Hamburger menu → New & Features")
+    @Severity(SeverityLevel.NORMAL)
+    public void newAndFeaturesViaMenu() {
+        boolean loaded = new WarriorsHomePage().open().navigateToNewAndFeaturesViaMenu().isLoaded();
+        softAssert().assertTrue(loaded, "New & Features page did not load through the menu");
+        softAssert().assertAll();
+    }
+
+    @Test(description = "Reach Team Stats through the TEAM menu")
+    @Story("TC5.2: TEAM menu → Team Stats")
+    @Severity(SeverityLevel.NORMAL)
+    public void teamStatsViaMenu() {
+        boolean loaded = new WarriorsHomePage().open().navigateToTeamsViaMenu().isLoaded();
+        softAssert().assertTrue(loaded, "Team Stats page did not load through the menu");
+        softAssert().assertAll();
+    }
+
+    @Test(description = "A shortcut that no longer lands falls back to the menu from the home page")
+    @Story("TC5.3: Stale shortcut → hamburger menu → New & Features")
+    @Severity(SeverityLevel.NORMAL)
+    public void staleShortcutFallsBackToMenu() {
+        NavigationCache cache = NavigationCache.shared();
+        if (cache == null) throw new SkipException("navigation.cache.enabled=false: no shortcuts to go stale");
+        WarriorsHomePage home = new WarriorsHomePage().open();
+        // a same-site URL that no longer is the page (moved / 404), as left by a site redesign
+        String moved = home.getCurrentUrl().replaceAll("/+$", "") + "/news-and-features-has-moved";
+        cache.record(home.newAndFeaturesPath(), moved);
+
+        boolean loaded = home.navigateToNewAndFeatures().isLoaded();
+        softAssert().assertTrue(loaded, "New & Features page did not load after the stale shortcut");
+        softAssert().assertNotEquals(cache.lookup(home.newAndFeaturesPath()), moved,
+                "The stale shortcut was not replaced by the menu's landing URL");
+        softAssert().assertAll();
+    }
+}
@@ -10,8 +10,9 @@ import java.util.stream.Collectors;
  *
  * Maps to:
  * {
- *   "slides": [ { "title": "...", "expectedDurationMs": 5000 }, ... ],
- *   "expectedMinSlideCount": 2
+ *   "slides": [ { "title": "...", "expectedDurations": 10 }, ... ],
+ *   "expectedMinSlideCount": 2,
+ *   "durationToleranceMs": 1000
  * }
  */
 public class SixersTicketsTestData {
@@ -22,6 +23,9 @@ public class SixersTicketsTestData {
     @JsonProperty("expectedMinSlideCount")
     private int expectedMinSlideCount;
 
+    @JsonProperty("durationToleranceMs")
+    private long durationToleranceMs;
+
     // ─── Getters ──────────────────────────────────────────────────────────────
 
     public List<SlideData> getSlides() {
@@ -32,6 +36,13 @@ public class SixersTicketsTestData {
         return expectedMinSlideCount;
     }
 
+    /**
+     * Allowed deviation of a measured slide dwell from its expectedDurations.
+     */
+    public long getDurationToleranceMs() {
+        return durationToleranceMs;
+    }
+
     /**
      * Convenience — returns just the list of expected titles in order.
      */
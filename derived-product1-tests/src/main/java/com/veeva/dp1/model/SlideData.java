@@ -8,8 +8,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * Maps to:
  * {
  *   "title": "76ers vs. Boston Celtics",
- *   "expectedDurationMs": 5000
+ *   "expectedDurations": 5
  * }
+ * expectedDurations is the slide's on-screen time in seconds.
  */
 public class SlideData {
 
@@ -29,6 +30,10 @@ public class SlideData {
         return expectedDurations;
     }
 
+    public long getExpectedDurationMs() {
+        return expectedDurations * 1000;
+    }
+
     @Override
     public String toString() {
         return "SlideData{title='" + title + "', expectedDurations=" + expectedDurations + "}";
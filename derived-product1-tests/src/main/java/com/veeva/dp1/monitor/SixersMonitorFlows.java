@@ -0,0 +1,28 @@
+package com.veeva.dp1.monitor;
+
+import com.veeva.dp1.pages.SixersTicketsPage;
+import com.veeva.framework.monitor.FlowProvider;
+import com.veeva.framework.monitor.MonitorFlow;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SixersMonitorFlows - Sixers page flows run by the SyntheticMonitor.
+ *
+ *   sixers-tickets   home page opens and the ticket carousel has slides
+ */
+public class SixersMonitorFlows implements FlowProvider {
+
+    @Override
+    public List<MonitorFlow> flows() {
+        return Collections.singletonList(
+                MonitorFlow.builder("sixers-tickets")
+                        .body(() -> {
+                            if (new SixersTicketsPage().open().getSlideCount() == 0) {
+                                throw new IllegalStateException("Ticket carousel has no slides");
+                            }
+                        })
+                        .build());
+    }
+}
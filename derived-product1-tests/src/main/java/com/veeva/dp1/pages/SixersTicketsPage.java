@@ -2,10 +2,12 @@ package com.veeva.dp1.pages;
 
 import com.veeva.framework.config.ConfigManager;
 import com.veeva.framework.pages.BasePage;
+import com.veeva.framework.pages.CarouselSampler;
 import com.veeva.framework.pages.Element;
 import io.qameta.allure.Step;
 import org.openqa.selenium.WebElement;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,9 +28,8 @@ public class SixersTicketsPage extends BasePage {
             "//div[contains(@class,'TileHeroStories_tileHeroStoriesButtons')]/button");
     private final Element slideTitles          = Element.xpath(
             "//div[contains(@class,'TileHeroStories_tileHeroStoriesButtons')]/button/div[contains(@class,'ButtonTitle')]");
-    private final Element slideTimerIndicators = Element.css(
-            "[class*='progress-bar'], [class*='slide-timer'], " +
-            ".carousel-indicator, [data-duration], [aria-valuenow]");
+    private final Element carouselButtonBar    = Element.xpath(
+            "//div[contains(@class,'TileHeroStories_tileHeroStoriesButtons')]");
     private final Element cookiesAcceptBtn = Element.xpath("//button[text()='I Accept']");
 
     // ─── Actions ──────────────────────────────────────────────────────────────
@@ -38,6 +39,7 @@ public class SixersTicketsPage extends BasePage {
         navigateTo(baseUrl);
         log.info("Opened Sixers home page: {}", baseUrl);
         dismissCookieBannerIfPresent(cookiesAcceptBtn);
+        captureStorageState();
         return this;
     }
     @Step("Count the number of carousel slides")
@@ -60,4 +62,13 @@ public class SixersTicketsPage extends BasePage {
         }
         return titles;
     }
+
+    /**
+     * Watches the carousel's slide buttons inside the browser for {@code window}
+     * and returns how long each slide stayed active.
+     */
+    @Step("Sample carousel slide timing for {window}")
+    public CarouselSampler.Timing sampleSlideTiming(Duration window) {
+        return CarouselSampler.sample(driver, findAllVisible(carouselButtonBar).get(0), window);
+    }
 }
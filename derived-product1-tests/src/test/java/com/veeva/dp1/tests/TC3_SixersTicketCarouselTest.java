@@ -1,8 +1,10 @@
 package com.veeva.dp1.tests;
 
 import com.veeva.dp1.model.SixersTicketsTestData;
+import com.veeva.dp1.model.SlideData;
 import com.veeva.dp1.pages.SixersTicketsPage;
 import com.veeva.framework.constants.AppConstants;
+import com.veeva.framework.pages.CarouselSampler;
 import com.veeva.framework.utils.BaseTest;
 import com.veeva.framework.utils.TestDataLoader;
 import io.qameta.allure.*;
@@ -10,13 +12,16 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * TC3 - Sixers Ticket Carousel Test
  * - Navigate to Sixers home page
  * - Count slides below Tickets menu
  * - Validate slide titles against expected test data
+ * - Validate each slide's on-screen time against expectedDurations (± durationToleranceMs)
  */
 @Epic("Derived Product 1 - Sixers")
 @Feature("Tickets - Carousel Slides")
@@ -44,16 +49,49 @@ public class TC3_SixersTicketCarouselTest extends BaseTest {
         int slideCount = sixersPage.open().getSlideCount();
         Allure.addAttachment("Slide Count", "text/plain", "Total slides: " + slideCount);
         log.info("Slide count: {}", slideCount);
-        softAssert.assertTrue(slideCount >= 2,
+        softAssert().assertTrue(slideCount >= 2,
                 AppConstants.SLIDES_COUNT_ASSERTION_FAIL_MESSAGE + slideCount);
         // Get and validate titles
         List<String> actualTitles = sixersPage.getSlideTitles();
         log.info("Slide titles: {}", actualTitles);
         Allure.addAttachment("Slide Titles", "text/plain", String.join("\n", actualTitles));
-        softAssert.assertEquals(actualTitles, expectedTitles,AppConstants.TITLES_MISMATCH_METHOD);
-        softAssert.assertFalse(actualTitles.isEmpty(),
+        softAssert().assertEquals(actualTitles, expectedTitles,AppConstants.TITLES_MISMATCH_METHOD);
+        softAssert().assertFalse(actualTitles.isEmpty(),
                 AppConstants.TITLES_SIZE_ASSERTION_FAIL_MESSAGE);
+        // Validate slide durations, measured in the browser (window sized in validateSlideDurations)
+        validateSlideDurations(sixersPage);
         log.info("TC3 PASSED | Slides: {} | Titles: {}", slideCount, actualTitles.size());
-        softAssert.assertAll();
+        softAssert().assertAll();
+    }
+
+    private void validateSlideDurations(SixersTicketsPage sixersPage) {
+        List<SlideData> expected = testData.getSlides();
+        long rotationMs = expected.stream().mapToLong(SlideData::getExpectedDurationMs).sum();
+        long longestMs = expected.stream().mapToLong(SlideData::getExpectedDurationMs).max().orElse(0);
+        long tolerance = testData.getDurationToleranceMs();
+        // a full rotation, plus one slide for the dwell already running at the start, plus one
+        // slide and a tolerance of margin so a late start or slow transition still completes the last dwell
+        long windowMs = rotationMs + 2 * longestMs + tolerance;
+        CarouselSampler.Timing timing = sixersPage.sampleSlideTiming(Duration.ofMillis(windowMs));
+        Allure.addAttachment("Slide Durations", "text/plain", timing.slides().stream()
+                .map(CarouselSampler.Slide::toString).collect(Collectors.joining("\n")));
+
+        for (int i = 0; i < expected.size(); i++) {
+            SlideData slide = expected.get(i);
+            CarouselSampler.Slide measured = timing.slide(slide.getTitle());
+            if (measured == null && i < timing.slides().size()) {
+                measured = timing.slides().get(i);
+            }
+            if (measured == null || measured.samples().isEmpty()) {
+                softAssert().fail(measured == null || Double.isNaN(measured.partialMillis())
+                        ? "Slide '" + slide.getTitle() + "' was never shown in " + windowMs + "ms"
+                        : "Slide '" + slide.getTitle() + "' only showed for " + Math.round(measured.partialMillis())
+                                + "ms before the " + windowMs + "ms window ended; no complete dwell measured");
+                continue;
+            }
+            softAssert().assertTrue(Math.abs(measured.meanMillis() - slide.getExpectedDurationMs()) <= tolerance,
+                    "Slide '" + slide.getTitle() + "' stayed " + Math.round(measured.meanMillis())
+                            + "ms, expected " + slide.getExpectedDurationMs() + "ms ± " + tolerance + "ms");
+        }
     }
 }
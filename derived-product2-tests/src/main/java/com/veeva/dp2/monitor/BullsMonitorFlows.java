@@ -0,0 +1,28 @@
+package com.veeva.dp2.monitor;
+
+import com.veeva.dp2.pages.BullsFooterPage;
+import com.veeva.framework.monitor.FlowProvider;
+import com.veeva.framework.monitor.MonitorFlow;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * BullsMonitorFlows - Bulls page flows run by the SyntheticMonitor.
+ *
+ *   bulls-footer   home page opens and the footer lists its links
+ */
+public class BullsMonitorFlows implements FlowProvider {
+
+    @Override
+    public List<MonitorFlow> flows() {
+        return Collections.singletonList(
+                MonitorFlow.builder("bulls-footer")
+                        .body(() -> {
+                            if (new BullsFooterPage().open().scrollToFooter().collectFooterLinks().isEmpty()) {
+                                throw new IllegalStateException("Footer has no links");
+                            }
+                        })
+                        .build());
+    }
+}
@@ -35,6 +35,7 @@ public class BullsFooterPage extends BasePage {
         navigateTo(baseUrl);
         log.info("Opened Bulls home page: {}", baseUrl);
         dismissCookieBannerIfPresent(cookiesAcceptBtn);
+        captureStorageState();
         return this;
     }
 
@@ -0,0 +1,21 @@
+package com.veeva.bench;
+
+import java.util.List;
+
+/**
+ * BenchData - Model of benchdata/bench-data.{json,yaml}, shaped like the product test data.
+ */
+public class BenchData {
+
+    public String name;
+    public int version;
+    public List<Row> rows;
+
+    public static class Row {
+        public int id;
+        public String title;
+        public String url;
+        public List<String> tags;
+        public double durationSeconds;
+    }
+}
@@ -0,0 +1,123 @@
+package com.veeva.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * BenchmarkCompare - Compares two JMH JSON result files and fails on regressions.
+ *
+ * Options:
+ *   --baseline a.json   results from the reference commit
+ *   --candidate b.json  results from the change under review
+ *   --threshold 10      percent a benchmark may get worse before it counts (default 10)
+ *
+ * Rows are matched on benchmark name plus @Param values. For time-per-op modes
+ * (avgt, sample, ss) lower is better; for thrpt higher is better. A row only
+ * counts as a regression when it is worse by more than the threshold AND the
+ * two scores' error intervals do not overlap, so noisy quick-mode runs do not
+ * fail the build on their own. Prints a table; exits 1 when anything regressed.
+ *
+ * <pre>
+ *   mvn -q exec:java -pl framework-benchmarks -Dexec.mainClass=com.veeva.bench.BenchmarkCompare \
+ *       -Dexec.args="--baseline target/benchmarks/abc123.json --candidate target/benchmarks/def456.json"
+ * </pre>
+ */
+public final class BenchmarkCompare {
+
+    private BenchmarkCompare() {}
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> opts = BenchmarkRunner.parseArgs(args);
+        if (!opts.containsKey("baseline") || !opts.containsKey("candidate")) {
+            throw new IllegalArgumentException(
+                    "Usage: --baseline a.json --candidate b.json [--threshold percent]");
+        }
+        double threshold = Double.parseDouble(opts.getOrDefault("threshold", "10"));
+        Map<String, Score> baseline = read(opts.get("baseline"));
+        Map<String, Score> candidate = read(opts.get("candidate"));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s  %s%n", "Benchmark", "Baseline", "Candidate", "Change", "");
+        for (Map.Entry<String, Score> entry : candidate.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14s %9s  %s%n", entry.getKey(), "-", now.format(), "", "new");
+                continue;
+            }
+            double change = (now.score - before.score) / before.score * 100;
+            double worse = now.lowerIsBetter() ? change : -change;
+            boolean significant = now.lowerIsBetter()
+                    ? now.score - now.error > before.score + before.error
+                    : now.score + now.error < before.score - before.error;
+            String verdict = "";
+            if (worse > threshold && significant) {
+                verdict = "REGRESSION";
+                regressions++;
+            } else if (worse < -threshold && significant) {
+                verdict = "improved";
+            }
+            System.out.printf("%-70s %14s %14s %+8.1f%%  %s%n",
+                    entry.getKey(), before.format(), now.format(), change, verdict);
+        }
+        for (String missing : baseline.keySet()) {
+            if (!candidate.containsKey(missing)) {
+                System.out.printf("%-70s %14s %14s %9s  %s%n", missing, baseline.get(missing).format(), "-", "",
+                        "removed");
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed by more than " + threshold + "%");
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(String file) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        for (JsonNode row : new ObjectMapper().readTree(Paths.get(file).toFile())) {
+            StringBuilder key = new StringBuilder(row.path("benchmark").asText().replaceFirst("^com\\.veeva\\.bench\\.", ""));
+            Map<String, String> params = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> it = row.path("params").fields();
+            while (it.hasNext()) {
+                Map.Entry<String, JsonNode> p = it.next();
+                params.put(p.getKey(), p.getValue().asText());
+            }
+            if (!params.isEmpty()) key.append(' ').append(params);
+            JsonNode metric = row.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            scores.put(key.toString(), new Score(row.path("mode").asText(), metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    private static final class Score {
+        final String mode;
+        final double score;
+        final double error;
+        final String unit;
+
+        Score(String mode, double score, double error, String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+
+        boolean lowerIsBetter() {
+            return !"thrpt".equals(mode);
+        }
+
+        String format() {
+            return String.format("%.2f %s", score, unit);
+        }
+    }
+}
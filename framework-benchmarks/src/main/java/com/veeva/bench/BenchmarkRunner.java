@@ -0,0 +1,70 @@
+package com.veeva.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * BenchmarkRunner - Runs the framework benchmarks and writes JMH JSON results.
+ *
+ * Options:
+ *   --include regex   benchmarks to run (default: com.veeva.bench)
+ *   --mode full|quick full uses each class's @Warmup/@Measurement/@Fork;
+ *                     quick is 1 fork, 2 warmup and 3 measurement iterations
+ *                     of 1s — enough to spot a 2x slip, not a 10% one
+ *   --out file.json   result file (default: target/benchmarks/latest.json)
+ *
+ * Usually run through Maven so each result is labelled with the commit:
+ * <pre>
+ *   mvn -q exec:exec@run-benchmarks -pl framework-benchmarks -Dbench.label=$(git rev-parse --short HEAD)
+ * </pre>
+ * and compared with {@link BenchmarkCompare}.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Map<String, String> opts = parseArgs(args);
+        String include = opts.getOrDefault("include", "com.veeva.bench");
+        String mode = opts.getOrDefault("mode", "full");
+        Path out = Paths.get(opts.getOrDefault("out", "target/benchmarks/latest.json"));
+        if (out.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(out.toAbsolutePath().getParent());
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(out.toString())
+                .jvmArgsAppend("-Dlog4j.configurationFile=log4j2-bench.xml");
+        if ("quick".equals(mode)) {
+            options.forks(1)
+                    .warmupIterations(2).warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(3).measurementTime(TimeValue.seconds(1));
+        } else if (!"full".equals(mode)) {
+            throw new IllegalArgumentException("Unknown --mode '" + mode + "' (expected full or quick)");
+        }
+
+        new Runner(options.build()).run();
+        System.out.println(out.toAbsolutePath());
+    }
+
+    static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            opts.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return opts;
+    }
+}
@@ -0,0 +1,54 @@
+package com.veeva.bench;
+
+import com.veeva.framework.config.ConfigKey;
+import com.veeva.framework.config.ConfigManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigBenchmark - Config lookups as page objects and listeners do them on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConfigBenchmark {
+
+    @Setup
+    public void load() {
+        ConfigManager.config();
+    }
+
+    @Benchmark
+    public String getByKey() {
+        return ConfigManager.get("browser");
+    }
+
+    @Benchmark
+    public String getWithDefault() {
+        return ConfigManager.get("urls.derived-product2", "https://www.nba.com/bulls/");
+    }
+
+    @Benchmark
+    public int typedInt() {
+        return ConfigManager.config().getInt(ConfigKey.RETRY_ATTEMPTS);
+    }
+
+    @Benchmark
+    public Duration typedDuration() {
+        return ConfigManager.config().getDuration(ConfigKey.EXPLICIT_WAIT);
+    }
+}
@@ -0,0 +1,68 @@
+package com.veeva.bench;
+
+import com.veeva.framework.utils.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * CsvWriteBenchmark - FileUtils.writeToCsvFile with TC4-shaped rows (index, text, href, status).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CsvWriteBenchmark {
+
+    private static final String[] HEADERS = {"#", "Text", "URL", "Status"};
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    private List<String[]> data;
+    private Path dir;
+    private String file;
+
+    @Setup
+    public void prepare() throws IOException {
+        data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            data.add(new String[]{String.valueOf(i + 1), "Footer link, \"" + i + "\"",
+                    "https://www.nba.com/bulls/page-" + i + "?ref=footer", "200"});
+        }
+        dir = Files.createTempDirectory("csv-bench");
+        file = dir.resolve("links.csv").toString();
+    }
+
+    @TearDown
+    public void cleanUp() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String write() {
+        return FileUtils.writeToCsvFile(file, HEADERS, data);
+    }
+}
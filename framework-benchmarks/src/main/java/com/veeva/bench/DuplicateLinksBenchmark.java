@@ -0,0 +1,67 @@
+package com.veeva.bench;
+
+import com.veeva.dp2.model.FooterLink;
+import com.veeva.dp2.pages.BullsFooterPage;
+import com.veeva.framework.driver.DriverManager;
+import com.veeva.framework.driver.fake.FakeWebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DuplicateLinksBenchmark - BullsFooterPage.findDuplicateLinks far beyond one footer.
+ *
+ * One link in ten repeats an earlier href, as in a site-wide link audit. The
+ * page object runs on a {@link FakeWebDriver} with no latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DuplicateLinksBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int links;
+
+    private BullsFooterPage page;
+    private List<FooterLink> footer;
+
+    @Setup
+    public void prepare() {
+        DriverManager.attachDriver("fake", FakeWebDriver.builder().build());
+        page = new BullsFooterPage();
+        footer = new ArrayList<>(links);
+        for (int i = 0; i < links; i++) {
+            if (i % 10 == 9) {
+                footer.add(new FooterLink("Repeat " + i, "https://www.nba.com/bulls/page-" + (i - 5)));
+            } else {
+                footer.add(new FooterLink("Link " + i, "https://www.nba.com/bulls/page-" + i));
+            }
+        }
+    }
+
+    @TearDown
+    public void stop() {
+        DriverManager.quitDriver();
+    }
+
+    @Benchmark
+    public List<String> findDuplicateLinks() {
+        return page.findDuplicateLinks(footer);
+    }
+}
@@ -0,0 +1,96 @@
+package com.veeva.bench;
+
+import com.veeva.framework.driver.fake.FakeWebDriver;
+import com.veeva.framework.pages.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ElementBenchmark - Element factories and resolution against a {@link FakeWebDriver} footer of 40 links.
+ *
+ * The fake driver has no latency here, so these are the framework's own costs
+ * (building locators, the wait machinery wrapped around every lookup) plus
+ * the fake's jsoup lookups, which stay the same from run to run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ElementBenchmark {
+
+    private static final String HOME = "https://fake.test/";
+
+    private final Element footerLinks = Element.xpath("//footer//li[@class='mb-2 last:mb-0 lg:block lg:w-full']/a");
+
+    private FakeWebDriver driver;
+    private WebDriverWait wait;
+
+    @Setup
+    public void start() {
+        StringBuilder footer = new StringBuilder("<title>Bench</title><footer><ul>");
+        for (int i = 0; i < 40; i++) {
+            footer.append("<li class='mb-2 last:mb-0 lg:block lg:w-full'><a href='/page-").append(i)
+                    .append("'>Link ").append(i).append("</a></li>");
+        }
+        driver = FakeWebDriver.builder().page(HOME, footer.append("</ul></footer>").toString()).build();
+        driver.get(HOME);
+        wait = new WebDriverWait(driver, Duration.ofSeconds(1));
+    }
+
+    @TearDown
+    public void stop() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public Element cssFactory() {
+        return Element.css("nav a.shop-link");
+    }
+
+    @Benchmark
+    public Element xpathFactory() {
+        return Element.xpath("//h3[text()='VIDEOS']/ancestor::div//time/span");
+    }
+
+    @Benchmark
+    public Element idFactory() {
+        return Element.id("search-input");
+    }
+
+    @Benchmark
+    public WebElement find() {
+        return footerLinks.find(driver);
+    }
+
+    @Benchmark
+    public List<WebElement> findAll() {
+        return footerLinks.findAll(driver);
+    }
+
+    @Benchmark
+    public WebElement waitUntilVisible() {
+        return footerLinks.waitUntilVisible(driver, wait);
+    }
+
+    @Benchmark
+    public List<WebElement> waitAllVisible() {
+        return footerLinks.waitAllVisible(driver, wait);
+    }
+}
@@ -0,0 +1,115 @@
+package com.veeva.bench;
+
+import com.veeva.framework.utils.RelativeTimeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * RelativeTimeBenchmark - Feed timestamp parsing, per timestamp.
+ *
+ * {@code regexPerCall} is the parser WarriorsNewsPage used before
+ * RelativeTimeParser (five Patterns compiled on every call), kept as the
+ * baseline; {@code regexPrecompiled} isolates the cost of compiling them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RelativeTimeBenchmark {
+
+    static final String[] CORPUS = {
+            "5m", "12m ago", "1h", "3 hours ago", "just now", "1d", "2d", "3d", "6d ago", "1 day ago",
+            "4 days ago", "1w", "2 weeks ago", "3w", "1mo", "5 months ago", "1y", "Yesterday", "an hour ago",
+            "Oct 15, 2026", "15 Oct", "2026-10-01", "45 min", "2 hrs", "LIVE"
+    };
+    /** Must equal CORPUS.length. */
+    private static final int OPS = 25;
+
+    private static final Pattern DAYS_SHORT = Pattern.compile("(\\d+)\\s*d");
+    private static final Pattern WEEKS_SHORT = Pattern.compile("(\\d+)\\s*w");
+    private static final Pattern DAYS = Pattern.compile("(\\d+)\\s*days?");
+    private static final Pattern WEEKS = Pattern.compile("(\\d+)\\s*weeks?");
+    private static final Pattern MONTHS = Pattern.compile("(\\d+)\\s*months?");
+
+    private final RelativeTimeParser parser =
+            new RelativeTimeParser(Clock.fixed(Instant.parse("2026-10-19T12:00:00Z"), ZoneOffset.UTC));
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public long relativeTimeParser() {
+        long total = 0;
+        for (String text : CORPUS) {
+            Duration age = parser.parse(text);
+            if (age != null) total += age.getSeconds();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public long regexPerCall() {
+        long total = 0;
+        for (String text : CORPUS) {
+            total += regexPerCall(text.toLowerCase());
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public long regexPrecompiled() {
+        long total = 0;
+        for (String text : CORPUS) {
+            total += regexPrecompiled(text.toLowerCase());
+        }
+        return total;
+    }
+
+    private static int regexPerCall(String text) {
+        Matcher d = Pattern.compile("(\\d+)\\s*d").matcher(text);
+        if (d.find()) return Integer.parseInt(d.group(1));
+        Matcher w = Pattern.compile("(\\d+)\\s*w").matcher(text);
+        if (w.find()) return Integer.parseInt(w.group(1)) * 7;
+        Matcher days = Pattern.compile("(\\d+)\\s*days?").matcher(text);
+        if (days.find()) return Integer.parseInt(days.group(1));
+        Matcher weeks = Pattern.compile("(\\d+)\\s*weeks?").matcher(text);
+        if (weeks.find()) return Integer.parseInt(weeks.group(1)) * 7;
+        Matcher months = Pattern.compile("(\\d+)\\s*months?").matcher(text);
+        if (months.find()) return Integer.parseInt(months.group(1)) * 30;
+        if (text.contains("hour") || text.contains("min") || text.contains("just now")) return 0;
+        return -1;
+    }
+
+    private static int regexPrecompiled(String text) {
+        Matcher d = DAYS_SHORT.matcher(text);
+        if (d.find()) return Integer.parseInt(d.group(1));
+        Matcher w = WEEKS_SHORT.matcher(text);
+        if (w.find()) return Integer.parseInt(w.group(1)) * 7;
+        Matcher days = DAYS.matcher(text);
+        if (days.find()) return Integer.parseInt(days.group(1));
+        Matcher weeks = WEEKS.matcher(text);
+        if (weeks.find()) return Integer.parseInt(weeks.group(1)) * 7;
+        Matcher months = MONTHS.matcher(text);
+        if (months.find()) return Integer.parseInt(months.group(1)) * 30;
+        if (text.contains("hour") || text.contains("min") || text.contains("just now")) return 0;
+        return -1;
+    }
+}
@@ -0,0 +1,49 @@
+package com.veeva.bench;
+
+import com.veeva.framework.utils.TestDataLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestDataLoaderBenchmark - Loading a 200-row data set (about 50 KB) from JSON and YAML.
+ *
+ * "cold" clears the loader's cache first and measures parse + bind; "cached"
+ * is the cost every later test class pays for the same file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TestDataLoaderBenchmark {
+
+    private static final String JSON = "benchdata/bench-data.json";
+    private static final String YAML = "benchdata/bench-data.yaml";
+
+    @Benchmark
+    public BenchData loadJsonCold() {
+        TestDataLoader.clearCache();
+        return TestDataLoader.loadJson(JSON, BenchData.class);
+    }
+
+    @Benchmark
+    public BenchData loadYamlCold() {
+        TestDataLoader.clearCache();
+        return TestDataLoader.loadYaml(YAML, BenchData.class);
+    }
+
+    @Benchmark
+    public BenchData loadJsonCached() {
+        return TestDataLoader.loadJson(JSON, BenchData.class);
+    }
+}